@@ -0,0 +1,53 @@
+package com.github.danildzambrana.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Run the benchmarks once for every thread count of the sweep, with the allocation profiler enabled. The
+ * results of each run are written as JSON to the results directory.
+ * <p>
+ * Usage: {@code java -Dbenchmark.threads=1,2,4,8 -Dbenchmark.results=target/jmh -cp benchmarks.jar
+ * com.github.danildzambrana.benchmarks.BenchmarkRunner [regexp]}
+ * <p>
+ * Compare the {@code gc.alloc.rate.norm} of each benchmark, the bytes allocated per operation, between releases
+ * to find regressions in the hot path that do not show in the throughput yet.
+ */
+public class BenchmarkRunner {
+    public static final String DEFAULT_THREADS = "1,2,4,8";
+    public static final String DEFAULT_RESULTS = "target/jmh";
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com.github.danildzambrana.benchmarks.*";
+        File   results = new File(System.getProperty("benchmark.results", DEFAULT_RESULTS));
+
+        if (!results.isDirectory() && !results.mkdirs()) {
+            throw new IllegalStateException("cannot create the results directory " + results);
+        }
+
+        for (String value : System.getProperty("benchmark.threads", DEFAULT_THREADS).split(",")) {
+            int threads = Integer.parseInt(value.trim());
+
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(results, "result-" + threads + "-threads.json").getPath());
+
+            if (!System.getProperty("java.specification.version").startsWith("1.")) {
+                // Morphia maps the fields of the JDK classes with reflection.
+                options.jvmArgsAppend("--add-opens", "java.base/java.lang=ALL-UNNAMED",
+                        "--add-opens", "java.base/java.util=ALL-UNNAMED");
+            }
+
+            new Runner(options.build()).run();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.danildzambrana.benchmarks.data.mongo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single item operations of {@link com.github.danildzambrana.commons.data.mongo.MongoManager}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MongoManagerBenchmark {
+
+    @Benchmark
+    public boolean insert(MongoState state) {
+        return state.getManager().save(state.newEntity());
+    }
+
+    @Benchmark
+    public boolean update(MongoState state, UpdateState update) {
+        update.entity.setAge(String.valueOf(ThreadLocalRandom.current().nextInt(100)));
+        return state.getManager().save(update.entity);
+    }
+
+    @Benchmark
+    public Optional<BenchmarkEntity> get(MongoState state) {
+        return state.getManager().get(state.randomId(), BenchmarkEntity.class);
+    }
+
+    @Benchmark
+    public boolean delete(MongoState state, DeleteState delete) {
+        return state.getManager().delete(delete.entity);
+    }
+
+    @State(Scope.Thread)
+    public static class UpdateState {
+        private BenchmarkEntity entity;
+
+        @Setup(Level.Iteration)
+        public void setUp(MongoState state) {
+            entity = state.getManager().get(state.randomId(), BenchmarkEntity.class)
+                    .orElseThrow(IllegalStateException::new);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DeleteState {
+        private BenchmarkEntity entity;
+
+        // Every invocation needs its own document, the insert is not measured.
+        @Setup(Level.Invocation)
+        public void setUp(MongoState state) {
+            entity = state.newEntity();
+            state.getManager().save(entity);
+        }
+    }
+}
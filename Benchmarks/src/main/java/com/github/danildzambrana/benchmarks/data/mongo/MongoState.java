@@ -0,0 +1,99 @@
+package com.github.danildzambrana.benchmarks.data.mongo;
+
+import com.github.danildzambrana.commons.data.mongo.MongoConnection;
+import com.github.danildzambrana.commons.data.mongo.MongoManager;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link MongoManager} backed by an in-process mongo server, shared by all the threads of a benchmark. The
+ * collection is filled with {@link #DOCUMENTS} documents before the benchmark starts.
+ */
+@State(Scope.Benchmark)
+public class MongoState {
+    public static final int DOCUMENTS = 10_000;
+
+    private final AtomicLong                          sequence = new AtomicLong();
+    private       MongoServer                         server;
+    private       MongoConnection                     connection;
+    private       MongoManager<Long, BenchmarkEntity> manager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+
+        connection = MongoConnection.builder()
+                .setDatabaseName("benchmark")
+                .setHost(address.getHostString())
+                .setPort(address.getPort())
+                .setSsl(false)
+                .setMappedClazz(BenchmarkEntity.class)
+                .build();
+        manager = new MongoManager<>(connection);
+
+        List<BenchmarkEntity> entities = new ArrayList<>(DOCUMENTS);
+        for (int i = 0; i < DOCUMENTS; i++) {
+            entities.add(newEntity());
+        }
+        manager.saveAll(entities);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connection.close();
+        server.shutdownNow();
+    }
+
+    public MongoManager<Long, BenchmarkEntity> getManager() {
+        return manager;
+    }
+
+    /**
+     * Get the id of a random document of the initial documents.
+     *
+     * @return the id of an existing document.
+     */
+    public Long randomId() {
+        return 1L + ThreadLocalRandom.current().nextInt(DOCUMENTS);
+    }
+
+    /**
+     * Get the ids of consecutive documents of the initial documents, starting at a random document.
+     *
+     * @param size the number of ids.
+     * @return the ids of existing documents.
+     */
+    public List<Long> randomIds(int size) {
+        long       start = 1L + ThreadLocalRandom.current().nextInt(DOCUMENTS - size + 1);
+        List<Long> ids   = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(start + i);
+        }
+        return ids;
+    }
+
+    /**
+     * Create a document that is not saved yet, mongo does not generate {@link Long} ids so the id is assigned
+     * from a sequence.
+     *
+     * @return the new document.
+     */
+    public BenchmarkEntity newEntity() {
+        int             value  = ThreadLocalRandom.current().nextInt(100);
+        BenchmarkEntity entity = new BenchmarkEntity("name-" + value, "last-name-" + value, String.valueOf(value));
+        entity.setId(sequence.incrementAndGet());
+        return entity;
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.danildzambrana.benchmarks.data.mysql;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+@Entity
+@Table(name = "benchmark_entity")
+public class BenchmarkEntity implements Serializable {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String name;
+    private String lastName;
+    private String age;
+
+    public BenchmarkEntity(String name, String lastName, String age) {
+        this.name     = name;
+        this.lastName = lastName;
+        this.age      = age;
+    }
+
+    public BenchmarkEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getAge() {
+        return age;
+    }
+
+    public void setAge(String age) {
+        this.age = age;
+    }
+
+    @Override
+    public String toString() {
+        return "BenchmarkEntity{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", lastName='" + lastName + '\'' +
+                ", age='" + age + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.danildzambrana.benchmarks.data.mysql;
+
+import com.github.danildzambrana.commons.data.BatchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batched operations of {@link com.github.danildzambrana.commons.data.mysql.MySQLManager}, every invocation
+ * handles {@link BatchState#batchSize} items.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MySQLManagerBatchBenchmark {
+
+    @Benchmark
+    public BatchResult<BenchmarkEntity> saveAll(MySQLState state, BatchState batch) {
+        return state.getManager().saveAll(batch.newEntities());
+    }
+
+    @Benchmark
+    public Map<Long, BenchmarkEntity> getAll(MySQLState state, BatchState batch) {
+        return state.getManager().getAll(state.randomIds(batch.batchSize), BenchmarkEntity.class);
+    }
+
+    @Benchmark
+    public BatchResult<BenchmarkEntity> deleteAll(MySQLState state, DeleteState delete) {
+        return state.getManager().deleteAll(delete.entities);
+    }
+
+    @State(Scope.Thread)
+    public static class BatchState {
+        @Param({"10", "100", "1000"})
+        private int batchSize;
+
+        private List<BenchmarkEntity> newEntities() {
+            List<BenchmarkEntity> entities = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                entities.add(MySQLState.newEntity());
+            }
+            return entities;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DeleteState {
+        private List<BenchmarkEntity> entities;
+
+        // Every invocation needs its own rows, the inserts are not measured.
+        @Setup(Level.Invocation)
+        public void setUp(MySQLState state, BatchState batch) {
+            entities = batch.newEntities();
+            state.getManager().saveAll(entities);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.danildzambrana.benchmarks.data.mysql;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single item operations of {@link com.github.danildzambrana.commons.data.mysql.MySQLManager}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MySQLManagerBenchmark {
+
+    @Benchmark
+    public boolean insert(MySQLState state) {
+        return state.getManager().save(MySQLState.newEntity());
+    }
+
+    @Benchmark
+    public boolean update(MySQLState state, UpdateState update) {
+        update.entity.setAge(String.valueOf(ThreadLocalRandom.current().nextInt(100)));
+        return state.getManager().save(update.entity);
+    }
+
+    @Benchmark
+    public Optional<BenchmarkEntity> get(MySQLState state) {
+        return state.getManager().get(state.randomId(), BenchmarkEntity.class);
+    }
+
+    @Benchmark
+    public boolean delete(MySQLState state, DeleteState delete) {
+        return state.getManager().delete(delete.entity);
+    }
+
+    @State(Scope.Thread)
+    public static class UpdateState {
+        private BenchmarkEntity entity;
+
+        @Setup(Level.Iteration)
+        public void setUp(MySQLState state) {
+            entity = state.getManager().get(state.randomId(), BenchmarkEntity.class)
+                    .orElseThrow(IllegalStateException::new);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DeleteState {
+        private BenchmarkEntity entity;
+
+        // Every invocation needs its own row, the insert is not measured.
+        @Setup(Level.Invocation)
+        public void setUp(MySQLState state) {
+            entity = MySQLState.newEntity();
+            state.getManager().save(entity);
+        }
+    }
+}
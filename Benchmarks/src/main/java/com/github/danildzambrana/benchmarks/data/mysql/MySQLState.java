@@ -0,0 +1,96 @@
+package com.github.danildzambrana.benchmarks.data.mysql;
+
+import com.github.danildzambrana.commons.data.mysql.MySQLConnection;
+import com.github.danildzambrana.commons.data.mysql.MySQLManager;
+import com.github.danildzambrana.commons.data.mysql.MySQLPoolConfig;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link MySQLManager} backed by an in-memory H2 database in MySQL mode, shared by all the threads of a
+ * benchmark. The table is filled with {@link #ROWS} rows before the benchmark starts.
+ */
+@State(Scope.Benchmark)
+public class MySQLState {
+    public static final int ROWS      = 10_000;
+    public static final int POOL_SIZE = 16;
+
+    private MySQLConnection                     connection;
+    private MySQLManager<Long, BenchmarkEntity> manager;
+    private List<Long>                          ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        connection = MySQLConnection.builder()
+                .setUser("sa")
+                .setPassword("")
+                .setHost("localhost")
+                .setDataBaseName("benchmark")
+                .setDialect("org.hibernate.dialect.H2Dialect")
+                .addHibernateProperty("hibernate.connection.url",
+                        "jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .addHibernateProperty("hibernate.connection.driver_class", "org.h2.Driver")
+                .setPoolConfig(new MySQLPoolConfig()
+                        .setPoolName("benchmark")
+                        .setMinimumIdle(POOL_SIZE)
+                        .setMaximumPoolSize(POOL_SIZE)
+                        // H2 does not know the statement cache properties of Connector/J.
+                        .setStatementCacheSize(0))
+                .setHbm2ddl("create")
+                .setMappedClazz(BenchmarkEntity.class)
+                .build();
+        manager = new MySQLManager<>(connection);
+
+        List<BenchmarkEntity> entities = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            entities.add(newEntity());
+        }
+        manager.saveAll(entities);
+
+        ids = new ArrayList<>(ROWS);
+        for (BenchmarkEntity entity : entities) {
+            ids.add(entity.getId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connection.close();
+    }
+
+    public MySQLManager<Long, BenchmarkEntity> getManager() {
+        return manager;
+    }
+
+    /**
+     * Get the id of a random row of the initial rows.
+     *
+     * @return the id of an existing row.
+     */
+    public Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ROWS));
+    }
+
+    /**
+     * Get the ids of consecutive rows of the initial rows, starting at a random row.
+     *
+     * @param size the number of ids.
+     * @return the ids of existing rows.
+     */
+    public List<Long> randomIds(int size) {
+        int start = ThreadLocalRandom.current().nextInt(ROWS - size + 1);
+        return ids.subList(start, start + size);
+    }
+
+    public static BenchmarkEntity newEntity() {
+        int value = ThreadLocalRandom.current().nextInt(100);
+        return new BenchmarkEntity("name-" + value, "last-name-" + value, String.valueOf(value));
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.danildzambrana.benchmarks.grades;
+
+import com.github.danildzambrana.commons.grades.GradeAnalytics;
+import com.github.danildzambrana.commons.grades.GradeBook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Term report of {@link GradeAnalytics} over a {@link GradeBook} of random grades.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GradeAnalyticsBenchmark {
+
+    @Benchmark
+    public float[] finalScores(TermState state) {
+        GradeAnalytics.finalScores(state.book, state.finals);
+        return state.finals;
+    }
+
+    @Benchmark
+    public int[] ranks(TermState state) {
+        GradeAnalytics.ranks(state.finals, state.students, state.ranks, state.keys);
+        return state.ranks;
+    }
+
+    @Benchmark
+    public float median(TermState state) {
+        return GradeAnalytics.median(state.book.getColumn(0), state.students, state.scratch);
+    }
+
+    @Benchmark
+    public void termReport(TermState state, Blackhole blackhole) {
+        for (int assessment = 0; assessment < state.book.getAssessmentCount(); assessment++) {
+            float[] column = state.book.getColumn(assessment);
+            blackhole.consume(GradeAnalytics.average(column, state.students));
+            blackhole.consume(GradeAnalytics.median(column, state.students, state.scratch));
+        }
+
+        GradeAnalytics.finalScores(state.book, state.finals);
+        blackhole.consume(GradeAnalytics.percentile(state.finals, state.students, 90, state.scratch));
+        blackhole.consume(GradeAnalytics.ranks(state.finals, state.students, state.ranks, state.keys));
+    }
+
+    @State(Scope.Thread)
+    public static class TermState {
+        @Param({"100000"})
+        public int students;
+
+        @Param({"6"})
+        public int assessments;
+
+        private GradeBook book;
+        private float[]   finals;
+        private float[]   scratch;
+        private int[]     ranks;
+        private long[]    keys;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            GradeBook.Builder builder = GradeBook.builder().setInitialCapacity(students);
+            for (int assessment = 0; assessment < assessments; assessment++) {
+                builder.addAssessment("assessment-" + assessment, assessment + 1, 100);
+            }
+            book = builder.build();
+
+            Random random = new Random(42);
+            for (int student = 0; student < students; student++) {
+                for (int assessment = 0; assessment < assessments; assessment++) {
+                    // One score in twenty is missing.
+                    if (random.nextInt(20) != 0) {
+                        book.setScore(1_000_000L + student, assessment, random.nextInt(101));
+                    }
+                }
+            }
+
+            finals  = new float[students];
+            scratch = new float[students];
+            ranks   = new int[students];
+            keys    = new long[students];
+            GradeAnalytics.finalScores(book, finals);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.danildzambrana.benchmarks.grades;
+
+import com.github.danildzambrana.commons.grades.GradeBook;
+import com.github.danildzambrana.commons.grades.ReportPipeline;
+import com.github.danildzambrana.commons.grades.ReportResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of {@link ReportPipeline} with the parallelism of its pool, over the report cards of an institution
+ * whose grades are already in memory. Compare the time of each parallelism with the time of parallelism 1.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class ReportPipelineBenchmark {
+
+    @Benchmark
+    public ReportResult<Integer> termReports(InstitutionState state) {
+        return state.pipeline.run(state.courses, state.books::get);
+    }
+
+    @State(Scope.Benchmark)
+    public static class InstitutionState {
+        @Param({"1", "2", "4", "8"})
+        public int parallelism;
+
+        @Param({"200"})
+        public int courseCount;
+
+        @Param({"2000"})
+        public int studentsPerCourse;
+
+        private final List<Integer>   courses = new ArrayList<>();
+        private final List<GradeBook> books   = new ArrayList<>();
+        private ReportPipeline<Integer> pipeline;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            for (int course = 0; course < courseCount; course++) {
+                GradeBook book = GradeBook.builder()
+                        .addAssessment("midterm", 3, 100)
+                        .addAssessment("final", 5, 100)
+                        .addAssessment("homework", 2, 10)
+                        .setInitialCapacity(studentsPerCourse)
+                        .build();
+                for (int student = 0; student < studentsPerCourse; student++) {
+                    for (int assessment = 0; assessment < book.getAssessmentCount(); assessment++) {
+                        book.setScore(student, assessment, random.nextFloat() * book.getMaxScore(assessment));
+                    }
+                }
+
+                courses.add(course);
+                books.add(book);
+            }
+
+            pipeline = ReportPipeline.<Integer>builder().setParallelism(parallelism).build();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pipeline.close();
+        }
+    }
+}
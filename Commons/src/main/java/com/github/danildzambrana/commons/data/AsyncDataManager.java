@@ -0,0 +1,88 @@
+package com.github.danildzambrana.commons.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking scheme of {@link IDataManager}, every operation returns immediately with a
+ * {@link CompletableFuture} that is completed when the operation ends.
+ *
+ * @param <I> Type of ID.
+ * @param <T> Type of object to save.
+ */
+public interface AsyncDataManager<I, T> extends AutoCloseable {
+
+    /**
+     * save the value provided.
+     * @param t The value to save.
+     * @return a future completed with true if the value has been saved, otherwise with false.
+     */
+    CompletableFuture<Boolean> save(@NotNull T t);
+
+    /**
+     * Get the value with provided id.
+     * @param id the id to find.
+     * @param clazz type of the objet to find.
+     * @return a future completed with an instance of {@link Optional} with the obtained value.
+     */
+    CompletableFuture<Optional<T>> get(@NotNull I id, Class<T> clazz);
+
+    /**
+     * Remove the value.
+     *
+     * @param t value to remove.
+     * @return a future completed with true if the value was removed, otherwise with false.
+     */
+    CompletableFuture<Boolean> delete(@NotNull T t);
+
+    /**
+     * Save all the values provided. See {@link IDataManager#saveAll(Collection)}
+     *
+     * @param values the values to save.
+     * @return a future completed with the result of the operation for each value.
+     */
+    CompletableFuture<BatchResult<T>> saveAll(@NotNull Collection<T> values);
+
+    /**
+     * Get all the values with the provided ids. See {@link IDataManager#getAll(Collection, Class)}
+     *
+     * @param ids   the ids to find.
+     * @param clazz type of the objects to find.
+     * @return a future completed with the found values by id.
+     */
+    CompletableFuture<Map<I, T>> getAll(@NotNull Collection<I> ids, Class<T> clazz);
+
+    /**
+     * Remove all the values provided. See {@link IDataManager#deleteAll(Collection)}
+     *
+     * @param values the values to remove.
+     * @return a future completed with the result of the operation for each value.
+     */
+    CompletableFuture<BatchResult<T>> deleteAll(@NotNull Collection<T> values);
+
+    /**
+     * Find the values that match the query. See {@link IDataManager#find(DataQuery)}
+     *
+     * @param query the criteria of the values to find.
+     * @return a future completed with the found values.
+     */
+    CompletableFuture<List<T>> find(@NotNull DataQuery<T> query);
+
+    /**
+     * Get the blocking manager that runs the operations.
+     *
+     * @return the wrapped manager.
+     */
+    IDataManager<I, T> getDelegate();
+
+    /**
+     * Stop accepting operations and release the threads of this manager.
+     */
+    @Override
+    void close();
+}
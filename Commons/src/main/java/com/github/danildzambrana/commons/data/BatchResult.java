@@ -0,0 +1,127 @@
+package com.github.danildzambrana.commons.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-item result of a batch operation of {@link IDataManager}.
+ * The items are kept in the same order in which they were provided.
+ *
+ * @param <T> Type of the processed objects.
+ */
+public class BatchResult<T> {
+    private final List<T> items;
+    private final BitSet  succeeded = new BitSet();
+
+    public BatchResult() {
+        this.items = new ArrayList<>();
+    }
+
+    public BatchResult(int expectedSize) {
+        this.items = new ArrayList<>(expectedSize);
+    }
+
+    /**
+     * Create a result where every item has the same outcome.
+     *
+     * @param items   the processed items.
+     * @param success the outcome of all the items.
+     * @param <T>     Type of the processed objects.
+     * @return the created result.
+     */
+    @NotNull
+    public static <T> BatchResult<T> of(@NotNull Collection<T> items, boolean success) {
+        BatchResult<T> result = new BatchResult<>(items.size());
+        for (T item : items) {
+            result.add(item, success);
+        }
+        return result;
+    }
+
+    /**
+     * Register the outcome of an item.
+     *
+     * @param item    the processed item.
+     * @param success true if the item was processed successfully.
+     */
+    public void add(T item, boolean success) {
+        if (success) {
+            succeeded.set(items.size());
+        }
+        items.add(item);
+    }
+
+    /**
+     * Change the outcome of an already registered item.
+     *
+     * @param index   the position of the item.
+     * @param success true if the item was processed successfully.
+     */
+    public void set(int index, boolean success) {
+        if (index < 0 || index >= items.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + items.size());
+        }
+        succeeded.set(index, success);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public T getItem(int index) {
+        return items.get(index);
+    }
+
+    public boolean isSuccess(int index) {
+        if (index < 0 || index >= items.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + items.size());
+        }
+        return succeeded.get(index);
+    }
+
+    public int getSuccessCount() {
+        return succeeded.cardinality();
+    }
+
+    /**
+     * Check if all the items were processed successfully.
+     *
+     * @return true if no item failed.
+     */
+    public boolean isAllSucceeded() {
+        return succeeded.cardinality() == items.size();
+    }
+
+    public List<T> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    public List<T> getSucceeded() {
+        List<T> list = new ArrayList<>(succeeded.cardinality());
+        for (int i = succeeded.nextSetBit(0); i >= 0; i = succeeded.nextSetBit(i + 1)) {
+            list.add(items.get(i));
+        }
+        return list;
+    }
+
+    public List<T> getFailed() {
+        List<T> list = new ArrayList<>(items.size() - succeeded.cardinality());
+        for (int i = succeeded.nextClearBit(0); i < items.size(); i = succeeded.nextClearBit(i + 1)) {
+            list.add(items.get(i));
+        }
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{" +
+                "size=" + items.size() +
+                ", succeeded=" + succeeded.cardinality() +
+                '}';
+    }
+}
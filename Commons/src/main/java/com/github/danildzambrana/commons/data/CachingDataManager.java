@@ -0,0 +1,355 @@
+package com.github.danildzambrana.commons.data;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.danildzambrana.commons.data.metrics.DataMetrics;
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache of {@link IDataManager}. The values obtained with {@link #get(Object, Class)} are kept in a
+ * bounded in-process cache with W-TinyLFU eviction, and invalidated when they are saved or removed through this
+ * manager.
+ * <p>
+ * The cached instances are shared by every caller, they must be treated as read-only.
+ *
+ * @param <I> Type of ID.
+ * @param <T> Type of object to save.
+ */
+public class CachingDataManager<I, T> implements IDataManager<I, T> {
+    private final IDataManager<I, T> delegate;
+    private final Function<T, I>     idExtractor;
+    private final Cache<I, T>        cache;
+    private final AtomicLong         invalidations = new AtomicLong();
+
+    private CachingDataManager(Builder<I, T> builder) {
+        FieldUtils.requireArgument(builder.getDelegate() != null, "the delegate manager is required");
+        FieldUtils.requireArgument(builder.getIdExtractor() != null, "the id extractor is required");
+        FieldUtils.requireArgument(builder.getMaximumSize() > 0);
+
+        this.delegate    = builder.getDelegate();
+        this.idExtractor = builder.getIdExtractor();
+
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder().maximumSize(builder.getMaximumSize());
+        if (builder.getExpireAfterWrite() != null) {
+            caffeine.expireAfterWrite(builder.getExpireAfterWrite());
+        }
+        if (builder.getExpireAfterAccess() != null) {
+            caffeine.expireAfterAccess(builder.getExpireAfterAccess());
+        }
+        if (builder.isRecordStats()) {
+            caffeine.recordStats();
+        }
+        this.cache = caffeine.build();
+    }
+
+    @NotNull
+    public static <I, T> Builder<I, T> builder(@NotNull IDataManager<I, T> delegate,
+                                               @NotNull Function<T, I> idExtractor) {
+        return new Builder<I, T>().setDelegate(delegate).setIdExtractor(idExtractor);
+    }
+
+    /**
+     * Save the value and invalidate its cached copy.
+     *
+     * @param t The value to save.
+     * @return true if the values has been saved, otherwise return false.
+     */
+    @Override
+    public boolean save(@NotNull T t) {
+        try {
+            return delegate.save(t);
+        } finally {
+            invalidate(t);
+        }
+    }
+
+    @Override
+    public SaveResult trySave(@NotNull T t) {
+        try {
+            return delegate.trySave(t);
+        } finally {
+            invalidate(t);
+        }
+    }
+
+    /**
+     * Get the cached value, or load it with the delegate manager. The load is atomic with the invalidation of the
+     * id, a value saved or removed while it is loaded is not cached.
+     *
+     * @param id    the id to find.
+     * @param clazz type of the objet to find.
+     * @return An instance of {@link Optional} with the obtained value.
+     */
+    @Override
+    public Optional<T> get(@NotNull I id, Class<T> clazz) {
+        return Optional.ofNullable(cache.get(id, key -> delegate.get(key, clazz).orElse(null)));
+    }
+
+    /**
+     * Check if the value is stored by the delegate manager, the cache is not used.
+     *
+     * @param id    the id to find.
+     * @param clazz type of the objet to find.
+     * @return true if the value exists.
+     */
+    @Override
+    public boolean exists(@NotNull I id, Class<T> clazz) {
+        return delegate.exists(id, clazz);
+    }
+
+    /**
+     * Remove the value and invalidate its cached copy.
+     *
+     * @param t value to remove.
+     * @return true if the value was removed, otherwise return false.
+     */
+    @Override
+    public boolean delete(@NotNull T t) {
+        try {
+            return delegate.delete(t);
+        } finally {
+            invalidate(t);
+        }
+    }
+
+    @Override
+    public BatchResult<T> saveAll(@NotNull Collection<T> values) {
+        try {
+            return delegate.saveAll(values);
+        } finally {
+            values.forEach(this::invalidate);
+        }
+    }
+
+    /**
+     * Get all the values, only the ids that are not cached are requested to the delegate manager.
+     *
+     * @param ids   the ids to find.
+     * @param clazz type of the objects to find.
+     * @return the found values by id, in the iteration order of the ids. The ids that were not found are absent.
+     */
+    @Override
+    public Map<I, T> getAll(@NotNull Collection<I> ids, Class<T> clazz) {
+        Map<I, T> cached  = cache.getAllPresent(ids);
+        List<I>   missing = new ArrayList<>(ids.size() - cached.size());
+        for (I id : ids) {
+            if (!cached.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+
+        long      stamp  = invalidations.get();
+        Map<I, T> loaded = missing.isEmpty() ? Collections.emptyMap() : delegate.getAll(missing, clazz);
+        for (Map.Entry<I, T> entry : loaded.entrySet()) {
+            // A value invalidated during the load may be stale, the check runs under the lock of the key so an
+            // invalidation that is not seen yet removes the value after it is cached.
+            cache.asMap().compute(entry.getKey(), (id, current) -> current != null
+                    ? current
+                    : invalidations.get() == stamp ? entry.getValue() : null);
+        }
+
+        Map<I, T> result = new LinkedHashMap<>();
+        for (I id : ids) {
+            T t = cached.get(id);
+            if (t == null) {
+                t = loaded.get(id);
+            }
+            if (t != null) {
+                result.put(id, t);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public BatchResult<T> deleteAll(@NotNull Collection<T> values) {
+        try {
+            return delegate.deleteAll(values);
+        } finally {
+            values.forEach(this::invalidate);
+        }
+    }
+
+    /**
+     * Find the values with the delegate manager, the query results are not cached.
+     *
+     * @param query the criteria of the values to find.
+     * @return the found values.
+     */
+    @Override
+    public List<T> find(@NotNull DataQuery<T> query) {
+        return delegate.find(query);
+    }
+
+    @Override
+    public Stream<T> stream(@NotNull DataQuery<T> query) {
+        return delegate.stream(query);
+    }
+
+    /**
+     * Discard the cached copy of the value.
+     *
+     * @param t the value to discard.
+     */
+    public void invalidate(@NotNull T t) {
+        I id = idExtractor.apply(t);
+        if (id != null) {
+            invalidateId(id);
+        }
+    }
+
+    /**
+     * Discard the cached value with the provided id.
+     *
+     * @param id the id to discard.
+     */
+    public void invalidateId(@NotNull I id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    /**
+     * Discard every cached value.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Get the hit, miss and eviction statistics of the cache. The statistics are only recorded if the manager
+     * was built with {@link Builder#setRecordStats(boolean)}.
+     *
+     * @return the statistics of the cache.
+     */
+    @NotNull
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getEstimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public IDataManager<I, T> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public DataMetrics getMetrics() {
+        return delegate.getMetrics();
+    }
+
+    @Override
+    public IConnection<?> getConnection() {
+        return delegate.getConnection();
+    }
+
+    /**
+     * Builder adapter to {@link CachingDataManager}
+     *
+     * @param <I> Type of ID.
+     * @param <T> Type of object to save.
+     */
+    public static class Builder<I, T> {
+        private IDataManager<I, T> delegate;
+        private Function<T, I>     idExtractor;
+        private long               maximumSize = 10_000;
+        private Duration           expireAfterWrite;
+        private Duration           expireAfterAccess;
+        private boolean            recordStats = true;
+
+        private Builder() {
+        }
+
+        public IDataManager<I, T> getDelegate() {
+            return delegate;
+        }
+
+        public Builder<I, T> setDelegate(IDataManager<I, T> delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        public Function<T, I> getIdExtractor() {
+            return idExtractor;
+        }
+
+        /**
+         * Set the function that obtains the id of a value, used to invalidate the values saved or removed.
+         *
+         * @param idExtractor the function that obtains the id.
+         * @return this builder.
+         */
+        public Builder<I, T> setIdExtractor(Function<T, I> idExtractor) {
+            this.idExtractor = idExtractor;
+            return this;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public Builder<I, T> setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        /**
+         * Set the time to live of the cached values.
+         *
+         * @param expireAfterWrite the time since a value was cached after which it is discarded, null to keep
+         *                         the values until they are evicted.
+         * @return this builder.
+         */
+        public Builder<I, T> setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        public Duration getExpireAfterAccess() {
+            return expireAfterAccess;
+        }
+
+        public Builder<I, T> setExpireAfterAccess(Duration expireAfterAccess) {
+            this.expireAfterAccess = expireAfterAccess;
+            return this;
+        }
+
+        public boolean isRecordStats() {
+            return recordStats;
+        }
+
+        public Builder<I, T> setRecordStats(boolean recordStats) {
+            this.recordStats = recordStats;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link CachingDataManager}
+         *
+         * @return {@link CachingDataManager} instance.
+         */
+        public @NotNull CachingDataManager<I, T> build() {
+            return new CachingDataManager<>(this);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.github.danildzambrana.commons.data;
+
+import com.github.danildzambrana.commons.data.metrics.DataMetrics;
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Decorator of {@link IDataManager} that coalesces the concurrent calls to {@link #get(Object, Class)} into one
+ * call to {@link IDataManager#getAll(Collection, Class)} of the delegate manager, a single {@code IN} or
+ * {@code $in} query. The ids are collected during a short window, or until the batch is full, and the same id is
+ * requested once however many callers wait for it, so the queries grow with the distinct ids and not with the
+ * callers.
+ * <p>
+ * The first caller of a batch waits the window and then loads the batch for every caller, no other thread is
+ * used. A lone caller pays the window as extra latency. The batch is loaded out of the unit of work of the
+ * callers, do not use the manager inside a {@link com.github.danildzambrana.commons.data.mysql.MySQLUnitOfWork}.
+ * The callers of the same id receive the same instance, it must be treated as read-only.
+ *
+ * @param <I> Type of ID.
+ * @param <T> Type of object to save.
+ */
+public class CoalescingDataManager<I, T> implements IDataManager<I, T> {
+    private final IDataManager<I, T>         delegate;
+    private final long                       windowNanos;
+    private final int                        maxBatchSize;
+    private final Map<Class<T>, Batch<I, T>> pending  = new HashMap<>();
+    private final LongAdder                  requests = new LongAdder();
+    private final LongAdder                  batches  = new LongAdder();
+
+    private CoalescingDataManager(Builder<I, T> builder) {
+        FieldUtils.requireArgument(builder.getDelegate() != null, "the delegate manager is required");
+        FieldUtils.requireArgument(builder.getWindow() != null && !builder.getWindow().isNegative());
+        FieldUtils.requireArgument(builder.getMaxBatchSize() > 0);
+
+        this.delegate     = builder.getDelegate();
+        this.windowNanos  = builder.getWindow().toNanos();
+        this.maxBatchSize = builder.getMaxBatchSize();
+    }
+
+    @NotNull
+    public static <I, T> Builder<I, T> builder(@NotNull IDataManager<I, T> delegate) {
+        return new Builder<I, T>().setDelegate(delegate);
+    }
+
+    @Override
+    public boolean save(@NotNull T t) {
+        return delegate.save(t);
+    }
+
+    @Override
+    public SaveResult trySave(@NotNull T t) {
+        return delegate.trySave(t);
+    }
+
+    /**
+     * Get the value within the next batch of the class, the calling thread waits until the batch is loaded.
+     *
+     * @param id    the id of the value.
+     * @param clazz type of the value.
+     * @return the value, or empty if it does not exist.
+     */
+    @Override
+    public Optional<T> get(@NotNull I id, Class<T> clazz) {
+        requests.increment();
+
+        Batch<I, T>                    batch;
+        CompletableFuture<Optional<T>> result;
+        boolean                        leader = false;
+        synchronized (pending) {
+            batch = pending.get(clazz);
+            if (batch == null) {
+                batch  = new Batch<>();
+                leader = true;
+                pending.put(clazz, batch);
+            }
+
+            result = batch.waiters.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (batch.waiters.size() >= maxBatchSize) {
+                pending.remove(clazz);
+                batch.full.countDown();
+            }
+        }
+
+        if (leader) {
+            awaitWindow(batch);
+            synchronized (pending) {
+                pending.remove(clazz, batch);
+            }
+            load(batch, clazz);
+        }
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean exists(@NotNull I id, Class<T> clazz) {
+        return delegate.exists(id, clazz);
+    }
+
+    @Override
+    public boolean delete(@NotNull T t) {
+        return delegate.delete(t);
+    }
+
+    @Override
+    public BatchResult<T> saveAll(@NotNull Collection<T> values) {
+        return delegate.saveAll(values);
+    }
+
+    /**
+     * Get all the values with the delegate manager, the call is already a batch and is not coalesced.
+     *
+     * @param ids   the ids to find.
+     * @param clazz type of the objects to find.
+     * @return the found values by id, in the iteration order of the ids. The ids that were not found are absent.
+     */
+    @Override
+    public Map<I, T> getAll(@NotNull Collection<I> ids, Class<T> clazz) {
+        return delegate.getAll(ids, clazz);
+    }
+
+    @Override
+    public BatchResult<T> deleteAll(@NotNull Collection<T> values) {
+        return delegate.deleteAll(values);
+    }
+
+    @Override
+    public List<T> find(@NotNull DataQuery<T> query) {
+        return delegate.find(query);
+    }
+
+    @Override
+    public Stream<T> stream(@NotNull DataQuery<T> query) {
+        return delegate.stream(query);
+    }
+
+    /**
+     * Get the number of calls to {@link #get(Object, Class)}.
+     *
+     * @return the number of calls.
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Get the number of batches loaded with the delegate manager, each one is a call to
+     * {@link IDataManager#getAll(Collection, Class)}.
+     *
+     * @return the number of batches.
+     */
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public IDataManager<I, T> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public DataMetrics getMetrics() {
+        return delegate.getMetrics();
+    }
+
+    @Override
+    public IConnection<?> getConnection() {
+        return delegate.getConnection();
+    }
+
+    /**
+     * Wait until the window ends or the batch is full.
+     */
+    private void awaitWindow(Batch<I, T> batch) {
+        if (windowNanos == 0) {
+            return;
+        }
+
+        try {
+            batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            // The batch is loaded anyway, the other callers are waiting for it.
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Load the batch and complete every caller, an error of the delegate manager is received by all of them.
+     */
+    private void load(Batch<I, T> batch, Class<T> clazz) {
+        batches.increment();
+
+        // No more callers join the batch once it left the pending ones.
+        Map<I, T> found;
+        try {
+            found = delegate.getAll(batch.waiters.keySet(), clazz);
+        } catch (Throwable e) {
+            batch.waiters.values().forEach(waiter -> waiter.completeExceptionally(e));
+            return;
+        }
+
+        batch.waiters.forEach((id, waiter) -> waiter.complete(Optional.ofNullable(found.get(id))));
+    }
+
+    private static final class Batch<I, T> {
+        private final Map<I, CompletableFuture<Optional<T>>> waiters = new LinkedHashMap<>();
+        private final CountDownLatch                         full    = new CountDownLatch(1);
+    }
+
+    /**
+     * Builder adapter to {@link CoalescingDataManager}
+     *
+     * @param <I> Type of ID.
+     * @param <T> Type of object to save.
+     */
+    public static class Builder<I, T> {
+        private IDataManager<I, T> delegate;
+        private Duration           window       = Duration.ofMillis(2);
+        private int                maxBatchSize = 100;
+
+        private Builder() {
+        }
+
+        public IDataManager<I, T> getDelegate() {
+            return delegate;
+        }
+
+        public Builder<I, T> setDelegate(IDataManager<I, T> delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        /**
+         * Set the time the first caller of a batch waits for other callers before the batch is loaded.
+         *
+         * @param window the time to wait, 2 milliseconds by default.
+         * @return this builder.
+         */
+        public Builder<I, T> setWindow(@NotNull Duration window) {
+            this.window = window;
+            return this;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        /**
+         * Set the number of distinct ids after which a batch is loaded without waiting for the end of the window.
+         *
+         * @param maxBatchSize the number of ids, 100 by default.
+         * @return this builder.
+         */
+        public Builder<I, T> setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link CoalescingDataManager}
+         *
+         * @return {@link CoalescingDataManager} instance.
+         */
+        public @NotNull CoalescingDataManager<I, T> build() {
+            return new CoalescingDataManager<>(this);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.github.danildzambrana.commons.data;
+
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Criteria to find values with {@link IDataManager#find(DataQuery)} and {@link IDataManager#stream(DataQuery)}.
+ * The filters are combined with AND, and the field names are the names of the fields of the mapped class.
+ * <p>
+ * For deep pagination prefer keyset pagination with {@link #after(Object, Object)} over {@link #offset(int)}, the
+ * database does not have to skip the previous pages.
+ *
+ * @param <T> Type of the object to find.
+ */
+public class DataQuery<T> {
+    private final Class<T>     clazz;
+    private final List<Filter> filters = new ArrayList<>();
+    private final List<Sort>   sorts   = new ArrayList<>();
+    private final List<String> fields  = new ArrayList<>();
+    private       int          limit   = -1;
+    private       int          offset  = 0;
+    private       int          fetchSize;
+    private       Object       afterValue;
+    private       Object       afterId;
+    private       boolean      readOnly;
+
+    private DataQuery(Class<T> clazz) {
+        this.clazz = clazz;
+    }
+
+    /**
+     * Create a query of the class.
+     *
+     * @param clazz type of the objects to find.
+     * @param <T>   type of the objects to find.
+     * @return the created query.
+     */
+    @NotNull
+    public static <T> DataQuery<T> of(@NotNull Class<T> clazz) {
+        return new DataQuery<>(clazz);
+    }
+
+    public DataQuery<T> where(@NotNull String field, @NotNull Operator operator, @Nullable Object value) {
+        if (operator == Operator.IN) {
+            FieldUtils.requireArgument(value instanceof Collection, "the value of IN must be a collection");
+        }
+        filters.add(new Filter(field, operator, value));
+        return this;
+    }
+
+    public DataQuery<T> equal(@NotNull String field, @Nullable Object value) {
+        return where(field, Operator.EQUAL, value);
+    }
+
+    public DataQuery<T> in(@NotNull String field, @NotNull Collection<?> values) {
+        return where(field, Operator.IN, values);
+    }
+
+    /**
+     * Sort the results by the field, the sorts are applied in the order they were added.
+     *
+     * @param field     the field to sort by.
+     * @param ascending true to sort in ascending order.
+     * @return this query.
+     */
+    public DataQuery<T> orderBy(@NotNull String field, boolean ascending) {
+        sorts.add(new Sort(field, ascending));
+        return this;
+    }
+
+    /**
+     * Set the maximum number of results.
+     *
+     * @param limit the maximum number of results, 0 or -1 for no limit.
+     * @return this query.
+     */
+    public DataQuery<T> limit(int limit) {
+        FieldUtils.requireArgument(limit >= -1);
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Set the number of results to skip.
+     *
+     * @param offset the number of results to skip.
+     * @return this query.
+     */
+    public DataQuery<T> offset(int offset) {
+        FieldUtils.requireArgument(offset >= 0);
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * Keyset pagination, only return the results placed after the last result of the previous page. The query
+     * must be sorted by a field and then by the id, the id breaks the ties between the results with the same
+     * value in the sort field, so no result is skipped nor repeated at the edge of a page.
+     *
+     * @param value the value of the first sort field of the last result of the previous page.
+     * @param id    the id of the last result of the previous page.
+     * @return this query.
+     */
+    public DataQuery<T> after(@NotNull Object value, @NotNull Object id) {
+        FieldUtils.requireArgument(value != null, "the value of the keyset can not be null");
+        FieldUtils.requireArgument(id != null, "the id of the keyset can not be null");
+        this.afterValue = value;
+        this.afterId    = id;
+        return this;
+    }
+
+    /**
+     * Set the number of rows or documents that the database sends in each round trip when the results are
+     * streamed.
+     *
+     * @param fetchSize the number of results per round trip, 0 to use the default of the manager.
+     * @return this query.
+     */
+    public DataQuery<T> fetchSize(int fetchSize) {
+        FieldUtils.requireArgument(fetchSize >= 0);
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Load only the provided fields and the id, the rest of the fields of the results keep the value of a new
+     * instance. The query becomes {@link #readOnly()}, saving a partially loaded result would overwrite the fields
+     * that were not loaded.
+     *
+     * @param fields the fields to load.
+     * @return this query.
+     */
+    public DataQuery<T> select(@NotNull String... fields) {
+        Collections.addAll(this.fields, fields);
+        this.readOnly = true;
+        return this;
+    }
+
+    /**
+     * Mark the results as read-only, they are displayed but not modified nor saved, so the manager does not have
+     * to track their changes.
+     *
+     * @return this query.
+     */
+    public DataQuery<T> readOnly() {
+        this.readOnly = true;
+        return this;
+    }
+
+    public Class<T> getClazz() {
+        return clazz;
+    }
+
+    /**
+     * Get the filters of the query, they do not include the keyset of {@link #after(Object, Object)}.
+     *
+     * @return the filters of the query.
+     */
+    public List<Filter> getFilters() {
+        return Collections.unmodifiableList(filters);
+    }
+
+    /**
+     * Get the keyset of {@link #after(Object, Object)}, the results must match
+     * {@code after OR (tie AND afterId)}.
+     *
+     * @return the keyset of the query, or null if the query is not paginated by keyset.
+     */
+    @Nullable
+    public Keyset getKeyset() {
+        if (afterValue == null) {
+            return null;
+        }
+
+        FieldUtils.requireState(sorts.size() >= 2, "keyset pagination requires a sort and an id sort, found %s",
+                sorts);
+        Sort sort = sorts.get(0);
+        Sort id   = sorts.get(1);
+        return new Keyset(
+                new Filter(sort.getField(), sort.isAscending() ? Operator.GREATER_THAN : Operator.LESS_THAN,
+                        afterValue),
+                new Filter(sort.getField(), Operator.EQUAL, afterValue),
+                new Filter(id.getField(), id.isAscending() ? Operator.GREATER_THAN : Operator.LESS_THAN, afterId));
+    }
+
+    public List<Sort> getSorts() {
+        return Collections.unmodifiableList(sorts);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public Object getAfterValue() {
+        return afterValue;
+    }
+
+    public Object getAfterId() {
+        return afterId;
+    }
+
+    /**
+     * Get the fields provided to {@link #select(String...)}.
+     *
+     * @return the fields to load, empty to load all the fields.
+     */
+    public List<String> getFields() {
+        return Collections.unmodifiableList(fields);
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    @Override
+    public String toString() {
+        return "DataQuery{" +
+                "clazz=" + clazz.getName() +
+                ", filters=" + filters +
+                ", sorts=" + sorts +
+                ", limit=" + limit +
+                ", offset=" + offset +
+                ", fetchSize=" + fetchSize +
+                ", afterValue=" + afterValue +
+                ", afterId=" + afterId +
+                ", fields=" + fields +
+                ", readOnly=" + readOnly +
+                '}';
+    }
+
+    public enum Operator {
+        EQUAL,
+        NOT_EQUAL,
+        GREATER_THAN,
+        GREATER_THAN_OR_EQUAL,
+        LESS_THAN,
+        LESS_THAN_OR_EQUAL,
+        /**
+         * The value must be a {@link Collection}.
+         */
+        IN
+    }
+
+    public static class Filter {
+        private final String   field;
+        private final Operator operator;
+        private final Object   value;
+
+        private Filter(String field, Operator operator, Object value) {
+            this.field    = field;
+            this.operator = operator;
+            this.value    = value;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public Operator getOperator() {
+            return operator;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return field + " " + operator + " " + value;
+        }
+    }
+
+    /**
+     * Keyset of {@link #after(Object, Object)}, the results placed after the value in the sort field, or with the
+     * same value and placed after the id.
+     */
+    public static class Keyset {
+        private final Filter after;
+        private final Filter tie;
+        private final Filter afterId;
+
+        private Keyset(Filter after, Filter tie, Filter afterId) {
+            this.after   = after;
+            this.tie     = tie;
+            this.afterId = afterId;
+        }
+
+        public Filter getAfter() {
+            return after;
+        }
+
+        public Filter getTie() {
+            return tie;
+        }
+
+        public Filter getAfterId() {
+            return afterId;
+        }
+
+        @Override
+        public String toString() {
+            return after + " OR (" + tie + " AND " + afterId + ")";
+        }
+    }
+
+    public static class Sort {
+        private final String  field;
+        private final boolean ascending;
+
+        private Sort(String field, boolean ascending) {
+            this.field     = field;
+            this.ascending = ascending;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public boolean isAscending() {
+            return ascending;
+        }
+
+        @Override
+        public String toString() {
+            return field + (ascending ? " ASC" : " DESC");
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.github.danildzambrana.commons.data;
+
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncDataManager} that runs the operations of a blocking {@link IDataManager} on a bounded executor.
+ * <p>
+ * The operations run in the threads of the executor, so they do not join a unit of work of the calling thread.
+ *
+ * @param <I> Type of ID.
+ * @param <T> Type of object to save.
+ */
+public class ExecutorAsyncDataManager<I, T> implements AsyncDataManager<I, T> {
+    private static final AtomicInteger POOL_SEQUENCE = new AtomicInteger();
+
+    private final IDataManager<I, T> delegate;
+    private final ExecutorService    executor;
+    private final boolean            ownsExecutor;
+    private final Semaphore          permits;
+    private final AtomicInteger      pending;
+    private final int                capacity;
+
+    protected ExecutorAsyncDataManager(@NotNull Builder<I, T> builder) {
+        FieldUtils.requireArgument(builder.getDelegate() != null, "the delegate manager is required");
+        FieldUtils.requireArgument(builder.getThreads() > 0);
+        FieldUtils.requireArgument(builder.getQueueCapacity() > 0);
+        this.delegate = builder.getDelegate();
+
+        ExecutorService external = builder.getExecutor();
+        ExecutorService virtual  = external == null && builder.isVirtualThreads() ? newVirtualThreadExecutor() : null;
+
+        if (external != null) {
+            this.executor     = external;
+            this.ownsExecutor = false;
+            this.permits      = null;
+            this.pending      = null;
+            this.capacity     = 0;
+        } else if (virtual != null) {
+            // Virtual threads are cheap, but the database is not, so the concurrency is still bounded. The
+            // operations that wait for a permit are the queue, bounded like the queue of the thread pool.
+            this.executor     = virtual;
+            this.ownsExecutor = true;
+            this.permits      = new Semaphore(builder.getThreads());
+            this.pending      = new AtomicInteger();
+            this.capacity     = builder.getThreads() + builder.getQueueCapacity();
+        } else {
+            String        prefix         = builder.getThreadName() + "-" + POOL_SEQUENCE.incrementAndGet() + "-";
+            AtomicInteger threadSequence = new AtomicInteger();
+
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(builder.getThreads(), builder.getThreads(), 60,
+                    TimeUnit.SECONDS, new ArrayBlockingQueue<>(builder.getQueueCapacity()), runnable -> {
+                Thread thread = new Thread(runnable, prefix + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            pool.allowCoreThreadTimeOut(true);
+
+            this.executor     = pool;
+            this.ownsExecutor = true;
+            this.permits      = null;
+            this.pending      = null;
+            this.capacity     = 0;
+        }
+    }
+
+    @NotNull
+    public static <I, T> Builder<I, T> builder(@NotNull IDataManager<I, T> delegate) {
+        return new Builder<I, T>().setDelegate(delegate);
+    }
+
+    /**
+     * Check if the running JVM supports virtual threads.
+     *
+     * @return true if virtual threads are available.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @Nullable
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> save(@NotNull T t) {
+        return submit(() -> delegate.save(t));
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> get(@NotNull I id, Class<T> clazz) {
+        return submit(() -> delegate.get(id, clazz));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> delete(@NotNull T t) {
+        return submit(() -> delegate.delete(t));
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<T>> saveAll(@NotNull Collection<T> values) {
+        return submit(() -> delegate.saveAll(values));
+    }
+
+    @Override
+    public CompletableFuture<Map<I, T>> getAll(@NotNull Collection<I> ids, Class<T> clazz) {
+        return submit(() -> delegate.getAll(ids, clazz));
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<T>> deleteAll(@NotNull Collection<T> values) {
+        return submit(() -> delegate.deleteAll(values));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> find(@NotNull DataQuery<T> query) {
+        return submit(() -> delegate.find(query));
+    }
+
+    /**
+     * Run the operation in the executor of this manager.
+     *
+     * @param operation the blocking operation.
+     * @param <R>       type of the result.
+     * @return a future completed with the result of the operation, or completed exceptionally if the operation
+     * failed or the executor rejected it because it is saturated or closed.
+     */
+    protected <R> CompletableFuture<R> submit(@NotNull Supplier<R> operation) {
+        if (pending != null && pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            return rejected(new RejectedExecutionException("the queue of the operations is full"));
+        }
+
+        Supplier<R> task = permits == null ? operation : () -> {
+            try {
+                permits.acquireUninterruptibly();
+                try {
+                    return operation.get();
+                } finally {
+                    permits.release();
+                }
+            } finally {
+                pending.decrementAndGet();
+            }
+        };
+
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            if (pending != null) {
+                pending.decrementAndGet();
+            }
+            return rejected(e);
+        }
+    }
+
+    private static <R> CompletableFuture<R> rejected(RejectedExecutionException e) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+
+    @Override
+    public IDataManager<I, T> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Stop accepting operations, the pending operations are completed. The executor is only shut down if it
+     * was created by this manager.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Builder adapter to {@link ExecutorAsyncDataManager}
+     *
+     * @param <I> Type of ID.
+     * @param <T> Type of object to save.
+     */
+    public static class Builder<I, T> {
+        private IDataManager<I, T> delegate;
+        private ExecutorService    executor;
+        private int                threads        = Runtime.getRuntime().availableProcessors();
+        private int                queueCapacity  = 1024;
+        private boolean            virtualThreads = false;
+        private String             threadName     = "data-manager";
+
+        protected Builder() {
+        }
+
+        public IDataManager<I, T> getDelegate() {
+            return delegate;
+        }
+
+        public Builder<I, T> setDelegate(IDataManager<I, T> delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        public ExecutorService getExecutor() {
+            return executor;
+        }
+
+        /**
+         * Use an external executor instead of creating one, it is not shut down by
+         * {@link ExecutorAsyncDataManager#close()}.
+         *
+         * @param executor the executor of the operations.
+         * @return this builder.
+         */
+        public Builder<I, T> setExecutor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        /**
+         * Set the maximum number of operations that run at the same time. It should not be greater than the size
+         * of the connection pool of the delegate manager.
+         *
+         * @param threads the maximum number of concurrent operations.
+         * @return this builder.
+         */
+        public Builder<I, T> setThreads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        /**
+         * Set the number of operations that can wait for a thread, or for a permit with virtual threads, when
+         * the queue is full the new operations are completed exceptionally with a
+         * {@link RejectedExecutionException}. It does not apply to an external executor.
+         *
+         * @param queueCapacity the capacity of the queue.
+         * @return this builder.
+         */
+        public Builder<I, T> setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        /**
+         * Run every operation in its own virtual thread when the JVM supports them, otherwise a platform thread
+         * pool is used. See {@link ExecutorAsyncDataManager#isVirtualThreadsSupported()}
+         *
+         * @param virtualThreads true to use virtual threads.
+         * @return this builder.
+         */
+        public Builder<I, T> setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public Builder<I, T> setThreadName(String threadName) {
+            this.threadName = threadName;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link ExecutorAsyncDataManager}
+         *
+         * @return {@link ExecutorAsyncDataManager} instance.
+         */
+        public @NotNull ExecutorAsyncDataManager<I, T> build() {
+            return new ExecutorAsyncDataManager<>(this);
+        }
+    }
+}
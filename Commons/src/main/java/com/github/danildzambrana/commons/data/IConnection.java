@@ -1,7 +1,10 @@
 package com.github.danildzambrana.commons.data;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Connection class scheme.
  * @param <T> The type of connection.
@@ -20,4 +23,13 @@ public interface IConnection<T> {
      * @return True if the connection is available, otherwise it returns false.
      */
     boolean isConnected();
+
+    /**
+     * Get how far behind its source is the data of this connection, see {@link ReplicaRoutingDataManager}.
+     * @param unit the unit of the result.
+     * @return the replication lag, 0 if the connection is not a replica, or {@link Long#MAX_VALUE} if it is unknown.
+     */
+    default long getReplicationLag(@NotNull TimeUnit unit) {
+        return 0;
+    }
 }
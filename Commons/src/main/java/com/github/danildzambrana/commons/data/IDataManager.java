@@ -1,8 +1,14 @@
 package com.github.danildzambrana.commons.data;
 
+import com.github.danildzambrana.commons.data.metrics.DataMetrics;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * This class represents the scheme to follow for the creation of a Data Manager
@@ -18,6 +24,17 @@ public interface IDataManager<I, T> {
      */
     boolean save(@NotNull T t);
 
+    /**
+     * Save the value reporting if it was rejected because of a concurrent change. The versioned values, with a
+     * {@code @Version} field, are only saved if their version is the stored one. By default the value is saved
+     * with {@link #save(Object)} and conflicts are not detected.
+     *
+     * @param t The value to save.
+     * @return the outcome of the operation.
+     */
+    default SaveResult trySave(@NotNull T t) {
+        return save(t) ? SaveResult.SAVED : SaveResult.FAILED;
+    }
 
     /**
      * Get the value with provided id.
@@ -27,6 +44,20 @@ public interface IDataManager<I, T> {
      */
     Optional<T> get(@NotNull I id, Class<T> clazz);
 
+    /**
+     * Check if a value with the provided id is stored. Unlike {@link #get(Object, Class)}, a failure of the store
+     * is thrown, so an unavailable store is not confused with a missing value. By default the value is obtained
+     * with {@link #get(Object, Class)}.
+     *
+     * @param id    the id to find.
+     * @param clazz type of the objet to find.
+     * @return true if the value exists.
+     * @throws RuntimeException if the store could not be read.
+     */
+    default boolean exists(@NotNull I id, Class<T> clazz) {
+        return get(id, clazz).isPresent();
+    }
+
     /**
      * Remove the value.
      *
@@ -35,5 +66,85 @@ public interface IDataManager<I, T> {
      */
     boolean delete(@NotNull T t);
 
+    /**
+     * Save all the values provided. Implementations should override this method to save the values
+     * in as few round trips as possible, by default every value is saved with {@link #save(Object)}.
+     *
+     * @param values the values to save.
+     * @return the result of the operation for each value.
+     */
+    default BatchResult<T> saveAll(@NotNull Collection<T> values) {
+        BatchResult<T> result = new BatchResult<>(values.size());
+        for (T t : values) {
+            result.add(t, save(t));
+        }
+        return result;
+    }
+
+    /**
+     * Get all the values with the provided ids. Implementations should override this method to find the
+     * values in as few round trips as possible, by default every value is obtained with
+     * {@link #get(Object, Class)}.
+     *
+     * @param ids   the ids to find.
+     * @param clazz type of the objects to find.
+     * @return the found values by id, in the iteration order of the ids. The ids that were not found are absent.
+     */
+    default Map<I, T> getAll(@NotNull Collection<I> ids, Class<T> clazz) {
+        Map<I, T> result = new LinkedHashMap<>();
+        for (I id : ids) {
+            get(id, clazz).ifPresent(t -> result.put(id, t));
+        }
+        return result;
+    }
+
+    /**
+     * Remove all the values provided. Implementations should override this method to remove the values
+     * in as few round trips as possible, by default every value is removed with {@link #delete(Object)}.
+     *
+     * @param values the values to remove.
+     * @return the result of the operation for each value.
+     */
+    default BatchResult<T> deleteAll(@NotNull Collection<T> values) {
+        BatchResult<T> result = new BatchResult<>(values.size());
+        for (T t : values) {
+            result.add(t, delete(t));
+        }
+        return result;
+    }
+
+    /**
+     * Find the values that match the query.
+     *
+     * @param query the criteria of the values to find.
+     * @return the found values.
+     * @throws UnsupportedOperationException if the manager does not support queries.
+     */
+    default List<T> find(@NotNull DataQuery<T> query) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support queries");
+    }
+
+    /**
+     * Stream the values that match the query. Implementations should override this method to read the values
+     * with a server-side cursor, so the results are never held in memory at once. The stream holds database
+     * resources and must be closed, use it in a try-with-resources statement.
+     *
+     * @param query the criteria of the values to find.
+     * @return a stream of the found values.
+     * @throws UnsupportedOperationException if the manager does not support queries.
+     */
+    default Stream<T> stream(@NotNull DataQuery<T> query) {
+        return find(query).stream();
+    }
+
+    /**
+     * Get the instrumentation that receives the operations of this manager.
+     *
+     * @return the instrumentation, {@link DataMetrics#noop()} if the manager is not instrumented.
+     */
+    default DataMetrics getMetrics() {
+        return DataMetrics.noop();
+    }
+
     IConnection<?> getConnection();
 }
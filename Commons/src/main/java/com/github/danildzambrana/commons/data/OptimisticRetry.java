@@ -0,0 +1,169 @@
+package com.github.danildzambrana.commons.data;
+
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Applies a change to a versioned value with optimistic concurrency: the latest value is read, the change is
+ * merged into it and saved with {@link IDataManager#trySave(Object)}, and on a conflict the whole cycle is
+ * repeated with the value saved by the other writer. No lock is held between the read and the save.
+ * <p>
+ * Between the attempts the thread waits an exponential backoff with jitter, so the writers of the same value do
+ * not collide again. The reads must reach the stored value, do not use it inside a unit of work or with a
+ * manager that reads from replicas.
+ */
+public class OptimisticRetry {
+    private final int  maxAttempts;
+    private final long backoffNanos;
+    private final long maxBackoffNanos;
+
+    private OptimisticRetry(Builder builder) {
+        FieldUtils.requireArgument(builder.getMaxAttempts() > 0);
+        FieldUtils.requireArgument(!builder.getBackoff().isNegative());
+        FieldUtils.requireArgument(builder.getMaxBackoff().compareTo(builder.getBackoff()) >= 0);
+
+        this.maxAttempts     = builder.getMaxAttempts();
+        this.backoffNanos    = builder.getBackoff().toNanos();
+        this.maxBackoffNanos = builder.getMaxBackoff().toNanos();
+    }
+
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Apply a change to the stored value.
+     *
+     * @param manager the manager of the value.
+     * @param id      the id of the value.
+     * @param clazz   type of the value.
+     * @param merge   the function that applies the change to the latest value and returns the value to save, or
+     *                null to cancel the change. It may be called once per attempt.
+     * @param <I>     type of ID.
+     * @param <T>     type of the value.
+     * @return {@link SaveResult#SAVED} if the change was saved, {@link SaveResult#CONFLICT} if every attempt
+     * conflicted, or {@link SaveResult#FAILED} if the value does not exist, the change was cancelled or the save
+     * failed.
+     */
+    public <I, T> SaveResult update(@NotNull IDataManager<I, T> manager, @NotNull I id, @NotNull Class<T> clazz,
+                                    @NotNull UnaryOperator<T> merge) {
+        for (int attempt = 1; ; attempt++) {
+            Optional<T> current = manager.get(id, clazz);
+            if (!current.isPresent()) {
+                return SaveResult.FAILED;
+            }
+
+            T merged = merge.apply(current.get());
+            if (merged == null) {
+                return SaveResult.FAILED;
+            }
+
+            SaveResult result = manager.trySave(merged);
+            if (result != SaveResult.CONFLICT || attempt == maxAttempts) {
+                return result;
+            }
+
+            if (!pause(attempt)) {
+                return SaveResult.CONFLICT;
+            }
+        }
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Wait before the next attempt, a random time up to the backoff doubled for each failed attempt.
+     *
+     * @return false if the thread was interrupted.
+     */
+    private boolean pause(int attempt) {
+        int  shift = Math.min(attempt - 1, Long.numberOfLeadingZeros(backoffNanos) - 1);
+        long limit = Math.min(maxBackoffNanos, backoffNanos << shift);
+        if (limit <= 0) {
+            return true;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(limit / 2, limit + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Builder adapter to {@link OptimisticRetry}
+     */
+    public static class Builder {
+        private int      maxAttempts = 10;
+        private Duration backoff     = Duration.ofMillis(2);
+        private Duration maxBackoff  = Duration.ofMillis(200);
+
+        private Builder() {
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        /**
+         * Set the number of times the change is applied before the conflict is reported.
+         *
+         * @param maxAttempts the number of attempts, 10 by default.
+         * @return this builder.
+         */
+        public Builder setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Duration getBackoff() {
+            return backoff;
+        }
+
+        /**
+         * Set the wait after the first conflict, it doubles after each conflict.
+         *
+         * @param backoff the initial wait, 2 milliseconds by default.
+         * @return this builder.
+         */
+        public Builder setBackoff(@NotNull Duration backoff) {
+            this.backoff = backoff;
+            return this;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        /**
+         * Set the longest wait between two attempts.
+         *
+         * @param maxBackoff the longest wait, 200 milliseconds by default.
+         * @return this builder.
+         */
+        public Builder setMaxBackoff(@NotNull Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link OptimisticRetry}
+         *
+         * @return {@link OptimisticRetry} instance.
+         */
+        public @NotNull OptimisticRetry build() {
+            return new OptimisticRetry(this);
+        }
+    }
+}
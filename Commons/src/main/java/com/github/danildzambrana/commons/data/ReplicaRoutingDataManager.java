@@ -0,0 +1,261 @@
+package com.github.danildzambrana.commons.data;
+
+import com.github.danildzambrana.commons.data.metrics.DataMetrics;
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * {@link IDataManager} that sends the writes to the primary manager and spreads the reads between the replicas,
+ * in round-robin order. A replica only receives reads while it is connected and, if a maximum staleness is set,
+ * while its {@link IConnection#getReplicationLag(TimeUnit) replication lag} is within the bound. The reads go to
+ * the primary when no replica is eligible.
+ * <p>
+ * The reads done through a replica may not see the latest writes, the reads that must see them, such as the
+ * reads inside a unit of work, must use the primary manager.
+ *
+ * @param <I> Type of ID.
+ * @param <T> Type of object to save.
+ */
+public class ReplicaRoutingDataManager<I, T> implements IDataManager<I, T> {
+    private final IDataManager<I, T>  primary;
+    private final List<Replica<I, T>> replicas;
+    private final long                maxStalenessNanos;
+    private final long                lagCheckIntervalNanos;
+    private final AtomicInteger       next = new AtomicInteger();
+
+    private ReplicaRoutingDataManager(Builder<I, T> builder) {
+        FieldUtils.requireArgument(builder.getPrimary() != null, "the primary manager is required");
+        FieldUtils.requireArgument(builder.getMaxStaleness() == null || !builder.getMaxStaleness().isNegative());
+        FieldUtils.requireArgument(!builder.getLagCheckInterval().isNegative());
+
+        this.primary               = builder.getPrimary();
+        this.maxStalenessNanos     = builder.getMaxStaleness() != null ? builder.getMaxStaleness().toNanos() : -1;
+        this.lagCheckIntervalNanos = builder.getLagCheckInterval().toNanos();
+
+        List<Replica<I, T>> replicas = new ArrayList<>(builder.getReplicas().size());
+        for (IDataManager<I, T> replica : builder.getReplicas()) {
+            replicas.add(new Replica<>(replica));
+        }
+        this.replicas = Collections.unmodifiableList(replicas);
+    }
+
+    @NotNull
+    public static <I, T> Builder<I, T> builder(@NotNull IDataManager<I, T> primary) {
+        return new Builder<I, T>().setPrimary(primary);
+    }
+
+    @Override
+    public boolean save(@NotNull T t) {
+        return primary.save(t);
+    }
+
+    @Override
+    public SaveResult trySave(@NotNull T t) {
+        return primary.trySave(t);
+    }
+
+    @Override
+    public Optional<T> get(@NotNull I id, Class<T> clazz) {
+        return route().get(id, clazz);
+    }
+
+    @Override
+    public boolean exists(@NotNull I id, Class<T> clazz) {
+        return primary.exists(id, clazz);
+    }
+
+    @Override
+    public boolean delete(@NotNull T t) {
+        return primary.delete(t);
+    }
+
+    @Override
+    public BatchResult<T> saveAll(@NotNull Collection<T> values) {
+        return primary.saveAll(values);
+    }
+
+    @Override
+    public Map<I, T> getAll(@NotNull Collection<I> ids, Class<T> clazz) {
+        return route().getAll(ids, clazz);
+    }
+
+    @Override
+    public BatchResult<T> deleteAll(@NotNull Collection<T> values) {
+        return primary.deleteAll(values);
+    }
+
+    @Override
+    public List<T> find(@NotNull DataQuery<T> query) {
+        return route().find(query);
+    }
+
+    @Override
+    public Stream<T> stream(@NotNull DataQuery<T> query) {
+        return route().stream(query);
+    }
+
+    /**
+     * Choose the manager of the next read, the first eligible replica after the last one used, or the primary
+     * manager if no replica is eligible.
+     *
+     * @return the manager that must serve the read.
+     */
+    @NotNull
+    public IDataManager<I, T> route() {
+        int size = replicas.size();
+        if (size == 0) {
+            return primary;
+        }
+
+        int start = next.getAndIncrement();
+        for (int i = 0; i < size; i++) {
+            Replica<I, T> replica = replicas.get(Math.floorMod(start + i, size));
+            if (isEligible(replica)) {
+                return replica.manager;
+            }
+        }
+        return primary;
+    }
+
+    private boolean isEligible(Replica<I, T> replica) {
+        IConnection<?> connection = replica.manager.getConnection();
+        if (connection == null || !connection.isConnected()) {
+            return false;
+        }
+        if (maxStalenessNanos < 0) {
+            return true;
+        }
+
+        long now     = System.nanoTime();
+        long checked = replica.checkedAt.get();
+        // Only one reader refreshes the lag of a replica per interval, the rest use the last known value.
+        if (now - checked >= lagCheckIntervalNanos && replica.checkedAt.compareAndSet(checked, now)) {
+            replica.lagNanos = connection.getReplicationLag(TimeUnit.NANOSECONDS);
+        }
+        return replica.lagNanos <= maxStalenessNanos;
+    }
+
+    public IDataManager<I, T> getPrimary() {
+        return primary;
+    }
+
+    @NotNull
+    public List<IDataManager<I, T>> getReplicas() {
+        List<IDataManager<I, T>> result = new ArrayList<>(replicas.size());
+        for (Replica<I, T> replica : replicas) {
+            result.add(replica.manager);
+        }
+        return result;
+    }
+
+    @Override
+    public DataMetrics getMetrics() {
+        return primary.getMetrics();
+    }
+
+    @Override
+    public IConnection<?> getConnection() {
+        return primary.getConnection();
+    }
+
+    /**
+     * Replica with the last known replication lag.
+     */
+    private static final class Replica<I, T> {
+        private final    IDataManager<I, T> manager;
+        private final    AtomicLong         checkedAt;
+        private volatile long               lagNanos = Long.MAX_VALUE;
+
+        private Replica(IDataManager<I, T> manager) {
+            this.manager   = manager;
+            // Check the lag on the first read.
+            this.checkedAt = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+        }
+    }
+
+    /**
+     * Builder adapter to {@link ReplicaRoutingDataManager}
+     *
+     * @param <I> Type of ID.
+     * @param <T> Type of object to save.
+     */
+    public static class Builder<I, T> {
+        private       IDataManager<I, T>       primary;
+        private final List<IDataManager<I, T>> replicas         = new ArrayList<>();
+        private       Duration                 maxStaleness;
+        private       Duration                 lagCheckInterval = Duration.ofSeconds(1);
+
+        private Builder() {
+        }
+
+        public IDataManager<I, T> getPrimary() {
+            return primary;
+        }
+
+        public Builder<I, T> setPrimary(IDataManager<I, T> primary) {
+            this.primary = primary;
+            return this;
+        }
+
+        public List<IDataManager<I, T>> getReplicas() {
+            return replicas;
+        }
+
+        public Builder<I, T> addReplica(@NotNull IDataManager<I, T> replica) {
+            this.replicas.add(replica);
+            return this;
+        }
+
+        public Duration getMaxStaleness() {
+            return maxStaleness;
+        }
+
+        /**
+         * Set the maximum replication lag of the replicas that receive reads.
+         *
+         * @param maxStaleness the maximum lag, null to send reads to every connected replica.
+         * @return this builder.
+         */
+        public Builder<I, T> setMaxStaleness(Duration maxStaleness) {
+            this.maxStaleness = maxStaleness;
+            return this;
+        }
+
+        public Duration getLagCheckInterval() {
+            return lagCheckInterval;
+        }
+
+        /**
+         * Set how often the replication lag of each replica is checked, the reads between checks use the last
+         * known lag.
+         *
+         * @param lagCheckInterval the time between checks of a replica.
+         * @return this builder.
+         */
+        public Builder<I, T> setLagCheckInterval(@NotNull Duration lagCheckInterval) {
+            this.lagCheckInterval = lagCheckInterval;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link ReplicaRoutingDataManager}
+         *
+         * @return {@link ReplicaRoutingDataManager} instance.
+         */
+        public @NotNull ReplicaRoutingDataManager<I, T> build() {
+            return new ReplicaRoutingDataManager<>(this);
+        }
+    }
+}
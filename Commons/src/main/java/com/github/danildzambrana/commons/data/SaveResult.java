@@ -0,0 +1,20 @@
+package com.github.danildzambrana.commons.data;
+
+/**
+ * Outcome of {@link IDataManager#trySave(Object)}.
+ */
+public enum SaveResult {
+    /**
+     * The value was saved.
+     */
+    SAVED,
+    /**
+     * The value is versioned and its version is not the stored one, another writer saved it first. Reload the
+     * value and apply the change again, see {@link OptimisticRetry}.
+     */
+    CONFLICT,
+    /**
+     * The value could not be saved for any other reason.
+     */
+    FAILED
+}
@@ -0,0 +1,51 @@
+package com.github.danildzambrana.commons.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Conversion of the values of a data manager to bytes, used to keep them in local files.
+ *
+ * @param <T> Type of the values.
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * Codec of the values that implement {@link java.io.Serializable}, with the Java serialization.
+     *
+     * @param <T> Type of the values.
+     * @return the codec.
+     */
+    @NotNull
+    static <T> ValueCodec<T> serialization() {
+        return new ValueCodec<T>() {
+            @Override
+            public byte[] encode(@NotNull T value) throws IOException {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                    out.writeObject(value);
+                }
+                return bytes.toByteArray();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T decode(byte[] bytes) throws IOException {
+                try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    return (T) in.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+    }
+
+    byte[] encode(@NotNull T value) throws IOException;
+
+    T decode(byte[] bytes) throws IOException;
+}
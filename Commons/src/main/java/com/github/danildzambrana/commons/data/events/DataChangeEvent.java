@@ -0,0 +1,71 @@
+package com.github.danildzambrana.commons.data.events;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Change of a value written by a data manager, published once the change is committed.
+ *
+ * @param <T> Type of the changed value.
+ */
+public final class DataChangeEvent<T> {
+    private final String store;
+    private final Type   type;
+    private final T      value;
+    private final long   timestamp;
+
+    public DataChangeEvent(@NotNull String store, @NotNull Type type, @NotNull T value) {
+        this.store     = store;
+        this.type      = type;
+        this.value     = value;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * Get the name of the store that wrote the change, as reported to the metrics.
+     *
+     * @return the name of the store.
+     */
+    @NotNull
+    public String getStore() {
+        return store;
+    }
+
+    @NotNull
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Get the changed value, the same instance passed to the data manager.
+     *
+     * @return the saved or removed value.
+     */
+    @NotNull
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Get the time of the change.
+     *
+     * @return the time in milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "DataChangeEvent{" +
+                "store='" + store + '\'' +
+                ", type=" + type +
+                ", value=" + value +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+
+    public enum Type {
+        SAVED,
+        DELETED
+    }
+}
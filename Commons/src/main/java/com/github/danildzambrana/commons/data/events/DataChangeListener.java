@@ -0,0 +1,20 @@
+package com.github.danildzambrana.commons.data.events;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener of the changes written by a data manager. See {@link DataChangePublisher}
+ *
+ * @param <T> Type of the changed values.
+ */
+@FunctionalInterface
+public interface DataChangeListener<T> {
+
+    /**
+     * Called in the thread that wrote the change, after it was committed. The listener must be fast, a slow
+     * listener delays the caller of the data manager.
+     *
+     * @param event the change.
+     */
+    void onChange(@NotNull DataChangeEvent<T> event);
+}
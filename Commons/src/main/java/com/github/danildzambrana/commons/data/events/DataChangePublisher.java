@@ -0,0 +1,48 @@
+package com.github.danildzambrana.commons.data.events;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Listeners of the changes of a data manager. The failures of a listener are reported and do not reach the
+ * caller of the data manager or the other listeners.
+ *
+ * @param <T> Type of the changed values.
+ */
+public class DataChangePublisher<T> {
+    private final List<DataChangeListener<T>> listeners = new CopyOnWriteArrayList<>();
+
+    public void addListener(@NotNull DataChangeListener<T> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(@NotNull DataChangeListener<T> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Check if there is any listener, use it to skip the creation of the events.
+     *
+     * @return true if a listener is registered.
+     */
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Notify the change to every listener.
+     *
+     * @param event the change.
+     */
+    public void publish(@NotNull DataChangeEvent<T> event) {
+        for (DataChangeListener<T> listener : listeners) {
+            try {
+                listener.onChange(event);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
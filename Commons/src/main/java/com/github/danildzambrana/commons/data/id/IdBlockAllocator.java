@@ -0,0 +1,21 @@
+package com.github.danildzambrana.commons.data.id;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shared counter that reserves blocks of consecutive ids for a {@link PooledIdGenerator}. The blocks of the same
+ * name never overlap, even between processes, and the first id of a sequence is 1.
+ */
+@FunctionalInterface
+public interface IdBlockAllocator {
+
+    /**
+     * Reserve the next block of ids of a sequence.
+     *
+     * @param name the name of the sequence.
+     * @param size the number of ids of the block.
+     * @return the first id of the block, the block ends before {@code first + size}.
+     * @throws IllegalStateException if the block can not be reserved.
+     */
+    long allocate(@NotNull String name, int size);
+}
@@ -0,0 +1,17 @@
+package com.github.danildzambrana.commons.data.id;
+
+/**
+ * Generator of unique numeric ids assigned by the application before the value is written, so the inserts do not
+ * need a round trip to read back a key generated by the database and can be batched.
+ * See {@link SnowflakeIdGenerator} and {@link PooledIdGenerator}
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * Get the next id, it is safe to call from several threads.
+     *
+     * @return a positive id never returned before by this generator.
+     */
+    long nextId();
+}
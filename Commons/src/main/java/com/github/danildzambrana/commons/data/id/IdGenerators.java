@@ -0,0 +1,38 @@
+package com.github.danildzambrana.commons.data.id;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the generators by name, it lets the mappings that are created by the persistence frameworks, such
+ * as {@link com.github.danildzambrana.commons.data.mysql.MySQLIdentifierGenerator}, use the generators created by
+ * the application.
+ */
+public final class IdGenerators {
+    private static final Map<String, IdGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+    private IdGenerators() {
+    }
+
+    /**
+     * Register a generator, it replaces the generator registered with the same name.
+     *
+     * @param name      the name of the generator.
+     * @param generator the generator.
+     */
+    public static void register(@NotNull String name, @NotNull IdGenerator generator) {
+        GENERATORS.put(name, generator);
+    }
+
+    public static void unregister(@NotNull String name) {
+        GENERATORS.remove(name);
+    }
+
+    @Nullable
+    public static IdGenerator get(@NotNull String name) {
+        return GENERATORS.get(name);
+    }
+}
@@ -0,0 +1,145 @@
+package com.github.danildzambrana.commons.data.id;
+
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator of consecutive ids that reserves them in blocks from an {@link IdBlockAllocator}, so the store is
+ * reached once per block instead of once per id. The ids of a block are handed out with an atomic increment, only
+ * the thread that finds the block exhausted reserves the next one while the others wait for it.
+ * <p>
+ * The ids of a block that are not used before the process stops are lost, the sequence has gaps but never
+ * repeats an id.
+ */
+public class PooledIdGenerator implements IdGenerator {
+    private final    IdBlockAllocator allocator;
+    private final    String           name;
+    private final    int              blockSize;
+    private volatile Block            block = new Block(0, 0);
+
+    private PooledIdGenerator(Builder builder) {
+        FieldUtils.requireArgument(builder.getAllocator() != null, "the allocator is required");
+        FieldUtils.requireArgument(builder.getName() != null && !builder.getName().isEmpty(),
+                "the name is required");
+        FieldUtils.requireArgument(builder.getBlockSize() > 0);
+
+        this.allocator = builder.getAllocator();
+        this.name      = builder.getName();
+        this.blockSize = builder.getBlockSize();
+    }
+
+    @NotNull
+    public static Builder builder(@NotNull IdBlockAllocator allocator, @NotNull String name) {
+        return new Builder().setAllocator(allocator).setName(name);
+    }
+
+    /**
+     * Get the next id of the sequence, it reserves a new block if the current one is exhausted.
+     *
+     * @return the id.
+     * @throws IllegalStateException if the block can not be reserved.
+     */
+    @Override
+    public long nextId() {
+        while (true) {
+            Block current = block;
+            long  id      = current.next.getAndIncrement();
+            if (id < current.end) {
+                return id;
+            }
+            refill(current);
+        }
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    private synchronized void refill(Block exhausted) {
+        if (block != exhausted) {
+            return;
+        }
+
+        long first = allocator.allocate(name, blockSize);
+        FieldUtils.requireState(first > 0, "the allocator returned the id %s", first);
+        block = new Block(first, first + blockSize);
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long       end;
+
+        private Block(long first, long end) {
+            this.next = new AtomicLong(first);
+            this.end  = end;
+        }
+    }
+
+    /**
+     * Builder adapter to {@link PooledIdGenerator}
+     */
+    public static class Builder {
+        private IdBlockAllocator allocator;
+        private String           name;
+        private int              blockSize = 1000;
+
+        private Builder() {
+        }
+
+        public IdBlockAllocator getAllocator() {
+            return allocator;
+        }
+
+        public Builder setAllocator(IdBlockAllocator allocator) {
+            this.allocator = allocator;
+            return this;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Set the name of the sequence in the allocator, the generators of the same name share the ids.
+         *
+         * @param name the name of the sequence.
+         * @return this builder.
+         */
+        public Builder setName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public int getBlockSize() {
+            return blockSize;
+        }
+
+        /**
+         * Set the number of ids reserved at once, a larger block reaches the store less often but loses more ids
+         * when the process stops.
+         *
+         * @param blockSize the number of ids, 1000 by default.
+         * @return this builder.
+         */
+        public Builder setBlockSize(int blockSize) {
+            this.blockSize = blockSize;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link PooledIdGenerator}
+         *
+         * @return {@link PooledIdGenerator} instance.
+         */
+        public @NotNull PooledIdGenerator build() {
+            return new PooledIdGenerator(this);
+        }
+    }
+}
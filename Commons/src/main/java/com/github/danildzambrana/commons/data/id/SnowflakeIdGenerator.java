@@ -0,0 +1,143 @@
+package com.github.danildzambrana.commons.data.id;
+
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator of 64-bit ids made of the milliseconds since an epoch (41 bits, about 69 years), the id of the worker
+ * (10 bits) and a sequence inside the millisecond (12 bits). The ids are unique between the workers of different
+ * ids without any coordination, and they grow with the time, so they keep the inserts at the end of the indexes.
+ * <p>
+ * The last id is kept in a single atomic value updated with compare-and-set, the threads never block. When the
+ * 4096 ids of a millisecond are used, or the clock goes back, the ids continue from the last one, borrowing the
+ * next milliseconds until the clock reaches them.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+    public static final  int  WORKER_BITS   = 10;
+    public static final  int  SEQUENCE_BITS = 12;
+    public static final  long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+    private static final long MAX_TIME      = (1L << (Long.SIZE - 1 - WORKER_BITS - SEQUENCE_BITS)) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long       workerId;
+    private final long       epoch;
+    private final Clock      clock;
+    private final AtomicLong last = new AtomicLong();
+
+    private SnowflakeIdGenerator(Builder builder) {
+        FieldUtils.requireArgument(builder.getWorkerId() >= 0 && builder.getWorkerId() <= MAX_WORKER_ID,
+                "the worker id must be between 0 and %s", MAX_WORKER_ID);
+        FieldUtils.requireArgument(builder.getEpoch() != null, "the epoch is required");
+        FieldUtils.requireArgument(builder.getClock() != null, "the clock is required");
+        FieldUtils.requireArgument(!builder.getEpoch().isAfter(builder.getClock().instant()),
+                "the epoch is in the future");
+
+        this.workerId = builder.getWorkerId();
+        this.epoch    = builder.getEpoch().toEpochMilli();
+        this.clock    = builder.getClock();
+    }
+
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            long time = clock.millis() - epoch;
+            long last = this.last.get();
+
+            // The time and the sequence are one number, an exhausted sequence carries into the time.
+            long next = time > last >>> SEQUENCE_BITS ? time << SEQUENCE_BITS : last + 1;
+            if (next >>> SEQUENCE_BITS > MAX_TIME) {
+                throw new IllegalStateException("the ids of the epoch are exhausted");
+            }
+
+            if (this.last.compareAndSet(last, next)) {
+                return (next >>> SEQUENCE_BITS) << (WORKER_BITS + SEQUENCE_BITS)
+                        | workerId << SEQUENCE_BITS
+                        | next & SEQUENCE_MASK;
+            }
+        }
+    }
+
+    /**
+     * Get the time encoded in an id of this generator.
+     *
+     * @param id the id.
+     * @return the time the id was generated, or a few milliseconds later if the ids were borrowed.
+     */
+    @NotNull
+    public Instant getTime(long id) {
+        return Instant.ofEpochMilli(epoch + (id >>> (WORKER_BITS + SEQUENCE_BITS)));
+    }
+
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * Builder adapter to {@link SnowflakeIdGenerator}
+     */
+    public static class Builder {
+        private long    workerId;
+        private Instant epoch = Instant.parse("2020-01-01T00:00:00Z");
+        private Clock   clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        public long getWorkerId() {
+            return workerId;
+        }
+
+        /**
+         * Set the id of this process, every process that generates ids at the same time needs a different one.
+         *
+         * @param workerId the id, between 0 and {@link #MAX_WORKER_ID}, 0 by default.
+         * @return this builder.
+         */
+        public Builder setWorkerId(long workerId) {
+            this.workerId = workerId;
+            return this;
+        }
+
+        public Instant getEpoch() {
+            return epoch;
+        }
+
+        /**
+         * Set the time of the ids with time 0, every generator of the same ids needs the same one.
+         *
+         * @param epoch the epoch, 2020-01-01 UTC by default.
+         * @return this builder.
+         */
+        public Builder setEpoch(@NotNull Instant epoch) {
+            this.epoch = epoch;
+            return this;
+        }
+
+        public Clock getClock() {
+            return clock;
+        }
+
+        public Builder setClock(@NotNull Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link SnowflakeIdGenerator}
+         *
+         * @return {@link SnowflakeIdGenerator} instance.
+         */
+        public @NotNull SnowflakeIdGenerator build() {
+            return new SnowflakeIdGenerator(this);
+        }
+    }
+}
@@ -0,0 +1,765 @@
+package com.github.danildzambrana.commons.data.local;
+
+import com.github.danildzambrana.commons.data.DataQuery;
+import com.github.danildzambrana.commons.data.IConnection;
+import com.github.danildzambrana.commons.data.IDataManager;
+import com.github.danildzambrana.commons.data.SaveResult;
+import com.github.danildzambrana.commons.data.ValueCodec;
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Offline-first {@link IDataManager}. The values are kept in memory and in a memory-mapped journal on the local
+ * disk, so the reads and writes do not wait for the network. A background thread sends the local changes to the
+ * remote manager, and the journal is compacted when most of its records are obsolete.
+ * <p>
+ * The values missing locally are read from the remote manager and kept, use {@link #load(DataQuery)} to keep the
+ * values needed to work offline. The queries are run by the remote manager after a synchronization.
+ * <p>
+ * The changes are sent with {@link IDataManager#trySave(Object)}, so a versioned value changed remotely since it
+ * was read is a conflict. The conflict resolver receives the local and the remote value and returns the value to
+ * keep, see {@link Builder#setConflictResolver(BinaryOperator)}. The values without version are overwritten by
+ * the last synchronization.
+ * <p>
+ * A value saved locally without being read from the remote manager is new, if it is removed before it is
+ * sent the removal is not sent either.
+ * <p>
+ * A change the remote manager does not accept, including a removal it does not confirm, does not stop the
+ * synchronization: it is kept in the journal, reported by {@link #getFailed()} and sent again by the next
+ * synchronization, until it is sent or dropped with {@link #discard(Object)}.
+ * <p>
+ * The values are shared by every caller, copy a value before changing it. Only one manager may use a directory at
+ * the same time.
+ *
+ * @param <I> Type of ID.
+ * @param <T> Type of object to save.
+ */
+public class LocalDataManager<I, T> implements IDataManager<I, T>, AutoCloseable {
+    private final    IDataManager<I, T>   remote;
+    private final    Function<T, I>       idExtractor;
+    private final    Class<T>             clazz;
+    private final    ValueCodec<T>        codec;
+    private final    BinaryOperator<T>    conflictResolver;
+    private final    double               compactionRatio;
+    private final    int                  compactionSize;
+    private final    long                 syncIntervalMillis;
+    private final    LocalJournal         journal;
+    private final    Map<I, Entry<T>>     values    = new ConcurrentHashMap<>();
+    private final    Object               lock      = new Object();
+    private final    Object               syncLock  = new Object();
+    private final    LongAdder            conflicts = new LongAdder();
+    private final    LongAdder            synced    = new LongAdder();
+    private final    Thread               syncer;
+    private volatile Map<I, T>            failed    = Collections.emptyMap();
+    private          long                 liveBytes;
+    private          boolean              closed;
+
+    private LocalDataManager(Builder<I, T> builder) {
+        FieldUtils.requireArgument(builder.getRemote() != null, "the remote manager is required");
+        FieldUtils.requireArgument(builder.getIdExtractor() != null, "the id extractor is required");
+        FieldUtils.requireArgument(builder.getClazz() != null, "the type of the values is required");
+        FieldUtils.requireArgument(builder.getCodec() != null, "the codec is required");
+        FieldUtils.requireArgument(builder.getDirectory() != null, "the directory is required");
+        FieldUtils.requireArgument(builder.getConflictResolver() != null, "the conflict resolver is required");
+        FieldUtils.requireArgument(builder.getInitialSize() >= LocalJournal.HEADER);
+        FieldUtils.requireArgument(builder.getCompactionRatio() > 0 && builder.getCompactionRatio() < 1);
+        FieldUtils.requireArgument(builder.getSyncInterval() != null && builder.getSyncInterval().toMillis() > 0);
+
+        this.remote             = builder.getRemote();
+        this.idExtractor        = builder.getIdExtractor();
+        this.clazz              = builder.getClazz();
+        this.codec              = builder.getCodec();
+        this.conflictResolver   = builder.getConflictResolver();
+        this.compactionRatio    = builder.getCompactionRatio();
+        this.compactionSize     = builder.getInitialSize() / 2;
+        this.syncIntervalMillis = builder.getSyncInterval().toMillis();
+
+        try {
+            this.journal = new LocalJournal(builder.getDirectory(), builder.getInitialSize(), this::replay);
+        } catch (IOException e) {
+            throw new IllegalStateException("the local journal can not be opened", e);
+        }
+
+        this.syncer = new Thread(this::runSync, "local-sync");
+        this.syncer.setDaemon(true);
+        this.syncer.start();
+    }
+
+    @NotNull
+    public static <I, T> Builder<I, T> builder(@NotNull IDataManager<I, T> remote, @NotNull Function<T, I> idExtractor,
+                                               @NotNull Class<T> clazz) {
+        return new Builder<I, T>().setRemote(remote).setIdExtractor(idExtractor).setClazz(clazz);
+    }
+
+    /**
+     * Save the value locally, it is sent to the remote manager by the next synchronization.
+     *
+     * @param t The value to save.
+     * @return true if the value was written to the journal.
+     */
+    @Override
+    public boolean save(@NotNull T t) {
+        return store(t, LocalJournal.DIRTY, null);
+    }
+
+    /**
+     * Save the value locally, see {@link #save(Object)}. The conflicts are detected by the synchronization, they
+     * are never reported by this method.
+     *
+     * @param t The value to save.
+     * @return {@link SaveResult#SAVED} if the value was written to the journal, otherwise
+     * {@link SaveResult#FAILED}.
+     */
+    @Override
+    public SaveResult trySave(@NotNull T t) {
+        return save(t) ? SaveResult.SAVED : SaveResult.FAILED;
+    }
+
+    /**
+     * Get the local value, or the remote value if there is no local value. The remote value is kept locally, and
+     * an unavailable remote manager is reported as a missing value.
+     *
+     * @param id    the id to find.
+     * @param clazz type of the objet to find.
+     * @return An instance of {@link Optional} with the obtained value.
+     */
+    @Override
+    public Optional<T> get(@NotNull I id, Class<T> clazz) {
+        Entry<T> entry = values.get(id);
+        if (entry != null) {
+            return entry.state == LocalJournal.DELETED ? Optional.empty() : Optional.of(entry.value);
+        }
+
+        Optional<T> value;
+        try {
+            value = remote.get(id, clazz);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            return Optional.empty();
+        }
+        value.ifPresent(this::keep);
+        return value;
+    }
+
+    /**
+     * Remove the value locally, it is removed from the remote manager by the next synchronization.
+     *
+     * @param t value to remove.
+     * @return true if the removal was written to the journal.
+     */
+    @Override
+    public boolean delete(@NotNull T t) {
+        return store(t, LocalJournal.DELETED, null);
+    }
+
+    @Override
+    public Map<I, T> getAll(@NotNull Collection<I> ids, Class<T> clazz) {
+        List<I> missing = new ArrayList<>();
+        for (I id : ids) {
+            if (!values.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            try {
+                remote.getAll(missing, clazz).values().forEach(this::keep);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+
+        Map<I, T> result = new LinkedHashMap<>();
+        for (I id : ids) {
+            Entry<T> entry = values.get(id);
+            if (entry != null && entry.state != LocalJournal.DELETED) {
+                result.put(id, entry.value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Synchronize the local changes and find the values with the remote manager.
+     *
+     * @param query the criteria of the values to find.
+     * @return the found values.
+     */
+    @Override
+    public List<T> find(@NotNull DataQuery<T> query) {
+        sync();
+        return remote.find(query);
+    }
+
+    @Override
+    public Stream<T> stream(@NotNull DataQuery<T> query) {
+        sync();
+        return remote.stream(query);
+    }
+
+    /**
+     * Keep locally the remote values that match the query, so they can be read without the remote manager. The
+     * values changed locally are not replaced.
+     *
+     * @param query the criteria of the values to keep.
+     * @return the number of values read from the remote manager.
+     */
+    public int load(@NotNull DataQuery<T> query) {
+        int count = 0;
+        try (Stream<T> stream = remote.stream(query)) {
+            for (T t : (Iterable<T>) stream::iterator) {
+                Entry<T> entry = values.get(idExtractor.apply(t));
+                if (entry == null || entry.state == LocalJournal.CLEAN) {
+                    store(t, LocalJournal.CLEAN, entry);
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Send the local changes to the remote manager. The changes that can not be sent are reported by
+     * {@link #getFailed()} and sent again by the next synchronization.
+     *
+     * @return true if every local change was sent.
+     */
+    public boolean sync() {
+        synchronized (syncLock) {
+            List<Entry<T>> changes = new ArrayList<>();
+            for (Entry<T> entry : values.values()) {
+                if (entry.state != LocalJournal.CLEAN) {
+                    changes.add(entry);
+                }
+            }
+
+            Map<I, T> failed = new LinkedHashMap<>();
+            for (Entry<T> entry : changes) {
+                boolean sent;
+                try {
+                    sent = entry.state == LocalJournal.DELETED ? push(entry) : send(entry);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                    sent = false;
+                }
+                if (!sent) {
+                    failed.put(idExtractor.apply(entry.value), entry.value);
+                }
+            }
+            this.failed = Collections.unmodifiableMap(failed);
+            return failed.isEmpty() && getDirtyCount() == 0;
+        }
+    }
+
+    /**
+     * Drop the local change of the id without sending it, the value is read again from the remote manager.
+     *
+     * @param id the id of the changed value.
+     * @return true if the id had a local change.
+     */
+    public boolean discard(@NotNull I id) {
+        synchronized (syncLock) {
+            Entry<T> entry = values.get(id);
+            if (entry == null || entry.state == LocalJournal.CLEAN || !remove(entry)) {
+                return false;
+            }
+
+            Map<I, T> failed = new LinkedHashMap<>(this.failed);
+            failed.remove(id);
+            this.failed = Collections.unmodifiableMap(failed);
+            return true;
+        }
+    }
+
+    /**
+     * Rewrite the journal with only the current records.
+     *
+     * @return true if the journal was compacted.
+     */
+    public boolean compact() {
+        // The synchronization must not hold entries replaced by the compaction.
+        synchronized (syncLock) {
+            synchronized (lock) {
+                if (closed) {
+                    return false;
+                }
+
+                List<Entry<T>> entries   = new ArrayList<>(values.values());
+                int[]          positions = new int[entries.size()];
+                for (int i = 0; i < positions.length; i++) {
+                    positions[i] = entries.get(i).position;
+                }
+
+                int[] moved;
+                try {
+                    moved = journal.compact(positions);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    return false;
+                }
+
+                for (int i = 0; i < moved.length; i++) {
+                    Entry<T> entry = entries.get(i);
+                    values.put(idExtractor.apply(entry.value),
+                            new Entry<>(entry.value, entry.state, entry.stored, moved[i], entry.length));
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Stop the background synchronization, synchronize the local changes and close the journal. The changes that
+     * could not be sent are kept in the journal.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+
+        try {
+            syncer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        sync();
+        synchronized (lock) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Get the number of local changes not yet sent to the remote manager.
+     *
+     * @return the number of values saved or removed locally.
+     */
+    public int getDirtyCount() {
+        int count = 0;
+        for (Entry<T> entry : values.values()) {
+            if (entry.state != LocalJournal.CLEAN) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the local changes that the last synchronization could not send.
+     *
+     * @return the saved or removed values by id.
+     */
+    @NotNull
+    public Map<I, T> getFailed() {
+        return failed;
+    }
+
+    /**
+     * Get the number of local changes sent to the remote manager.
+     *
+     * @return the number of synchronized changes.
+     */
+    public long getSyncedCount() {
+        return synced.sum();
+    }
+
+    /**
+     * Get the number of local changes rejected by the remote manager because of a remote change.
+     *
+     * @return the number of conflicts.
+     */
+    public long getConflictCount() {
+        return conflicts.sum();
+    }
+
+    public IDataManager<I, T> getRemote() {
+        return remote;
+    }
+
+    @Override
+    public IConnection<?> getConnection() {
+        return remote.getConnection();
+    }
+
+    /**
+     * Write a value to the journal and the memory. A clean value, or a value with an expected entry, is only
+     * written if the current entry of the id is the expected one, null if the id has no entry. A change keeps the
+     * knowledge of the remote copy of the current entry, a value saved without entry is new.
+     */
+    private boolean store(T t, byte state, @Nullable Entry<T> expected) {
+        byte[] bytes;
+        try {
+            bytes = codec.encode(t);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+
+        I id = idExtractor.apply(t);
+        FieldUtils.requireArgument(id != null, "the value has no id");
+
+        synchronized (lock) {
+            if (closed) {
+                return false;
+            }
+
+            Entry<T> current = values.get(id);
+            if ((state == LocalJournal.CLEAN || expected != null) && current != expected) {
+                return false;
+            }
+
+            boolean stored = state == LocalJournal.CLEAN
+                    || (current != null ? current.stored : state == LocalJournal.DELETED);
+            int     position;
+            try {
+                position = journal.append(stored ? (byte) (state | LocalJournal.STORED) : state, bytes);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return false;
+            }
+
+            Entry<T> entry = new Entry<>(t, state, stored, position, LocalJournal.HEADER + bytes.length);
+            values.put(id, entry);
+            liveBytes += entry.length - (current != null ? current.length : 0);
+            return true;
+        }
+    }
+
+    /**
+     * Keep a remote value read because it was missing locally.
+     */
+    private void keep(T t) {
+        store(t, LocalJournal.CLEAN, null);
+    }
+
+    /**
+     * Remove the entry of the id from the memory, if it is the expected one.
+     */
+    private boolean remove(Entry<T> expected) {
+        byte[] bytes;
+        try {
+            bytes = codec.encode(expected.value);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+
+        synchronized (lock) {
+            I id = idExtractor.apply(expected.value);
+            if (closed || values.get(id) != expected) {
+                return false;
+            }
+
+            try {
+                journal.append(LocalJournal.REMOVED, bytes);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return false;
+            }
+            values.remove(id);
+            liveBytes -= expected.length;
+            return true;
+        }
+    }
+
+    /**
+     * Send a local save.
+     *
+     * @return false if the remote manager did not accept the value.
+     */
+    private boolean send(Entry<T> entry) {
+        SaveResult result = remote.trySave(entry.value);
+        if (result == SaveResult.FAILED) {
+            return false;
+        }
+
+        if (result == SaveResult.SAVED) {
+            synced.increment();
+            // The version of the value may have changed.
+            store(entry.value, LocalJournal.CLEAN, entry);
+            return true;
+        }
+
+        conflicts.increment();
+        I           id       = idExtractor.apply(entry.value);
+        Optional<T> stored   = remote.get(id, clazz);
+        T           resolved = conflictResolver.apply(entry.value, stored.orElse(null));
+        if (resolved != null && (!stored.isPresent() || resolved != stored.get())) {
+            store(resolved, LocalJournal.DIRTY, entry);
+        } else if (stored.isPresent()) {
+            store(stored.get(), LocalJournal.CLEAN, entry);
+        } else {
+            remove(entry);
+        }
+        return true;
+    }
+
+    /**
+     * Send a local removal. A value the remote manager never stored is only removed locally. The managers report
+     * a failure of the remote store as a missing value, so a removal not confirmed by the remote manager is only
+     * synchronized if {@link IDataManager#exists(Object, Class)} reports the value as already missing.
+     *
+     * @return false if the remote manager still has the value.
+     */
+    private boolean push(Entry<T> entry) {
+        if (!entry.stored) {
+            remove(entry);
+            return true;
+        }
+
+        if (!remote.delete(entry.value) && remote.exists(idExtractor.apply(entry.value), clazz)) {
+            return false;
+        }
+
+        synced.increment();
+        remove(entry);
+        return true;
+    }
+
+    private void replay(byte record, byte[] bytes, int position) throws IOException {
+        T        t       = codec.decode(bytes);
+        I        id      = idExtractor.apply(t);
+        byte     state   = (byte) (record & ~LocalJournal.STORED);
+        boolean  stored  = (record & LocalJournal.STORED) != 0;
+        Entry<T> current = state == LocalJournal.REMOVED
+                ? values.remove(id)
+                : values.put(id, new Entry<>(t, state, stored, position, LocalJournal.HEADER + bytes.length));
+        if (state != LocalJournal.REMOVED) {
+            liveBytes += LocalJournal.HEADER + bytes.length;
+        }
+        if (current != null) {
+            liveBytes -= current.length;
+        }
+    }
+
+    private boolean isCompactable() {
+        synchronized (lock) {
+            int size = journal.size();
+            return !closed && size >= compactionSize && liveBytes < size * compactionRatio;
+        }
+    }
+
+    private void runSync() {
+        while (true) {
+            synchronized (lock) {
+                if (closed) {
+                    return;
+                }
+                try {
+                    lock.wait(syncIntervalMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (closed) {
+                    return;
+                }
+            }
+
+            try {
+                sync();
+                if (isCompactable()) {
+                    compact();
+                }
+                synchronized (lock) {
+                    if (!closed) {
+                        journal.force();
+                    }
+                }
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T       value;
+        private final byte    state;
+        private final boolean stored;
+        private final int     position;
+        private final int     length;
+
+        private Entry(T value, byte state, boolean stored, int position, int length) {
+            this.value    = value;
+            this.state    = state;
+            this.stored   = stored;
+            this.position = position;
+            this.length   = length;
+        }
+    }
+
+    /**
+     * Builder adapter to {@link LocalDataManager}
+     *
+     * @param <I> Type of ID.
+     * @param <T> Type of object to save.
+     */
+    public static class Builder<I, T> {
+        private IDataManager<I, T> remote;
+        private Function<T, I>     idExtractor;
+        private Class<T>           clazz;
+        private ValueCodec<T>      codec            = ValueCodec.serialization();
+        private Path               directory;
+        private BinaryOperator<T>  conflictResolver = (local, stored) -> stored;
+        private int                initialSize      = 1024 * 1024;
+        private double             compactionRatio  = 0.5;
+        private Duration           syncInterval     = Duration.ofSeconds(5);
+
+        private Builder() {
+        }
+
+        public IDataManager<I, T> getRemote() {
+            return remote;
+        }
+
+        public Builder<I, T> setRemote(IDataManager<I, T> remote) {
+            this.remote = remote;
+            return this;
+        }
+
+        public Function<T, I> getIdExtractor() {
+            return idExtractor;
+        }
+
+        public Builder<I, T> setIdExtractor(Function<T, I> idExtractor) {
+            this.idExtractor = idExtractor;
+            return this;
+        }
+
+        public Class<T> getClazz() {
+            return clazz;
+        }
+
+        public Builder<I, T> setClazz(Class<T> clazz) {
+            this.clazz = clazz;
+            return this;
+        }
+
+        public ValueCodec<T> getCodec() {
+            return codec;
+        }
+
+        /**
+         * Set the conversion of the values to the records of the journal.
+         *
+         * @param codec the codec, the Java serialization by default.
+         * @return this builder.
+         */
+        public Builder<I, T> setCodec(ValueCodec<T> codec) {
+            this.codec = codec;
+            return this;
+        }
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        /**
+         * Set the directory of the journal.
+         *
+         * @param directory the directory, it is created if it does not exist.
+         * @return this builder.
+         */
+        public Builder<I, T> setDirectory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        public BinaryOperator<T> getConflictResolver() {
+            return conflictResolver;
+        }
+
+        /**
+         * Set the function that resolves a conflict. It receives the local value and the remote value, null if it
+         * was removed, and returns the remote value, or null, to discard the local change, or the value to send
+         * instead. A value to send must have the version of the remote value.
+         *
+         * @param conflictResolver the resolver, by default the remote value is kept.
+         * @return this builder.
+         */
+        public Builder<I, T> setConflictResolver(BinaryOperator<T> conflictResolver) {
+            this.conflictResolver = conflictResolver;
+            return this;
+        }
+
+        public int getInitialSize() {
+            return initialSize;
+        }
+
+        /**
+         * Set the initial size of the mapped journal, it doubles when it is full. The journal is not compacted
+         * while it is smaller than half this size.
+         *
+         * @param initialSize the size in bytes, 1 MiB by default.
+         * @return this builder.
+         */
+        public Builder<I, T> setInitialSize(int initialSize) {
+            this.initialSize = initialSize;
+            return this;
+        }
+
+        public double getCompactionRatio() {
+            return compactionRatio;
+        }
+
+        /**
+         * Set the fraction of current records under which the journal is compacted.
+         *
+         * @param compactionRatio the fraction, between 0 and 1, 0.5 by default.
+         * @return this builder.
+         */
+        public Builder<I, T> setCompactionRatio(double compactionRatio) {
+            this.compactionRatio = compactionRatio;
+            return this;
+        }
+
+        public Duration getSyncInterval() {
+            return syncInterval;
+        }
+
+        /**
+         * Set the time between two background synchronizations.
+         *
+         * @param syncInterval the time, 5 seconds by default.
+         * @return this builder.
+         */
+        public Builder<I, T> setSyncInterval(Duration syncInterval) {
+            this.syncInterval = syncInterval;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link LocalDataManager}
+         *
+         * @return {@link LocalDataManager} instance.
+         */
+        public @NotNull LocalDataManager<I, T> build() {
+            return new LocalDataManager<>(this);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.github.danildzambrana.commons.data.local;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of a {@link LocalDataManager}, a single memory-mapped file. The records are copied to the
+ * mapped memory, so an append does not call the operating system, and they survive a crash of the process once
+ * they are copied. {@link #force()} writes them to the disk.
+ * <p>
+ * Each record is the length of the value, the CRC-32 of the state and the value, the state and the value. The
+ * state of a value that the remote manager stores carries the {@link #STORED} flag. The replay ends at the first
+ * record that is empty, cut or fails the check. {@link #compact(int[])} copies the live records to the file of
+ * the next generation and deletes the current file.
+ */
+final class LocalJournal implements Closeable {
+    static final byte DIRTY   = 1;
+    static final byte CLEAN   = 2;
+    static final byte DELETED = 3;
+    static final byte REMOVED = 4;
+    static final byte STORED  = 0x10;
+    static final int  HEADER  = Integer.BYTES * 2 + 1;
+
+    private static final String PREFIX = "local-";
+    private static final String SUFFIX = ".journal";
+
+    private final Path             directory;
+    private final int              initialSize;
+    private final CRC32            crc = new CRC32();
+    private       Path             current;
+    private       long             generation;
+    private       FileChannel      channel;
+    private       MappedByteBuffer buffer;
+
+    /**
+     * Open the journal of a directory, the records of the last generation are replayed in order.
+     *
+     * @param directory   the directory of the journal, it is created if it does not exist.
+     * @param initialSize the initial size of the mapped file, it doubles when it is full.
+     * @param replay      the consumer of the existing records.
+     * @throws IOException if the directory can not be read or written.
+     */
+    LocalJournal(Path directory, int initialSize, Replay replay) throws IOException {
+        this.directory   = Files.createDirectories(directory);
+        this.initialSize = initialSize;
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*")) {
+            stream.forEach(files::add);
+        }
+        Collections.sort(files);
+
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(SUFFIX)) {
+                current    = file;
+                generation = Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+            }
+        }
+        for (Path file : files) {
+            if (!file.equals(current)) {
+                // Left by an interrupted compaction, or an older generation that could not be deleted.
+                Files.deleteIfExists(file);
+            }
+        }
+
+        if (current == null) {
+            current = file(++generation);
+        }
+        channel = FileChannel.open(current, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        buffer  = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), initialSize));
+        replay(replay);
+    }
+
+    /**
+     * Append a record.
+     *
+     * @return the position of the record, to pass to {@link #compact(int[])}.
+     * @throws IOException if the journal can not grow.
+     */
+    synchronized int append(byte state, byte[] value) throws IOException {
+        int length = HEADER + value.length;
+        if (buffer.remaining() < length) {
+            grow(length);
+        }
+
+        crc.reset();
+        crc.update(state);
+        crc.update(value, 0, value.length);
+
+        int position = buffer.position();
+        buffer.putInt(value.length).putInt((int) crc.getValue()).put(state).put(value);
+        return position;
+    }
+
+    /**
+     * Get the number of bytes of the records, live or not.
+     *
+     * @return the size of the records.
+     */
+    synchronized int size() {
+        return buffer.position();
+    }
+
+    /**
+     * Copy the records at the positions to the file of the next generation, in order, and continue the journal
+     * in it. The other records are dropped.
+     *
+     * @param positions the positions of the live records.
+     * @return the positions of the records in the new file, in the same order.
+     * @throws IOException if the new file can not be written, the journal is not changed.
+     */
+    synchronized int[] compact(int[] positions) throws IOException {
+        int total = 0;
+        for (int position : positions) {
+            total += HEADER + buffer.getInt(position);
+        }
+
+        int  capacity = initialSize;
+        while (capacity - total < capacity / 2 && capacity < Integer.MAX_VALUE / 2) {
+            capacity *= 2;
+        }
+
+        Path             temporary = directory.resolve(PREFIX + "compaction.tmp");
+        int[]            moved     = new int[positions.length];
+        FileChannel      target    = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer copy;
+        try {
+            copy = target.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(capacity, total));
+            for (int i = 0; i < positions.length; i++) {
+                ByteBuffer record = buffer.duplicate();
+                record.position(positions[i]).limit(positions[i] + HEADER + buffer.getInt(positions[i]));
+                moved[i] = copy.position();
+                copy.put(record);
+            }
+            copy.force();
+        } catch (IOException | RuntimeException e) {
+            target.close();
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+
+        Path next = file(generation + 1);
+        try {
+            Files.move(temporary, next, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            target.close();
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+
+        Path previous = current;
+        channel.close();
+        channel    = target;
+        buffer     = copy;
+        current    = next;
+        generation = generation + 1;
+        try {
+            Files.deleteIfExists(previous);
+        } catch (IOException e) {
+            // Still mapped on some systems, it is deleted when the journal is opened again.
+        }
+        return moved;
+    }
+
+    /**
+     * Write the appended records to the disk.
+     */
+    synchronized void force() {
+        buffer.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private Path file(long generation) {
+        return directory.resolve(String.format("%s%016d%s", PREFIX, generation, SUFFIX));
+    }
+
+    private void grow(int length) throws IOException {
+        long capacity = buffer.capacity();
+        while (capacity - buffer.position() < length) {
+            capacity *= 2;
+        }
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IOException("the journal " + current + " is full, compact it");
+        }
+
+        int position = buffer.position();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        buffer.position(position);
+    }
+
+    private void replay(Replay replay) throws IOException {
+        while (buffer.remaining() >= HEADER) {
+            int  position = buffer.position();
+            int  length   = buffer.getInt();
+            int  checksum = buffer.getInt();
+            byte state    = buffer.get();
+            if (length <= 0 || length > buffer.remaining()) {
+                buffer.position(position);
+                return;
+            }
+
+            byte[] value = new byte[length];
+            buffer.get(value);
+            crc.reset();
+            crc.update(state);
+            crc.update(value, 0, length);
+            if ((int) crc.getValue() != checksum) {
+                buffer.position(position);
+                return;
+            }
+
+            replay.accept(state, value, position);
+        }
+    }
+
+    /**
+     * Consumer of the records of the journal.
+     */
+    @FunctionalInterface
+    interface Replay {
+        void accept(byte state, byte[] value, int position) throws IOException;
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.danildzambrana.commons.data.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Instrumentation of the operations of {@link com.github.danildzambrana.commons.data.IDataManager}.
+ * <p>
+ * Every operation calls {@link #start(String, DataOperation)} before it touches the database and ends the
+ * returned {@link Sample} exactly once, so an implementation can record latencies and errors or open and close
+ * a tracing span. The implementations must be thread safe.
+ */
+public interface DataMetrics {
+
+    /**
+     * Get the default instrumentation, it records nothing and {@link #start(String, DataOperation)} does not
+     * allocate.
+     *
+     * @return the no-op instrumentation.
+     */
+    @NotNull
+    static DataMetrics noop() {
+        return NoopDataMetrics.INSTANCE;
+    }
+
+    /**
+     * Check if this instrumentation records something. The managers skip the work that is only needed by the
+     * instrumentation, like reading the clock, when it returns false.
+     *
+     * @return true if the measures are recorded.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Start the measure of an operation.
+     *
+     * @param store     the name of the database, for example {@code mysql} or {@code mongo}.
+     * @param operation the operation that starts.
+     * @return the sample that must be ended when the operation ends.
+     */
+    @NotNull
+    Sample start(@NotNull String store, @NotNull DataOperation operation);
+
+    /**
+     * Record the time spent to open a session or connection of the database.
+     *
+     * @param store         the name of the database.
+     * @param durationNanos the time spent, in nanoseconds.
+     */
+    void recordSessionOpen(@NotNull String store, long durationNanos);
+
+    /**
+     * Measure of a running operation.
+     */
+    interface Sample {
+
+        /**
+         * End the operation successfully.
+         *
+         * @param items the number of rows or documents touched by the operation.
+         */
+        void success(int items);
+
+        /**
+         * End the operation with a failure.
+         *
+         * @param error the cause of the failure, null if the operation failed without an exception.
+         */
+        void failure(@Nullable Throwable error);
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.danildzambrana.commons.data.metrics;
+
+/**
+ * Operations of {@link com.github.danildzambrana.commons.data.IDataManager} reported to {@link DataMetrics}.
+ */
+public enum DataOperation {
+    SAVE,
+    GET,
+    DELETE,
+    SAVE_ALL,
+    GET_ALL,
+    DELETE_ALL,
+    FIND,
+    STREAM;
+
+    private final String tag = name().toLowerCase().replace('_', '-');
+
+    /**
+     * Get the name of the operation used in metric tags and span names.
+     *
+     * @return the lower case name of the operation.
+     */
+    public String getTag() {
+        return tag;
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.danildzambrana.commons.data.metrics;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DataMetrics} that records the operations in a Micrometer {@link MeterRegistry}. Requires
+ * {@code io.micrometer:micrometer-core} in the classpath.
+ * <p>
+ * The meters, tagged by {@code store} and {@code operation}, are:
+ * <ul>
+ *     <li>{@code <prefix>.operation}: timer with percentile histogram of the operations, also tagged by
+ *     {@code outcome} ({@code success} or {@code failure}).</li>
+ *     <li>{@code <prefix>.items}: distribution of the rows or documents touched by the successful operations.</li>
+ *     <li>{@code <prefix>.errors}: counter of the failed operations, also tagged by the simple name of the
+ *     {@code exception}, {@code none} if the operation failed without an exception.</li>
+ *     <li>{@code <prefix>.session.open}: timer of the time spent opening sessions, only tagged by {@code store}.</li>
+ * </ul>
+ */
+public class MicrometerDataMetrics implements DataMetrics {
+    public static final String DEFAULT_PREFIX = "scoremanager.data";
+
+    private final MeterRegistry            registry;
+    private final Clock                    clock;
+    private final String                   prefix;
+    private final Map<String, StoreMeters> stores = new ConcurrentHashMap<>();
+
+    /**
+     * Construct instance with the {@link #DEFAULT_PREFIX}.
+     *
+     * @param registry the registry of the meters.
+     */
+    public MicrometerDataMetrics(@NotNull MeterRegistry registry) {
+        this(registry, DEFAULT_PREFIX);
+    }
+
+    /**
+     * Construct instance.
+     *
+     * @param registry the registry of the meters.
+     * @param prefix   the prefix of the names of the meters.
+     */
+    public MicrometerDataMetrics(@NotNull MeterRegistry registry, @NotNull String prefix) {
+        this.registry = registry;
+        this.clock    = registry.config().clock();
+        this.prefix   = prefix;
+    }
+
+    @Override
+    public @NotNull Sample start(@NotNull String store, @NotNull DataOperation operation) {
+        return new MicrometerSample(getMeters(store), operation, clock.monotonicTime());
+    }
+
+    @Override
+    public void recordSessionOpen(@NotNull String store, long durationNanos) {
+        getMeters(store).sessionOpen.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    private StoreMeters getMeters(String store) {
+        StoreMeters meters = stores.get(store);
+        return meters != null ? meters : stores.computeIfAbsent(store, StoreMeters::new);
+    }
+
+    /**
+     * Meters of a store, created once so the hot path does not look up the registry.
+     */
+    private final class StoreMeters {
+        private final String                store;
+        private final Timer[]               successes;
+        private final Timer[]               failures;
+        private final DistributionSummary[] items;
+        private final Timer                 sessionOpen;
+
+        private StoreMeters(String store) {
+            DataOperation[] operations = DataOperation.values();
+
+            this.store       = store;
+            this.successes   = new Timer[operations.length];
+            this.failures    = new Timer[operations.length];
+            this.items       = new DistributionSummary[operations.length];
+            this.sessionOpen = Timer.builder(prefix + ".session.open")
+                    .description("Time spent opening a session of the database")
+                    .tag("store", store)
+                    .publishPercentileHistogram()
+                    .register(registry);
+
+            for (DataOperation operation : operations) {
+                successes[operation.ordinal()] = timer(operation, "success");
+                failures[operation.ordinal()]  = timer(operation, "failure");
+                items[operation.ordinal()]     = DistributionSummary.builder(prefix + ".items")
+                        .description("Rows or documents touched by an operation")
+                        .baseUnit("items")
+                        .tag("store", store)
+                        .tag("operation", operation.getTag())
+                        .register(registry);
+            }
+        }
+
+        private Timer timer(DataOperation operation, String outcome) {
+            return Timer.builder(prefix + ".operation")
+                    .description("Latency of the operations of the data managers")
+                    .tag("store", store)
+                    .tag("operation", operation.getTag())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+
+    private final class MicrometerSample implements Sample {
+        private final StoreMeters   meters;
+        private final DataOperation operation;
+        private final long          startNanos;
+
+        private MicrometerSample(StoreMeters meters, DataOperation operation, long startNanos) {
+            this.meters     = meters;
+            this.operation  = operation;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void success(int items) {
+            meters.successes[operation.ordinal()].record(clock.monotonicTime() - startNanos, TimeUnit.NANOSECONDS);
+            meters.items[operation.ordinal()].record(items);
+        }
+
+        @Override
+        public void failure(@Nullable Throwable error) {
+            meters.failures[operation.ordinal()].record(clock.monotonicTime() - startNanos, TimeUnit.NANOSECONDS);
+            registry.counter(prefix + ".errors",
+                    "store", meters.store,
+                    "operation", operation.getTag(),
+                    "exception", error != null ? error.getClass().getSimpleName() : "none").increment();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.danildzambrana.commons.data.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link DataMetrics} that records nothing, see {@link DataMetrics#noop()}
+ */
+enum NoopDataMetrics implements DataMetrics, DataMetrics.Sample {
+    INSTANCE;
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public @NotNull Sample start(@NotNull String store, @NotNull DataOperation operation) {
+        return this;
+    }
+
+    @Override
+    public void recordSessionOpen(@NotNull String store, long durationNanos) {
+    }
+
+    @Override
+    public void success(int items) {
+    }
+
+    @Override
+    public void failure(@Nullable Throwable error) {
+    }
+}
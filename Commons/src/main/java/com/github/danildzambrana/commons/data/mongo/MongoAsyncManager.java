@@ -0,0 +1,59 @@
+package com.github.danildzambrana.commons.data.mongo;
+
+import com.github.danildzambrana.commons.data.ExecutorAsyncDataManager;
+import com.github.danildzambrana.commons.data.IConnection;
+import dev.morphia.Datastore;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Asynchronous adapter of {@link MongoManager}. By default, the number of concurrent operations matches the
+ * connections per host of the Mongo client, so the operations never wait for a pooled connection inside a thread.
+ *
+ * @param <I> type of ID
+ * @param <T> Type of object to save.
+ */
+public class MongoAsyncManager<I, T> extends ExecutorAsyncDataManager<I, T> {
+
+    /**
+     * Construct instance of manager with a platform thread pool.
+     *
+     * @param manager the manager that runs the operations.
+     */
+    public MongoAsyncManager(@NotNull MongoManager<I, T> manager) {
+        this(manager, false);
+    }
+
+    /**
+     * Construct instance of manager.
+     *
+     * @param manager        the manager that runs the operations.
+     * @param virtualThreads true to run the operations in virtual threads when the JVM supports them.
+     */
+    public MongoAsyncManager(@NotNull MongoManager<I, T> manager, boolean virtualThreads) {
+        super(ExecutorAsyncDataManager.builder(manager)
+                .setThreads(getConcurrency(manager.getConnection()))
+                .setVirtualThreads(virtualThreads)
+                .setThreadName("mongo-manager"));
+    }
+
+    /**
+     * Construct instance of manager with a custom configuration, the delegate of the builder is replaced by the
+     * manager.
+     *
+     * @param manager the manager that runs the operations.
+     * @param builder the configuration of the executor.
+     */
+    public MongoAsyncManager(@NotNull MongoManager<I, T> manager, @NotNull Builder<I, T> builder) {
+        super(builder.setDelegate(manager));
+    }
+
+    /**
+     * Get the number of threads from the options of the client, it does not wait for a lazy initialization.
+     */
+    private static int getConcurrency(IConnection<Datastore> connection) {
+        if (connection instanceof MongoConnection) {
+            return ((MongoConnection) connection).getConnectionsPerHost();
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
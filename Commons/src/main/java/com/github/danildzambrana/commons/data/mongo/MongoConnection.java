@@ -10,13 +10,28 @@ import org.bson.conversions.Bson;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 public class MongoConnection implements IConnection<Datastore> {
-    private final MongoClient client;
-    private final Morphia     morphia;
-    private final Datastore   datastore;
-    private final String      database;
+    /**
+     * Default time in milliseconds to open a connection, the constructor also waits this time for the first
+     * successful heartbeat.
+     */
+    public static final int CONNECT_TIMEOUT = 3000;
+
+    private final MongoClient                  client;
+    private final Morphia                      morphia;
+    private final CompletableFuture<Datastore> bootstrap;
+    private final String                       database;
+    private final MongoHealthMonitor           healthMonitor;
+    private final MongoPoolMonitor             poolMonitor;
 
     private MongoConnection() throws Exception {
         throw new IllegalAccessException("This constructor cannot be used. Please use "
@@ -24,9 +39,39 @@ public class MongoConnection implements IConnection<Datastore> {
     }
 
     public MongoConnection(Builder builder) {
-        this.database = builder.getDatabaseName();
-        MongoClientOptions options =
-                MongoClientOptions.builder().connectTimeout(3000).sslEnabled(builder.isSsl()).build();
+        this.database      = builder.getDatabaseName();
+        this.healthMonitor = new MongoHealthMonitor();
+        this.poolMonitor   = new MongoPoolMonitor();
+        for (MongoHealthListener listener : builder.getHealthListeners()) {
+            healthMonitor.addListener(listener);
+        }
+
+        MongoClientOptions.Builder optionsBuilder = MongoClientOptions.builder()
+                .connectTimeout(builder.getConnectTimeout())
+                .socketTimeout(builder.getSocketTimeout())
+                .connectionsPerHost(builder.getConnectionsPerHost())
+                .minConnectionsPerHost(builder.getMinConnectionsPerHost())
+                .maxWaitTime(builder.getMaxWaitTime())
+                .threadsAllowedToBlockForConnectionMultiplier(builder.getThreadsAllowedToBlockMultiplier())
+                .readPreference(builder.getReadPreference())
+                .writeConcern(builder.getWriteConcern())
+                .compressorList(builder.getCompressors())
+                .sslEnabled(builder.isSsl())
+                .addClusterListener(healthMonitor)
+                .addServerMonitorListener(healthMonitor)
+                .addConnectionPoolListener(poolMonitor);
+        if (builder.getHeartbeatFrequency() > 0) {
+            optionsBuilder.heartbeatFrequency(builder.getHeartbeatFrequency());
+        }
+        if (builder.getReplicaSet() != null) {
+            optionsBuilder.requiredReplicaSetName(builder.getReplicaSet());
+        }
+        MongoClientOptions options = optionsBuilder.build();
+
+        List<ServerAddress> seeds = builder.getServerAddresses();
+        FieldUtils.requireArgument(!seeds.isEmpty(), "a host is required");
+        // A single seed without replica set name is connected directly, a seed list discovers the whole cluster.
+        boolean direct = seeds.size() == 1 && builder.getReplicaSet() == null;
 
         MongoCredential credential;
 
@@ -34,12 +79,51 @@ public class MongoConnection implements IConnection<Datastore> {
             credential = MongoCredential.createCredential(builder.getUser(), builder.getAuthDatabase(),
                     builder.getPassword());
 
-            this.client = new MongoClient(new ServerAddress(builder.getHost(), builder.getPort()), credential, options);
+            this.client = direct
+                    ? new MongoClient(seeds.get(0), credential, options)
+                    : new MongoClient(seeds, credential, options);
         } else {
-            this.client = new MongoClient(new ServerAddress(builder.getHost(), builder.getPort()), options);
+            this.client = direct ? new MongoClient(seeds.get(0), options) : new MongoClient(seeds, options);
         }
         this.morphia = new Morphia();
 
+        FieldUtils.requireArgument(!builder.getDatabaseName().isEmpty());
+        Executor executor = builder.getBootstrapExecutor() != null
+                ? builder.getBootstrapExecutor()
+                : MongoConnection::startBootstrapThread;
+        if (builder.isLazyInitialization()) {
+            // The driver connects in background, the mapping is done by the bootstrap executor.
+            this.bootstrap = CompletableFuture.supplyAsync(() -> createDatastore(builder), executor);
+            if (builder.getIndexCreation() == IndexCreation.DEFERRED) {
+                bootstrap.thenRunAsync(this::ensureIndexes, executor);
+            }
+            return;
+        }
+
+        boolean connected = healthMonitor.awaitConnected(builder.getConnectTimeout(), TimeUnit.MILLISECONDS);
+        if (!connected) {
+            this.client.close();
+        }
+        FieldUtils.requireArgument(connected,
+                "error connecting to mongodb. Hosts: '%s', Database Name: '%s'. Cause: %s",
+                seeds, builder.getDatabaseName(), healthMonitor.getLastError());
+        this.bootstrap = CompletableFuture.completedFuture(createDatastore(builder));
+        if (builder.getIndexCreation() == IndexCreation.DEFERRED) {
+            CompletableFuture.runAsync(this::ensureIndexes, executor);
+        }
+    }
+
+    private static void startBootstrapThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "mongo-connection-bootstrap");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Map the classes and create the datastore, the indexes are created if the index creation is
+     * {@link IndexCreation#EAGER}.
+     */
+    private Datastore createDatastore(Builder builder) {
         if (builder.getMapPackage() != null) {
             this.morphia.mapPackage(builder.getMapPackage());
         }
@@ -52,24 +136,93 @@ public class MongoConnection implements IConnection<Datastore> {
             this.morphia.getMapper().setOptions(MapperOptions.builder().classLoader(builder.getClassLoader()).build());
         }
 
-        FieldUtils.requireArgument(!builder.getDatabaseName().isEmpty());
-        FieldUtils.requireArgument(isConnected(), "error connecting to mongodb. Host: '%s', Database Name: '%s'",
-                builder.getHost(), builder.getDatabaseName());
-        this.datastore = morphia.createDatastore(this.client, builder.getDatabaseName());
-        datastore.ensureIndexes();
+        Datastore datastore = morphia.createDatastore(this.client, builder.getDatabaseName());
+        if (builder.getIndexCreation() == IndexCreation.EAGER) {
+            datastore.ensureIndexes();
+        }
+        return datastore;
     }
 
     public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * Get the datastore. If the connection is still initializing, it waits for the initialization.
+     *
+     * @return the datastore, or null if the initialization failed.
+     */
     @Override
     public @Nullable Datastore getConnection() {
-        return this.datastore;
+        try {
+            return bootstrap.join();
+        } catch (CompletionException | CancellationException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Check if the classes were mapped and the datastore created,
+     * see {@link Builder#setLazyInitialization(boolean)}.
+     *
+     * @return true if the initialization finished, successfully or not.
+     */
+    public boolean isInitialized() {
+        return bootstrap.isDone();
     }
 
+    /**
+     * Get the initialization of the connection, use it to run work once the datastore is created without blocking
+     * the caller.
+     *
+     * @return a future completed with this connection when the datastore is created, or completed exceptionally if
+     * the initialization failed.
+     */
+    @NotNull
+    public CompletableFuture<MongoConnection> getInitialization() {
+        return bootstrap.thenApply(datastore -> this);
+    }
+
+    /**
+     * Create the indexes of the mapped classes, use it when the connection was built with
+     * {@link IndexCreation#NONE} to create them at a convenient time.
+     *
+     * @return true if the indexes were created.
+     */
+    public boolean ensureIndexes() {
+        Datastore datastore = getConnection();
+        if (datastore == null) {
+            return false;
+        }
+
+        try {
+            datastore.ensureIndexes();
+            return true;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Check if a server of the connection was reachable in the last heartbeat of the driver. It reads the state
+     * kept by the {@link MongoHealthMonitor}, it does not contact the database. Use {@link #ping()} to check
+     * the connection with a round trip.
+     *
+     * @return true if the connection is up.
+     */
     @Override
     public boolean isConnected() {
+        return bootstrap.isDone() && !bootstrap.isCompletedExceptionally() && healthMonitor.isConnected();
+    }
+
+    /**
+     * Send a {@code ping} command to the database.
+     *
+     * @return true if the database replied.
+     */
+    public boolean ping() {
         try {
             Bson ping = new BasicDBObject("ping", "1");
             client.getDatabase(database).runCommand(ping);
@@ -80,10 +233,64 @@ public class MongoConnection implements IConnection<Datastore> {
         }
     }
 
+    /**
+     * Get the monitor of the health of this connection, use it to listen the transitions between up and down.
+     *
+     * @return the health monitor.
+     */
+    public MongoHealthMonitor getHealthMonitor() {
+        return healthMonitor;
+    }
+
+    /**
+     * Get the statistics of the connection pools of the driver, use them to size the pools against the real
+     * request rate.
+     *
+     * @return the current statistics of the pools.
+     */
+    @NotNull
+    public MongoPoolStats getPoolStats() {
+        return poolMonitor.getStats();
+    }
+
+    /**
+     * Get the maximum size of the connection pool of each server, it does not wait for the initialization.
+     *
+     * @return the connections per host of the client.
+     */
+    public int getConnectionsPerHost() {
+        return client.getMongoClientOptions().getConnectionsPerHost();
+    }
+
+    /**
+     * Close the client of this connection and stop its monitors.
+     */
+    public void close() {
+        client.close();
+    }
+
     public Morphia getMorphia() {
         return morphia;
     }
 
+    /**
+     * When the indexes of the mapped classes are created.
+     */
+    public enum IndexCreation {
+        /**
+         * Before the connection is initialized, the datastore is not available until they exist.
+         */
+        EAGER,
+        /**
+         * In background once the connection is initialized.
+         */
+        DEFERRED,
+        /**
+         * Never, see {@link MongoConnection#ensureIndexes()}.
+         */
+        NONE
+    }
+
     public static class Builder {
         private String  user;
         private char[]  password     = null;
@@ -97,6 +304,23 @@ public class MongoConnection implements IConnection<Datastore> {
         private Class<?>[]  mappedClazz;
         private ClassLoader classLoader;
 
+        private       int                       connectTimeout        = CONNECT_TIMEOUT;
+        private       int                       socketTimeout         = 0;
+        private       int                       connectionsPerHost    = 100;
+        private       int                       minConnectionsPerHost = 0;
+        private       int                       maxWaitTime           = 120_000;
+        private       int                       threadsAllowedToBlock = 5;
+        private       ReadPreference            readPreference        = ReadPreference.primary();
+        private       WriteConcern              writeConcern          = WriteConcern.ACKNOWLEDGED;
+        private final List<MongoCompressor>     compressors           = new ArrayList<>();
+        private       int                       heartbeatFrequency    = 0;
+        private final List<MongoHealthListener> healthListeners       = new ArrayList<>();
+        private final List<ServerAddress>       hosts                 = new ArrayList<>();
+        private       String                    replicaSet;
+        private       boolean                   lazyInitialization;
+        private       Executor                  bootstrapExecutor;
+        private       IndexCreation             indexCreation         = IndexCreation.EAGER;
+
         private Builder() {
         }
 
@@ -195,6 +419,274 @@ public class MongoConnection implements IConnection<Datastore> {
             return this;
         }
 
+        public int getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        /**
+         * Set the time to open a connection, the constructor of {@link MongoConnection} also waits this time for
+         * the first successful heartbeat.
+         *
+         * @param connectTimeout the timeout in milliseconds.
+         * @return this builder.
+         */
+        public Builder setConnectTimeout(int connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public int getSocketTimeout() {
+            return socketTimeout;
+        }
+
+        /**
+         * Set the time to wait for the reply of an operation, set it for latency sensitive connections and leave
+         * it disabled for connections that run long bulk operations.
+         *
+         * @param socketTimeout the timeout in milliseconds, 0 to wait without limit.
+         * @return this builder.
+         */
+        public Builder setSocketTimeout(int socketTimeout) {
+            this.socketTimeout = socketTimeout;
+            return this;
+        }
+
+        public int getConnectionsPerHost() {
+            return connectionsPerHost;
+        }
+
+        /**
+         * Set the maximum number of connections of the pool of each server.
+         *
+         * @param connectionsPerHost the maximum size of the pool.
+         * @return this builder.
+         */
+        public Builder setConnectionsPerHost(int connectionsPerHost) {
+            this.connectionsPerHost = connectionsPerHost;
+            return this;
+        }
+
+        public int getMinConnectionsPerHost() {
+            return minConnectionsPerHost;
+        }
+
+        /**
+         * Set the number of connections that the pool of each server keeps open while they are idle.
+         *
+         * @param minConnectionsPerHost the minimum size of the pool.
+         * @return this builder.
+         */
+        public Builder setMinConnectionsPerHost(int minConnectionsPerHost) {
+            this.minConnectionsPerHost = minConnectionsPerHost;
+            return this;
+        }
+
+        public int getMaxWaitTime() {
+            return maxWaitTime;
+        }
+
+        /**
+         * Set the time that an operation waits for a connection of the pool before it fails.
+         *
+         * @param maxWaitTime the wait time in milliseconds, 0 to fail immediately and -1 to wait without limit.
+         * @return this builder.
+         */
+        public Builder setMaxWaitTime(int maxWaitTime) {
+            this.maxWaitTime = maxWaitTime;
+            return this;
+        }
+
+        public int getThreadsAllowedToBlockMultiplier() {
+            return threadsAllowedToBlock;
+        }
+
+        /**
+         * Set the number of threads that can wait for a connection, as a multiple of the connections per host.
+         * The operations that find the wait queue full fail immediately, raise it when the number of threads
+         * that use the connection is much greater than the size of the pool.
+         *
+         * @param threadsAllowedToBlock the multiplier of the connections per host.
+         * @return this builder.
+         */
+        public Builder setThreadsAllowedToBlockMultiplier(int threadsAllowedToBlock) {
+            this.threadsAllowedToBlock = threadsAllowedToBlock;
+            return this;
+        }
+
+        public ReadPreference getReadPreference() {
+            return readPreference;
+        }
+
+        public Builder setReadPreference(@NotNull ReadPreference readPreference) {
+            this.readPreference = readPreference;
+            return this;
+        }
+
+        public WriteConcern getWriteConcern() {
+            return writeConcern;
+        }
+
+        /**
+         * Set the acknowledgement requested for the writes. A weaker concern, like {@link WriteConcern#W1} without
+         * journal, increases the throughput of bulk imports.
+         *
+         * @param writeConcern the write concern.
+         * @return this builder.
+         */
+        public Builder setWriteConcern(@NotNull WriteConcern writeConcern) {
+            this.writeConcern = writeConcern;
+            return this;
+        }
+
+        public List<MongoCompressor> getCompressors() {
+            return compressors;
+        }
+
+        /**
+         * Add a compressor of the messages between the client and the server, the first compressor also
+         * supported by the server is used. See {@link MongoCompressor#createZlibCompressor()} and
+         * {@link MongoCompressor#createSnappyCompressor()}, snappy requires {@code org.xerial.snappy:snappy-java}
+         * in the classpath.
+         *
+         * @param compressor the compressor to add.
+         * @return this builder.
+         */
+        public Builder addCompressor(@NotNull MongoCompressor compressor) {
+            this.compressors.add(compressor);
+            return this;
+        }
+
+        public int getHeartbeatFrequency() {
+            return heartbeatFrequency;
+        }
+
+        /**
+         * Set the time between the heartbeats that the driver sends to every server, the state of
+         * {@link MongoConnection#isConnected()} is refreshed with each heartbeat.
+         *
+         * @param heartbeatFrequency the time between heartbeats in milliseconds, 0 to use the default of the
+         *                           driver.
+         * @return this builder.
+         */
+        public Builder setHeartbeatFrequency(int heartbeatFrequency) {
+            this.heartbeatFrequency = heartbeatFrequency;
+            return this;
+        }
+
+        public List<MongoHealthListener> getHealthListeners() {
+            return healthListeners;
+        }
+
+        /**
+         * Add a listener of the transitions between up and down of the connection, it is registered before the
+         * client is created so it also receives the first transition to up.
+         *
+         * @param listener the listener to add.
+         * @return this builder.
+         */
+        public Builder addHealthListener(@NotNull MongoHealthListener listener) {
+            this.healthListeners.add(listener);
+            return this;
+        }
+
+        public List<ServerAddress> getHosts() {
+            return hosts;
+        }
+
+        /**
+         * Add a host to the seed list of a replica set or sharded cluster, the driver discovers the rest of the
+         * members from the seeds. The host of {@link #setHost(String)}, if set, is the first seed.
+         *
+         * @param host the host of the member.
+         * @param port the port of the member.
+         * @return this builder.
+         */
+        public Builder addHost(@NotNull String host, int port) {
+            FieldUtils.requireArgument(!host.isEmpty());
+            FieldUtils.requireArgument(port > 0);
+            this.hosts.add(new ServerAddress(host, port));
+            return this;
+        }
+
+        /**
+         * Get the seed list of the connection.
+         *
+         * @return the host of {@link #setHost(String)} followed by the hosts added with {@link #addHost(String, int)}.
+         */
+        @NotNull
+        public List<ServerAddress> getServerAddresses() {
+            List<ServerAddress> addresses = new ArrayList<>(hosts.size() + 1);
+            if (host != null && !host.isEmpty()) {
+                addresses.add(new ServerAddress(host, port));
+            }
+            addresses.addAll(hosts);
+            return addresses;
+        }
+
+        public String getReplicaSet() {
+            return replicaSet;
+        }
+
+        /**
+         * Set the name of the replica set, the members of other replica sets are ignored. With a replica set the
+         * reads can be sent to the secondaries, see {@link MongoManager#routeReadsToSecondaries(java.time.Duration)}
+         *
+         * @param replicaSet the name of the replica set, null to connect without checking it.
+         * @return this builder.
+         */
+        public Builder setReplicaSet(String replicaSet) {
+            this.replicaSet = replicaSet;
+            return this;
+        }
+
+        public boolean isLazyInitialization() {
+            return lazyInitialization;
+        }
+
+        /**
+         * Map the classes and create the datastore on the bootstrap executor, so {@link #build()} returns
+         * immediately without waiting for the first heartbeat. The first {@link MongoConnection#getConnection()}
+         * waits for the initialization, use {@link MongoConnection#isConnected()} or a health listener to know
+         * when the server is reachable.
+         *
+         * @param lazyInitialization true to initialize the connection in background.
+         * @return this builder.
+         */
+        public Builder setLazyInitialization(boolean lazyInitialization) {
+            this.lazyInitialization = lazyInitialization;
+            return this;
+        }
+
+        public Executor getBootstrapExecutor() {
+            return bootstrapExecutor;
+        }
+
+        /**
+         * Set the executor of the lazy initialization and of the deferred index creation.
+         *
+         * @param bootstrapExecutor the executor, null to use a new daemon thread for each connection.
+         * @return this builder.
+         */
+        public Builder setBootstrapExecutor(Executor bootstrapExecutor) {
+            this.bootstrapExecutor = bootstrapExecutor;
+            return this;
+        }
+
+        public IndexCreation getIndexCreation() {
+            return indexCreation;
+        }
+
+        /**
+         * Set when the indexes of the mapped classes are created, each index costs a round trip on every start.
+         *
+         * @param indexCreation when the indexes are created.
+         * @return this builder.
+         */
+        public Builder setIndexCreation(@NotNull IndexCreation indexCreation) {
+            this.indexCreation = indexCreation;
+            return this;
+        }
+
         @Override
         public String toString() {
             return "Builder{" +
@@ -208,6 +700,20 @@ public class MongoConnection implements IConnection<Datastore> {
                     ", mapPackage='" + mapPackage + '\'' +
                     ", mappedClazz=" + Arrays.toString(mappedClazz) +
                     ", classLoader=" + classLoader +
+                    ", connectTimeout=" + connectTimeout +
+                    ", socketTimeout=" + socketTimeout +
+                    ", connectionsPerHost=" + connectionsPerHost +
+                    ", minConnectionsPerHost=" + minConnectionsPerHost +
+                    ", maxWaitTime=" + maxWaitTime +
+                    ", threadsAllowedToBlock=" + threadsAllowedToBlock +
+                    ", readPreference=" + readPreference +
+                    ", writeConcern=" + writeConcern +
+                    ", compressors=" + compressors +
+                    ", heartbeatFrequency=" + heartbeatFrequency +
+                    ", hosts=" + hosts +
+                    ", replicaSet='" + replicaSet + '\'' +
+                    ", lazyInitialization=" + lazyInitialization +
+                    ", indexCreation=" + indexCreation +
                     '}';
         }
 
@@ -0,0 +1,30 @@
+package com.github.danildzambrana.commons.data.mongo;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Listener of the transitions of the state of a {@link MongoConnection}. See {@link MongoHealthMonitor}
+ * <p>
+ * The methods are called from the monitor threads of the driver, they must return quickly and must not block
+ * on the database.
+ */
+public interface MongoHealthListener {
+
+    /**
+     * Called when a server of the connection becomes reachable after the connection was down.
+     *
+     * @param monitor the monitor of the connection.
+     */
+    default void onConnected(@NotNull MongoHealthMonitor monitor) {
+    }
+
+    /**
+     * Called when no server of the connection is reachable after the connection was up.
+     *
+     * @param monitor the monitor of the connection.
+     * @param cause   the last error of the heartbeats, null if it is unknown.
+     */
+    default void onDisconnected(@NotNull MongoHealthMonitor monitor, @Nullable Throwable cause) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.github.danildzambrana.commons.data.mongo;
+
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.event.ClusterClosedEvent;
+import com.mongodb.event.ClusterDescriptionChangedEvent;
+import com.mongodb.event.ClusterListener;
+import com.mongodb.event.ClusterOpeningEvent;
+import com.mongodb.event.ServerHeartbeatFailedEvent;
+import com.mongodb.event.ServerHeartbeatStartedEvent;
+import com.mongodb.event.ServerHeartbeatSucceededEvent;
+import com.mongodb.event.ServerMonitorListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Health of a {@link MongoConnection} built from the events of the driver. The driver already sends a
+ * heartbeat to every server in its own monitor threads, this class keeps the result of the last heartbeats
+ * so reading the state of the connection does not need a round trip to the database.
+ * <p>
+ * The connection is up while at least one server of the cluster is reachable.
+ */
+public class MongoHealthMonitor implements ClusterListener, ServerMonitorListener {
+    private final    List<MongoHealthListener> listeners     = new CopyOnWriteArrayList<>();
+    private final    Object                    lock          = new Object();
+    private volatile boolean                   connected     = false;
+    private volatile boolean                   closed        = false;
+    private volatile long                      latencyNanos  = -1;
+    private volatile long                      lastHeartbeat = 0;
+    private volatile Throwable                 lastError;
+
+    /**
+     * Check if the connection is up, it does not contact the database.
+     *
+     * @return true if a server was reachable in the last heartbeat.
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Wait until the connection is up.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit    the unit of the timeout.
+     * @return true if the connection is up, false if the timeout elapsed or the thread was interrupted.
+     */
+    public boolean awaitConnected(long timeout, @NotNull TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        synchronized (lock) {
+            while (!connected && !closed) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return connected;
+        }
+    }
+
+    /**
+     * Get the round trip time of the last successful heartbeat.
+     *
+     * @param unit the unit of the result.
+     * @return the latency of the last successful heartbeat, or -1 if no heartbeat has succeeded.
+     */
+    public long getLatency(@NotNull TimeUnit unit) {
+        long latency = latencyNanos;
+        return latency < 0 ? -1 : unit.convert(latency, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the time of the last heartbeat, successful or not.
+     *
+     * @return the time of the last heartbeat in milliseconds since the epoch, or 0 if no heartbeat has ended.
+     */
+    public long getLastHeartbeat() {
+        return lastHeartbeat;
+    }
+
+    /**
+     * Get the error of the last failed heartbeat.
+     *
+     * @return the error of the last failed heartbeat, null if the last heartbeat succeeded.
+     */
+    @Nullable
+    public Throwable getLastError() {
+        return lastError;
+    }
+
+    public void addListener(@NotNull MongoHealthListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(@NotNull MongoHealthListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void clusterOpening(ClusterOpeningEvent event) {
+    }
+
+    @Override
+    public void clusterClosed(ClusterClosedEvent event) {
+        closed = true;
+        setConnected(false);
+    }
+
+    @Override
+    public void clusterDescriptionChanged(ClusterDescriptionChangedEvent event) {
+        boolean reachable = false;
+        for (ServerDescription server : event.getNewDescription().getServerDescriptions()) {
+            if (server.isOk()) {
+                reachable = true;
+            } else if (server.getException() != null) {
+                // The servers that were never reached do not send heartbeat events, only the description.
+                lastError = server.getException();
+            }
+        }
+        setConnected(reachable);
+    }
+
+    @Override
+    public void serverHearbeatStarted(ServerHeartbeatStartedEvent event) {
+    }
+
+    @Override
+    public void serverHeartbeatSucceeded(ServerHeartbeatSucceededEvent event) {
+        latencyNanos  = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        lastError     = null;
+        lastHeartbeat = System.currentTimeMillis();
+    }
+
+    @Override
+    public void serverHeartbeatFailed(ServerHeartbeatFailedEvent event) {
+        lastError     = event.getThrowable();
+        lastHeartbeat = System.currentTimeMillis();
+    }
+
+    private void setConnected(boolean value) {
+        synchronized (lock) {
+            if (connected == value) {
+                return;
+            }
+            connected = value;
+            lock.notifyAll();
+        }
+
+        for (MongoHealthListener listener : listeners) {
+            try {
+                if (value) {
+                    listener.onConnected(this);
+                } else {
+                    listener.onDisconnected(this, lastError);
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MongoHealthMonitor{" +
+                "connected=" + connected +
+                ", latencyMillis=" + getLatency(TimeUnit.MILLISECONDS) +
+                ", lastHeartbeat=" + lastHeartbeat +
+                ", lastError=" + lastError +
+                '}';
+    }
+}
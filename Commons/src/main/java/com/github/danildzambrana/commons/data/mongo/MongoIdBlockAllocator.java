@@ -0,0 +1,71 @@
+package com.github.danildzambrana.commons.data.mongo;
+
+import com.github.danildzambrana.commons.data.IConnection;
+import com.github.danildzambrana.commons.data.id.IdBlockAllocator;
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Updates;
+import dev.morphia.Datastore;
+import org.bson.Document;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Allocator of id blocks stored in a collection with one document per sequence, the document holds the last id
+ * reserved. A block is reserved with a single atomic {@code findOneAndUpdate} that increments the document, or
+ * creates it for the first block.
+ */
+public class MongoIdBlockAllocator implements IdBlockAllocator {
+    /**
+     * Name of the collection when none is provided.
+     */
+    public static final String DEFAULT_COLLECTION = "id_blocks";
+
+    private static final FindOneAndUpdateOptions OPTIONS = new FindOneAndUpdateOptions()
+            .upsert(true)
+            .returnDocument(ReturnDocument.AFTER);
+
+    private final IConnection<Datastore> connection;
+    private final String                 collection;
+
+    /**
+     * Construct an allocator that stores the sequences in {@link #DEFAULT_COLLECTION}.
+     *
+     * @param connection the connection of the collection.
+     */
+    public MongoIdBlockAllocator(@NotNull IConnection<Datastore> connection) {
+        this(connection, DEFAULT_COLLECTION);
+    }
+
+    /**
+     * Construct an allocator that stores the sequences in a collection.
+     *
+     * @param connection the connection of the collection.
+     * @param collection the name of the collection.
+     */
+    public MongoIdBlockAllocator(@NotNull IConnection<Datastore> connection, @NotNull String collection) {
+        FieldUtils.requireArgument(!collection.isEmpty());
+
+        this.connection = connection;
+        this.collection = collection;
+    }
+
+    @Override
+    public long allocate(@NotNull String name, int size) {
+        FieldUtils.requireArgument(size > 0);
+
+        Datastore datastore = connection.getConnection();
+        FieldUtils.requireState(datastore != null, "the connection is not available");
+
+        Document sequence = datastore.getDatabase().getCollection(collection)
+                .findOneAndUpdate(Filters.eq("_id", name), Updates.inc("last", (long) size), OPTIONS);
+        FieldUtils.requireState(sequence != null, "the ids of %s can not be reserved", name);
+        return ((Number) sequence.get("last")).longValue() - size + 1;
+    }
+
+    @NotNull
+    public String getCollection() {
+        return collection;
+    }
+}
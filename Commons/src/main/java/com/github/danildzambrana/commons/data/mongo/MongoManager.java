@@ -1,12 +1,51 @@
 package com.github.danildzambrana.commons.data.mongo;
 
+import com.github.danildzambrana.commons.data.BatchResult;
+import com.github.danildzambrana.commons.data.DataQuery;
 import com.github.danildzambrana.commons.data.IConnection;
 import com.github.danildzambrana.commons.data.IDataManager;
+import com.github.danildzambrana.commons.data.ReplicaRoutingDataManager;
+import com.github.danildzambrana.commons.data.SaveResult;
+import com.github.danildzambrana.commons.data.events.DataChangeEvent;
+import com.github.danildzambrana.commons.data.events.DataChangeListener;
+import com.github.danildzambrana.commons.data.events.DataChangePublisher;
+import com.github.danildzambrana.commons.data.id.IdGenerator;
+import com.github.danildzambrana.commons.data.metrics.DataMetrics;
+import com.github.danildzambrana.commons.data.metrics.DataOperation;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
 import dev.morphia.Datastore;
 import dev.morphia.Key;
+import dev.morphia.mapping.MappedField;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.internal.MorphiaCursor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Mongo Adapter of {@link IDataManager}
@@ -15,7 +54,21 @@ import java.util.Optional;
  * @param <T> Type of object to save.
  */
 public class MongoManager<I, T> implements IDataManager<I, T> {
-    private final IConnection<Datastore> connection;
+    /**
+     * Number of documents per round trip when a query does not set its fetch size.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * Name of the store reported to {@link DataMetrics}.
+     */
+    public static final String METRICS_STORE = "mongo";
+
+    private final IConnection<Datastore>  connection;
+    private final DataMetrics             metrics;
+    private final ReadPreference          readPreference;
+    private final IdGenerator             idGenerator;
+    private final DataChangePublisher<T>  changes = new DataChangePublisher<>();
 
     /**
      * Construct instance of manager. See {@link MongoConnection}
@@ -23,40 +76,549 @@ public class MongoManager<I, T> implements IDataManager<I, T> {
      * @param connection the connection to this manager.
      */
     public MongoManager(IConnection<Datastore> connection) {
-        this.connection = connection;
+        this(connection, DataMetrics.noop());
+    }
+
+    /**
+     * Construct instance of manager that reports its operations. See {@link MongoConnection}
+     *
+     * @param connection the connection to this manager.
+     * @param metrics    the instrumentation of the operations.
+     */
+    public MongoManager(IConnection<Datastore> connection, @NotNull DataMetrics metrics) {
+        this(connection, metrics, null);
+    }
+
+    /**
+     * Construct instance of manager that reports its operations and reads with its own read preference.
+     * See {@link #withReadPreference(ReadPreference)}
+     *
+     * @param connection     the connection to this manager.
+     * @param metrics        the instrumentation of the operations.
+     * @param readPreference the read preference of the reads, null to use the one of the connection.
+     */
+    public MongoManager(IConnection<Datastore> connection, @NotNull DataMetrics metrics,
+                        @Nullable ReadPreference readPreference) {
+        this(connection, metrics, readPreference, null);
+    }
+
+    /**
+     * Construct instance of manager that reports its operations, reads with its own read preference and assigns
+     * the ids of the new values. See {@link #withIdGenerator(IdGenerator)}
+     *
+     * @param connection     the connection to this manager.
+     * @param metrics        the instrumentation of the operations.
+     * @param readPreference the read preference of the reads, null to use the one of the connection.
+     * @param idGenerator    the generator of the {@code Long} ids, null to leave the ids to the caller.
+     */
+    public MongoManager(IConnection<Datastore> connection, @NotNull DataMetrics metrics,
+                        @Nullable ReadPreference readPreference, @Nullable IdGenerator idGenerator) {
+        this.connection     = connection;
+        this.metrics        = metrics;
+        this.readPreference = readPreference;
+        this.idGenerator    = idGenerator;
     }
 
+    /**
+     * Save the value. A conflict of a versioned value is reported as false, see {@link #trySave(Object)}.
+     *
+     * @param t The value to save.
+     * @return true if the values has been saved, otherwise return false.
+     */
     @Override
     public boolean save(@NotNull T t) {
-        Datastore connection = this.connection.getConnection();
+        return trySave(t) == SaveResult.SAVED;
+    }
+
+    /**
+     * Save the value, an entity with a {@code @Version} field is only replaced if its version is the stored one
+     * and receives the new version once it is saved. A value with a null {@code Long} id receives one from the
+     * id generator, if the manager has one.
+     *
+     * @param t The value to save.
+     * @return the outcome of the operation.
+     */
+    @Override
+    public SaveResult trySave(@NotNull T t) {
+        DataMetrics.Sample sample     = metrics.start(METRICS_STORE, DataOperation.SAVE);
+        Datastore          connection = this.connection.getConnection();
         if (connection == null) {
-            return false;
+            sample.failure(null);
+            return SaveResult.FAILED;
         }
 
-        Key<T> save = connection.save(t);
-        return save != null;
+        try {
+            assignId(connection.getMapper(), t);
+            Key<T> save = connection.save(t);
+            if (save == null) {
+                sample.failure(null);
+                return SaveResult.FAILED;
+            }
+            sample.success(1);
+        } catch (ConcurrentModificationException e) {
+            sample.failure(e);
+            return SaveResult.CONFLICT;
+        } catch (RuntimeException e) {
+            sample.failure(e);
+            throw e;
+        }
+
+        publish(DataChangeEvent.Type.SAVED, t);
+        return SaveResult.SAVED;
     }
 
     @Override
     public Optional<T> get(@NotNull I id, Class<T> clazz) {
-        Datastore connection = this.connection.getConnection();
+        DataMetrics.Sample sample     = metrics.start(METRICS_STORE, DataOperation.GET);
+        Datastore          connection = this.connection.getConnection();
         if (connection == null) {
+            sample.failure(null);
             return Optional.empty();
         }
 
-        return Optional.ofNullable(
-                connection.createQuery(clazz).field("_id").equal(id).first()
-        );
+        try {
+            Optional<T> value = Optional.ofNullable(
+                    connection.createQuery(clazz).field("_id").equal(id).first(readOptions(new FindOptions()))
+            );
+            sample.success(value.isPresent() ? 1 : 0);
+            return value;
+        } catch (RuntimeException e) {
+            sample.failure(e);
+            throw e;
+        }
     }
 
     @Override
     public boolean delete(@NotNull T t) {
-        Datastore connection = this.connection.getConnection();
+        DataMetrics.Sample sample     = metrics.start(METRICS_STORE, DataOperation.DELETE);
+        Datastore          connection = this.connection.getConnection();
         if (connection == null) {
+            sample.failure(null);
             return false;
         }
 
-        return connection.delete(t).isUpdateOfExisting();
+        boolean deleted;
+        try {
+            deleted = connection.delete(t).getN() > 0;
+            sample.success(deleted ? 1 : 0);
+        } catch (RuntimeException e) {
+            sample.failure(e);
+            throw e;
+        }
+
+        if (deleted) {
+            publish(DataChangeEvent.Type.DELETED, t);
+        }
+        return deleted;
+    }
+
+    /**
+     * Save all the values with one unordered bulk write per collection. The values without id are inserted
+     * and receive the id of the id generator of the manager or, if there is none, the one generated by the
+     * driver, the rest are upserted by id. The versioned values are only
+     * replaced if their version is the stored one, a conflict is reported as a failed value.
+     *
+     * @param values the values to save.
+     * @return the result of the operation for each value.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public BatchResult<T> saveAll(@NotNull Collection<T> values) {
+        DataMetrics.Sample sample     = metrics.start(METRICS_STORE, DataOperation.SAVE_ALL);
+        Datastore          connection = this.connection.getConnection();
+        if (connection == null) {
+            sample.failure(null);
+            return BatchResult.of(values, false);
+        }
+
+        BatchResult<T> result = BatchResult.of(values, true);
+        if (values.isEmpty()) {
+            sample.success(0);
+            return result;
+        }
+
+        // Morphia 1.5 only exposes the mapping of the entities through its deprecated mapper.
+        Mapper                                    mapper   = connection.getMapper();
+        Map<Class<?>, List<Integer>>              indexes  = new LinkedHashMap<>();
+        Map<Class<?>, List<WriteModel<DBObject>>> writes   = new HashMap<>();
+        Map<Integer, DBObject>                    inserts  = new HashMap<>();
+        Map<Integer, Long>                        versions = new HashMap<>();
+        Exception                                 error    = null;
+
+        for (int i = 0; i < result.size(); i++) {
+            T t = result.getItem(i);
+
+            try {
+                boolean       assigned = assignId(mapper, t);
+                DBObject      document = mapper.toDBObject(t);
+                MappedField   version  = mapper.getMappedClass(t).getMappedVersionField();
+                BasicDBObject filter   = new BasicDBObject("_id", document.get("_id"));
+                boolean       insert   = assigned || document.get("_id") == null;
+
+                if (version != null) {
+                    // A stale version matches no document, so the upsert collides with the stored _id. A value
+                    // without version is new, it is inserted and collides with the stored _id if it exists.
+                    Long current = (Long) version.getFieldValue(t);
+                    if (current != null) {
+                        filter.append(version.getNameToStore(), current);
+                    }
+                    insert |= current == null;
+                    long next = current != null ? current + 1 : 1;
+                    document.put(version.getNameToStore(), next);
+                    versions.put(i, next);
+                }
+
+                List<WriteModel<DBObject>> bulk = writes.computeIfAbsent(t.getClass(), clazz -> new ArrayList<>());
+                if (insert) {
+                    bulk.add(new InsertOneModel<>(document));
+                    inserts.put(i, document);
+                } else {
+                    bulk.add(new ReplaceOneModel<>(filter, document, new ReplaceOptions().upsert(true)));
+                }
+
+                indexes.computeIfAbsent(t.getClass(), clazz -> new ArrayList<>()).add(i);
+            } catch (Exception e) {
+                e.printStackTrace();
+                result.set(i, false);
+                error = e;
+            }
+        }
+
+        for (Map.Entry<Class<?>, List<Integer>> entry : indexes.entrySet()) {
+            List<Integer> bulkIndexes = entry.getValue();
+
+            try {
+                connection.getDatabase()
+                        .getCollection(mapper.getCollectionName(entry.getKey()), DBObject.class)
+                        .bulkWrite(writes.get(entry.getKey()), new BulkWriteOptions().ordered(false));
+            } catch (MongoBulkWriteException e) {
+                for (BulkWriteError writeError : e.getWriteErrors()) {
+                    result.set(bulkIndexes.get(writeError.getIndex()), false);
+                }
+                error = e;
+            } catch (Exception e) {
+                e.printStackTrace();
+                for (Integer index : bulkIndexes) {
+                    result.set(index, false);
+                }
+                error = e;
+            }
+        }
+
+        for (Map.Entry<Integer, DBObject> entry : inserts.entrySet()) {
+            int index = entry.getKey();
+            if (result.isSuccess(index)) {
+                T t = result.getItem(index);
+                mapper.getMappedClass(t).getMappedIdField().setFieldValue(t, entry.getValue().get("_id"));
+            }
+        }
+        for (Map.Entry<Integer, Long> entry : versions.entrySet()) {
+            int index = entry.getKey();
+            if (result.isSuccess(index)) {
+                T t = result.getItem(index);
+                mapper.getMappedClass(t).getMappedVersionField().setFieldValue(t, entry.getValue());
+            }
+        }
+
+        if (result.isAllSucceeded()) {
+            sample.success(result.size());
+        } else {
+            sample.failure(error);
+        }
+        publish(DataChangeEvent.Type.SAVED, result);
+        return result;
+    }
+
+    /**
+     * Get all the values with a single {@code $in} query.
+     *
+     * @param ids   the ids to find.
+     * @param clazz type of the objects to find.
+     * @return the found values by id, in the iteration order of the ids. The ids that were not found are absent.
+     */
+    @Override
+    public Map<I, T> getAll(@NotNull Collection<I> ids, Class<T> clazz) {
+        Map<I, T>          result     = new LinkedHashMap<>();
+        DataMetrics.Sample sample     = metrics.start(METRICS_STORE, DataOperation.GET_ALL);
+        Datastore          connection = this.connection.getConnection();
+        if (connection == null) {
+            sample.failure(null);
+            return result;
+        }
+
+        if (ids.isEmpty()) {
+            sample.success(0);
+            return result;
+        }
+
+        Map<Object, T> found = new HashMap<>();
+        try (MorphiaCursor<T> cursor = connection.createQuery(clazz).field("_id").in(ids)
+                .find(readOptions(new FindOptions()))) {
+            while (cursor.hasNext()) {
+                T t = cursor.next();
+                found.put(connection.getMapper().getId(t), t);
+            }
+        } catch (RuntimeException e) {
+            sample.failure(e);
+            throw e;
+        }
+
+        for (I id : ids) {
+            T t = found.get(id);
+            if (t != null) {
+                result.put(id, t);
+            }
+        }
+
+        sample.success(result.size());
+        return result;
+    }
+
+    /**
+     * Remove all the values with one {@code $in} delete per collection. The delete only reports the number of
+     * removed documents, so the ids of the values that exist are read first with the same {@code $in} query and
+     * only those are removed. The values whose document did not exist are reported as failed, a document
+     * removed by another client between the two queries is reported as removed.
+     *
+     * @param values the values to remove.
+     * @return the result of the operation for each value.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public BatchResult<T> deleteAll(@NotNull Collection<T> values) {
+        DataMetrics.Sample sample     = metrics.start(METRICS_STORE, DataOperation.DELETE_ALL);
+        Datastore          connection = this.connection.getConnection();
+        if (connection == null) {
+            sample.failure(null);
+            return BatchResult.of(values, false);
+        }
+
+        BatchResult<T>                      result = BatchResult.of(values, false);
+        Map<Class<T>, Map<Object, Integer>> groups = new LinkedHashMap<>();
+        Exception                           error  = null;
+
+        for (int i = 0; i < result.size(); i++) {
+            T      t  = result.getItem(i);
+            Object id = connection.getMapper().getId(t);
+            if (id != null) {
+                groups.computeIfAbsent((Class<T>) t.getClass(), clazz -> new LinkedHashMap<>()).put(id, i);
+            }
+        }
+
+        for (Map.Entry<Class<T>, Map<Object, Integer>> entry : groups.entrySet()) {
+            Map<Object, Integer> group = entry.getValue();
+
+            try {
+                List<Object> existing = new ArrayList<>();
+                try (MorphiaCursor<T> cursor = connection.createQuery(entry.getKey()).field("_id")
+                        .in(group.keySet()).project("_id", true).find()) {
+                    while (cursor.hasNext()) {
+                        existing.add(connection.getMapper().getId(cursor.next()));
+                    }
+                }
+                if (existing.isEmpty()) {
+                    continue;
+                }
+
+                connection.delete(connection.createQuery(entry.getKey()).field("_id").in(existing));
+                for (Object id : existing) {
+                    Integer index = group.get(id);
+                    if (index != null) {
+                        result.set(index, true);
+                    }
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+                error = e;
+            }
+        }
+
+        if (error == null) {
+            sample.success(result.getSuccessCount());
+        } else {
+            sample.failure(error);
+        }
+        publish(DataChangeEvent.Type.DELETED, result);
+        return result;
+    }
+
+    /**
+     * Find the values of the query, only the fields of {@link DataQuery#select(String...)} are sent by the
+     * server and mapped.
+     *
+     * @param query the criteria of the values to find.
+     * @return the found values.
+     */
+    @Override
+    public List<T> find(@NotNull DataQuery<T> query) {
+        DataMetrics.Sample sample     = metrics.start(METRICS_STORE, DataOperation.FIND);
+        Datastore          connection = this.connection.getConnection();
+        if (connection == null) {
+            sample.failure(null);
+            return Collections.emptyList();
+        }
+
+        try {
+            List<T> values = MongoQueries.create(connection, query)
+                    .find(readOptions(MongoQueries.options(query, DEFAULT_BATCH_SIZE)))
+                    .toList();
+            sample.success(values.size());
+            return values;
+        } catch (Exception e) {
+            e.printStackTrace();
+            sample.failure(e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Stream the values with a driver cursor, the documents are fetched in batches of the fetch size of
+     * the query so the memory used does not grow with the number of documents.
+     *
+     * @param query the criteria of the values to find.
+     * @return a stream of the found values, it must be closed.
+     */
+    @Override
+    public Stream<T> stream(@NotNull DataQuery<T> query) {
+        DataMetrics.Sample sample     = metrics.start(METRICS_STORE, DataOperation.STREAM);
+        Datastore          connection = this.connection.getConnection();
+        if (connection == null) {
+            sample.failure(null);
+            return Stream.empty();
+        }
+
+        MorphiaCursor<T> cursor;
+        try {
+            cursor = MongoQueries.create(connection, query)
+                    .find(readOptions(MongoQueries.options(query, DEFAULT_BATCH_SIZE)));
+        } catch (Exception e) {
+            e.printStackTrace();
+            sample.failure(e);
+            return Stream.empty();
+        }
+
+        int[] documents = {0};
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor,
+                Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .peek(value -> documents[0]++)
+                .onClose(() -> {
+                    cursor.close();
+                    sample.success(documents[0]);
+                });
+    }
+
+    /**
+     * Create a manager of the same connection and metrics whose reads use the provided read preference, the
+     * writes always go to the primary.
+     *
+     * @param readPreference the read preference of the reads.
+     * @return the created manager.
+     */
+    @NotNull
+    public MongoManager<I, T> withReadPreference(@NotNull ReadPreference readPreference) {
+        return new MongoManager<>(connection, metrics, readPreference, idGenerator);
+    }
+
+    /**
+     * Create a manager of the same connection, metrics and read preference that assigns an id of the generator
+     * to the values whose {@code Long} id is null before they are saved, so the values do not need their id set
+     * by hand and the id is known without reading it back.
+     *
+     * @param idGenerator the generator of the ids, shared by every manager of the same collection.
+     * @return the created manager.
+     */
+    @NotNull
+    public MongoManager<I, T> withIdGenerator(@NotNull IdGenerator idGenerator) {
+        return new MongoManager<>(connection, metrics, readPreference, idGenerator);
+    }
+
+    /**
+     * Create a manager that sends the reads to the secondaries of the replica set and the writes to the primary.
+     * The driver chooses the secondary and enforces the staleness bound, the reads go to the primary if no
+     * secondary is eligible.
+     *
+     * @param maxStaleness the maximum replication lag of the secondaries that receive reads, at least 90 seconds,
+     *                     or null to send reads to every secondary.
+     * @return the routing manager.
+     */
+    @NotNull
+    public ReplicaRoutingDataManager<I, T> routeReadsToSecondaries(@Nullable Duration maxStaleness) {
+        ReadPreference secondary = maxStaleness != null
+                ? ReadPreference.secondaryPreferred(maxStaleness.toMillis(), TimeUnit.MILLISECONDS)
+                : ReadPreference.secondaryPreferred();
+        return ReplicaRoutingDataManager.<I, T>builder(this)
+                .addReplica(withReadPreference(secondary))
+                .build();
+    }
+
+    @Nullable
+    public ReadPreference getReadPreference() {
+        return readPreference;
+    }
+
+    @Nullable
+    public IdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+
+    /**
+     * Register a listener of the values saved and removed through this manager, it is called after the write
+     * is acknowledged.
+     *
+     * @param listener the listener to add.
+     */
+    public void addChangeListener(@NotNull DataChangeListener<T> listener) {
+        changes.addListener(listener);
+    }
+
+    public void removeChangeListener(@NotNull DataChangeListener<T> listener) {
+        changes.removeListener(listener);
+    }
+
+    private void publish(DataChangeEvent.Type type, T value) {
+        if (changes.hasListeners()) {
+            changes.publish(new DataChangeEvent<>(METRICS_STORE, type, value));
+        }
+    }
+
+    private void publish(DataChangeEvent.Type type, BatchResult<T> result) {
+        if (!changes.hasListeners()) {
+            return;
+        }
+
+        for (int i = 0; i < result.size(); i++) {
+            if (result.isSuccess(i)) {
+                changes.publish(new DataChangeEvent<>(METRICS_STORE, type, result.getItem(i)));
+            }
+        }
+    }
+
+    /**
+     * Assign an id of the generator to a value whose {@code Long} id is null.
+     *
+     * @return true if the id was assigned.
+     */
+    @SuppressWarnings("deprecation")
+    private boolean assignId(Mapper mapper, T t) {
+        if (idGenerator == null) {
+            return false;
+        }
+
+        MappedField id = mapper.getMappedClass(t).getMappedIdField();
+        if (id.getType() != Long.class || id.getFieldValue(t) != null) {
+            return false;
+        }
+        id.setFieldValue(t, idGenerator.nextId());
+        return true;
+    }
+
+    private FindOptions readOptions(FindOptions options) {
+        return readPreference != null ? options.readPreference(readPreference) : options;
+    }
+
+    @Override
+    public DataMetrics getMetrics() {
+        return metrics;
     }
 
     @Override
@@ -0,0 +1,104 @@
+package com.github.danildzambrana.commons.data.mongo;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionAddedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import com.mongodb.event.ConnectionPoolOpenedEvent;
+import com.mongodb.event.ConnectionPoolWaitQueueEnteredEvent;
+import com.mongodb.event.ConnectionPoolWaitQueueExitedEvent;
+import com.mongodb.event.ConnectionRemovedEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Listener of the connection pools of the driver that accumulates the statistics of {@link MongoPoolStats}.
+ * <p>
+ * The driver enters the wait queue of the pool on every checkout, in the thread that asks for the connection,
+ * and checks out the connection before it exits the queue. So the time between entering and exiting the queue
+ * is the time spent waiting for a connection, and a thread that exits without a checkout did not get one.
+ */
+class MongoPoolMonitor implements ConnectionPoolListener {
+    private final Map<ServerId, Integer> maximumSizes       = new ConcurrentHashMap<>();
+    private final AtomicInteger          checkedOut         = new AtomicInteger();
+    private final AtomicInteger          total              = new AtomicInteger();
+    private final AtomicInteger          waiting            = new AtomicInteger();
+    private final LongAdder              checkoutCount      = new LongAdder();
+    private final LongAdder              failedCount        = new LongAdder();
+    private final LongAdder              totalCheckoutNanos = new LongAdder();
+    private final AtomicLong             maxCheckoutNanos   = new AtomicLong();
+    private final ThreadLocal<long[]>    waitState          = ThreadLocal.withInitial(() -> new long[2]);
+
+    @NotNull
+    MongoPoolStats getStats() {
+        int maximumPoolSize = 0;
+        for (Integer size : maximumSizes.values()) {
+            maximumPoolSize += size;
+        }
+
+        return new MongoPoolStats(checkedOut.get(), total.get(), maximumPoolSize, waiting.get(), checkoutCount.sum(),
+                totalCheckoutNanos.sum(), maxCheckoutNanos.get(), failedCount.sum());
+    }
+
+    @Override
+    public void connectionPoolOpened(ConnectionPoolOpenedEvent event) {
+        maximumSizes.put(event.getServerId(), event.getSettings().getMaxSize());
+    }
+
+    @Override
+    public void connectionPoolClosed(ConnectionPoolClosedEvent event) {
+        maximumSizes.remove(event.getServerId());
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        checkedOut.incrementAndGet();
+        waitState.get()[1] = 1;
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        checkedOut.decrementAndGet();
+    }
+
+    @Override
+    public void waitQueueEntered(ConnectionPoolWaitQueueEnteredEvent event) {
+        long[] state = waitState.get();
+        state[0] = System.nanoTime();
+        state[1] = 0;
+        waiting.incrementAndGet();
+    }
+
+    @Override
+    public void waitQueueExited(ConnectionPoolWaitQueueExitedEvent event) {
+        long[] state   = waitState.get();
+        long   elapsed = System.nanoTime() - state[0];
+
+        waiting.decrementAndGet();
+        if (state[1] == 0) {
+            failedCount.increment();
+            return;
+        }
+
+        checkoutCount.increment();
+        totalCheckoutNanos.add(elapsed);
+        maxCheckoutNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    @Override
+    public void connectionAdded(ConnectionAddedEvent event) {
+        total.incrementAndGet();
+    }
+
+    @Override
+    public void connectionRemoved(ConnectionRemovedEvent event) {
+        total.decrementAndGet();
+    }
+}
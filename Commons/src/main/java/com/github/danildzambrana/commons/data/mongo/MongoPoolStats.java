@@ -0,0 +1,108 @@
+package com.github.danildzambrana.commons.data.mongo;
+
+/**
+ * Snapshot of the state of the connection pools of a {@link MongoConnection}, the values are the sum of the pools
+ * of every server. See {@link MongoConnection#getPoolStats()}
+ */
+public class MongoPoolStats {
+    private final int  checkedOutConnections;
+    private final int  totalConnections;
+    private final int  maximumPoolSize;
+    private final int  threadsAwaitingConnection;
+    private final long checkoutCount;
+    private final long totalCheckoutNanos;
+    private final long maxCheckoutNanos;
+    private final long failedCheckoutCount;
+
+    MongoPoolStats(int checkedOutConnections, int totalConnections, int maximumPoolSize,
+                   int threadsAwaitingConnection, long checkoutCount, long totalCheckoutNanos,
+                   long maxCheckoutNanos, long failedCheckoutCount) {
+        this.checkedOutConnections     = checkedOutConnections;
+        this.totalConnections          = totalConnections;
+        this.maximumPoolSize           = maximumPoolSize;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+        this.checkoutCount             = checkoutCount;
+        this.totalCheckoutNanos        = totalCheckoutNanos;
+        this.maxCheckoutNanos          = maxCheckoutNanos;
+        this.failedCheckoutCount       = failedCheckoutCount;
+    }
+
+    public int getCheckedOutConnections() {
+        return checkedOutConnections;
+    }
+
+    public int getIdleConnections() {
+        return Math.max(0, totalConnections - checkedOutConnections);
+    }
+
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public int getThreadsAwaitingConnection() {
+        return threadsAwaitingConnection;
+    }
+
+    /**
+     * Get the fraction of the pools that is in use.
+     *
+     * @return a value between 0 and 1, 1 means that every connection of the pools is in use.
+     */
+    public double getSaturation() {
+        return maximumPoolSize > 0 ? (double) checkedOutConnections / maximumPoolSize : 0;
+    }
+
+    /**
+     * Get the number of connections handed out by the pools since the connection was created.
+     *
+     * @return the number of checkouts.
+     */
+    public long getCheckoutCount() {
+        return checkoutCount;
+    }
+
+    public long getTotalCheckoutNanos() {
+        return totalCheckoutNanos;
+    }
+
+    /**
+     * Get the average time that a caller waited for a connection.
+     *
+     * @return the average wait time in nanoseconds.
+     */
+    public long getAverageCheckoutNanos() {
+        return checkoutCount > 0 ? totalCheckoutNanos / checkoutCount : 0;
+    }
+
+    public long getMaxCheckoutNanos() {
+        return maxCheckoutNanos;
+    }
+
+    /**
+     * Get the number of callers that waited for a connection and did not get one, because the wait time elapsed
+     * or the server failed. The callers rejected because the wait queue of the driver was full are not counted.
+     *
+     * @return the number of failed checkouts.
+     */
+    public long getFailedCheckoutCount() {
+        return failedCheckoutCount;
+    }
+
+    @Override
+    public String toString() {
+        return "MongoPoolStats{" +
+                "checkedOutConnections=" + checkedOutConnections +
+                ", totalConnections=" + totalConnections +
+                ", maximumPoolSize=" + maximumPoolSize +
+                ", threadsAwaitingConnection=" + threadsAwaitingConnection +
+                ", checkoutCount=" + checkoutCount +
+                ", averageCheckoutNanos=" + getAverageCheckoutNanos() +
+                ", maxCheckoutNanos=" + maxCheckoutNanos +
+                ", failedCheckoutCount=" + failedCheckoutCount +
+                '}';
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.danildzambrana.commons.data.mongo;
+
+import com.github.danildzambrana.commons.data.DataQuery;
+import dev.morphia.Datastore;
+import dev.morphia.query.FieldEnd;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Query;
+import dev.morphia.query.Sort;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Translate {@link DataQuery} to Morphia queries.
+ */
+final class MongoQueries {
+
+    private MongoQueries() {
+    }
+
+    /**
+     * Create the Morphia query of the data query.
+     *
+     * @param datastore the datastore that runs the query.
+     * @param query     the data query.
+     * @param <T>       type of the objects to find.
+     * @return the created query.
+     */
+    @NotNull
+    static <T> Query<T> create(@NotNull Datastore datastore, @NotNull DataQuery<T> query) {
+        Query<T> result = datastore.createQuery(query.getClazz());
+
+        for (DataQuery.Filter filter : query.getFilters()) {
+            apply(result.field(filter.getField()), filter);
+        }
+
+        DataQuery.Keyset keyset = query.getKeyset();
+        if (keyset != null) {
+            result.or(apply(result.criteria(keyset.getAfter().getField()), keyset.getAfter()),
+                    result.and(apply(result.criteria(keyset.getTie().getField()), keyset.getTie()),
+                            apply(result.criteria(keyset.getAfterId().getField()), keyset.getAfterId())));
+        }
+
+        List<DataQuery.Sort> sorts = query.getSorts();
+        if (!sorts.isEmpty()) {
+            Sort[] order = new Sort[sorts.size()];
+            for (int i = 0; i < order.length; i++) {
+                DataQuery.Sort sort = sorts.get(i);
+                order[i] = sort.isAscending() ? Sort.ascending(sort.getField()) : Sort.descending(sort.getField());
+            }
+            result.order(order);
+        }
+
+        // The id is always returned, the rest of the fields keep the value of a new instance.
+        for (String field : query.getFields()) {
+            result.project(field, true);
+        }
+        return result;
+    }
+
+    /**
+     * Create the find options of the data query.
+     *
+     * @param query            the data query.
+     * @param defaultBatchSize the batch size to use if the query does not set a fetch size.
+     * @return the created options.
+     */
+    @NotNull
+    static FindOptions options(@NotNull DataQuery<?> query, int defaultBatchSize) {
+        FindOptions options = new FindOptions()
+                .batchSize(query.getFetchSize() > 0 ? query.getFetchSize() : defaultBatchSize);
+        if (query.getOffset() > 0) {
+            options.skip(query.getOffset());
+        }
+        if (query.getLimit() > 0) {
+            options.limit(query.getLimit());
+        }
+        return options;
+    }
+
+    private static <C> C apply(FieldEnd<C> field, DataQuery.Filter filter) {
+        Object value = filter.getValue();
+
+        switch (filter.getOperator()) {
+            case EQUAL:
+                return field.equal(value);
+            case NOT_EQUAL:
+                return field.notEqual(value);
+            case GREATER_THAN:
+                return field.greaterThan(value);
+            case GREATER_THAN_OR_EQUAL:
+                return field.greaterThanOrEq(value);
+            case LESS_THAN:
+                return field.lessThan(value);
+            case LESS_THAN_OR_EQUAL:
+                return field.lessThanOrEq(value);
+            case IN:
+                return field.in((Collection<?>) value);
+            default:
+                throw new IllegalArgumentException("unsupported operator: " + filter.getOperator());
+        }
+    }
+}
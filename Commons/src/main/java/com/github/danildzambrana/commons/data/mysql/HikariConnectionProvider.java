@@ -0,0 +1,143 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Stoppable;
+import org.jetbrains.annotations.NotNull;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hibernate {@link ConnectionProvider} backed by a HikariCP pool configured with a {@link MySQLPoolConfig}.
+ */
+class HikariConnectionProvider implements ConnectionProvider, Stoppable {
+    private final HikariDataSource dataSource;
+    private final int              maximumPoolSize;
+    private final LongAdder        acquiredCount     = new LongAdder();
+    private final LongAdder        totalAcquireNanos = new LongAdder();
+    private final AtomicLong       maxAcquireNanos   = new AtomicLong();
+    private final LongAdder        timeoutCount      = new LongAdder();
+    private final LongAdder        totalUsageMillis  = new LongAdder();
+
+    HikariConnectionProvider(@NotNull MySQLPoolConfig poolConfig, @NotNull String url, String driver, String user,
+                             String password) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        if (driver != null && !driver.isEmpty()) {
+            config.setDriverClassName(driver);
+        }
+        config.setUsername(user);
+        config.setPassword(password);
+
+        if (poolConfig.getPoolName() != null) {
+            config.setPoolName(poolConfig.getPoolName());
+        }
+        config.setMinimumIdle(poolConfig.getMinimumIdle());
+        config.setMaximumPoolSize(poolConfig.getMaximumPoolSize());
+        config.setIdleTimeout(poolConfig.getIdleTimeout());
+        config.setMaxLifetime(poolConfig.getMaxLifetime());
+        config.setConnectionTimeout(poolConfig.getConnectionTimeout());
+        config.setLeakDetectionThreshold(poolConfig.getLeakDetectionThreshold());
+        // Hibernate controls the transactions.
+        config.setAutoCommit(false);
+
+        if (poolConfig.getStatementCacheSize() > 0) {
+            config.addDataSourceProperty("cachePrepStmts", "true");
+            config.addDataSourceProperty("prepStmtCacheSize", poolConfig.getStatementCacheSize());
+            config.addDataSourceProperty("prepStmtCacheSqlLimit", poolConfig.getStatementCacheSqlLimit());
+            config.addDataSourceProperty("useServerPrepStmts", "true");
+        }
+        poolConfig.getDataSourceProperties().forEach(config::addDataSourceProperty);
+
+        config.setMetricsTrackerFactory((poolName, poolStats) -> new MetricsTracker());
+
+        this.maximumPoolSize = poolConfig.getMaximumPoolSize();
+        this.dataSource      = new HikariDataSource(config);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public void closeConnection(Connection conn) throws SQLException {
+        conn.close();
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class unwrapType) {
+        return ConnectionProvider.class.equals(unwrapType)
+                || HikariConnectionProvider.class.isAssignableFrom(unwrapType)
+                || DataSource.class.isAssignableFrom(unwrapType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (ConnectionProvider.class.equals(unwrapType)
+                || HikariConnectionProvider.class.isAssignableFrom(unwrapType)) {
+            return (T) this;
+        }
+
+        if (DataSource.class.isAssignableFrom(unwrapType)) {
+            return (T) dataSource;
+        }
+
+        throw new UnknownUnwrapTypeException(unwrapType);
+    }
+
+    @Override
+    public void stop() {
+        dataSource.close();
+    }
+
+    /**
+     * Take a snapshot of the state of the pool.
+     *
+     * @return the current statistics of the pool.
+     */
+    @NotNull
+    MySQLPoolStats getStats() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        int active   = pool == null ? 0 : pool.getActiveConnections();
+        int idle     = pool == null ? 0 : pool.getIdleConnections();
+        int total    = pool == null ? 0 : pool.getTotalConnections();
+        int awaiting = pool == null ? 0 : pool.getThreadsAwaitingConnection();
+
+        return new MySQLPoolStats(active, idle, total, maximumPoolSize, awaiting, acquiredCount.sum(),
+                totalAcquireNanos.sum(), maxAcquireNanos.get(), timeoutCount.sum(), totalUsageMillis.sum());
+    }
+
+    private class MetricsTracker implements IMetricsTracker {
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquiredCount.increment();
+            totalAcquireNanos.add(elapsedAcquiredNanos);
+            maxAcquireNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            totalUsageMillis.add(elapsedBorrowedMillis);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeoutCount.increment();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import com.github.danildzambrana.commons.data.ExecutorAsyncDataManager;
+import com.github.danildzambrana.commons.data.IConnection;
+import org.hibernate.Session;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+
+/**
+ * Asynchronous adapter of {@link MySQLManager}. By default, the number of concurrent operations matches the
+ * maximum size of the connection pool of the {@link MySQLConnection}, so the operations never wait for a
+ * JDBC connection inside a thread.
+ *
+ * @param <I> Type of ID.
+ * @param <T> Type of object to save.
+ */
+public class MySQLAsyncManager<I extends Serializable, T extends Serializable> extends ExecutorAsyncDataManager<I, T> {
+
+    /**
+     * Construct instance of manager with a platform thread pool.
+     *
+     * @param manager the manager that runs the operations.
+     */
+    public MySQLAsyncManager(@NotNull MySQLManager<I, T> manager) {
+        this(manager, false);
+    }
+
+    /**
+     * Construct instance of manager.
+     *
+     * @param manager        the manager that runs the operations.
+     * @param virtualThreads true to run the operations in virtual threads when the JVM supports them.
+     */
+    public MySQLAsyncManager(@NotNull MySQLManager<I, T> manager, boolean virtualThreads) {
+        super(ExecutorAsyncDataManager.builder(manager)
+                .setThreads(getConcurrency(manager.getConnection()))
+                .setVirtualThreads(virtualThreads)
+                .setThreadName("mysql-manager"));
+    }
+
+    /**
+     * Construct instance of manager with a custom configuration, the delegate of the builder is replaced by the
+     * manager.
+     *
+     * @param manager the manager that runs the operations.
+     * @param builder the configuration of the executor.
+     */
+    public MySQLAsyncManager(@NotNull MySQLManager<I, T> manager, @NotNull Builder<I, T> builder) {
+        super(builder.setDelegate(manager));
+    }
+
+    /**
+     * Get the number of threads from the configuration of the pool, it does not wait for a lazy initialization.
+     */
+    private static int getConcurrency(IConnection<Session> connection) {
+        if (connection instanceof MySQLConnection && ((MySQLConnection) connection).getMaximumPoolSize() > 0) {
+            return ((MySQLConnection) connection).getMaximumPoolSize();
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
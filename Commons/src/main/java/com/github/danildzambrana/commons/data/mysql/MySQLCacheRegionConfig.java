@@ -0,0 +1,51 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import java.time.Duration;
+
+/**
+ * Configuration of a region of the Hibernate second-level cache of {@link MySQLConnection}.
+ * See {@link MySQLConnection.Builder#addCacheRegion(String, MySQLCacheRegionConfig)}
+ */
+public class MySQLCacheRegionConfig {
+    private long     maximumSize = 10_000;
+    private Duration expireAfterWrite;
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Set the maximum number of entries of the region.
+     *
+     * @param maximumSize the maximum number of entries.
+     * @return this config.
+     */
+    public MySQLCacheRegionConfig setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+        return this;
+    }
+
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    /**
+     * Set the time to live of the entries of the region.
+     *
+     * @param expireAfterWrite the time since an entry was cached after which it is discarded, null to keep the
+     *                         entries until they are evicted.
+     * @return this config.
+     */
+    public MySQLCacheRegionConfig setExpireAfterWrite(Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "MySQLCacheRegionConfig{" +
+                "maximumSize=" + maximumSize +
+                ", expireAfterWrite=" + expireAfterWrite +
+                '}';
+    }
+}
@@ -1,25 +1,66 @@
 package com.github.danildzambrana.commons.data.mysql;
 
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
 import com.github.danildzambrana.commons.data.IConnection;
 import com.github.danildzambrana.commons.utils.FieldUtils;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.annotations.Cache;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.persistence.Cacheable;
+import javax.persistence.SharedCacheMode;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
  * MySQL Adapter of {@link IConnection}
  */
 public class MySQLConnection implements IConnection<Session> {
-    private final SessionFactory sessionFactory;
+    private static final AtomicInteger CACHE_MANAGER_SEQUENCE = new AtomicInteger();
+
+    private final    CompletableFuture<SessionFactory> bootstrap;
+    private final    SessionLeakDetector               leakDetector;
+    private final    int                               maximumPoolSize;
+    private final    boolean                           replica;
+    private final    List<MySQLConnection>             replicas;
+    private volatile CacheManager                      cacheManager;
+    private volatile HikariConnectionProvider          connectionProvider;
+    private volatile boolean                           legacyReplicaStatus;
 
     /**
      * Use {@link Builder} instead.
@@ -30,49 +71,479 @@ public class MySQLConnection implements IConnection<Session> {
     }
 
     private MySQLConnection(Builder builder) {
-        Configuration configuration = new Configuration();
+        this(builder, builder.getHost(), builder.getPort(), false);
+    }
 
+    /**
+     * Construct the connection to a server, the source connection also constructs the connections to its
+     * replicas. With {@link Builder#setLazyInitialization(boolean)} the session factory is built on the
+     * bootstrap executor and the constructor returns immediately.
+     */
+    private MySQLConnection(Builder builder, String host, int port, boolean replica) {
         FieldUtils.requireArgument(!builder.getDriver().isEmpty());
-        configuration.setProperty("hibernate.connector.driver_class", builder.getDriver());
+        FieldUtils.requireArgument(!builder.getDialect().isEmpty());
+        FieldUtils.requireArgument(builder.getBatchSize() >= 0);
+        FieldUtils.requireArgument(builder.getSessionLeakThreshold() >= 0);
 
-        String url = buildURL(builder.getHost(), builder.getPort(), builder.getDataBaseName(),
-                builder.getUrlProperties());
+        Map<String, String> urlProperties = new HashMap<>(builder.getUrlProperties());
+        if (builder.getBatchSize() > 0) {
+            // Let the driver send the batched statements as multi-row statements.
+            urlProperties.putIfAbsent("rewriteBatchedStatements", "true");
+        }
+        if (builder.isCursorFetch()) {
+            // Let the driver honour the fetch size of the streamed queries with server-side cursors.
+            urlProperties.putIfAbsent("useCursorFetch", "true");
+        }
+
+        String url = buildURL(host, port, builder.getDataBaseName(), urlProperties);
+
+        this.replica         = replica;
+        this.maximumPoolSize = builder.getPoolConfig() != null ? builder.getPoolConfig().getMaximumPoolSize() : 0;
+        if (builder.isLazyInitialization()) {
+            Executor executor = builder.getBootstrapExecutor() != null
+                    ? builder.getBootstrapExecutor()
+                    : MySQLConnection::startBootstrapThread;
+            bootstrap = CompletableFuture.supplyAsync(() -> buildSessionFactory(builder, url), executor);
+        } else {
+            bootstrap = CompletableFuture.completedFuture(buildSessionFactory(builder, url));
+        }
+
+        leakDetector = builder.getSessionLeakThreshold() > 0
+                ? new SessionLeakDetector(builder.getSessionLeakThreshold())
+                : null;
+
+        if (replica || builder.getReplicas().isEmpty()) {
+            replicas = Collections.emptyList();
+            return;
+        }
+
+        List<MySQLConnection> replicas = new ArrayList<>(builder.getReplicas().size());
+        try {
+            for (InetSocketAddress address : builder.getReplicas()) {
+                replicas.add(new MySQLConnection(builder, address.getHostString(), address.getPort(), true));
+            }
+        } catch (RuntimeException e) {
+            this.replicas = Collections.emptyList();
+            replicas.forEach(MySQLConnection::close);
+            close();
+            throw e;
+        }
+        this.replicas = Collections.unmodifiableList(replicas);
+    }
+
+    private static void startBootstrapThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "mysql-connection-bootstrap");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Build the session factory, and the pool and cache manager it uses.
+     */
+    private SessionFactory buildSessionFactory(Builder builder, String url) {
+        Configuration configuration = new Configuration();
+
+        configuration.setProperty("hibernate.connector.driver_class", builder.getDriver());
         configuration.setProperty("hibernate.connection.url", url);
 
         configuration.setProperty("hibernate.connection.username", builder.getUser());
         configuration.setProperty("hibernate.connection.password", builder.getPassword());
 
-        FieldUtils.requireArgument(!builder.getDialect().isEmpty());
         configuration.setProperty("hibernate.dialect", builder.getDialect());
         configuration.setProperty("show_sql", builder.isDebug() + "");
-        configuration.setProperty("hibernate.hbm2ddl.auto", builder.getHbm2ddl());
+        // The schema is only managed through the source, the replicas receive it by replication.
+        configuration.setProperty("hibernate.hbm2ddl.auto", replica ? "none" : builder.getHbm2ddl());
+
+        if (builder.getBatchSize() > 0) {
+            configuration.setProperty("hibernate.jdbc.batch_size", builder.getBatchSize() + "");
+            configuration.setProperty("hibernate.order_inserts", "true");
+            configuration.setProperty("hibernate.order_updates", "true");
+            configuration.setProperty("hibernate.jdbc.batch_versioned_data", "true");
+        }
+
+        // The writes go to the source, so the caches of a replica would never be invalidated.
+        boolean secondLevelCache = builder.isSecondLevelCache() && !replica;
+        if (secondLevelCache) {
+            configuration.setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+            configuration.setProperty(AvailableSettings.USE_QUERY_CACHE, builder.isQueryCache() + "");
+            configuration.setProperty(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            configuration.setProperty(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+            // Without an explicit mode the entities only annotated with @Cacheable are not cached.
+            configuration.setProperty(AvailableSettings.JPA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE.name());
+        }
+        configuration.setProperty(AvailableSettings.GENERATE_STATISTICS, builder.isStatistics() + "");
+        configuration.setProperty(AvailableSettings.LOG_SESSION_METRICS, "false");
 
         builder.getHibernateProperties().forEach(configuration::setProperty);
+        if (replica) {
+            configuration.setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false");
+            configuration.setProperty(AvailableSettings.USE_QUERY_CACHE, "false");
+        }
 
 
         for (Class<?> mappedClazz : builder.mappedClazz) {
             configuration.addAnnotatedClass(mappedClazz);
         }
 
-        //TODO Improve this code.
         if (builder.isPool()) {
             builder.poolProperties.forEach(configuration::setProperty);
         }
 
-        StandardServiceRegistry serviceRegistry =
-                new StandardServiceRegistryBuilder().applySettings(configuration.getProperties()).build();
+        // Skip the schema update when the mapping and the database are the same as in the last update.
+        String  schemaFingerprint = null;
+        boolean schemaUpdate      = "update".equals(configuration.getProperty(AvailableSettings.HBM2DDL_AUTO));
+        if (builder.getSchemaCache() != null && schemaUpdate) {
+            schemaFingerprint = MySQLSchemaCache.fingerprint(configuration.getProperties(), builder.getMappedClazz());
+            if (schemaFingerprint != null
+                    && MySQLSchemaCache.isCurrent(builder.getSchemaCache(), schemaFingerprint)) {
+                configuration.setProperty(AvailableSettings.HBM2DDL_AUTO, "none");
+                schemaFingerprint = null;
+            }
+        }
+
+        StandardServiceRegistryBuilder registryBuilder =
+                new StandardServiceRegistryBuilder().applySettings(configuration.getProperties());
 
-        sessionFactory = configuration.buildSessionFactory(serviceRegistry);
+        StandardServiceRegistry serviceRegistry = null;
+        SessionFactory          sessionFactory;
+        try {
+            if (builder.getPoolConfig() != null) {
+                String driver = configuration.getProperty(AvailableSettings.DRIVER);
+                connectionProvider = new HikariConnectionProvider(builder.getPoolConfig(),
+                        configuration.getProperty(AvailableSettings.URL),
+                        driver != null ? driver : builder.getDriver(),
+                        configuration.getProperty(AvailableSettings.USER),
+                        configuration.getProperty(AvailableSettings.PASS));
+
+                registryBuilder.applySetting(AvailableSettings.CONNECTION_PROVIDER, connectionProvider);
+                registryBuilder.applySetting(AvailableSettings.CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT, "true");
+            }
+
+            if (secondLevelCache) {
+                cacheManager = createCacheManager(builder);
+                registryBuilder.applySetting(ConfigSettings.CACHE_MANAGER, cacheManager);
+            }
+
+            serviceRegistry = registryBuilder.build();
+            sessionFactory  = configuration.buildSessionFactory(serviceRegistry);
+        } catch (RuntimeException | Error e) {
+            // Nothing owns the pool and the caches yet, release them before failing.
+            if (serviceRegistry != null) {
+                StandardServiceRegistryBuilder.destroy(serviceRegistry);
+            }
+            if (connectionProvider != null) {
+                connectionProvider.stop();
+                connectionProvider = null;
+            }
+            if (cacheManager != null) {
+                cacheManager.close();
+                cacheManager = null;
+            }
+            throw e;
+        }
+
+        if (schemaFingerprint != null) {
+            MySQLSchemaCache.store(builder.getSchemaCache(), schemaFingerprint);
+        }
+        return sessionFactory;
     }
 
+    /**
+     * Open a new session, the caller must close it. If the connection is still initializing, it waits for the
+     * initialization.
+     *
+     * @return the opened session, or null if the initialization failed.
+     */
     @Override
     public @Nullable Session getConnection() {
+        SessionFactory sessionFactory = awaitSessionFactory();
+        if (sessionFactory == null) {
+            return null;
+        }
+
+        if (leakDetector != null) {
+            return sessionFactory.withOptions().eventListeners(leakDetector.track()).openSession();
+        }
         return sessionFactory.openSession();
     }
 
+    /**
+     * Open a new stateless session, without persistence context, dirty checking nor second-level cache, the
+     * caller must close it. If the connection is still initializing, it waits for the initialization.
+     *
+     * @return the opened session, or null if the initialization failed.
+     */
+    public @Nullable StatelessSession getStatelessConnection() {
+        SessionFactory sessionFactory = awaitSessionFactory();
+        if (sessionFactory == null) {
+            return null;
+        }
+
+        StatelessSession session = sessionFactory.openStatelessSession();
+        if (leakDetector != null) {
+            // The stateless sessions are not built with listeners, the listener is added once it is open.
+            ((SharedSessionContractImplementor) session).getEventListenerManager().addListener(leakDetector.track());
+        }
+        return session;
+    }
+
+    /**
+     * Check if the connection is initialized and not closed, it does not wait for the initialization.
+     *
+     * @return true if the sessions can be opened without waiting.
+     */
     @Override
     public boolean isConnected() {
-        return !sessionFactory.isClosed();
+        SessionFactory sessionFactory = bootstrap.getNow(null);
+        return sessionFactory != null && !sessionFactory.isClosed();
+    }
+
+    /**
+     * Check if the session factory was built, see {@link Builder#setLazyInitialization(boolean)}.
+     *
+     * @return true if the initialization finished, successfully or not.
+     */
+    public boolean isInitialized() {
+        return bootstrap.isDone();
+    }
+
+    /**
+     * Get the initialization of the connection, use it to run work once the session factory is built without
+     * blocking the caller.
+     *
+     * @return a future completed with this connection when the session factory is built, or completed
+     * exceptionally if the initialization failed.
+     */
+    @NotNull
+    public CompletableFuture<MySQLConnection> getInitialization() {
+        return bootstrap.thenApply(sessionFactory -> this);
+    }
+
+    /**
+     * Wait for the session factory.
+     *
+     * @return the session factory, or null if the initialization failed.
+     */
+    @Nullable
+    private SessionFactory awaitSessionFactory() {
+        try {
+            return bootstrap.join();
+        } catch (CompletionException | CancellationException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Get the lag of the replica reported by {@code SHOW REPLICA STATUS}, with a resolution of one second. The
+     * servers that do not support it are asked with {@code SHOW SLAVE STATUS}.
+     *
+     * @param unit the unit of the result.
+     * @return the replication lag, 0 if this is the source, or {@link Long#MAX_VALUE} if the replication is
+     * stopped or the lag cannot be read.
+     */
+    @Override
+    public long getReplicationLag(@NotNull TimeUnit unit) {
+        if (!replica) {
+            return 0;
+        }
+
+        SessionFactory sessionFactory = awaitSessionFactory();
+        if (sessionFactory == null) {
+            return Long.MAX_VALUE;
+        }
+
+        try (Session session = sessionFactory.openSession()) {
+            Long seconds = session.doReturningWork(jdbc -> {
+                if (!legacyReplicaStatus) {
+                    try {
+                        return readReplicationLag(jdbc, "SHOW REPLICA STATUS");
+                    } catch (SQLSyntaxErrorException e) {
+                        // Before MySQL 8.0.22 and MariaDB 10.5.1.
+                        legacyReplicaStatus = true;
+                    }
+                }
+                return readReplicationLag(jdbc, "SHOW SLAVE STATUS");
+            });
+            return seconds != null ? unit.convert(seconds, TimeUnit.SECONDS) : Long.MAX_VALUE;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Nullable
+    private static Long readReplicationLag(Connection jdbc, String sql) throws SQLException {
+        try (Statement statement = jdbc.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            if (!result.next()) {
+                return null;
+            }
+
+            // MySQL renamed the column with the statement, MariaDB kept the old name.
+            String column = "Seconds_Behind_Master";
+            for (int i = 1; i <= result.getMetaData().getColumnCount(); i++) {
+                if ("Seconds_Behind_Source".equalsIgnoreCase(result.getMetaData().getColumnLabel(i))) {
+                    column = "Seconds_Behind_Source";
+                }
+            }
+            long value = result.getLong(column);
+            return result.wasNull() ? null : value;
+        }
+    }
+
+    /**
+     * Check if this is the connection to a replica.
+     *
+     * @return true if the connection was built for a replica added with {@link Builder#addReplica(String, int)}.
+     */
+    public boolean isReplica() {
+        return replica;
+    }
+
+    /**
+     * Get the connections to the replicas of this source,
+     * see {@link MySQLManager#routeReadsToReplicas(java.time.Duration)}.
+     *
+     * @return the connections to the replicas, in the order they were added to the builder.
+     */
+    @NotNull
+    public List<MySQLConnection> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Get the maximum size of the connection pool, it does not wait for the initialization.
+     *
+     * @return the maximum size of the {@link MySQLPoolConfig}, or 0 if the connection was built without one.
+     */
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * Get the statistics of the connection pool, use it to size the pool against the real request rate.
+     *
+     * @return the current statistics of the pool, or null if the connection was built without a
+     * {@link MySQLPoolConfig}.
+     */
+    @Nullable
+    public MySQLPoolStats getPoolStats() {
+        HikariConnectionProvider connectionProvider = this.connectionProvider;
+        return connectionProvider != null ? connectionProvider.getStats() : null;
+    }
+
+    /**
+     * Get the statistics of the regions of the second-level and query caches, the statistics are only recorded
+     * if the connection was built with {@link Builder#setStatistics(boolean)}.
+     *
+     * @return the statistics of each region by region name.
+     * @throws CompletionException if the initialization failed.
+     */
+    @NotNull
+    public Map<String, CacheRegionStatistics> getCacheStatistics() {
+        Map<String, CacheRegionStatistics> result     = new LinkedHashMap<>();
+        Statistics                         statistics = bootstrap.join().getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return result;
+        }
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                result.put(region, regionStatistics);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the JCache manager of the second-level and query caches, its caches are the regions of the connection.
+     *
+     * @return the cache manager, or null if the second-level cache is disabled or the connection is still
+     * initializing.
+     */
+    @Nullable
+    public CacheManager getCacheManager() {
+        return cacheManager;
+    }
+
+    /**
+     * Get the Hibernate statistics of this connection.
+     *
+     * @return the statistics of the session factory.
+     * @throws CompletionException if the initialization failed.
+     */
+    @NotNull
+    public Statistics getStatistics() {
+        return bootstrap.join().getStatistics();
+    }
+
+    /**
+     * Get the session leak detector of this connection.
+     *
+     * @return the leak detector, or null if the connection was built without a session leak threshold.
+     */
+    @Nullable
+    public SessionLeakDetector getSessionLeakDetector() {
+        return leakDetector;
+    }
+
+    /**
+     * Close the session factory and release the connection pool, and the connections to the replicas. If the
+     * connection is still initializing, it waits for the initialization.
+     */
+    public void close() {
+        replicas.forEach(MySQLConnection::close);
+        if (leakDetector != null) {
+            leakDetector.close();
+        }
+        SessionFactory sessionFactory = awaitSessionFactory();
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    /**
+     * Create a local JCache manager for this connection, with a bounded cache for every configured region and for
+     * every mapped class annotated with {@link Cacheable} or {@link Cache}.
+     */
+    private CacheManager createCacheManager(Builder builder) {
+        CacheManager manager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("score-manager-" + CACHE_MANAGER_SEQUENCE.incrementAndGet()),
+                        MySQLConnection.class.getClassLoader());
+
+        Map<String, MySQLCacheRegionConfig> regions = new LinkedHashMap<>();
+        if (builder.getMappedClazz() != null) {
+            for (Class<?> mappedClazz : builder.getMappedClazz()) {
+                Cache     cache     = mappedClazz.getAnnotation(Cache.class);
+                Cacheable cacheable = mappedClazz.getAnnotation(Cacheable.class);
+                if (cache != null || cacheable != null && cacheable.value()) {
+                    regions.put(cache != null && !cache.region().isEmpty() ? cache.region() : mappedClazz.getName(),
+                            builder.getDefaultCacheRegionConfig());
+                }
+            }
+        }
+        if (builder.isQueryCache()) {
+            regions.put("default-query-results-region", builder.getDefaultCacheRegionConfig());
+        }
+        regions.putAll(builder.getCacheRegions());
+
+        for (Map.Entry<String, MySQLCacheRegionConfig> entry : regions.entrySet()) {
+            MySQLCacheRegionConfig                region = entry.getValue();
+            CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+            config.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            if (region.getExpireAfterWrite() != null) {
+                config.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+            }
+            config.setStatisticsEnabled(builder.isStatistics());
+
+            manager.createCache(entry.getKey(), config);
+        }
+        return manager;
     }
 
     private String buildURL(String host, int port, String dataBaseName, Map<String, String> properties) {
@@ -119,20 +590,33 @@ public class MySQLConnection implements IConnection<Session> {
      * Builder adapter to {@link MySQLConnection}
      */
     public static class Builder {
-        private       String              user;
-        private       String              password;
-        private       String              host;
-        private       int                 port                = 3306;
-        private       String              dataBaseName;
-        private       String              driver              = "com.mysql.jdbc.Driver";
-        private       String              dialect             = "org.hibernate.dialect.MySQL8Dialect";
-        private       boolean             debug               = false;
-        private       Class<?>[]          mappedClazz;
-        private       String              hbm2ddl             = "update";
-        private final Map<String, String> urlProperties       = new HashMap<>();
-        private final Map<String, String> hibernateProperties = new HashMap<>();
-        private final Map<String, String> poolProperties      = new HashMap<>();
-        private       boolean             pool                = false;
+        private       String                              user;
+        private       String                              password;
+        private       String                              host;
+        private       int                                 port                     = 3306;
+        private       String                              dataBaseName;
+        private       String                              driver                   = "com.mysql.jdbc.Driver";
+        private       String                              dialect                  = "org.hibernate.dialect.MySQL8Dialect";
+        private       boolean                             debug                    = false;
+        private       Class<?>[]                          mappedClazz;
+        private       String                              hbm2ddl                  = "update";
+        private       int                                 batchSize                = 50;
+        private       boolean                             cursorFetch;
+        private final Map<String, String>                 urlProperties            = new HashMap<>();
+        private final Map<String, String>                 hibernateProperties      = new HashMap<>();
+        private final Map<String, String>                 poolProperties           = new HashMap<>();
+        private       boolean                             pool                     = false;
+        private       MySQLPoolConfig                     poolConfig;
+        private       long                                sessionLeakThreshold;
+        private       boolean                             secondLevelCache;
+        private       boolean                             queryCache;
+        private       boolean                             statistics;
+        private       MySQLCacheRegionConfig              defaultCacheRegionConfig = new MySQLCacheRegionConfig();
+        private final Map<String, MySQLCacheRegionConfig> cacheRegions             = new LinkedHashMap<>();
+        private final List<InetSocketAddress>             replicas                 = new ArrayList<>();
+        private       boolean                             lazyInitialization;
+        private       Executor                            bootstrapExecutor;
+        private       Path                                schemaCache;
 
 
         private Builder() {
@@ -234,6 +718,39 @@ public class MySQLConnection implements IConnection<Session> {
             return this;
         }
 
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        /**
+         * Set the number of statements sent to the database in a single JDBC batch, and the number of rows
+         * between flushes in the batch operations of {@link MySQLManager}.
+         *
+         * @param batchSize the size of the batch, 0 to disable JDBC batching.
+         * @return this builder.
+         */
+        public Builder setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public boolean isCursorFetch() {
+            return cursorFetch;
+        }
+
+        /**
+         * Fetch the rows of the streamed queries with server-side cursors, so the driver honours their fetch size
+         * instead of reading the whole result. The cursors apply to every query of the connection, and a query
+         * that is not streamed needs an additional round trip to open its cursor.
+         *
+         * @param cursorFetch true to add the {@code useCursorFetch} URL property.
+         * @return this builder.
+         */
+        public Builder setCursorFetch(boolean cursorFetch) {
+            this.cursorFetch = cursorFetch;
+            return this;
+        }
+
         public Map<String, String> getUrlProperties() {
             return urlProperties;
         }
@@ -247,6 +764,13 @@ public class MySQLConnection implements IConnection<Session> {
             return pool;
         }
 
+        /**
+         * Copy the raw properties added with {@link #addPoolProperty(String, String)} to the Hibernate
+         * configuration. Prefer {@link #setPoolConfig(MySQLPoolConfig)}.
+         *
+         * @param pool true to apply the raw pool properties.
+         * @return this builder.
+         */
         public Builder setPool(boolean pool) {
             this.pool = pool;
             return this;
@@ -261,10 +785,200 @@ public class MySQLConnection implements IConnection<Session> {
             return this;
         }
 
+        public MySQLPoolConfig getPoolConfig() {
+            return poolConfig;
+        }
+
+        /**
+         * Use a HikariCP connection pool instead of the built-in connection pool of Hibernate, which is not
+         * intended for production use. See {@link MySQLConnection#getPoolStats()}
+         *
+         * @param poolConfig the configuration of the pool, null to disable the pool.
+         * @return this builder.
+         */
+        public Builder setPoolConfig(MySQLPoolConfig poolConfig) {
+            this.poolConfig = poolConfig;
+            return this;
+        }
+
+        public long getSessionLeakThreshold() {
+            return sessionLeakThreshold;
+        }
+
+        /**
+         * Enable the {@link SessionLeakDetector}, intended for debugging and soak tests.
+         *
+         * @param sessionLeakThreshold the time in milliseconds that a session can stay open before it is reported
+         *                             as leaked, 0 to disable the detector.
+         * @return this builder.
+         */
+        public Builder setSessionLeakThreshold(long sessionLeakThreshold) {
+            this.sessionLeakThreshold = sessionLeakThreshold;
+            return this;
+        }
+
+        public boolean isSecondLevelCache() {
+            return secondLevelCache;
+        }
+
+        /**
+         * Enable the Hibernate second-level cache with a local JCache provider. Only the entities annotated with
+         * {@link Cacheable} or {@link Cache} are cached, each one in its own region.
+         *
+         * @param secondLevelCache true to enable the second-level cache.
+         * @return this builder.
+         */
+        public Builder setSecondLevelCache(boolean secondLevelCache) {
+            this.secondLevelCache = secondLevelCache;
+            return this;
+        }
+
+        public boolean isQueryCache() {
+            return queryCache;
+        }
+
+        /**
+         * Enable the Hibernate query cache, it requires the second-level cache.
+         *
+         * @param queryCache true to enable the query cache.
+         * @return this builder.
+         */
+        public Builder setQueryCache(boolean queryCache) {
+            this.queryCache = queryCache;
+            return this;
+        }
+
+        public boolean isStatistics() {
+            return statistics;
+        }
+
+        /**
+         * Enable the Hibernate statistics, including the statistics of the cache regions.
+         * See {@link MySQLConnection#getCacheStatistics()}
+         *
+         * @param statistics true to record the statistics.
+         * @return this builder.
+         */
+        public Builder setStatistics(boolean statistics) {
+            this.statistics = statistics;
+            return this;
+        }
+
+        public MySQLCacheRegionConfig getDefaultCacheRegionConfig() {
+            return defaultCacheRegionConfig;
+        }
+
+        /**
+         * Set the configuration of the regions without an explicit configuration.
+         *
+         * @param defaultCacheRegionConfig the default configuration of the regions.
+         * @return this builder.
+         */
+        public Builder setDefaultCacheRegionConfig(@NotNull MySQLCacheRegionConfig defaultCacheRegionConfig) {
+            this.defaultCacheRegionConfig = defaultCacheRegionConfig;
+            return this;
+        }
+
+        public Map<String, MySQLCacheRegionConfig> getCacheRegions() {
+            return cacheRegions;
+        }
+
+        /**
+         * Configure a region of the second-level cache.
+         *
+         * @param region the name of the region.
+         * @param config the configuration of the region.
+         * @return this builder.
+         */
+        public Builder addCacheRegion(String region, MySQLCacheRegionConfig config) {
+            this.cacheRegions.put(region, config);
+            return this;
+        }
+
+        /**
+         * Configure the region of the second-level cache of an entity that uses the default region name.
+         *
+         * @param entity the cached entity.
+         * @param config the configuration of the region.
+         * @return this builder.
+         */
+        public Builder addCacheRegion(Class<?> entity, MySQLCacheRegionConfig config) {
+            return addCacheRegion(entity.getName(), config);
+        }
+
         public Map<String, String> getHibernateProperties() {
             return hibernateProperties;
         }
 
+        public List<InetSocketAddress> getReplicas() {
+            return replicas;
+        }
+
+        /**
+         * Add a replica of the source server, it receives its own session factory and pool with the settings of
+         * this builder. See {@link MySQLConnection#getReplicas()}
+         *
+         * @param host the host of the replica.
+         * @param port the port of the replica.
+         * @return this builder.
+         */
+        public Builder addReplica(@NotNull String host, int port) {
+            FieldUtils.requireArgument(!host.isEmpty());
+            FieldUtils.requireArgument(port > 0);
+            this.replicas.add(InetSocketAddress.createUnresolved(host, port));
+            return this;
+        }
+
+        public boolean isLazyInitialization() {
+            return lazyInitialization;
+        }
+
+        /**
+         * Build the session factory on the bootstrap executor, so {@link #build()} returns immediately. The first
+         * {@link MySQLConnection#getConnection()} waits for the initialization, and the errors of the
+         * initialization are reported by {@link MySQLConnection#getInitialization()} instead of thrown by
+         * {@link #build()}.
+         *
+         * @param lazyInitialization true to build the session factory in background.
+         * @return this builder.
+         */
+        public Builder setLazyInitialization(boolean lazyInitialization) {
+            this.lazyInitialization = lazyInitialization;
+            return this;
+        }
+
+        public Executor getBootstrapExecutor() {
+            return bootstrapExecutor;
+        }
+
+        /**
+         * Set the executor of the lazy initialization.
+         *
+         * @param bootstrapExecutor the executor, null to use a new daemon thread for each connection.
+         * @return this builder.
+         */
+        public Builder setBootstrapExecutor(Executor bootstrapExecutor) {
+            this.bootstrapExecutor = bootstrapExecutor;
+            return this;
+        }
+
+        public Path getSchemaCache() {
+            return schemaCache;
+        }
+
+        /**
+         * Set the file that records the last schema update. With {@code hbm2ddl} set to {@code update}, the
+         * update, which reads the metadata of every mapped table, is skipped while the mapped classes and the
+         * connection settings do not change.
+         *
+         * @param schemaCache the file of the schema cache, null to update the schema on every start.
+         * @return this builder.
+         */
+        public Builder setSchemaCache(Path schemaCache) {
+            this.schemaCache = schemaCache;
+            return this;
+        }
+
         /**
          * build a instance of {@link MySQLConnection}
          *
@@ -0,0 +1,127 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import com.github.danildzambrana.commons.data.IConnection;
+import com.github.danildzambrana.commons.data.id.IdBlockAllocator;
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Allocator of id blocks stored in a table with one row per sequence, the row holds the last id reserved. The
+ * row is locked with {@code SELECT ... FOR UPDATE} and advanced in its own short transaction, apart from the one
+ * of the insert that needs the ids, so the lock is held only for the allocation. The table is created if it does
+ * not exist.
+ * <p>
+ * The allocation uses a second connection of the pool while the session of the insert holds its own, the pool
+ * must have room for both.
+ */
+public class MySQLIdBlockAllocator implements IdBlockAllocator {
+    /**
+     * Name of the table when none is provided.
+     */
+    public static final String DEFAULT_TABLE = "id_blocks";
+
+    private static final int ATTEMPTS = 3;
+
+    private final    IConnection<Session> connection;
+    private final    String               table;
+    private volatile boolean              created;
+
+    /**
+     * Construct an allocator that stores the sequences in {@link #DEFAULT_TABLE}.
+     *
+     * @param connection the connection of the table.
+     */
+    public MySQLIdBlockAllocator(@NotNull IConnection<Session> connection) {
+        this(connection, DEFAULT_TABLE);
+    }
+
+    /**
+     * Construct an allocator that stores the sequences in a table.
+     *
+     * @param connection the connection of the table.
+     * @param table      the name of the table, letters, digits and underscores only.
+     */
+    public MySQLIdBlockAllocator(@NotNull IConnection<Session> connection, @NotNull String table) {
+        FieldUtils.requireArgument(table.matches("\\w+"), "invalid table name %s", table);
+
+        this.connection = connection;
+        this.table      = table;
+    }
+
+    @Override
+    public long allocate(@NotNull String name, int size) {
+        FieldUtils.requireArgument(size > 0);
+
+        Session session = connection.getConnection();
+        FieldUtils.requireState(session != null, "the connection is not available");
+
+        try {
+            if (!created) {
+                session.doWork(this::createTable);
+                created = true;
+            }
+
+            for (int attempt = 1; ; attempt++) {
+                session.beginTransaction();
+                try {
+                    long first = session.doReturningWork(jdbc -> reserve(jdbc, name, size));
+                    session.getTransaction().commit();
+                    return first;
+                } catch (RuntimeException e) {
+                    session.getTransaction().rollback();
+                    // Two processes inserted the first block of the sequence at the same time, the row exists now.
+                    if (attempt == ATTEMPTS || !(e instanceof ConstraintViolationException)) {
+                        throw new IllegalStateException("the ids of " + name + " can not be reserved", e);
+                    }
+                }
+            }
+        } finally {
+            session.close();
+        }
+    }
+
+    @NotNull
+    public String getTable() {
+        return table;
+    }
+
+    private void createTable(Connection jdbc) throws SQLException {
+        try (Statement statement = jdbc.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + table
+                    + " (name VARCHAR(255) NOT NULL PRIMARY KEY, last_id BIGINT NOT NULL)");
+        }
+    }
+
+    private long reserve(Connection jdbc, String name, int size) throws SQLException {
+        long    last   = 0;
+        boolean exists;
+        try (PreparedStatement select = jdbc.prepareStatement(
+                "SELECT last_id FROM " + table + " WHERE name = ? FOR UPDATE")) {
+            select.setString(1, name);
+            try (ResultSet row = select.executeQuery()) {
+                exists = row.next();
+                if (exists) {
+                    last = row.getLong(1);
+                }
+            }
+        }
+
+        String sql = exists
+                ? "UPDATE " + table + " SET last_id = ? WHERE name = ?"
+                : "INSERT INTO " + table + " (last_id, name) VALUES (?, ?)";
+        try (PreparedStatement write = jdbc.prepareStatement(sql)) {
+            write.setLong(1, last + size);
+            write.setString(2, name);
+            write.executeUpdate();
+        }
+        return last + 1;
+    }
+}
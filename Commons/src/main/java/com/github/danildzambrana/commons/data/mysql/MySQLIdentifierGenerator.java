@@ -0,0 +1,57 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import com.github.danildzambrana.commons.data.id.IdGenerator;
+import com.github.danildzambrana.commons.data.id.IdGenerators;
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.Configurable;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+
+/**
+ * Hibernate strategy that assigns the ids of an entity with a generator of {@link IdGenerators}, so the inserts of
+ * {@link MySQLManager#saveAll(java.util.Collection)} are sent in JDBC batches, which is not possible with
+ * {@code GenerationType.IDENTITY}:
+ * <pre>{@code
+ * @Id
+ * @GeneratedValue(generator = "grades")
+ * @GenericGenerator(name = "grades", strategy = "com.github.danildzambrana.commons.data.mysql.MySQLIdentifierGenerator",
+ *         parameters = @Parameter(name = MySQLIdentifierGenerator.GENERATOR, value = "grades"))
+ * private Long id;
+ * }</pre>
+ * The generator must be registered before the first insert, and the id must be a {@code Long} or a {@code long}.
+ */
+public class MySQLIdentifierGenerator implements IdentifierGenerator, Configurable {
+    /**
+     * Parameter of the name of the generator in {@link IdGenerators}, the name of the mapping by default.
+     */
+    public static final String GENERATOR = "generator";
+
+    private String name;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        if (type.getReturnedClass() != Long.class && type.getReturnedClass() != long.class) {
+            throw new MappingException("the id of " + params.getProperty(ENTITY_NAME) + " must be a Long");
+        }
+
+        name = params.getProperty(GENERATOR, params.getProperty(GENERATOR_NAME));
+        if (name == null) {
+            throw new MappingException("the generator of " + params.getProperty(ENTITY_NAME) + " has no name");
+        }
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        IdGenerator generator = IdGenerators.get(name);
+        if (generator == null) {
+            throw new HibernateException("the id generator " + name + " is not registered");
+        }
+        return generator.nextId();
+    }
+}
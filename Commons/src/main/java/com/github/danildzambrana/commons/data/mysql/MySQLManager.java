@@ -1,12 +1,44 @@
 package com.github.danildzambrana.commons.data.mysql;
 
+import com.github.danildzambrana.commons.data.BatchResult;
+import com.github.danildzambrana.commons.data.DataQuery;
 import com.github.danildzambrana.commons.data.IConnection;
 import com.github.danildzambrana.commons.data.IDataManager;
+import com.github.danildzambrana.commons.data.ReplicaRoutingDataManager;
+import com.github.danildzambrana.commons.data.SaveResult;
+import com.github.danildzambrana.commons.data.events.DataChangeEvent;
+import com.github.danildzambrana.commons.data.events.DataChangeListener;
+import com.github.danildzambrana.commons.data.events.DataChangePublisher;
+import com.github.danildzambrana.commons.data.metrics.DataMetrics;
+import com.github.danildzambrana.commons.data.metrics.DataOperation;
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.StaleStateException;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.Query;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import javax.persistence.OptimisticLockException;
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Mysql Adapter of {@link IDataManager}
@@ -15,7 +47,24 @@ import java.util.Optional;
  * @param <T> Type of object to save.
  */
 public class MySQLManager<I extends Serializable, T extends Serializable> implements IDataManager<I, T> {
-    protected IConnection<Session> connection;
+    /**
+     * Number of rows between flushes when the session factory has no JDBC batch size configured.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    /**
+     * Number of rows per round trip when a stream does not set its fetch size.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    /**
+     * Name of the store reported to {@link DataMetrics}.
+     */
+    public static final String METRICS_STORE = "mysql";
+
+    protected IConnection<Session>   connection;
+    protected DataMetrics            metrics;
+    protected DataChangePublisher<T> changes = new DataChangePublisher<>();
 
     /**
      * Construct instance of manager. See {@link MySQLConnection}
@@ -23,15 +72,52 @@ public class MySQLManager<I extends Serializable, T extends Serializable> implem
      * @param connection the connection to this manager.
      */
     public MySQLManager(IConnection<Session> connection) {
+        this(connection, DataMetrics.noop());
+    }
+
+    /**
+     * Construct instance of manager that reports its operations. See {@link MySQLConnection}
+     *
+     * @param connection the connection to this manager.
+     * @param metrics    the instrumentation of the operations.
+     */
+    public MySQLManager(IConnection<Session> connection, @NotNull DataMetrics metrics) {
         this.connection = connection;
+        this.metrics    = metrics;
     }
 
     @Override
     public boolean save(@NotNull T t) {
-        Session session = connection.getConnection();
+        return trySave(t) == SaveResult.SAVED;
+    }
+
+    /**
+     * Save the value, an entity with a {@code @Version} field is only updated if its version is the stored one
+     * and receives the new version once it is saved.
+     * <p>
+     * Inside a unit of work the version is checked when the unit of work is flushed or committed, so a conflict
+     * makes the commit fail instead of this operation.
+     *
+     * @param t The value to save.
+     * @return the outcome of the operation.
+     */
+    @Override
+    public SaveResult trySave(@NotNull T t) {
+        DataMetrics.Sample sample = metrics.start(METRICS_STORE, DataOperation.SAVE);
+        MySQLUnitOfWork    unit   = MySQLUnitOfWork.current(connection);
+        if (unit != null) {
+            boolean saved = record(sample, unit.save(t), 1);
+            if (saved) {
+                publish(DataChangeEvent.Type.SAVED, t, unit);
+            }
+            return saved ? SaveResult.SAVED : SaveResult.FAILED;
+        }
+
+        Session session = openSession();
 
         if (session == null) {
-            return false;
+            sample.failure(null);
+            return SaveResult.FAILED;
         }
 
         try {
@@ -39,29 +125,101 @@ public class MySQLManager<I extends Serializable, T extends Serializable> implem
             session.saveOrUpdate(t);
             session.getTransaction().commit();
         } catch (Exception e) {
+            rollback(session);
+            sample.failure(e);
+            if (isConflict(e)) {
+                return SaveResult.CONFLICT;
+            }
             e.printStackTrace();
-            session.getTransaction().rollback();
-            return false;
+            return SaveResult.FAILED;
         } finally {
             session.close();
         }
 
-        return true;
+        sample.success(1);
+        publish(DataChangeEvent.Type.SAVED, t, null);
+        return SaveResult.SAVED;
     }
 
     @Override
     public Optional<T> get(@NotNull I id, Class<T> clazz) {
-        Session session = connection.getConnection();
+        DataMetrics.Sample sample = metrics.start(METRICS_STORE, DataOperation.GET);
+        MySQLUnitOfWork    unit   = MySQLUnitOfWork.current(connection);
+        if (unit != null) {
+            Optional<T> value = unit.get(clazz, id);
+            sample.success(value.isPresent() ? 1 : 0);
+            return value;
+        }
+
+        Session session = openSession();
         if (session == null) {
+            sample.failure(null);
+            return Optional.empty();
+        }
+
+        try {
+            Optional<T> value = Optional.ofNullable(session.get(clazz, id));
+            sample.success(value.isPresent() ? 1 : 0);
+            return value;
+        } catch (Exception e) {
+            e.printStackTrace();
+            sample.failure(e);
             return Optional.empty();
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Check if the value is stored, unlike {@link #get(Object, Class)} a failure of the database is thrown.
+     *
+     * @param id    the id to find.
+     * @param clazz type of the objet to find.
+     * @return true if the value exists.
+     * @throws IllegalStateException if the database could not be read.
+     */
+    @Override
+    public boolean exists(@NotNull I id, Class<T> clazz) {
+        DataMetrics.Sample sample  = metrics.start(METRICS_STORE, DataOperation.GET);
+        MySQLUnitOfWork    unit    = MySQLUnitOfWork.current(connection);
+        Session            session = unit != null ? unit.getSession() : openSession();
+        if (session == null) {
+            sample.failure(null);
+            throw new IllegalStateException("the connection is not available");
+        }
+
+        try {
+            boolean exists = session.get(clazz, id) != null;
+            sample.success(exists ? 1 : 0);
+            return exists;
+        } catch (Exception e) {
+            sample.failure(e);
+            if (unit != null) {
+                unit.setRollbackOnly();
+            }
+            throw new IllegalStateException("the value " + id + " could not be read", e);
+        } finally {
+            if (unit == null) {
+                session.close();
+            }
         }
-        return Optional.ofNullable(session.get(clazz, id));
     }
 
     @Override
     public boolean delete(@NotNull T t) {
-        Session session = connection.getConnection();
+        DataMetrics.Sample sample = metrics.start(METRICS_STORE, DataOperation.DELETE);
+        MySQLUnitOfWork    unit   = MySQLUnitOfWork.current(connection);
+        if (unit != null) {
+            boolean deleted = record(sample, unit.delete(t), 1);
+            if (deleted) {
+                publish(DataChangeEvent.Type.DELETED, t, unit);
+            }
+            return deleted;
+        }
+
+        Session session = openSession();
         if (session == null) {
+            sample.failure(null);
             return false;
         }
         try {
@@ -70,15 +228,672 @@ public class MySQLManager<I extends Serializable, T extends Serializable> implem
             session.getTransaction().commit();
         } catch (Exception e) {
             e.printStackTrace();
-            session.getTransaction().rollback();
+            rollback(session);
+            sample.failure(e);
             return false;
         } finally {
             session.close();
         }
 
+        sample.success(1);
+        publish(DataChangeEvent.Type.DELETED, t, null);
         return true;
     }
 
+    /**
+     * Save all the values in a single transaction, the values are flushed and cleared from the session
+     * every {@code hibernate.jdbc.batch_size} rows so the JDBC driver can batch the statements.
+     * The transaction is atomic, if any value fails all the values are reported as failed.
+     *
+     * @param values the values to save.
+     * @return the result of the operation for each value.
+     */
+    @Override
+    public BatchResult<T> saveAll(@NotNull Collection<T> values) {
+        DataMetrics.Sample sample = metrics.start(METRICS_STORE, DataOperation.SAVE_ALL);
+        MySQLUnitOfWork    unit   = MySQLUnitOfWork.current(connection);
+        if (unit != null) {
+            BatchResult<T> result = new BatchResult<>(values.size());
+            for (T t : values) {
+                result.add(t, unit.save(t));
+            }
+            record(sample, result.isAllSucceeded(), result.getSuccessCount());
+            publish(DataChangeEvent.Type.SAVED, result, unit);
+            return result;
+        }
+
+        Session session = openSession();
+
+        if (session == null) {
+            sample.failure(null);
+            return BatchResult.of(values, false);
+        }
+
+        try {
+            int batchSize = getBatchSize(session);
+            int count     = 0;
+
+            session.beginTransaction();
+            for (T t : values) {
+                session.saveOrUpdate(t);
+
+                if (++count % batchSize == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            session.getTransaction().commit();
+        } catch (Exception e) {
+            e.printStackTrace();
+            rollback(session);
+            sample.failure(e);
+            return BatchResult.of(values, false);
+        } finally {
+            session.close();
+        }
+
+        sample.success(values.size());
+        BatchResult<T> result = BatchResult.of(values, true);
+        publish(DataChangeEvent.Type.SAVED, result, null);
+        return result;
+    }
+
+    /**
+     * Get all the values with a single session, the ids are loaded in {@code IN} queries of
+     * {@code hibernate.jdbc.batch_size} ids.
+     *
+     * @param ids   the ids to find.
+     * @param clazz type of the objects to find.
+     * @return the found values by id, in the iteration order of the ids. The ids that were not found are absent.
+     */
+    @Override
+    public Map<I, T> getAll(@NotNull Collection<I> ids, Class<T> clazz) {
+        Map<I, T>          result  = new LinkedHashMap<>();
+        DataMetrics.Sample sample  = metrics.start(METRICS_STORE, DataOperation.GET_ALL);
+        MySQLUnitOfWork    unit    = MySQLUnitOfWork.current(connection);
+        Session            session = unit != null ? unit.getSession() : openSession();
+
+        if (session == null) {
+            sample.failure(null);
+            return result;
+        }
+
+        if (ids.isEmpty()) {
+            sample.success(0);
+            if (unit == null) {
+                session.close();
+            }
+            return result;
+        }
+
+        try {
+            List<I> idList = new ArrayList<>(ids);
+            List<T> values = session.byMultipleIds(clazz)
+                    .withBatchSize(getBatchSize(session))
+                    .multiLoad(idList);
+
+            for (int i = 0; i < idList.size(); i++) {
+                T value = values.get(i);
+                if (value != null) {
+                    result.put(idList.get(i), value);
+                }
+            }
+            sample.success(result.size());
+        } catch (Exception e) {
+            e.printStackTrace();
+            sample.failure(e);
+            if (unit != null) {
+                unit.setRollbackOnly();
+            }
+        } finally {
+            if (unit == null) {
+                session.close();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Remove all the values in a single transaction, the session is flushed and cleared every
+     * {@code hibernate.jdbc.batch_size} rows so the JDBC driver can batch the statements.
+     * The transaction is atomic, if any value fails all the values are reported as failed.
+     *
+     * @param values the values to remove.
+     * @return the result of the operation for each value.
+     */
+    @Override
+    public BatchResult<T> deleteAll(@NotNull Collection<T> values) {
+        DataMetrics.Sample sample = metrics.start(METRICS_STORE, DataOperation.DELETE_ALL);
+        MySQLUnitOfWork    unit   = MySQLUnitOfWork.current(connection);
+        if (unit != null) {
+            BatchResult<T> result = new BatchResult<>(values.size());
+            for (T t : values) {
+                result.add(t, unit.delete(t));
+            }
+            record(sample, result.isAllSucceeded(), result.getSuccessCount());
+            publish(DataChangeEvent.Type.DELETED, result, unit);
+            return result;
+        }
+
+        Session session = openSession();
+
+        if (session == null) {
+            sample.failure(null);
+            return BatchResult.of(values, false);
+        }
+
+        try {
+            int batchSize = getBatchSize(session);
+            int count     = 0;
+
+            session.beginTransaction();
+            for (T t : values) {
+                session.delete(t);
+
+                if (++count % batchSize == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            session.getTransaction().commit();
+        } catch (Exception e) {
+            e.printStackTrace();
+            rollback(session);
+            sample.failure(e);
+            return BatchResult.of(values, false);
+        } finally {
+            session.close();
+        }
+
+        sample.success(values.size());
+        BatchResult<T> result = BatchResult.of(values, true);
+        publish(DataChangeEvent.Type.DELETED, result, null);
+        return result;
+    }
+
+    /**
+     * Find the values of the query. A {@link DataQuery#readOnly()} query runs in a {@link StatelessSession},
+     * without persistence context nor dirty checking, and loads only the fields of {@link DataQuery#select(String...)}.
+     * The lazy associations of the read-only values can not be loaded.
+     *
+     * @param query the criteria of the values to find.
+     * @return the found values.
+     */
+    @Override
+    public List<T> find(@NotNull DataQuery<T> query) {
+        if (query.isReadOnly()) {
+            return findReadOnly(query);
+        }
+
+        DataMetrics.Sample sample  = metrics.start(METRICS_STORE, DataOperation.FIND);
+        MySQLUnitOfWork    unit    = MySQLUnitOfWork.current(connection);
+        Session            session = unit != null ? unit.getSession() : openSession();
+        if (session == null) {
+            sample.failure(null);
+            return Collections.emptyList();
+        }
+
+        try {
+            List<T> values = MySQLQueries.create(session, query).getResultList();
+            sample.success(values.size());
+            return values;
+        } catch (Exception e) {
+            e.printStackTrace();
+            sample.failure(e);
+            if (unit != null) {
+                unit.setRollbackOnly();
+            }
+            return Collections.emptyList();
+        } finally {
+            if (unit == null) {
+                session.close();
+            }
+        }
+    }
+
+    /**
+     * Stream the values with a forward-only {@link ScrollableResults}, the rows are fetched in blocks of the fetch
+     * size of the query and every value is detached from the session once it is read, so the memory used does
+     * not grow with the number of rows. MySQL only honours the fetch size with server-side cursors, which
+     * {@link MySQLConnection.Builder#setCursorFetch(boolean)} enables.
+     * <p>
+     * Inside a unit of work the values stay attached to the session of the unit of work. A
+     * {@link DataQuery#readOnly()} query is streamed like {@link #find(DataQuery)} does.
+     *
+     * @param query the criteria of the values to find.
+     * @return a stream of the found values, it must be closed.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<T> stream(@NotNull DataQuery<T> query) {
+        if (query.isReadOnly()) {
+            return streamReadOnly(query);
+        }
+
+        DataMetrics.Sample sample  = metrics.start(METRICS_STORE, DataOperation.STREAM);
+        MySQLUnitOfWork    unit    = MySQLUnitOfWork.current(connection);
+        Session            session = unit != null ? unit.getSession() : openSession();
+        if (session == null) {
+            sample.failure(null);
+            return Stream.empty();
+        }
+
+        ScrollableResults results;
+        try {
+            if (unit == null) {
+                session.setDefaultReadOnly(true);
+                session.beginTransaction();
+            }
+
+            Query<T> hibernateQuery = MySQLQueries.create(session, query);
+            hibernateQuery.setFetchSize(query.getFetchSize() > 0 ? query.getFetchSize() : DEFAULT_FETCH_SIZE);
+            results = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY);
+        } catch (Exception e) {
+            e.printStackTrace();
+            sample.failure(e);
+            if (unit != null) {
+                unit.setRollbackOnly();
+            } else {
+                rollback(session);
+                session.close();
+            }
+            return Stream.empty();
+        }
+
+        int[] rows = {0};
+
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (!results.next()) {
+                    return false;
+                }
+
+                T value = (T) results.get(0);
+                if (unit == null) {
+                    session.detach(value);
+                }
+                rows[0]++;
+                action.accept(value);
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                results.close();
+                sample.success(rows[0]);
+            } finally {
+                if (unit == null) {
+                    rollback(session);
+                    session.close();
+                }
+            }
+        });
+    }
+
+    /**
+     * Find the values of a read-only query in a stateless session, or in the session of the unit of work of this
+     * thread so the query sees its changes. The session of the unit of work is shared with the other operations of
+     * the unit, so its values are not loaded as read-only.
+     */
+    private List<T> findReadOnly(DataQuery<T> query) {
+        DataMetrics.Sample               sample  = metrics.start(METRICS_STORE, DataOperation.FIND);
+        MySQLUnitOfWork                  unit    = MySQLUnitOfWork.current(connection);
+        SharedSessionContractImplementor session = unit != null
+                ? (SharedSessionContractImplementor) unit.getSession()
+                : openReadOnlySession();
+        if (session == null) {
+            sample.failure(null);
+            return Collections.emptyList();
+        }
+
+        try {
+            MySQLProjection<T> projection = new MySQLProjection<>(session.getFactory(), query);
+            List<?>            rows       = MySQLQueries.createHql(session, query, projection.getSelect())
+                    .setReadOnly(unit == null)
+                    .getResultList();
+
+            List<T> values = new ArrayList<>(rows.size());
+            for (Object row : rows) {
+                values.add(projection.toValue(row, session));
+            }
+            sample.success(values.size());
+            return values;
+        } catch (Exception e) {
+            e.printStackTrace();
+            sample.failure(e);
+            if (unit != null) {
+                unit.setRollbackOnly();
+            }
+            return Collections.emptyList();
+        } finally {
+            if (unit == null) {
+                session.close();
+            }
+        }
+    }
+
+    /**
+     * Stream the values of a read-only query with a forward-only cursor, see {@link #findReadOnly(DataQuery)}.
+     */
+    private Stream<T> streamReadOnly(DataQuery<T> query) {
+        DataMetrics.Sample               sample  = metrics.start(METRICS_STORE, DataOperation.STREAM);
+        MySQLUnitOfWork                  unit    = MySQLUnitOfWork.current(connection);
+        SharedSessionContractImplementor session = unit != null
+                ? (SharedSessionContractImplementor) unit.getSession()
+                : openReadOnlySession();
+        if (session == null) {
+            sample.failure(null);
+            return Stream.empty();
+        }
+
+        MySQLProjection<T> projection;
+        ScrollableResults  results;
+        try {
+            if (unit == null) {
+                session.beginTransaction();
+            }
+
+            projection = new MySQLProjection<>(session.getFactory(), query);
+            Query<?> hibernateQuery = MySQLQueries.createHql(session, query, projection.getSelect())
+                    .setReadOnly(unit == null);
+            hibernateQuery.setFetchSize(query.getFetchSize() > 0 ? query.getFetchSize() : DEFAULT_FETCH_SIZE);
+            results = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY);
+        } catch (Exception e) {
+            e.printStackTrace();
+            sample.failure(e);
+            if (unit != null) {
+                unit.setRollbackOnly();
+            } else {
+                rollback(session);
+                session.close();
+            }
+            return Stream.empty();
+        }
+
+        int[] rows = {0};
+
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (!results.next()) {
+                    return false;
+                }
+
+                Object[] row = results.get();
+                rows[0]++;
+                action.accept(projection.toValue(row.length == 1 ? row[0] : row, session));
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                results.close();
+                sample.success(rows[0]);
+            } finally {
+                if (unit == null) {
+                    rollback(session);
+                    session.close();
+                }
+            }
+        });
+    }
+
+    /**
+     * Run the work in a unit of work, a single session and transaction that is committed when the work ends
+     * and rolled back if the work fails. Every {@link MySQLManager} of the same connection used by the work in
+     * this thread joins the unit of work. If a unit of work of the connection is already active, the work
+     * joins it.
+     *
+     * @param work the operations to run.
+     * @return true if the transaction was committed, otherwise return false.
+     */
+    public boolean inTransaction(@NotNull Consumer<MySQLUnitOfWork> work) {
+        return computeInTransaction(unit -> {
+            work.accept(unit);
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    /**
+     * Run the work in a unit of work and return its result. See {@link #inTransaction(Consumer)}
+     *
+     * @param work the operations to run.
+     * @param <R>  type of the result.
+     * @return An instance of {@link Optional} with the result of the work, empty if the work returned null or the
+     * transaction was not committed.
+     */
+    public <R> Optional<R> computeInTransaction(@NotNull Function<MySQLUnitOfWork, R> work) {
+        MySQLUnitOfWork current = MySQLUnitOfWork.current(connection);
+        if (current != null) {
+            try {
+                R result = work.apply(current);
+                return current.isRollbackOnly() ? Optional.empty() : Optional.ofNullable(result);
+            } catch (Exception e) {
+                e.printStackTrace();
+                current.setRollbackOnly();
+                return Optional.empty();
+            }
+        }
+
+        Session session = openSession();
+        if (session == null) {
+            return Optional.empty();
+        }
+
+        MySQLUnitOfWork unit;
+        try {
+            unit = MySQLUnitOfWork.begin(connection, session);
+        } catch (Exception e) {
+            e.printStackTrace();
+            session.close();
+            return Optional.empty();
+        }
+
+        R       result  = null;
+        boolean success = false;
+        try {
+            result  = work.apply(unit);
+            success = true;
+        } catch (Exception e) {
+            e.printStackTrace();
+        } finally {
+            success = unit.end(success);
+        }
+
+        return success ? Optional.ofNullable(result) : Optional.empty();
+    }
+
+    /**
+     * Create a manager that sends the reads to the replicas of the connection and the writes to this manager.
+     * The connection must be a {@link MySQLConnection} with replicas, see
+     * {@link MySQLConnection.Builder#addReplica(String, int)}. The replica managers share the metrics of this
+     * manager.
+     *
+     * @param maxStaleness the maximum replication lag of the replicas that receive reads, null to send reads to
+     *                     every connected replica.
+     * @return the routing manager.
+     */
+    @NotNull
+    public ReplicaRoutingDataManager<I, T> routeReadsToReplicas(@Nullable Duration maxStaleness) {
+        FieldUtils.requireState(connection instanceof MySQLConnection,
+                "the connection must be a %s", MySQLConnection.class.getSimpleName());
+
+        ReplicaRoutingDataManager.Builder<I, T> builder = ReplicaRoutingDataManager.<I, T>builder(this)
+                .setMaxStaleness(maxStaleness);
+        for (MySQLConnection replica : ((MySQLConnection) connection).getReplicas()) {
+            builder.addReplica(new MySQLManager<>(replica, metrics));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Rollback the active transaction of the session, the failures are reported but not thrown so the
+     * session can always be closed.
+     *
+     * @param session the session to rollback.
+     */
+    protected void rollback(@NotNull SharedSessionContract session) {
+        try {
+            if (session.getTransaction().isActive()) {
+                session.getTransaction().rollback();
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Check if an error was caused by a versioned entity whose version is not the stored one.
+     *
+     * @param error the error of the operation.
+     * @return true if the error is an optimistic lock failure.
+     */
+    static boolean isConflict(@Nullable Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof StaleStateException || cause instanceof OptimisticLockException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Register a listener of the values saved and removed through this manager. The changes made in a unit of
+     * work are published once it is committed, and discarded if it is rolled back.
+     *
+     * @param listener the listener to add.
+     */
+    public void addChangeListener(@NotNull DataChangeListener<T> listener) {
+        changes.addListener(listener);
+    }
+
+    public void removeChangeListener(@NotNull DataChangeListener<T> listener) {
+        changes.removeListener(listener);
+    }
+
+    /**
+     * Publish the change of a value, after the unit of work is committed if there is one.
+     *
+     * @param type  the type of change.
+     * @param value the changed value.
+     * @param unit  the active unit of work, or null if the change is already committed.
+     */
+    protected void publish(@NotNull DataChangeEvent.Type type, @NotNull T value, @Nullable MySQLUnitOfWork unit) {
+        if (!changes.hasListeners()) {
+            return;
+        }
+
+        DataChangeEvent<T> event = new DataChangeEvent<>(METRICS_STORE, type, value);
+        if (unit != null) {
+            unit.afterCommit(() -> changes.publish(event));
+        } else {
+            changes.publish(event);
+        }
+    }
+
+    /**
+     * Publish the change of the values that succeeded, see {@link #publish(DataChangeEvent.Type, Object,
+     * MySQLUnitOfWork)}
+     *
+     * @param type   the type of change.
+     * @param result the result of the batch operation.
+     * @param unit   the active unit of work, or null if the changes are already committed.
+     */
+    protected void publish(@NotNull DataChangeEvent.Type type, @NotNull BatchResult<T> result,
+                           @Nullable MySQLUnitOfWork unit) {
+        if (!changes.hasListeners()) {
+            return;
+        }
+
+        for (int i = 0; i < result.size(); i++) {
+            if (result.isSuccess(i)) {
+                publish(type, result.getItem(i), unit);
+            }
+        }
+    }
+
+    /**
+     * Open a new stateless session of the connection and report the time spent to the {@link DataMetrics}. If the
+     * connection is not a {@link MySQLConnection} a read-only session is opened instead.
+     *
+     * @return the opened session, the caller must close it.
+     */
+    @Nullable
+    protected SharedSessionContractImplementor openReadOnlySession() {
+        long                  start = System.nanoTime();
+        SharedSessionContract session;
+        if (connection instanceof MySQLConnection) {
+            session = ((MySQLConnection) connection).getStatelessConnection();
+        } else {
+            Session readOnly = connection.getConnection();
+            if (readOnly != null) {
+                readOnly.setDefaultReadOnly(true);
+            }
+            session = readOnly;
+        }
+
+        if (session != null && metrics.isEnabled()) {
+            metrics.recordSessionOpen(METRICS_STORE, System.nanoTime() - start);
+        }
+        return (SharedSessionContractImplementor) session;
+    }
+
+    /**
+     * Open a new session of the connection and report the time spent to the {@link DataMetrics}.
+     *
+     * @return the opened session, the caller must close it.
+     */
+    @Nullable
+    protected Session openSession() {
+        if (!metrics.isEnabled()) {
+            return connection.getConnection();
+        }
+
+        long    start   = System.nanoTime();
+        Session session = connection.getConnection();
+        metrics.recordSessionOpen(METRICS_STORE, System.nanoTime() - start);
+        return session;
+    }
+
+    /**
+     * End the sample with the result of an operation that does not expose its failure.
+     *
+     * @param sample  the sample of the operation.
+     * @param success the result of the operation.
+     * @param items   the number of rows touched if the operation succeeded.
+     * @return the result of the operation.
+     */
+    protected static boolean record(@NotNull DataMetrics.Sample sample, boolean success, int items) {
+        if (success) {
+            sample.success(items);
+        } else {
+            sample.failure(null);
+        }
+        return success;
+    }
+
+    /**
+     * Get the number of rows to process between flushes.
+     *
+     * @param session the current session.
+     * @return the configured JDBC batch size, or {@link #DEFAULT_BATCH_SIZE} if batching is disabled.
+     */
+    protected int getBatchSize(@NotNull Session session) {
+        int batchSize = session.getSessionFactory().getSessionFactoryOptions().getJdbcBatchSize();
+        return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    @Override
+    public DataMetrics getMetrics() {
+        return metrics;
+    }
+
     @Override
     public IConnection<Session> getConnection() {
         return connection;
@@ -0,0 +1,184 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the HikariCP connection pool used by {@link MySQLConnection}.
+ * See {@link MySQLConnection.Builder#setPoolConfig(MySQLPoolConfig)}
+ */
+public class MySQLPoolConfig {
+    private       String              poolName;
+    private       int                 minimumIdle            = 2;
+    private       int                 maximumPoolSize        = 10;
+    private       long                idleTimeout            = 600_000;
+    private       long                maxLifetime            = 1_800_000;
+    private       long                connectionTimeout      = 30_000;
+    private       long                leakDetectionThreshold = 0;
+    private       int                 statementCacheSize     = 250;
+    private       int                 statementCacheSqlLimit = 2048;
+    private final Map<String, String> dataSourceProperties   = new HashMap<>();
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public MySQLPoolConfig setPoolName(String poolName) {
+        this.poolName = poolName;
+        return this;
+    }
+
+    public int getMinimumIdle() {
+        return minimumIdle;
+    }
+
+    /**
+     * Set the minimum number of idle connections kept in the pool.
+     *
+     * @param minimumIdle the minimum number of idle connections.
+     * @return this config.
+     */
+    public MySQLPoolConfig setMinimumIdle(int minimumIdle) {
+        this.minimumIdle = minimumIdle;
+        return this;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * Set the maximum number of connections, both idle and in use, of the pool.
+     *
+     * @param maximumPoolSize the maximum size of the pool.
+     * @return this config.
+     */
+    public MySQLPoolConfig setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+        return this;
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Set the time in milliseconds that a connection above {@link #getMinimumIdle()} can stay idle
+     * before it is retired.
+     *
+     * @param idleTimeout the idle timeout in milliseconds.
+     * @return this config.
+     */
+    public MySQLPoolConfig setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+        return this;
+    }
+
+    public long getMaxLifetime() {
+        return maxLifetime;
+    }
+
+    /**
+     * Set the maximum lifetime in milliseconds of a connection, it should be a few seconds shorter than the
+     * {@code wait_timeout} of the server.
+     *
+     * @param maxLifetime the maximum lifetime in milliseconds.
+     * @return this config.
+     */
+    public MySQLPoolConfig setMaxLifetime(long maxLifetime) {
+        this.maxLifetime = maxLifetime;
+        return this;
+    }
+
+    public long getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    /**
+     * Set the maximum time in milliseconds that a caller waits for a connection of the pool.
+     *
+     * @param connectionTimeout the connection timeout in milliseconds.
+     * @return this config.
+     */
+    public MySQLPoolConfig setConnectionTimeout(long connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+        return this;
+    }
+
+    public long getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    /**
+     * Set the time in milliseconds that a connection can be out of the pool before a possible leak is logged.
+     *
+     * @param leakDetectionThreshold the threshold in milliseconds, 0 to disable the leak detection.
+     * @return this config.
+     */
+    public MySQLPoolConfig setLeakDetectionThreshold(long leakDetectionThreshold) {
+        this.leakDetectionThreshold = leakDetectionThreshold;
+        return this;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * Set the number of prepared statements cached by the driver per connection.
+     *
+     * @param statementCacheSize the size of the cache, 0 to disable the statement cache.
+     * @return this config.
+     */
+    public MySQLPoolConfig setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+        return this;
+    }
+
+    public int getStatementCacheSqlLimit() {
+        return statementCacheSqlLimit;
+    }
+
+    /**
+     * Set the maximum length of a SQL statement that the driver will cache.
+     *
+     * @param statementCacheSqlLimit the maximum length of the cached statements.
+     * @return this config.
+     */
+    public MySQLPoolConfig setStatementCacheSqlLimit(int statementCacheSqlLimit) {
+        this.statementCacheSqlLimit = statementCacheSqlLimit;
+        return this;
+    }
+
+    public Map<String, String> getDataSourceProperties() {
+        return dataSourceProperties;
+    }
+
+    /**
+     * Add a property of the JDBC driver to the connections of the pool.
+     *
+     * @param property the name of the property.
+     * @param value    the value of the property.
+     * @return this config.
+     */
+    public MySQLPoolConfig addDataSourceProperty(String property, String value) {
+        this.dataSourceProperties.put(property, value);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "MySQLPoolConfig{" +
+                "poolName='" + poolName + '\'' +
+                ", minimumIdle=" + minimumIdle +
+                ", maximumPoolSize=" + maximumPoolSize +
+                ", idleTimeout=" + idleTimeout +
+                ", maxLifetime=" + maxLifetime +
+                ", connectionTimeout=" + connectionTimeout +
+                ", leakDetectionThreshold=" + leakDetectionThreshold +
+                ", statementCacheSize=" + statementCacheSize +
+                ", statementCacheSqlLimit=" + statementCacheSqlLimit +
+                ", dataSourceProperties=" + dataSourceProperties +
+                '}';
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+/**
+ * Snapshot of the state of the connection pool of a {@link MySQLConnection}.
+ * See {@link MySQLConnection#getPoolStats()}
+ */
+public class MySQLPoolStats {
+    private final int  activeConnections;
+    private final int  idleConnections;
+    private final int  totalConnections;
+    private final int  maximumPoolSize;
+    private final int  threadsAwaitingConnection;
+    private final long acquiredCount;
+    private final long totalAcquireNanos;
+    private final long maxAcquireNanos;
+    private final long timeoutCount;
+    private final long totalUsageMillis;
+
+    MySQLPoolStats(int activeConnections, int idleConnections, int totalConnections, int maximumPoolSize,
+                   int threadsAwaitingConnection, long acquiredCount, long totalAcquireNanos,
+                   long maxAcquireNanos, long timeoutCount, long totalUsageMillis) {
+        this.activeConnections         = activeConnections;
+        this.idleConnections           = idleConnections;
+        this.totalConnections          = totalConnections;
+        this.maximumPoolSize           = maximumPoolSize;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+        this.acquiredCount             = acquiredCount;
+        this.totalAcquireNanos         = totalAcquireNanos;
+        this.maxAcquireNanos           = maxAcquireNanos;
+        this.timeoutCount              = timeoutCount;
+        this.totalUsageMillis          = totalUsageMillis;
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public int getThreadsAwaitingConnection() {
+        return threadsAwaitingConnection;
+    }
+
+    /**
+     * Get the fraction of the pool that is in use.
+     *
+     * @return a value between 0 and 1, 1 means that every connection of the pool is in use.
+     */
+    public double getSaturation() {
+        return maximumPoolSize > 0 ? (double) activeConnections / maximumPoolSize : 0;
+    }
+
+    /**
+     * Get the number of connections handed out by the pool since it was created.
+     *
+     * @return the number of checkouts.
+     */
+    public long getAcquiredCount() {
+        return acquiredCount;
+    }
+
+    public long getTotalAcquireNanos() {
+        return totalAcquireNanos;
+    }
+
+    /**
+     * Get the average time that a caller waited for a connection.
+     *
+     * @return the average wait time in nanoseconds.
+     */
+    public long getAverageAcquireNanos() {
+        return acquiredCount > 0 ? totalAcquireNanos / acquiredCount : 0;
+    }
+
+    public long getMaxAcquireNanos() {
+        return maxAcquireNanos;
+    }
+
+    /**
+     * Get the number of callers that gave up waiting for a connection.
+     *
+     * @return the number of timeouts.
+     */
+    public long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    public long getTotalUsageMillis() {
+        return totalUsageMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "MySQLPoolStats{" +
+                "activeConnections=" + activeConnections +
+                ", idleConnections=" + idleConnections +
+                ", totalConnections=" + totalConnections +
+                ", maximumPoolSize=" + maximumPoolSize +
+                ", threadsAwaitingConnection=" + threadsAwaitingConnection +
+                ", acquiredCount=" + acquiredCount +
+                ", averageAcquireNanos=" + getAverageAcquireNanos() +
+                ", maxAcquireNanos=" + maxAcquireNanos +
+                ", timeoutCount=" + timeoutCount +
+                '}';
+    }
+}
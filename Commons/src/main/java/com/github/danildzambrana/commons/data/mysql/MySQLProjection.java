@@ -0,0 +1,97 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import com.github.danildzambrana.commons.data.DataQuery;
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metadata.ClassMetadata;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columns of a read-only query and the conversion of its rows to values. Without selected fields the rows are the
+ * entities, otherwise the id and the selected fields are loaded and set on a new instance of the entity.
+ *
+ * @param <T> type of the objects to find.
+ */
+final class MySQLProjection<T> {
+    private final ClassMetadata metadata;
+    private final String[]      fields;
+
+    /**
+     * Create the projection of the fields selected by the query.
+     *
+     * @param factory the session factory of the entity.
+     * @param query   the data query.
+     * @throws IllegalArgumentException if a selected field is not a property of the entity.
+     */
+    MySQLProjection(@NotNull SessionFactoryImplementor factory, @NotNull DataQuery<T> query) {
+        this.metadata = factory.getMetamodel().entityPersister(query.getClazz()).getClassMetadata();
+        if (query.getFields().isEmpty()) {
+            this.fields = null;
+            return;
+        }
+
+        String id = metadata.getIdentifierPropertyName();
+        FieldUtils.requireArgument(id != null, "%s has no id property", query.getClazz().getName());
+
+        List<String> properties = Arrays.asList(metadata.getPropertyNames());
+        List<String> selected   = new ArrayList<>();
+        selected.add(id);
+        for (String field : query.getFields()) {
+            if (selected.contains(field)) {
+                continue;
+            }
+            FieldUtils.requireArgument(properties.contains(field), "%s is not a field of %s", field,
+                    query.getClazz().getName());
+            selected.add(field);
+        }
+        this.fields = selected.toArray(new String[0]);
+    }
+
+    /**
+     * Get the select clause of the query, the entity is aliased as {@code e}.
+     *
+     * @return the select clause, without the select keyword.
+     */
+    @NotNull
+    String getSelect() {
+        if (fields == null) {
+            return "e";
+        }
+
+        StringBuilder select = new StringBuilder();
+        for (String field : fields) {
+            if (select.length() > 0) {
+                select.append(", ");
+            }
+            select.append("e.").append(field);
+        }
+        return select.toString();
+    }
+
+    /**
+     * Convert a row of the query to a value.
+     *
+     * @param row     the row, an entity, a single column or an array of columns.
+     * @param session the session that ran the query.
+     * @return the value.
+     */
+    @SuppressWarnings("unchecked")
+    T toValue(Object row, @NotNull SharedSessionContractImplementor session) {
+        if (fields == null) {
+            return (T) row;
+        }
+
+        Object[] columns = fields.length == 1 ? new Object[]{row} : (Object[]) row;
+        T        value   = (T) metadata.instantiate((Serializable) columns[0], session);
+        for (int i = 1; i < fields.length; i++) {
+            metadata.setPropertyValue(value, fields[i], columns[i]);
+        }
+        return value;
+    }
+}
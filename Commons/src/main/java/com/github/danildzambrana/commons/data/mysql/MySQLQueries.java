@@ -0,0 +1,198 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import com.github.danildzambrana.commons.data.DataQuery;
+import org.hibernate.Session;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.query.Query;
+import org.jetbrains.annotations.NotNull;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Translate {@link DataQuery} to Hibernate criteria queries, and to HQL for the sessions without criteria support.
+ */
+final class MySQLQueries {
+
+    private MySQLQueries() {
+    }
+
+    /**
+     * Create the Hibernate query of the data query.
+     *
+     * @param session the session that runs the query.
+     * @param query   the data query.
+     * @param <T>     type of the objects to find.
+     * @return the created query.
+     */
+    @NotNull
+    static <T> Query<T> create(@NotNull Session session, @NotNull DataQuery<T> query) {
+        CriteriaBuilder  builder  = session.getCriteriaBuilder();
+        CriteriaQuery<T> criteria = builder.createQuery(query.getClazz());
+        Root<T>          root     = criteria.from(query.getClazz());
+
+        List<Predicate> predicates = new ArrayList<>();
+        for (DataQuery.Filter filter : query.getFilters()) {
+            predicates.add(toPredicate(builder, root, filter));
+        }
+
+        DataQuery.Keyset keyset = query.getKeyset();
+        if (keyset != null) {
+            predicates.add(builder.or(toPredicate(builder, root, keyset.getAfter()),
+                    builder.and(toPredicate(builder, root, keyset.getTie()),
+                            toPredicate(builder, root, keyset.getAfterId()))));
+        }
+
+        List<Order> orders = new ArrayList<>();
+        for (DataQuery.Sort sort : query.getSorts()) {
+            Path<?> path = root.get(sort.getField());
+            orders.add(sort.isAscending() ? builder.asc(path) : builder.desc(path));
+        }
+
+        criteria.select(root).where(predicates.toArray(new Predicate[0])).orderBy(orders);
+
+        Query<T> result = session.createQuery(criteria);
+        if (query.getOffset() > 0) {
+            result.setFirstResult(query.getOffset());
+        }
+        if (query.getLimit() > 0) {
+            result.setMaxResults(query.getLimit());
+        }
+        return result;
+    }
+
+    /**
+     * Create the HQL query of the data query, it runs in stateless sessions too. The entity is aliased as
+     * {@code e} and the filters are bound as parameters.
+     *
+     * @param session the session that runs the query.
+     * @param query   the data query.
+     * @param select  the select clause, without the select keyword.
+     * @return the created query.
+     */
+    @NotNull
+    static Query<?> createHql(@NotNull SharedSessionContract session, @NotNull DataQuery<?> query,
+                              @NotNull String select) {
+        StringBuilder hql = new StringBuilder("select ").append(select)
+                .append(" from ").append(query.getClazz().getName()).append(" e");
+
+        List<DataQuery.Filter> filters = new ArrayList<>(query.getFilters());
+        for (int i = 0; i < filters.size(); i++) {
+            hql.append(i == 0 ? " where " : " and ");
+            appendCondition(hql, filters.get(i), i);
+        }
+
+        DataQuery.Keyset keyset = query.getKeyset();
+        if (keyset != null) {
+            int index = filters.size();
+            hql.append(index == 0 ? " where (" : " and (");
+            appendCondition(hql, keyset.getAfter(), index);
+            hql.append(" or (");
+            appendCondition(hql, keyset.getTie(), index + 1);
+            hql.append(" and ");
+            appendCondition(hql, keyset.getAfterId(), index + 2);
+            hql.append("))");
+            filters.addAll(Arrays.asList(keyset.getAfter(), keyset.getTie(), keyset.getAfterId()));
+        }
+
+        List<DataQuery.Sort> sorts = query.getSorts();
+        for (int i = 0; i < sorts.size(); i++) {
+            hql.append(i == 0 ? " order by " : ", ").append(toPath(sorts.get(i).getField()))
+                    .append(sorts.get(i).isAscending() ? " asc" : " desc");
+        }
+
+        Query<?> result = session.createQuery(hql.toString());
+        for (int i = 0; i < filters.size(); i++) {
+            Object value = filters.get(i).getValue();
+            if (filters.get(i).getOperator() == DataQuery.Operator.IN) {
+                if (!((Collection<?>) value).isEmpty()) {
+                    result.setParameterList("p" + i, (Collection<?>) value);
+                }
+            } else if (value != null) {
+                result.setParameter("p" + i, value);
+            }
+        }
+
+        if (query.getOffset() > 0) {
+            result.setFirstResult(query.getOffset());
+        }
+        if (query.getLimit() > 0) {
+            result.setMaxResults(query.getLimit());
+        }
+        return result;
+    }
+
+    private static void appendCondition(StringBuilder hql, DataQuery.Filter filter, int index) {
+        String path      = toPath(filter.getField());
+        String parameter = ":p" + index;
+
+        switch (filter.getOperator()) {
+            case EQUAL:
+                hql.append(path).append(filter.getValue() == null ? " is null" : " = " + parameter);
+                break;
+            case NOT_EQUAL:
+                hql.append(path).append(filter.getValue() == null ? " is not null" : " <> " + parameter);
+                break;
+            case GREATER_THAN:
+                hql.append(path).append(" > ").append(parameter);
+                break;
+            case GREATER_THAN_OR_EQUAL:
+                hql.append(path).append(" >= ").append(parameter);
+                break;
+            case LESS_THAN:
+                hql.append(path).append(" < ").append(parameter);
+                break;
+            case LESS_THAN_OR_EQUAL:
+                hql.append(path).append(" <= ").append(parameter);
+                break;
+            case IN:
+                // An empty IN is not valid SQL, and it never matches.
+                hql.append(((Collection<?>) filter.getValue()).isEmpty() ? "1 = 0" : path + " in (" + parameter + ")");
+                break;
+            default:
+                throw new IllegalArgumentException("unsupported operator: " + filter.getOperator());
+        }
+    }
+
+    private static String toPath(String field) {
+        if (!field.matches("\\w+(\\.\\w+)*")) {
+            throw new IllegalArgumentException("invalid field: " + field);
+        }
+        return "e." + field;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate toPredicate(CriteriaBuilder builder, Root<?> root, DataQuery.Filter filter) {
+        Path   path  = root.get(filter.getField());
+        Object value = filter.getValue();
+
+        switch (filter.getOperator()) {
+            case EQUAL:
+                return value == null ? builder.isNull(path) : builder.equal(path, value);
+            case NOT_EQUAL:
+                return value == null ? builder.isNotNull(path) : builder.notEqual(path, value);
+            case GREATER_THAN:
+                return builder.greaterThan(path, (Comparable) value);
+            case GREATER_THAN_OR_EQUAL:
+                return builder.greaterThanOrEqualTo(path, (Comparable) value);
+            case LESS_THAN:
+                return builder.lessThan(path, (Comparable) value);
+            case LESS_THAN_OR_EQUAL:
+                return builder.lessThanOrEqualTo(path, (Comparable) value);
+            case IN:
+                Collection<?> values = (Collection<?>) value;
+                // An empty IN is not valid SQL, and it never matches.
+                return values.isEmpty() ? builder.disjunction() : path.in(values);
+            default:
+                throw new IllegalArgumentException("unsupported operator: " + filter.getOperator());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.persistence.Embeddable;
+import javax.persistence.Entity;
+import javax.persistence.MappedSuperclass;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Fingerprint of the mapping and the settings of a session factory, recorded after a schema update so the
+ * next start can skip the update if nothing changed. See {@link MySQLConnection.Builder#setSchemaCache(Path)}
+ */
+final class MySQLSchemaCache {
+    private static final byte[] SEPARATOR = {0};
+
+    private MySQLSchemaCache() {
+    }
+
+    /**
+     * Compute the fingerprint of the settings and of the bytecode of the mapped classes, their superclasses and
+     * the embeddable classes of their fields.
+     *
+     * @param properties  the settings of the session factory.
+     * @param mappedClazz the mapped classes.
+     * @return the fingerprint, or null if the bytecode of a class cannot be read.
+     */
+    @Nullable
+    static String fingerprint(@NotNull Properties properties, @Nullable Class<?>[] mappedClazz) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            e.printStackTrace();
+            return null;
+        }
+
+        Map<String, String> settings = new TreeMap<>();
+        properties.forEach((key, value) -> settings.put(String.valueOf(key), String.valueOf(value)));
+        // The password does not change the schema.
+        settings.remove(AvailableSettings.PASS);
+        settings.forEach((key, value) -> {
+            digest.update(key.getBytes(StandardCharsets.UTF_8));
+            digest.update(SEPARATOR);
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update(SEPARATOR);
+        });
+
+        for (Class<?> clazz : mappedClasses(mappedClazz)) {
+            String resource = clazz.getName().replace('.', '/') + ".class";
+            try (InputStream input = clazz.getClassLoader() != null
+                    ? clazz.getClassLoader().getResourceAsStream(resource)
+                    : null) {
+                if (input == null) {
+                    return null;
+                }
+
+                digest.update(clazz.getName().getBytes(StandardCharsets.UTF_8));
+                digest.update(SEPARATOR);
+                byte[] buffer = new byte[8192];
+                int    read;
+                while ((read = input.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+                return null;
+            }
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Check if the file records the fingerprint.
+     *
+     * @param file        the file of the schema cache.
+     * @param fingerprint the fingerprint of the current mapping.
+     * @return true if the last schema update was done with the same mapping.
+     */
+    static boolean isCurrent(@NotNull Path file, @NotNull String fingerprint) {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+
+        try {
+            return fingerprint.equals(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim());
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Record the fingerprint of a successful schema update.
+     *
+     * @param file        the file of the schema cache.
+     * @param fingerprint the fingerprint of the current mapping.
+     */
+    static void store(@NotNull Path file, @NotNull String fingerprint) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(file, fingerprint.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Collect the mapped classes with the mapped superclasses and embeddable classes they reach.
+     */
+    private static Set<Class<?>> mappedClasses(@Nullable Class<?>[] mappedClazz) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        if (mappedClazz == null) {
+            return result;
+        }
+
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        for (Class<?> clazz : mappedClazz) {
+            pending.add(clazz);
+        }
+
+        while (!pending.isEmpty()) {
+            Class<?> clazz = pending.poll();
+            if (!result.add(clazz)) {
+                continue;
+            }
+
+            Class<?> superclass = clazz.getSuperclass();
+            if (superclass != null && isMapped(superclass)) {
+                pending.add(superclass);
+            }
+
+            for (Field field : clazz.getDeclaredFields()) {
+                addMapped(field.getGenericType(), pending);
+            }
+        }
+        return result;
+    }
+
+    private static void addMapped(Type type, Deque<Class<?>> pending) {
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            if (clazz.isArray()) {
+                addMapped(clazz.getComponentType(), pending);
+            } else if (isMapped(clazz)) {
+                pending.add(clazz);
+            }
+        } else if (type instanceof ParameterizedType) {
+            for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+                addMapped(argument, pending);
+            }
+        }
+    }
+
+    private static boolean isMapped(Class<?> clazz) {
+        return clazz.isAnnotationPresent(Entity.class)
+                || clazz.isAnnotationPresent(Embeddable.class)
+                || clazz.isAnnotationPresent(MappedSuperclass.class);
+    }
+}
@@ -0,0 +1,216 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import com.github.danildzambrana.commons.data.IConnection;
+import org.hibernate.Session;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A single {@link Session} and transaction shared by many operations.
+ * See {@link MySQLManager#inTransaction(java.util.function.Consumer)}
+ * <p>
+ * While a unit of work is active, every {@link MySQLManager} of the same connection that is used in the same
+ * thread joins it, so the operations share the JDBC connection and the first-level cache of the session.
+ */
+public class MySQLUnitOfWork {
+    private static final ThreadLocal<MySQLUnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private final IConnection<Session> connection;
+    private final Session              session;
+    private final MySQLUnitOfWork      previous;
+    private final List<Runnable>       afterCommit = new ArrayList<>();
+    private       boolean              rollbackOnly;
+
+    private MySQLUnitOfWork(IConnection<Session> connection, Session session, MySQLUnitOfWork previous) {
+        this.connection = connection;
+        this.session    = session;
+        this.previous   = previous;
+    }
+
+    /**
+     * Get the unit of work of the connection that is active in the current thread.
+     *
+     * @param connection the connection of the unit of work.
+     * @return the active unit of work, or null if there is none.
+     */
+    @Nullable
+    public static MySQLUnitOfWork current(@NotNull IConnection<Session> connection) {
+        for (MySQLUnitOfWork unit = CURRENT.get(); unit != null; unit = unit.previous) {
+            if (unit.connection == connection) {
+                return unit;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Begin a transaction on the session and bind it to the current thread.
+     */
+    static MySQLUnitOfWork begin(@NotNull IConnection<Session> connection, @NotNull Session session) {
+        MySQLUnitOfWork unit = new MySQLUnitOfWork(connection, session, CURRENT.get());
+        session.beginTransaction();
+        CURRENT.set(unit);
+        return unit;
+    }
+
+    /**
+     * Commit or rollback the transaction, close the session and unbind it from the current thread.
+     *
+     * @param success false if the work failed.
+     * @return true if the transaction was committed.
+     */
+    boolean end(boolean success) {
+        boolean committed = false;
+        try {
+            if (success && !rollbackOnly) {
+                session.getTransaction().commit();
+                committed = true;
+            } else {
+                session.getTransaction().rollback();
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            if (session.getTransaction().isActive()) {
+                session.getTransaction().rollback();
+            }
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+            session.close();
+        }
+
+        if (committed) {
+            // Run once the unit of work is unbound, so the actions do not join it.
+            for (Runnable action : afterCommit) {
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+        return committed;
+    }
+
+    /**
+     * Run the action after the transaction is committed, the action is discarded if it is rolled back.
+     *
+     * @param action the action to run.
+     */
+    public void afterCommit(@NotNull Runnable action) {
+        afterCommit.add(action);
+    }
+
+    /**
+     * Save or update the value, it is written to the database when the unit of work is flushed or committed.
+     *
+     * @param value the value to save.
+     * @return true if the value was attached to the session, otherwise return false.
+     */
+    public boolean save(@NotNull Object value) {
+        try {
+            session.saveOrUpdate(value);
+            return true;
+        } catch (Exception e) {
+            e.printStackTrace();
+            rollbackOnly = true;
+            return false;
+        }
+    }
+
+    /**
+     * Get the value with provided id, the values already loaded by this unit of work are served from
+     * the first-level cache of the session.
+     *
+     * @param clazz type of the object to find.
+     * @param id    the id to find.
+     * @param <E>   type of the object to find.
+     * @return An instance of {@link Optional} with the obtained value.
+     */
+    public <E> Optional<E> get(@NotNull Class<E> clazz, @NotNull Serializable id) {
+        try {
+            return Optional.ofNullable(session.get(clazz, id));
+        } catch (Exception e) {
+            e.printStackTrace();
+            rollbackOnly = true;
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Get all the values with the provided ids.
+     *
+     * @param clazz type of the objects to find.
+     * @param ids   the ids to find.
+     * @param <E>   type of the objects to find.
+     * @return the found values, in the iteration order of the ids.
+     */
+    public <E> List<E> getAll(@NotNull Class<E> clazz, @NotNull Collection<? extends Serializable> ids) {
+        List<E> result = new ArrayList<>(ids.size());
+        try {
+            for (E value : session.byMultipleIds(clazz).multiLoad(new ArrayList<>(ids))) {
+                if (value != null) {
+                    result.add(value);
+                }
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            rollbackOnly = true;
+        }
+        return result;
+    }
+
+    /**
+     * Remove the value, it is removed from the database when the unit of work is flushed or committed.
+     *
+     * @param value the value to remove.
+     * @return true if the value was marked for removal, otherwise return false.
+     */
+    public boolean delete(@NotNull Object value) {
+        try {
+            session.delete(value);
+            return true;
+        } catch (Exception e) {
+            e.printStackTrace();
+            rollbackOnly = true;
+            return false;
+        }
+    }
+
+    /**
+     * Write the pending changes to the database without committing the transaction.
+     */
+    public void flush() {
+        session.flush();
+    }
+
+    /**
+     * Mark the unit of work so its transaction is rolled back instead of committed.
+     */
+    public void setRollbackOnly() {
+        this.rollbackOnly = true;
+    }
+
+    public boolean isRollbackOnly() {
+        return rollbackOnly;
+    }
+
+    /**
+     * Get the session of this unit of work. It must not be closed nor used outside the unit of work.
+     *
+     * @return the shared session.
+     */
+    @NotNull
+    public Session getSession() {
+        return session;
+    }
+}
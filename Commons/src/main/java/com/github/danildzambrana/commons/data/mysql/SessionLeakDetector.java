@@ -0,0 +1,132 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.SessionEventListener;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Debug tool that keeps track of the sessions opened by a {@link MySQLConnection} and reports the
+ * sessions that stay open longer than a threshold, with the stack trace of the code that opened them.
+ * See {@link MySQLConnection.Builder#setSessionLeakThreshold(long)}
+ */
+public class SessionLeakDetector {
+    private final long                      thresholdMillis;
+    private final Map<Long, TrackedSession> openSessions = new ConcurrentHashMap<>();
+    private final AtomicLong                sequence     = new AtomicLong();
+    private final AtomicLong                leakCount    = new AtomicLong();
+    private final ScheduledExecutorService  scheduler;
+
+    SessionLeakDetector(long thresholdMillis) {
+        FieldUtils.requireArgument(thresholdMillis > 0, "the threshold must be positive, provided: %s",
+                thresholdMillis);
+        this.thresholdMillis = thresholdMillis;
+        this.scheduler       = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-leak-detector");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long period = Math.max(1, thresholdMillis / 2);
+        scheduler.scheduleAtFixedRate(this::report, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Start tracking a new session.
+     *
+     * @return the listener to register in the session, it stops the tracking when the session is closed.
+     */
+    @NotNull
+    SessionEventListener track() {
+        long           id      = sequence.incrementAndGet();
+        TrackedSession session = new TrackedSession(id);
+        openSessions.put(id, session);
+        return new BaseSessionEventListener() {
+            @Override
+            public void end() {
+                openSessions.remove(id);
+            }
+        };
+    }
+
+    /**
+     * Get the number of sessions that were opened and are not closed yet.
+     *
+     * @return the number of outstanding sessions.
+     */
+    public int getOpenSessionCount() {
+        return openSessions.size();
+    }
+
+    /**
+     * Get the number of sessions reported as leaked since the detector was created.
+     *
+     * @return the number of leaked sessions.
+     */
+    public long getLeakCount() {
+        return leakCount.get();
+    }
+
+    /**
+     * Get the sessions that are open for longer than the threshold.
+     *
+     * @return the stack traces of the code that opened each leaked session.
+     */
+    @NotNull
+    public List<Throwable> getLeakedSessions() {
+        long            now    = System.nanoTime();
+        List<Throwable> result = new ArrayList<>();
+        for (TrackedSession session : openSessions.values()) {
+            if (session.isLeaked(now)) {
+                result.add(session.origin);
+            }
+        }
+        return result;
+    }
+
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    /**
+     * Stop the periodic check of the detector.
+     */
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void report() {
+        long now = System.nanoTime();
+        for (TrackedSession session : openSessions.values()) {
+            if (!session.reported && session.isLeaked(now)) {
+                session.reported = true;
+                leakCount.incrementAndGet();
+                session.origin.printStackTrace();
+            }
+        }
+    }
+
+    private class TrackedSession {
+        private final    long      openedAt = System.nanoTime();
+        private final    Throwable origin;
+        private volatile boolean   reported;
+
+        private TrackedSession(long id) {
+            this.origin = new Throwable("Session #" + id + " opened in thread '" + Thread.currentThread().getName()
+                    + "' was not closed after " + thresholdMillis + " ms");
+        }
+
+        private boolean isLeaked(long now) {
+            return TimeUnit.NANOSECONDS.toMillis(now - openedAt) >= thresholdMillis;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Buffer in front of a channel that encodes text and numbers directly into its bytes, without intermediate
+ * strings or arrays.
+ */
+final class ChannelOutput {
+    private final WritableByteChannel channel;
+    private final ByteBuffer          buffer;
+    private final byte[]              digits = new byte[20];
+    private       long                written;
+
+    ChannelOutput(WritableByteChannel channel, ByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer  = buffer;
+    }
+
+    void write(int b) throws IOException {
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put((byte) b);
+    }
+
+    /**
+     * Write a text of ASCII characters, such as a formatted number.
+     */
+    void writeAscii(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            write(text.charAt(i));
+        }
+    }
+
+    void writeUtf8(CharSequence text) throws IOException {
+        for (int i = 0; i < text.length(); ) {
+            i = writeUtf8(text, i);
+        }
+    }
+
+    /**
+     * Write the character at the index in UTF-8, a surrogate pair is written as one code point.
+     *
+     * @return the index of the next character.
+     */
+    int writeUtf8(CharSequence text, int index) throws IOException {
+        char c = text.charAt(index);
+        if (c < 0x80) {
+            write(c);
+        } else if (c < 0x800) {
+            write(0xC0 | c >> 6);
+            write(0x80 | c & 0x3F);
+        } else if (Character.isHighSurrogate(c) && index + 1 < text.length()
+                && Character.isLowSurrogate(text.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, text.charAt(index + 1));
+            write(0xF0 | codePoint >> 18);
+            write(0x80 | codePoint >> 12 & 0x3F);
+            write(0x80 | codePoint >> 6 & 0x3F);
+            write(0x80 | codePoint & 0x3F);
+            return index + 2;
+        } else if (Character.isSurrogate(c)) {
+            write('?');
+        } else {
+            write(0xE0 | c >> 12);
+            write(0x80 | c >> 6 & 0x3F);
+            write(0x80 | c & 0x3F);
+        }
+        return index + 1;
+    }
+
+    /**
+     * Get the number of bytes of a text encoded in UTF-8, as written by {@link #writeUtf8(CharSequence)}.
+     */
+    static int utf8Length(CharSequence text) {
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Write a number as decimal text.
+     */
+    void writeDecimal(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        if (value < 0) {
+            write('-');
+            value = -value;
+        }
+
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        for (; position < digits.length; position++) {
+            write(digits[position]);
+        }
+    }
+
+    /**
+     * Write an unsigned number in 7-bit groups, the lowest group first.
+     */
+    void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        write((int) value);
+    }
+
+    void writeDouble(double value) throws IOException {
+        if (buffer.remaining() < Double.BYTES) {
+            flush();
+        }
+        buffer.putDouble(value);
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Get the number of bytes passed to the channel.
+     */
+    long getBytesWritten() {
+        return written;
+    }
+}
@@ -0,0 +1,217 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reader of the files written with {@link ExportFormat#COLUMNAR}, one group of rows at a time.
+ * <p>
+ * The file starts with the magic {@code SMCF}, the version and the columns: their count, and for each column the
+ * ordinal of its {@link ExportSchema.ColumnType} and its name in UTF-8 prefixed by its length. Then come the
+ * groups: the number of rows, and the values of each column in order. The integers are stored as zigzag deltas
+ * from the previous row, the decimals as 8 bytes big-endian and the texts in UTF-8 prefixed by their length plus
+ * one, 0 for null. The counts and lengths are unsigned numbers of 7-bit groups, and a group of 0 rows ends the
+ * file.
+ */
+public final class ColumnarReader implements Closeable {
+    static final byte[] MAGIC   = {'S', 'M', 'C', 'F'};
+    static final int    VERSION = 1;
+
+    private final DataInputStream           in;
+    private final String[]                  names;
+    private final ExportSchema.ColumnType[] types;
+    private final long[][]                  longs;
+    private final double[][]                doubles;
+    private final String[][]                strings;
+    private       int                       rows;
+    private       boolean                   ended;
+
+    /**
+     * Read a file from a stream, the header is read immediately.
+     *
+     * @param input the stream of the file, it is buffered by the reader.
+     * @throws IOException if the stream can not be read or is not a columnar file.
+     */
+    public ColumnarReader(@NotNull InputStream input) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(input, 64 * 1024));
+
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) {
+                throw new IOException("not a columnar file");
+            }
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("unsupported version " + version);
+        }
+
+        int columns = (int) readVarLong();
+        this.names   = new String[columns];
+        this.types   = new ExportSchema.ColumnType[columns];
+        this.longs   = new long[columns][];
+        this.doubles = new double[columns][];
+        this.strings = new String[columns][];
+        for (int i = 0; i < columns; i++) {
+            types[i] = ExportSchema.ColumnType.values()[in.readUnsignedByte()];
+            names[i] = readString((int) readVarLong());
+        }
+    }
+
+    /**
+     * Open a file, compressed with gzip or not.
+     *
+     * @param file the file.
+     * @return the reader of the file.
+     * @throws IOException if the file can not be read or is not a columnar file.
+     */
+    @NotNull
+    public static ColumnarReader open(@NotNull Path file) throws IOException {
+        BufferedInputStream input = new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+        try {
+            input.mark(2);
+            boolean gzip = input.read() == 0x1F && input.read() == 0x8B;
+            input.reset();
+            return new ColumnarReader(gzip ? new GZIPInputStream(input, 64 * 1024) : input);
+        } catch (IOException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Read the next group of rows, its values replace the ones of the previous group.
+     *
+     * @return false if there are no more groups.
+     * @throws IOException if the file can not be read.
+     */
+    public boolean next() throws IOException {
+        if (ended) {
+            return false;
+        }
+
+        rows = (int) readVarLong();
+        if (rows == 0) {
+            ended = true;
+            return false;
+        }
+
+        for (int i = 0; i < names.length; i++) {
+            switch (types[i]) {
+                case LONG:
+                    if (longs[i] == null || longs[i].length < rows) {
+                        longs[i] = new long[rows];
+                    }
+                    long previous = 0;
+                    for (int row = 0; row < rows; row++) {
+                        long zigzag = readVarLong();
+                        previous += (zigzag >>> 1) ^ -(zigzag & 1);
+                        longs[i][row] = previous;
+                    }
+                    break;
+                case DOUBLE:
+                    if (doubles[i] == null || doubles[i].length < rows) {
+                        doubles[i] = new double[rows];
+                    }
+                    for (int row = 0; row < rows; row++) {
+                        doubles[i][row] = in.readDouble();
+                    }
+                    break;
+                default:
+                    if (strings[i] == null || strings[i].length < rows) {
+                        strings[i] = new String[rows];
+                    }
+                    for (int row = 0; row < rows; row++) {
+                        int length = (int) readVarLong();
+                        strings[i][row] = length == 0 ? null : readString(length - 1);
+                    }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the number of rows of the current group, the arrays of the columns may be longer.
+     *
+     * @return the number of rows.
+     */
+    public int getRowCount() {
+        return rows;
+    }
+
+    public int getColumnCount() {
+        return names.length;
+    }
+
+    public String getColumnName(int column) {
+        return names[column];
+    }
+
+    public ExportSchema.ColumnType getColumnType(int column) {
+        return types[column];
+    }
+
+    /**
+     * Get the index of a column.
+     *
+     * @param name the name of the column.
+     * @return the index, or -1 if the column does not exist.
+     */
+    public int getColumnIndex(@NotNull String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public long[] getLongs(int column) {
+        return longs[column];
+    }
+
+    public double[] getDoubles(int column) {
+        return doubles[column];
+    }
+
+    public String[] getStrings(int column) {
+        return strings[column];
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("malformed number");
+    }
+
+    private String readString(int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes the rows in groups stored column by column. See {@link ColumnarReader} for the layout.
+ */
+final class ColumnarRowWriter<T> extends RowWriter<T> {
+    private final int        groupSize;
+    private final long[][]   longs;
+    private final double[][] doubles;
+    private final String[][] strings;
+    private       int        rows;
+
+    ColumnarRowWriter(ExportSchema<T> schema, ChannelOutput out, int groupSize) {
+        super(schema, out);
+        this.groupSize = groupSize;
+        this.longs     = new long[schema.size()][];
+        this.doubles   = new double[schema.size()][];
+        this.strings   = new String[schema.size()][];
+
+        List<ExportSchema.Column<T>> columns = schema.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).getType()) {
+                case LONG:
+                    longs[i] = new long[groupSize];
+                    break;
+                case DOUBLE:
+                    doubles[i] = new double[groupSize];
+                    break;
+                default:
+                    strings[i] = new String[groupSize];
+            }
+        }
+    }
+
+    @Override
+    void start() throws IOException {
+        for (byte b : ColumnarReader.MAGIC) {
+            out.write(b);
+        }
+        out.write(ColumnarReader.VERSION);
+        out.writeVarLong(schema.size());
+        for (ExportSchema.Column<T> column : schema.getColumns()) {
+            out.write(column.getType().ordinal());
+            out.writeVarLong(ChannelOutput.utf8Length(column.getName()));
+            out.writeUtf8(column.getName());
+        }
+    }
+
+    @Override
+    void write(T value) throws IOException {
+        List<ExportSchema.Column<T>> columns = schema.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            ExportSchema.Column<T> column = columns.get(i);
+            switch (column.getType()) {
+                case LONG:
+                    longs[i][rows] = column.getLong(value);
+                    break;
+                case DOUBLE:
+                    doubles[i][rows] = column.getDouble(value);
+                    break;
+                default:
+                    strings[i][rows] = column.getString(value);
+            }
+        }
+
+        if (++rows == groupSize) {
+            writeGroup();
+        }
+    }
+
+    @Override
+    void finish() throws IOException {
+        if (rows > 0) {
+            writeGroup();
+        }
+        out.writeVarLong(0);
+    }
+
+    private void writeGroup() throws IOException {
+        out.writeVarLong(rows);
+        for (int i = 0; i < schema.size(); i++) {
+            if (longs[i] != null) {
+                // Deltas, so sorted or clustered ids take one or two bytes.
+                long previous = 0;
+                for (int row = 0; row < rows; row++) {
+                    long delta = longs[i][row] - previous;
+                    out.writeVarLong((delta << 1) ^ (delta >> 63));
+                    previous = longs[i][row];
+                }
+            } else if (doubles[i] != null) {
+                for (int row = 0; row < rows; row++) {
+                    out.writeDouble(doubles[i][row]);
+                }
+            } else {
+                for (int row = 0; row < rows; row++) {
+                    String text = strings[i][row];
+                    if (text == null) {
+                        out.writeVarLong(0);
+                    } else {
+                        out.writeVarLong(ChannelOutput.utf8Length(text) + 1L);
+                        out.writeUtf8(text);
+                    }
+                }
+                Arrays.fill(strings[i], 0, rows, null);
+            }
+        }
+        rows = 0;
+    }
+}
@@ -0,0 +1,418 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import com.github.danildzambrana.commons.data.BatchResult;
+import com.github.danildzambrana.commons.data.IDataManager;
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Streaming import of a CSV file into an {@link IDataManager}.
+ * <p>
+ * The calling thread parses the file, see {@link CsvReader}, and hands the rows in batches to a pool of workers
+ * through a bounded queue. Each worker maps and validates the rows of its batch and writes the valid ones with a
+ * single {@link IDataManager#saveAll(java.util.Collection)}. When the workers fall behind the queue fills up and
+ * the parsing waits, so the memory used depends on the size and number of the batches in flight and not on the
+ * size of the file.
+ *
+ * @param <T> Type of the imported values.
+ */
+public class CsvImporter<T> {
+    private static final AtomicInteger   POOL_SEQUENCE = new AtomicInteger();
+    private static final List<CsvRecord> END           = Collections.emptyList();
+
+    private final Function<CsvRecord, T> mapper;
+    private final char                   delimiter;
+    private final boolean                header;
+    private final int                    workers;
+    private final int                    batchSize;
+    private final int                    queueCapacity;
+    private final int                    maxRecordedErrors;
+    private final int                    regionSize;
+    private final ImportListener         listener;
+
+    private CsvImporter(Builder<T> builder) {
+        FieldUtils.requireArgument(builder.getMapper() != null, "the mapper is required");
+        FieldUtils.requireArgument(builder.getWorkers() > 0);
+        FieldUtils.requireArgument(builder.getBatchSize() > 0);
+        FieldUtils.requireArgument(builder.getQueueCapacity() > 0);
+        FieldUtils.requireArgument(builder.getMaxRecordedErrors() >= 0);
+        FieldUtils.requireArgument(builder.getRegionSize() > 0);
+
+        this.mapper            = builder.getMapper();
+        this.delimiter         = builder.getDelimiter();
+        this.header            = builder.isHeader();
+        this.workers           = builder.getWorkers();
+        this.batchSize         = builder.getBatchSize();
+        this.queueCapacity     = builder.getQueueCapacity();
+        this.maxRecordedErrors = builder.getMaxRecordedErrors();
+        this.regionSize        = builder.getRegionSize();
+        this.listener          = builder.getListener() != null ? builder.getListener() : new ImportListener() {
+        };
+    }
+
+    /**
+     * Create a builder of an importer.
+     *
+     * @param mapper the function that validates a row and converts it to a value. It runs concurrently in the
+     *               workers, a row is rejected if it throws an exception or returns null.
+     * @param <T>    type of the imported values.
+     * @return the builder.
+     */
+    @NotNull
+    public static <T> Builder<T> builder(@NotNull Function<CsvRecord, T> mapper) {
+        return new Builder<T>().setMapper(mapper);
+    }
+
+    /**
+     * Import a file. The rows are written in batches as they are read, the rows written before a failure are not
+     * rolled back.
+     *
+     * @param file    the CSV file, encoded in UTF-8.
+     * @param manager the manager that saves the values.
+     * @return the outcome of the import.
+     * @throws IOException if the file can not be read, or the import is interrupted.
+     */
+    @NotNull
+    public ImportResult run(@NotNull Path file, @NotNull IDataManager<?, T> manager) throws IOException {
+        long                           start = System.currentTimeMillis();
+        BlockingQueue<List<CsvRecord>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        ExecutorService                pool  = newPool();
+        Progress                       progress;
+
+        try (CsvReader reader = new CsvReader(file, delimiter, regionSize)) {
+            progress = new Progress(reader.getSize());
+            for (int i = 0; i < workers; i++) {
+                pool.execute(() -> work(queue, manager, progress));
+            }
+
+            Map<String, Integer> columns = Collections.emptyMap();
+            if (header) {
+                String[] names = reader.next();
+                columns = new HashMap<>();
+                for (int i = 0; names != null && i < names.length; i++) {
+                    columns.put(names[i].trim(), i);
+                }
+            }
+
+            List<CsvRecord> batch = new ArrayList<>(batchSize);
+            for (String[] fields = reader.next(); fields != null; fields = reader.next()) {
+                batch.add(new CsvRecord(fields, reader.getRecordLine(), columns));
+                if (batch.size() == batchSize) {
+                    progress.read(batch.size(), reader.getBytesRead());
+                    queue.put(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            progress.read(batch.size(), reader.getBytesRead());
+            if (!batch.isEmpty()) {
+                queue.put(batch);
+            }
+
+            for (int i = 0; i < workers; i++) {
+                queue.put(END);
+            }
+            pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("the import of " + file + " was interrupted");
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return new ImportResult(progress.rowsRead, progress.imported.get(), progress.failed.get(),
+                progress.getErrors(), System.currentTimeMillis() - start);
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    private void work(BlockingQueue<List<CsvRecord>> queue, IDataManager<?, T> manager, Progress progress) {
+        try {
+            for (List<CsvRecord> batch = queue.take(); batch != END; batch = queue.take()) {
+                try {
+                    write(batch, manager, progress);
+                    listener.onProgress(progress.snapshot());
+                } catch (RuntimeException e) {
+                    // A failing listener must not stop the worker, the parsing would wait for it forever.
+                    e.printStackTrace();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(List<CsvRecord> batch, IDataManager<?, T> manager, Progress progress) {
+        List<T> values = new ArrayList<>(batch.size());
+        long[]  lines  = new long[batch.size()];
+        for (CsvRecord record : batch) {
+            T value;
+            try {
+                value = mapper.apply(record);
+            } catch (RuntimeException e) {
+                progress.fail(record.getLine(), e.getMessage() != null ? e.getMessage() : e.toString(), e);
+                continue;
+            }
+
+            if (value == null) {
+                progress.fail(record.getLine(), "the row was rejected", null);
+            } else {
+                lines[values.size()] = record.getLine();
+                values.add(value);
+            }
+        }
+        if (values.isEmpty()) {
+            return;
+        }
+
+        BatchResult<T> result;
+        try {
+            result = manager.saveAll(values);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            for (int i = 0; i < values.size(); i++) {
+                progress.fail(lines[i], "the row could not be saved", e);
+            }
+            return;
+        }
+
+        for (int i = 0; i < result.size(); i++) {
+            if (result.isSuccess(i)) {
+                progress.imported.incrementAndGet();
+            } else {
+                progress.fail(lines[i], "the row could not be saved", null);
+            }
+        }
+    }
+
+    private ExecutorService newPool() {
+        String        prefix   = "csv-import-" + POOL_SEQUENCE.incrementAndGet() + "-";
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Counters of a running import.
+     */
+    private final class Progress {
+        private final long              totalBytes;
+        private final AtomicLong        imported = new AtomicLong();
+        private final AtomicLong        failed   = new AtomicLong();
+        private final List<ImportError> errors   = new ArrayList<>();
+        private volatile long           rowsRead;
+        private volatile long           bytesRead;
+
+        private Progress(long totalBytes) {
+            this.totalBytes = totalBytes;
+        }
+
+        /**
+         * Count the rows of a batch, only called by the parsing thread.
+         */
+        private void read(int rows, long bytesRead) {
+            this.rowsRead += rows;
+            this.bytesRead = bytesRead;
+        }
+
+        private void fail(long line, String message, Throwable cause) {
+            failed.incrementAndGet();
+            ImportError error = new ImportError(line, message, cause);
+            synchronized (errors) {
+                if (errors.size() < maxRecordedErrors) {
+                    errors.add(error);
+                }
+            }
+            listener.onError(error);
+        }
+
+        private List<ImportError> getErrors() {
+            synchronized (errors) {
+                return new ArrayList<>(errors);
+            }
+        }
+
+        private ImportProgress snapshot() {
+            return new ImportProgress(rowsRead, imported.get(), failed.get(), bytesRead, totalBytes);
+        }
+    }
+
+    /**
+     * Builder adapter to {@link CsvImporter}
+     *
+     * @param <T> Type of the imported values.
+     */
+    public static class Builder<T> {
+        private Function<CsvRecord, T> mapper;
+        private char                   delimiter         = ',';
+        private boolean                header            = true;
+        private int                    workers           = Runtime.getRuntime().availableProcessors();
+        private int                    batchSize         = 1000;
+        private int                    queueCapacity     = workers * 2;
+        private int                    maxRecordedErrors = 1000;
+        private int                    regionSize        = CsvReader.DEFAULT_REGION_SIZE;
+        private ImportListener         listener;
+
+        private Builder() {
+        }
+
+        public Function<CsvRecord, T> getMapper() {
+            return mapper;
+        }
+
+        public Builder<T> setMapper(Function<CsvRecord, T> mapper) {
+            this.mapper = mapper;
+            return this;
+        }
+
+        public char getDelimiter() {
+            return delimiter;
+        }
+
+        /**
+         * Set the separator of the fields.
+         *
+         * @param delimiter the separator, a comma by default.
+         * @return this builder.
+         */
+        public Builder<T> setDelimiter(char delimiter) {
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        public boolean isHeader() {
+            return header;
+        }
+
+        /**
+         * Set if the first row contains the names of the columns, see {@link CsvRecord#get(String)}.
+         *
+         * @param header true if the file has a header, true by default.
+         * @return this builder.
+         */
+        public Builder<T> setHeader(boolean header) {
+            this.header = header;
+            return this;
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        /**
+         * Set the number of threads that validate and write the batches, it is also the maximum number of
+         * concurrent writes to the manager.
+         *
+         * @param workers the number of threads, the number of processors by default.
+         * @return this builder.
+         */
+        public Builder<T> setWorkers(int workers) {
+            this.workers = workers;
+            return this;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        /**
+         * Set the number of rows written with each {@link IDataManager#saveAll(java.util.Collection)}.
+         *
+         * @param batchSize the number of rows of a batch, 1000 by default.
+         * @return this builder.
+         */
+        public Builder<T> setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        /**
+         * Set the number of parsed batches that wait for a worker before the parsing is paused.
+         *
+         * @param queueCapacity the number of batches, twice the number of processors by default.
+         * @return this builder.
+         */
+        public Builder<T> setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public int getMaxRecordedErrors() {
+            return maxRecordedErrors;
+        }
+
+        /**
+         * Set the number of errors kept in the {@link ImportResult}, the rest are only reported to the listener.
+         *
+         * @param maxRecordedErrors the number of errors, 1000 by default.
+         * @return this builder.
+         */
+        public Builder<T> setMaxRecordedErrors(int maxRecordedErrors) {
+            this.maxRecordedErrors = maxRecordedErrors;
+            return this;
+        }
+
+        public int getRegionSize() {
+            return regionSize;
+        }
+
+        /**
+         * Set the number of bytes of the file mapped in memory at once.
+         *
+         * @param regionSize the size of the regions, 64 MB by default.
+         * @return this builder.
+         */
+        public Builder<T> setRegionSize(int regionSize) {
+            this.regionSize = regionSize;
+            return this;
+        }
+
+        public ImportListener getListener() {
+            return listener;
+        }
+
+        public Builder<T> setListener(ImportListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link CsvImporter}
+         *
+         * @return {@link CsvImporter} instance.
+         */
+        public @NotNull CsvImporter<T> build() {
+            return new CsvImporter<>(this);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RFC 4180 reader of UTF-8 files that maps the file in regions and parses the bytes directly, so only the current
+ * region and the current record are held in memory. The quoted fields may contain delimiters, line breaks and
+ * doubled quotes. The blank lines are skipped.
+ */
+final class CsvReader implements Closeable {
+    /**
+     * Size of the regions of the file mapped at once.
+     */
+    static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+
+    private static final int START    = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED   = 2;
+    private static final int QUOTE    = 3;
+
+    private final FileChannel      channel;
+    private final long             size;
+    private final int              regionSize;
+    private final byte             delimiter;
+    private final List<String>     fields = new ArrayList<>();
+    private       MappedByteBuffer region;
+    private       long             regionStart;
+    private       byte[]           field  = new byte[256];
+    private       int              fieldLength;
+    private       long             line   = 1;
+    private       long             recordLine;
+
+    CsvReader(@NotNull Path file, char delimiter, int regionSize) throws IOException {
+        this.channel    = FileChannel.open(file, StandardOpenOption.READ);
+        this.size       = channel.size();
+        this.regionSize = regionSize;
+        this.delimiter  = (byte) delimiter;
+
+        if (size >= 3) {
+            MappedByteBuffer bom = channel.map(FileChannel.MapMode.READ_ONLY, 0, 3);
+            if (bom.get(0) == (byte) 0xEF && bom.get(1) == (byte) 0xBB && bom.get(2) == (byte) 0xBF) {
+                regionStart = 3;
+            }
+        }
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @return the fields of the record, or null at the end of the file.
+     * @throws IOException if the file can not be read.
+     */
+    @Nullable
+    String[] next() throws IOException {
+        fields.clear();
+        fieldLength = 0;
+        recordLine  = line;
+
+        int     state   = START;
+        boolean started = false;
+        while (true) {
+            if ((region == null || !region.hasRemaining()) && !mapNext()) {
+                if (!started && state == START) {
+                    return null;
+                }
+                endField();
+                return fields.toArray(new String[0]);
+            }
+
+            byte b = region.get();
+            if (state == QUOTED) {
+                if (b == '"') {
+                    state = QUOTE;
+                } else {
+                    if (b == '\n') {
+                        line++;
+                    }
+                    append(b);
+                }
+                continue;
+            }
+            if (state == QUOTE) {
+                if (b == '"') {
+                    append(b);
+                    state = QUOTED;
+                    continue;
+                }
+                // The text after a closing quote is kept as part of the field.
+                state = UNQUOTED;
+            } else if (state == START && b == '"') {
+                state   = QUOTED;
+                started = true;
+                continue;
+            }
+
+            if (b == delimiter) {
+                endField();
+                state   = START;
+                started = true;
+            } else if (b == '\n') {
+                line++;
+                if (!started && state == START) {
+                    recordLine = line;
+                    continue;
+                }
+                endField();
+                return fields.toArray(new String[0]);
+            } else if (b != '\r') {
+                append(b);
+                state   = UNQUOTED;
+                started = true;
+            }
+        }
+    }
+
+    /**
+     * Get the line where the last record read starts.
+     *
+     * @return the line, starting at 1.
+     */
+    long getRecordLine() {
+        return recordLine;
+    }
+
+    long getBytesRead() {
+        return region == null ? regionStart : regionStart - region.remaining();
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean mapNext() throws IOException {
+        if (regionStart >= size) {
+            return false;
+        }
+
+        long length = Math.min(regionSize, size - regionStart);
+        region      = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, length);
+        regionStart += length;
+        return true;
+    }
+
+    private void append(byte b) {
+        if (fieldLength == field.length) {
+            field = Arrays.copyOf(field, fieldLength * 2);
+        }
+        field[fieldLength++] = b;
+    }
+
+    private void endField() {
+        fields.add(new String(field, 0, fieldLength, StandardCharsets.UTF_8));
+        fieldLength = 0;
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Row of a CSV file read by the {@link CsvImporter}.
+ */
+public final class CsvRecord {
+    private final String[]             fields;
+    private final long                 line;
+    private final Map<String, Integer> header;
+
+    CsvRecord(@NotNull String[] fields, long line, @NotNull Map<String, Integer> header) {
+        this.fields = fields;
+        this.line   = line;
+        this.header = header;
+    }
+
+    /**
+     * Get a field by position.
+     *
+     * @param index the position of the field, starting at 0.
+     * @return the field.
+     * @throws IllegalArgumentException if the row has no field at the position.
+     */
+    @NotNull
+    public String get(int index) {
+        if (index < 0 || index >= fields.length) {
+            throw new IllegalArgumentException("line " + line + " has no field " + index);
+        }
+        return fields[index];
+    }
+
+    /**
+     * Get a field by the name of its column in the header.
+     *
+     * @param column the name of the column.
+     * @return the field.
+     * @throws IllegalArgumentException if the column does not exist or the row has no field in the column.
+     */
+    @NotNull
+    public String get(@NotNull String column) {
+        Integer index = header.get(column);
+        if (index == null) {
+            throw new IllegalArgumentException("unknown column " + column);
+        }
+        return get(index);
+    }
+
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * Get the line of the file where the row starts.
+     *
+     * @return the line, starting at 1.
+     */
+    public long getLine() {
+        return line;
+    }
+
+    @Override
+    public String toString() {
+        return "CsvRecord{" +
+                "line=" + line +
+                ", fields=" + Arrays.toString(fields) +
+                '}';
+    }
+}
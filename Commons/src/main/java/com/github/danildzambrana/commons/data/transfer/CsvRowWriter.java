@@ -0,0 +1,76 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes the rows as CSV. See {@link ExportFormat#CSV}
+ */
+final class CsvRowWriter<T> extends RowWriter<T> {
+
+    CsvRowWriter(ExportSchema<T> schema, ChannelOutput out) {
+        super(schema, out);
+    }
+
+    @Override
+    void start() throws IOException {
+        List<ExportSchema.Column<T>> columns = schema.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeText(columns.get(i).getName());
+        }
+        out.write('\n');
+    }
+
+    @Override
+    void write(T value) throws IOException {
+        List<ExportSchema.Column<T>> columns = schema.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+
+            ExportSchema.Column<T> column = columns.get(i);
+            switch (column.getType()) {
+                case LONG:
+                    out.writeDecimal(column.getLong(value));
+                    break;
+                case DOUBLE:
+                    double number = column.getDouble(value);
+                    if (!Double.isNaN(number)) {
+                        out.writeAscii(Double.toString(number));
+                    }
+                    break;
+                default:
+                    String text = column.getString(value);
+                    if (text != null) {
+                        writeText(text);
+                    }
+            }
+        }
+        out.write('\n');
+    }
+
+    private void writeText(String text) throws IOException {
+        boolean quoted = false;
+        for (int i = 0; i < text.length() && !quoted; i++) {
+            char c = text.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quoted) {
+            out.writeUtf8(text);
+            return;
+        }
+
+        out.write('"');
+        for (int i = 0; i < text.length(); ) {
+            if (text.charAt(i) == '"') {
+                out.write('"');
+            }
+            i = out.writeUtf8(text, i);
+        }
+        out.write('"');
+    }
+}
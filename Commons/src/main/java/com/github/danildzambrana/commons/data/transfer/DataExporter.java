@@ -0,0 +1,255 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import com.github.danildzambrana.commons.data.DataQuery;
+import com.github.danildzambrana.commons.data.IDataManager;
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bulk export of the values of an {@link IDataManager} to a file.
+ * <p>
+ * The values are read with {@link IDataManager#stream(DataQuery)}, a server-side cursor that fetches them in
+ * blocks of the fetch size of the query in {@link com.github.danildzambrana.commons.data.mysql.MySQLManager} and
+ * {@link com.github.danildzambrana.commons.data.mongo.MongoManager}, and each value is encoded into a buffer that
+ * is written to the channel of the file when it is full. Only the current block of the cursor, the buffer and,
+ * for {@link ExportFormat#COLUMNAR}, the current group of rows are held in memory.
+ *
+ * @param <T> Type of the exported values.
+ */
+public class DataExporter<T> {
+    private final ExportSchema<T> schema;
+    private final ExportFormat    format;
+    private final boolean         gzip;
+    private final int             bufferSize;
+    private final int             groupSize;
+
+    private DataExporter(Builder<T> builder) {
+        FieldUtils.requireArgument(builder.getSchema() != null, "the schema is required");
+        FieldUtils.requireArgument(builder.getFormat() != null, "the format is required");
+        FieldUtils.requireArgument(builder.getBufferSize() >= Double.BYTES);
+        FieldUtils.requireArgument(builder.getGroupSize() > 0);
+
+        this.schema     = builder.getSchema();
+        this.format     = builder.getFormat();
+        this.gzip       = builder.isGzip();
+        this.bufferSize = builder.getBufferSize();
+        this.groupSize  = builder.getGroupSize();
+    }
+
+    @NotNull
+    public static <T> Builder<T> builder(@NotNull ExportSchema<T> schema) {
+        return new Builder<T>().setSchema(schema);
+    }
+
+    /**
+     * Export the values found by the manager, use the fetch size of the query to tune the number of values per
+     * round trip.
+     *
+     * @param manager the manager of the values.
+     * @param query   the criteria of the values to export.
+     * @param file    the file to write, it is replaced if it exists.
+     * @return the number of exported values.
+     * @throws IOException if the file can not be written.
+     */
+    public long export(@NotNull IDataManager<?, T> manager, @NotNull DataQuery<T> query, @NotNull Path file)
+            throws IOException {
+        try (Stream<T> values = manager.stream(query)) {
+            return export(values, file);
+        }
+    }
+
+    /**
+     * Export the values of a stream to a file.
+     *
+     * @param values the values to export.
+     * @param file   the file to write, it is replaced if it exists.
+     * @return the number of exported values.
+     * @throws IOException if the file can not be written.
+     */
+    public long export(@NotNull Stream<T> values, @NotNull Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            return export(values, channel);
+        }
+    }
+
+    /**
+     * Export the values of a stream to a channel, the channel is not closed.
+     *
+     * @param values  the values to export.
+     * @param channel the channel to write.
+     * @return the number of exported values.
+     * @throws IOException if the channel can not be written.
+     */
+    public long export(@NotNull Stream<T> values, @NotNull WritableByteChannel channel) throws IOException {
+        GzipOutput compressed = gzip ? new GzipOutput(Channels.newOutputStream(channel), bufferSize) : null;
+        try {
+            // The file channels write from direct memory without a copy, the stream channels copy to an array.
+            ChannelOutput out = compressed != null
+                    ? new ChannelOutput(Channels.newChannel(compressed), ByteBuffer.allocate(bufferSize))
+                    : new ChannelOutput(channel, ByteBuffer.allocateDirect(bufferSize));
+
+            RowWriter<T> writer = newWriter(out);
+            long         count  = 0;
+            writer.start();
+            for (Iterator<T> iterator = values.iterator(); iterator.hasNext(); ) {
+                writer.write(iterator.next());
+                count++;
+            }
+            writer.finish();
+            out.flush();
+
+            if (compressed != null) {
+                compressed.finish();
+            }
+            return count;
+        } finally {
+            if (compressed != null) {
+                compressed.end();
+            }
+        }
+    }
+
+    @NotNull
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    private RowWriter<T> newWriter(ChannelOutput out) {
+        switch (format) {
+            case CSV:
+                return new CsvRowWriter<>(schema, out);
+            case JSON_LINES:
+                return new JsonLinesRowWriter<>(schema, out);
+            default:
+                return new ColumnarRowWriter<>(schema, out, groupSize);
+        }
+    }
+
+    /**
+     * Gzip stream whose deflater can be released without {@link #close()}, which would also close the channel.
+     */
+    private static final class GzipOutput extends GZIPOutputStream {
+
+        private GzipOutput(OutputStream out, int size) throws IOException {
+            super(out, size);
+        }
+
+        /**
+         * Release the native memory of the deflater, the stream can not be written after it.
+         */
+        private void end() {
+            def.end();
+        }
+    }
+
+    /**
+     * Builder adapter to {@link DataExporter}
+     *
+     * @param <T> Type of the exported values.
+     */
+    public static class Builder<T> {
+        private ExportSchema<T> schema;
+        private ExportFormat    format     = ExportFormat.CSV;
+        private boolean         gzip;
+        private int             bufferSize = 64 * 1024;
+        private int             groupSize  = 8192;
+
+        private Builder() {
+        }
+
+        public ExportSchema<T> getSchema() {
+            return schema;
+        }
+
+        public Builder<T> setSchema(ExportSchema<T> schema) {
+            this.schema = schema;
+            return this;
+        }
+
+        public ExportFormat getFormat() {
+            return format;
+        }
+
+        /**
+         * Set the format of the file.
+         *
+         * @param format the format, {@link ExportFormat#CSV} by default.
+         * @return this builder.
+         */
+        public Builder<T> setFormat(ExportFormat format) {
+            this.format = format;
+            return this;
+        }
+
+        public boolean isGzip() {
+            return gzip;
+        }
+
+        /**
+         * Set if the file is compressed with gzip.
+         *
+         * @param gzip true to compress the file, false by default.
+         * @return this builder.
+         */
+        public Builder<T> setGzip(boolean gzip) {
+            this.gzip = gzip;
+            return this;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        /**
+         * Set the number of bytes encoded before they are written to the file.
+         *
+         * @param bufferSize the size of the buffer, 64 KB by default.
+         * @return this builder.
+         */
+        public Builder<T> setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public int getGroupSize() {
+            return groupSize;
+        }
+
+        /**
+         * Set the number of rows of each group of a {@link ExportFormat#COLUMNAR} file.
+         *
+         * @param groupSize the number of rows, 8192 by default.
+         * @return this builder.
+         */
+        public Builder<T> setGroupSize(int groupSize) {
+            this.groupSize = groupSize;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link DataExporter}
+         *
+         * @return {@link DataExporter} instance.
+         */
+        public @NotNull DataExporter<T> build() {
+            return new DataExporter<>(this);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+/**
+ * Formats of the files written by a {@link DataExporter}.
+ */
+public enum ExportFormat {
+    /**
+     * RFC 4180 text with a header of column names, the fields with a comma, a quote or a line break are quoted.
+     * The missing values are empty fields.
+     */
+    CSV,
+    /**
+     * One JSON object per line, the missing values are null.
+     */
+    JSON_LINES,
+    /**
+     * Compact binary file of groups of rows stored column by column, read it with {@link ColumnarReader}.
+     */
+    COLUMNAR
+}
@@ -0,0 +1,156 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Typed columns written by a {@link DataExporter}, each column reads one field of the exported values.
+ *
+ * @param <T> Type of the exported values.
+ */
+public final class ExportSchema<T> {
+    private final List<Column<T>> columns;
+
+    private ExportSchema(Builder<T> builder) {
+        FieldUtils.requireArgument(!builder.getColumns().isEmpty(), "at least one column is required");
+        this.columns = Collections.unmodifiableList(new ArrayList<>(builder.getColumns()));
+    }
+
+    @NotNull
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    @NotNull
+    public List<Column<T>> getColumns() {
+        return columns;
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    public enum ColumnType {
+        LONG,
+        DOUBLE,
+        STRING
+    }
+
+    /**
+     * Column of a schema, only the extractor of its type is set.
+     *
+     * @param <T> Type of the exported values.
+     */
+    public static final class Column<T> {
+        private final String              name;
+        private final ColumnType          type;
+        private final ToLongFunction<T>   longValue;
+        private final ToDoubleFunction<T> doubleValue;
+        private final Function<T, String> stringValue;
+
+        private Column(String name, ColumnType type, ToLongFunction<T> longValue, ToDoubleFunction<T> doubleValue,
+                       Function<T, String> stringValue) {
+            this.name        = name;
+            this.type        = type;
+            this.longValue   = longValue;
+            this.doubleValue = doubleValue;
+            this.stringValue = stringValue;
+        }
+
+        @NotNull
+        public String getName() {
+            return name;
+        }
+
+        @NotNull
+        public ColumnType getType() {
+            return type;
+        }
+
+        long getLong(T value) {
+            return longValue.applyAsLong(value);
+        }
+
+        double getDouble(T value) {
+            return doubleValue.applyAsDouble(value);
+        }
+
+        String getString(T value) {
+            return stringValue.apply(value);
+        }
+    }
+
+    /**
+     * Builder adapter to {@link ExportSchema}
+     *
+     * @param <T> Type of the exported values.
+     */
+    public static class Builder<T> {
+        private final List<Column<T>> columns = new ArrayList<>();
+        private final Set<String>     names   = new HashSet<>();
+
+        private Builder() {
+        }
+
+        List<Column<T>> getColumns() {
+            return columns;
+        }
+
+        /**
+         * Add a column of integers.
+         *
+         * @param name  the name of the column.
+         * @param value the function that obtains the value of the column.
+         * @return this builder.
+         */
+        public Builder<T> addLong(@NotNull String name, @NotNull ToLongFunction<T> value) {
+            return add(new Column<>(name, ColumnType.LONG, value, null, null));
+        }
+
+        /**
+         * Add a column of decimals, {@link Double#NaN} is written as a missing value.
+         *
+         * @param name  the name of the column.
+         * @param value the function that obtains the value of the column.
+         * @return this builder.
+         */
+        public Builder<T> addDouble(@NotNull String name, @NotNull ToDoubleFunction<T> value) {
+            return add(new Column<>(name, ColumnType.DOUBLE, null, value, null));
+        }
+
+        /**
+         * Add a column of texts, null is written as a missing value.
+         *
+         * @param name  the name of the column.
+         * @param value the function that obtains the value of the column.
+         * @return this builder.
+         */
+        public Builder<T> addString(@NotNull String name, @NotNull Function<T, String> value) {
+            return add(new Column<>(name, ColumnType.STRING, null, null, value));
+        }
+
+        private Builder<T> add(Column<T> column) {
+            FieldUtils.requireArgument(names.add(column.getName()), "duplicated column %s", column.getName());
+            columns.add(column);
+            return this;
+        }
+
+        /**
+         * build a instance of {@link ExportSchema}
+         *
+         * @return {@link ExportSchema} instance.
+         */
+        public @NotNull ExportSchema<T> build() {
+            return new ExportSchema<>(this);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Row of an import that was rejected by the validation or failed to be written.
+ */
+public final class ImportError {
+    private final long      line;
+    private final String    message;
+    private final Throwable cause;
+
+    ImportError(long line, @NotNull String message, @Nullable Throwable cause) {
+        this.line    = line;
+        this.message = message;
+        this.cause   = cause;
+    }
+
+    /**
+     * Get the line of the file where the row starts.
+     *
+     * @return the line, starting at 1.
+     */
+    public long getLine() {
+        return line;
+    }
+
+    @NotNull
+    public String getMessage() {
+        return message;
+    }
+
+    @Nullable
+    public Throwable getCause() {
+        return cause;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportError{" +
+                "line=" + line +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
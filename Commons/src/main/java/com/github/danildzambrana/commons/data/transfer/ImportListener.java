@@ -0,0 +1,26 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener of the progress of an import. It is called from the workers of the import, concurrently, so it must be
+ * thread-safe.
+ */
+public interface ImportListener {
+
+    /**
+     * Called after each batch is written.
+     *
+     * @param progress the progress of the import.
+     */
+    default void onProgress(@NotNull ImportProgress progress) {
+    }
+
+    /**
+     * Called for each row that was rejected or failed to be written.
+     *
+     * @param error the error of the row.
+     */
+    default void onError(@NotNull ImportError error) {
+    }
+}
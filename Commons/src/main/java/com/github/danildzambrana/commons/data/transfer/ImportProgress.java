@@ -0,0 +1,65 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+/**
+ * Snapshot of the progress of an import. See {@link ImportListener}
+ */
+public final class ImportProgress {
+    private final long rowsRead;
+    private final long imported;
+    private final long failed;
+    private final long bytesRead;
+    private final long totalBytes;
+
+    ImportProgress(long rowsRead, long imported, long failed, long bytesRead, long totalBytes) {
+        this.rowsRead   = rowsRead;
+        this.imported   = imported;
+        this.failed     = failed;
+        this.bytesRead  = bytesRead;
+        this.totalBytes = totalBytes;
+    }
+
+    /**
+     * Get the number of rows parsed, including the rows that are still being validated or written.
+     *
+     * @return the number of rows read.
+     */
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Get the fraction of the file that was read.
+     *
+     * @return the fraction, between 0 and 1.
+     */
+    public double getFraction() {
+        return totalBytes == 0 ? 1 : (double) bytesRead / totalBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportProgress{" +
+                "rowsRead=" + rowsRead +
+                ", imported=" + imported +
+                ", failed=" + failed +
+                ", bytesRead=" + bytesRead +
+                ", totalBytes=" + totalBytes +
+                '}';
+    }
+}
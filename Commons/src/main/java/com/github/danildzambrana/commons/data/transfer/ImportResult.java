@@ -0,0 +1,66 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of an import. See {@link CsvImporter}
+ */
+public final class ImportResult {
+    private final long              rowsRead;
+    private final long              imported;
+    private final long              failed;
+    private final List<ImportError> errors;
+    private final long              elapsedMillis;
+
+    ImportResult(long rowsRead, long imported, long failed, @NotNull List<ImportError> errors, long elapsedMillis) {
+        this.rowsRead      = rowsRead;
+        this.imported      = imported;
+        this.failed        = failed;
+        this.errors        = Collections.unmodifiableList(errors);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Get the errors of the failed rows, at most {@link CsvImporter.Builder#getMaxRecordedErrors()} of them in
+     * no particular order. Use an {@link ImportListener} to receive all of them.
+     *
+     * @return the recorded errors.
+     */
+    @NotNull
+    public List<ImportError> getErrors() {
+        return errors;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public boolean isAllSucceeded() {
+        return failed == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportResult{" +
+                "rowsRead=" + rowsRead +
+                ", imported=" + imported +
+                ", failed=" + failed +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+}
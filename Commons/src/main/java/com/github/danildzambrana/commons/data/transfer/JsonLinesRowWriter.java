@@ -0,0 +1,78 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes the rows as JSON objects. See {@link ExportFormat#JSON_LINES}
+ */
+final class JsonLinesRowWriter<T> extends RowWriter<T> {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    JsonLinesRowWriter(ExportSchema<T> schema, ChannelOutput out) {
+        super(schema, out);
+    }
+
+    @Override
+    void write(T value) throws IOException {
+        List<ExportSchema.Column<T>> columns = schema.getColumns();
+        out.write('{');
+        for (int i = 0; i < columns.size(); i++) {
+            ExportSchema.Column<T> column = columns.get(i);
+            if (i > 0) {
+                out.write(',');
+            }
+            writeString(column.getName());
+            out.write(':');
+
+            switch (column.getType()) {
+                case LONG:
+                    out.writeDecimal(column.getLong(value));
+                    break;
+                case DOUBLE:
+                    double number = column.getDouble(value);
+                    if (Double.isNaN(number) || Double.isInfinite(number)) {
+                        out.writeAscii("null");
+                    } else {
+                        out.writeAscii(Double.toString(number));
+                    }
+                    break;
+                default:
+                    String text = column.getString(value);
+                    if (text == null) {
+                        out.writeAscii("null");
+                    } else {
+                        writeString(text);
+                    }
+            }
+        }
+        out.write('}');
+        out.write('\n');
+    }
+
+    private void writeString(String text) throws IOException {
+        out.write('"');
+        for (int i = 0; i < text.length(); ) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c == '\n') {
+                out.writeAscii("\\n");
+            } else if (c == '\r') {
+                out.writeAscii("\\r");
+            } else if (c == '\t') {
+                out.writeAscii("\\t");
+            } else if (c < 0x20) {
+                out.writeAscii("\\u00");
+                out.write(HEX[c >> 4]);
+                out.write(HEX[c & 0xF]);
+            } else {
+                i = out.writeUtf8(text, i);
+                continue;
+            }
+            i++;
+        }
+        out.write('"');
+    }
+}
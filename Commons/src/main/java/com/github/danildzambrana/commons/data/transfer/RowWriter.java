@@ -0,0 +1,32 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import java.io.IOException;
+
+/**
+ * Encoder of the rows of an export in a {@link ExportFormat}.
+ *
+ * @param <T> Type of the exported values.
+ */
+abstract class RowWriter<T> {
+    protected final ExportSchema<T> schema;
+    protected final ChannelOutput   out;
+
+    RowWriter(ExportSchema<T> schema, ChannelOutput out) {
+        this.schema = schema;
+        this.out    = out;
+    }
+
+    /**
+     * Write what comes before the first row.
+     */
+    void start() throws IOException {
+    }
+
+    abstract void write(T value) throws IOException;
+
+    /**
+     * Write what comes after the last row.
+     */
+    void finish() throws IOException {
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.danildzambrana.commons.data.writebehind;
+
+/**
+ * Guarantee of the writes acknowledged by a {@link WriteBehindDataManager} before they reach the delegate manager.
+ */
+public enum Durability {
+    /**
+     * The writes are only kept in memory, they are lost if the process stops before they are flushed.
+     */
+    MEMORY,
+    /**
+     * The writes are appended to the journal, they survive a crash of the process but not of the operating system.
+     */
+    JOURNAL,
+    /**
+     * The writes are appended to the journal and forced to the disk before they are acknowledged, they survive a
+     * power loss. The concurrent writes share one force of the journal.
+     */
+    JOURNAL_SYNC
+}
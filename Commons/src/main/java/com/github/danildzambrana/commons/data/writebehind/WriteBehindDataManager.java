@@ -0,0 +1,830 @@
+package com.github.danildzambrana.commons.data.writebehind;
+
+import com.github.danildzambrana.commons.data.BatchResult;
+import com.github.danildzambrana.commons.data.DataQuery;
+import com.github.danildzambrana.commons.data.IConnection;
+import com.github.danildzambrana.commons.data.IDataManager;
+import com.github.danildzambrana.commons.data.SaveResult;
+import com.github.danildzambrana.commons.data.ValueCodec;
+import com.github.danildzambrana.commons.data.metrics.DataMetrics;
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Write-behind decorator of {@link IDataManager}. The writes are acknowledged once they are queued, with the
+ * guarantee of its {@link Durability}, and a background thread flushes them to the delegate manager with
+ * {@link IDataManager#saveAll(Collection)} and {@link IDataManager#deleteAll(Collection)}, so a single
+ * transaction or bulk write commits many writes. The flush starts when the batch size is reached or the flush
+ * interval ends, and only the last write of each id is flushed.
+ * <p>
+ * The reads of {@link #get(Object, Class)} and {@link #getAll(Collection, Class)} see the queued writes, the
+ * queries flush the queue first. The conflicts of the versioned values and the other errors of the delegate
+ * manager are only known when the writes are flushed, the rejected writes are retried a few times and then
+ * discarded, see {@link Builder#setDiscardListener(Consumer)}. A batch rejected as a whole is split until the
+ * rejected writes are found, so a single bad value does not discard the rest of its batch. A queued value must
+ * not be modified, copy it before changing it again.
+ * <p>
+ * A call that throws, or that fails every value while the connection is down or the store can not be read,
+ * see {@link IDataManager#exists(Object, Class)}, means that the delegate manager is unavailable: the writes
+ * of the flush stay queued and journaled without using their attempts, and the next flushes wait twice as long
+ * each time, up to {@link Builder#setMaxRetryInterval(Duration)}.
+ * <p>
+ * The queued writes are flushed by {@link #close()}, and replayed from the journal when a manager of the same
+ * journal is built after a crash.
+ *
+ * @param <I> Type of ID.
+ * @param <T> Type of object to save.
+ */
+public class WriteBehindDataManager<I, T> implements IDataManager<I, T>, AutoCloseable {
+    private final    IDataManager<I, T> delegate;
+    private final    Function<T, I>     idExtractor;
+    private final    ValueCodec<T>      codec;
+    private final    Durability         durability;
+    private final    WriteBehindJournal journal;
+    private final    int                batchSize;
+    private final    long               flushIntervalMillis;
+    private final    int                maxPending;
+    private final    int                maxAttempts;
+    private final    long               maxRetryIntervalMillis;
+    private final    Consumer<T>        discardListener;
+    private final    Object             lock      = new Object();
+    private final    Object             flushLock = new Object();
+    private final    LongAdder          coalesced = new LongAdder();
+    private final    LongAdder          batches   = new LongAdder();
+    private final    Thread             flusher;
+    private          Map<I, Write<T>>   pending   = new LinkedHashMap<>();
+    private          Map<I, Write<T>>   inFlight  = Collections.emptyMap();
+    private          boolean            closed;
+    private volatile boolean            unavailable;
+
+    private WriteBehindDataManager(Builder<I, T> builder) {
+        FieldUtils.requireArgument(builder.getDelegate() != null, "the delegate manager is required");
+        FieldUtils.requireArgument(builder.getIdExtractor() != null, "the id extractor is required");
+        FieldUtils.requireArgument(builder.getDurability() != null, "the durability is required");
+        FieldUtils.requireArgument(builder.getDurability() == Durability.MEMORY
+                || builder.getJournalDirectory() != null && builder.getCodec() != null,
+                "the journal directory and the codec are required by %s", builder.getDurability());
+        FieldUtils.requireArgument(builder.getBatchSize() > 0);
+        FieldUtils.requireArgument(builder.getFlushInterval() != null && builder.getFlushInterval().toMillis() > 0);
+        FieldUtils.requireArgument(builder.getMaxPending() >= builder.getBatchSize());
+        FieldUtils.requireArgument(builder.getMaxAttempts() > 0);
+        FieldUtils.requireArgument(builder.getMaxRetryInterval() != null);
+
+        this.delegate               = builder.getDelegate();
+        this.idExtractor            = builder.getIdExtractor();
+        this.codec                  = builder.getCodec();
+        this.durability             = builder.getDurability();
+        this.batchSize              = builder.getBatchSize();
+        this.flushIntervalMillis    = builder.getFlushInterval().toMillis();
+        this.maxPending             = builder.getMaxPending();
+        this.maxAttempts            = builder.getMaxAttempts();
+        this.maxRetryIntervalMillis = Math.max(builder.getMaxRetryInterval().toMillis(), flushIntervalMillis);
+        this.discardListener        = builder.getDiscardListener();
+
+        if (durability == Durability.MEMORY) {
+            this.journal = null;
+        } else {
+            try {
+                this.journal = new WriteBehindJournal(builder.getJournalDirectory(),
+                        durability == Durability.JOURNAL_SYNC, this::replay);
+            } catch (IOException e) {
+                throw new IllegalStateException("the journal can not be opened", e);
+            }
+        }
+
+        this.flusher = new Thread(this::runFlusher, "write-behind-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+
+        if (builder.isShutdownHook()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::close, "write-behind-shutdown"));
+        }
+    }
+
+    @NotNull
+    public static <I, T> Builder<I, T> builder(@NotNull IDataManager<I, T> delegate,
+                                               @NotNull Function<T, I> idExtractor) {
+        return new Builder<I, T>().setDelegate(delegate).setIdExtractor(idExtractor);
+    }
+
+    /**
+     * Queue the value to be saved, it replaces the queued write of the same id.
+     *
+     * @param t The value to save.
+     * @return true if the write was queued, false if it could not be written to the journal or the manager is
+     * closed.
+     */
+    @Override
+    public boolean save(@NotNull T t) {
+        return await(enqueue(t, false));
+    }
+
+    /**
+     * Queue the value to be saved, see {@link #save(Object)}. A conflict is only detected when the value is
+     * flushed, it is never reported by this method.
+     *
+     * @param t The value to save.
+     * @return {@link SaveResult#SAVED} if the write was queued, otherwise {@link SaveResult#FAILED}.
+     */
+    @Override
+    public SaveResult trySave(@NotNull T t) {
+        return save(t) ? SaveResult.SAVED : SaveResult.FAILED;
+    }
+
+    @Override
+    public Optional<T> get(@NotNull I id, Class<T> clazz) {
+        synchronized (lock) {
+            Write<T> write = queued(id);
+            if (write != null) {
+                return write.delete ? Optional.empty() : Optional.of(write.value);
+            }
+        }
+        return delegate.get(id, clazz);
+    }
+
+    /**
+     * Queue the value to be removed, it replaces the queued write of the same id.
+     *
+     * @param t value to remove.
+     * @return true if the write was queued, false if it could not be written to the journal or the manager is
+     * closed.
+     */
+    @Override
+    public boolean delete(@NotNull T t) {
+        return await(enqueue(t, true));
+    }
+
+    /**
+     * Queue the values to be saved, with a single force of the journal for all of them.
+     *
+     * @param values the values to save.
+     * @return the result of the queueing of each value.
+     */
+    @Override
+    public BatchResult<T> saveAll(@NotNull Collection<T> values) {
+        return enqueueAll(values, false);
+    }
+
+    @Override
+    public Map<I, T> getAll(@NotNull Collection<I> ids, Class<T> clazz) {
+        Map<I, T> queued  = new LinkedHashMap<>();
+        List<I>   missing = new ArrayList<>();
+        synchronized (lock) {
+            for (I id : ids) {
+                Write<T> write = queued(id);
+                if (write == null) {
+                    missing.add(id);
+                } else if (!write.delete) {
+                    queued.put(id, write.value);
+                }
+            }
+        }
+
+        Map<I, T> loaded = missing.isEmpty() ? Collections.emptyMap() : delegate.getAll(missing, clazz);
+        Map<I, T> result = new LinkedHashMap<>();
+        for (I id : ids) {
+            T t = queued.containsKey(id) ? queued.get(id) : loaded.get(id);
+            if (t != null) {
+                result.put(id, t);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public BatchResult<T> deleteAll(@NotNull Collection<T> values) {
+        return enqueueAll(values, true);
+    }
+
+    /**
+     * Flush the queue and find the values with the delegate manager.
+     *
+     * @param query the criteria of the values to find.
+     * @return the found values.
+     */
+    @Override
+    public List<T> find(@NotNull DataQuery<T> query) {
+        flush();
+        return delegate.find(query);
+    }
+
+    @Override
+    public Stream<T> stream(@NotNull DataQuery<T> query) {
+        flush();
+        return delegate.stream(query);
+    }
+
+    /**
+     * Send the queued writes to the delegate manager and wait until they are sent. The writes that fail are
+     * queued again, the remaining batches are not sent once the delegate manager is unavailable.
+     *
+     * @return true if every write was sent.
+     */
+    public boolean flush() {
+        synchronized (flushLock) {
+            Map<I, Write<T>> batch;
+            List<Path>       sealed = Collections.emptyList();
+            synchronized (lock) {
+                if (pending.isEmpty()) {
+                    unavailable = false;
+                    return true;
+                }
+
+                if (journal != null) {
+                    try {
+                        sealed = journal.rotate();
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                        return false;
+                    }
+                }
+                batch    = pending;
+                pending  = new LinkedHashMap<>();
+                inFlight = batch;
+            }
+
+            List<Write<T>> writes = new ArrayList<>(batch.values());
+            List<Write<T>> failed = new ArrayList<>();
+            List<Write<T>> unsent = new ArrayList<>();
+            for (int from = 0; from < writes.size(); from += batchSize) {
+                List<Write<T>> saves   = new ArrayList<>();
+                List<Write<T>> deletes = new ArrayList<>();
+                for (Write<T> write : writes.subList(from, Math.min(from + batchSize, writes.size()))) {
+                    (write.delete ? deletes : saves).add(write);
+                }
+                send(saves, delegate::saveAll, failed, unsent);
+                send(deletes, delegate::deleteAll, failed, unsent);
+            }
+
+            unavailable = !unsent.isEmpty();
+            return requeue(failed, unsent, sealed);
+        }
+    }
+
+    /**
+     * Stop the background flushes, flush the queued writes and close the journal. The writes that could not be
+     * flushed stay in the journal.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        boolean flushed = flush();
+        if (journal != null) {
+            try {
+                if (flushed) {
+                    journal.discard();
+                } else {
+                    journal.close();
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Get the number of ids with a queued write.
+     *
+     * @return the number of writes to flush.
+     */
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Get the number of writes that replaced a queued write of the same id, the writes that were not flushed.
+     *
+     * @return the number of coalesced writes.
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Get the number of calls to {@link IDataManager#saveAll(Collection)} and
+     * {@link IDataManager#deleteAll(Collection)} of the delegate manager.
+     *
+     * @return the number of batches.
+     */
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    @NotNull
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public IDataManager<I, T> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public DataMetrics getMetrics() {
+        return delegate.getMetrics();
+    }
+
+    @Override
+    public IConnection<?> getConnection() {
+        return delegate.getConnection();
+    }
+
+    /**
+     * Queue a write, the caller must pass the result to {@link #await(long)}.
+     *
+     * @return the position of the write in the journal, 0 without journal, or -1 if the write was not queued.
+     */
+    private long enqueue(T t, boolean delete) {
+        byte[] bytes;
+        try {
+            bytes = journal != null ? codec.encode(t) : null;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return -1;
+        }
+
+        I id = idExtractor.apply(t);
+        FieldUtils.requireArgument(id != null, "the value has no id");
+
+        synchronized (lock) {
+            while (!closed && pending.size() >= maxPending && !pending.containsKey(id)) {
+                try {
+                    lock.notifyAll();
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return -1;
+                }
+            }
+            if (closed) {
+                return -1;
+            }
+
+            long position = 0;
+            if (journal != null) {
+                try {
+                    position = journal.append(delete ? WriteBehindJournal.DELETE : WriteBehindJournal.SAVE, bytes);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    return -1;
+                }
+            }
+
+            if (pending.put(id, new Write<>(t, delete, bytes)) != null) {
+                coalesced.increment();
+            }
+            if (pending.size() >= batchSize) {
+                lock.notifyAll();
+            }
+            return position;
+        }
+    }
+
+    private BatchResult<T> enqueueAll(Collection<T> values, boolean delete) {
+        BatchResult<T> result = new BatchResult<>(values.size());
+        long           last   = 0;
+        for (T t : values) {
+            long position = enqueue(t, delete);
+            result.add(t, position >= 0);
+            last = Math.max(last, position);
+        }
+
+        if (!await(last)) {
+            return BatchResult.of(values, false);
+        }
+        return result;
+    }
+
+    /**
+     * Wait until the write is durable, as required by the durability of the manager.
+     */
+    private boolean await(long position) {
+        if (position <= 0) {
+            return position == 0;
+        }
+
+        try {
+            journal.sync(position);
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    private Write<T> queued(I id) {
+        Write<T> write = pending.get(id);
+        return write != null ? write : inFlight.get(id);
+    }
+
+    /**
+     * Send the writes in a single call to the delegate manager. When every write of a call is rejected, as a
+     * transactional batch does for a single bad value, the writes are sent again in halves until the rejected
+     * writes are isolated, so they do not use the attempts of the rest of the batch. The writes of a call that
+     * failed because the delegate manager is unavailable, and of every call after it, are not split nor sent.
+     */
+    private void send(List<Write<T>> writes, Function<Collection<T>, BatchResult<T>> operation,
+                      List<Write<T>> failed, List<Write<T>> unsent) {
+        if (writes.isEmpty()) {
+            return;
+        }
+        if (!unsent.isEmpty()) {
+            unsent.addAll(writes);
+            return;
+        }
+
+        List<T> values = new ArrayList<>(writes.size());
+        for (Write<T> write : writes) {
+            values.add(write.value);
+        }
+
+        List<Write<T>> rejected = new ArrayList<>();
+        boolean        called   = true;
+        try {
+            BatchResult<T> result = operation.apply(values);
+            batches.increment();
+            for (int i = 0; i < writes.size(); i++) {
+                if (!result.isSuccess(i)) {
+                    rejected.add(writes.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            called = false;
+        }
+
+        if (!called || rejected.size() == writes.size() && isUnavailable(writes.get(0))) {
+            unsent.addAll(writes);
+        } else if (writes.size() > 1 && rejected.size() == writes.size()) {
+            int middle = writes.size() / 2;
+            send(writes.subList(0, middle), operation, failed, unsent);
+            send(writes.subList(middle, writes.size()), operation, failed, unsent);
+        } else {
+            failed.addAll(rejected);
+        }
+    }
+
+    /**
+     * Check if a call whose every write failed could not reach the store of the delegate manager. The managers
+     * report an unavailable store as a failure of every value, so the store is read with the id of a write.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean isUnavailable(Write<T> write) {
+        IConnection<?> connection = delegate.getConnection();
+        if (connection != null && !connection.isConnected()) {
+            return true;
+        }
+
+        try {
+            delegate.exists(idExtractor.apply(write.value), (Class<T>) write.value.getClass());
+            return false;
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            return true;
+        }
+    }
+
+    /**
+     * Queue the failed and unsent writes again, unless a newer write of the same id is queued or the failed
+     * writes used their attempts, and delete the sealed segments once the writes queued again are in the journal.
+     */
+    private boolean requeue(List<Write<T>> failed, List<Write<T>> unsent, List<Path> sealed) {
+        List<T> discarded  = new ArrayList<>();
+        long    position   = 0;
+        boolean journaled  = true;
+        synchronized (lock) {
+            List<Write<T>> writes = new ArrayList<>(unsent);
+            for (Write<T> write : failed) {
+                if (++write.attempts >= maxAttempts) {
+                    discarded.add(write.value);
+                } else {
+                    writes.add(write);
+                }
+            }
+
+            for (Write<T> write : writes) {
+                I id = idExtractor.apply(write.value);
+                if (!pending.containsKey(id)) {
+                    pending.put(id, write);
+                    if (journal != null) {
+                        try {
+                            position = journal.append(write.delete ? WriteBehindJournal.DELETE
+                                    : WriteBehindJournal.SAVE, write.bytes);
+                        } catch (IOException e) {
+                            e.printStackTrace();
+                            journaled = false;
+                        }
+                    }
+                }
+            }
+            inFlight = Collections.emptyMap();
+            lock.notifyAll();
+        }
+
+        if (journal != null && journaled && await(position)) {
+            try {
+                journal.delete(sealed);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        if (discardListener != null) {
+            discarded.forEach(discardListener);
+        }
+        return failed.isEmpty() && unsent.isEmpty();
+    }
+
+    private void replay(byte operation, byte[] bytes) throws IOException {
+        T t = codec.decode(bytes);
+        pending.put(idExtractor.apply(t), new Write<>(t, operation == WriteBehindJournal.DELETE, bytes));
+    }
+
+    private void runFlusher() {
+        long interval = flushIntervalMillis;
+        while (true) {
+            synchronized (lock) {
+                // The lock is also notified by the writers and the flushes, wait until the interval ends. While
+                // the delegate manager is unavailable a full batch does not end the wait either.
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(interval);
+                while (!closed && (unavailable || pending.size() < batchSize)) {
+                    long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    try {
+                        lock.wait(remaining);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (closed) {
+                    return;
+                }
+            }
+
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+            interval = unavailable ? Math.min(interval * 2, maxRetryIntervalMillis) : flushIntervalMillis;
+        }
+    }
+
+    private static final class Write<T> {
+        private final T       value;
+        private final boolean delete;
+        private final byte[]  bytes;
+        private       int     attempts;
+
+        private Write(T value, boolean delete, byte[] bytes) {
+            this.value  = value;
+            this.delete = delete;
+            this.bytes  = bytes;
+        }
+    }
+
+    /**
+     * Builder adapter to {@link WriteBehindDataManager}
+     *
+     * @param <I> Type of ID.
+     * @param <T> Type of object to save.
+     */
+    public static class Builder<I, T> {
+        private IDataManager<I, T> delegate;
+        private Function<T, I>     idExtractor;
+        private ValueCodec<T>      codec            = ValueCodec.serialization();
+        private Path               journalDirectory;
+        private Durability         durability       = Durability.JOURNAL;
+        private int                batchSize        = 500;
+        private Duration           flushInterval    = Duration.ofMillis(200);
+        private int                maxPending       = 100_000;
+        private int                maxAttempts      = 3;
+        private Duration           maxRetryInterval = Duration.ofSeconds(30);
+        private Consumer<T>        discardListener;
+        private boolean            shutdownHook;
+
+        private Builder() {
+        }
+
+        public IDataManager<I, T> getDelegate() {
+            return delegate;
+        }
+
+        public Builder<I, T> setDelegate(IDataManager<I, T> delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        public Function<T, I> getIdExtractor() {
+            return idExtractor;
+        }
+
+        /**
+         * Set the function that obtains the id of a value, the writes of the same id are coalesced.
+         *
+         * @param idExtractor the function that obtains the id.
+         * @return this builder.
+         */
+        public Builder<I, T> setIdExtractor(Function<T, I> idExtractor) {
+            this.idExtractor = idExtractor;
+            return this;
+        }
+
+        public ValueCodec<T> getCodec() {
+            return codec;
+        }
+
+        /**
+         * Set the conversion of the values to the records of the journal.
+         *
+         * @param codec the codec, the Java serialization by default.
+         * @return this builder.
+         */
+        public Builder<I, T> setCodec(ValueCodec<T> codec) {
+            this.codec = codec;
+            return this;
+        }
+
+        public Path getJournalDirectory() {
+            return journalDirectory;
+        }
+
+        /**
+         * Set the directory of the journal, only one manager may use it at the same time.
+         *
+         * @param journalDirectory the directory, required unless the durability is {@link Durability#MEMORY}.
+         * @return this builder.
+         */
+        public Builder<I, T> setJournalDirectory(Path journalDirectory) {
+            this.journalDirectory = journalDirectory;
+            return this;
+        }
+
+        public Durability getDurability() {
+            return durability;
+        }
+
+        /**
+         * Set the guarantee of the writes before they are flushed.
+         *
+         * @param durability the durability, {@link Durability#JOURNAL} by default.
+         * @return this builder.
+         */
+        public Builder<I, T> setDurability(Durability durability) {
+            this.durability = durability;
+            return this;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        /**
+         * Set the number of queued ids that starts a flush, and the number of writes per call to the delegate
+         * manager.
+         *
+         * @param batchSize the number of writes, 500 by default.
+         * @return this builder.
+         */
+        public Builder<I, T> setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        /**
+         * Set the longest time a write is queued before it is flushed, if the delegate manager is available.
+         *
+         * @param flushInterval the time, 200 milliseconds by default.
+         * @return this builder.
+         */
+        public Builder<I, T> setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        public int getMaxPending() {
+            return maxPending;
+        }
+
+        /**
+         * Set the number of queued ids after which the writers wait for a flush.
+         *
+         * @param maxPending the number of ids, 100000 by default.
+         * @return this builder.
+         */
+        public Builder<I, T> setMaxPending(int maxPending) {
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        /**
+         * Set the number of flushes that may reject a value before it is discarded, the flushes that find the
+         * delegate manager unavailable are not counted.
+         *
+         * @param maxAttempts the number of flushes, 3 by default.
+         * @return this builder.
+         */
+        public Builder<I, T> setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Duration getMaxRetryInterval() {
+            return maxRetryInterval;
+        }
+
+        /**
+         * Set the longest time between two flushes while the delegate manager is unavailable, the time doubles
+         * from the flush interval after each unavailable flush.
+         *
+         * @param maxRetryInterval the time, 30 seconds by default, or the flush interval if it is longer.
+         * @return this builder.
+         */
+        public Builder<I, T> setMaxRetryInterval(Duration maxRetryInterval) {
+            this.maxRetryInterval = maxRetryInterval;
+            return this;
+        }
+
+        @Nullable
+        public Consumer<T> getDiscardListener() {
+            return discardListener;
+        }
+
+        /**
+         * Set the listener of the writes discarded after their attempts, it is called in the flushing thread.
+         *
+         * @param discardListener the listener, null to discard silently.
+         * @return this builder.
+         */
+        public Builder<I, T> setDiscardListener(@Nullable Consumer<T> discardListener) {
+            this.discardListener = discardListener;
+            return this;
+        }
+
+        public boolean isShutdownHook() {
+            return shutdownHook;
+        }
+
+        /**
+         * Set if the manager is closed, and its queue flushed, when the JVM shuts down.
+         *
+         * @param shutdownHook true to register a shutdown hook, false by default.
+         * @return this builder.
+         */
+        public Builder<I, T> setShutdownHook(boolean shutdownHook) {
+            this.shutdownHook = shutdownHook;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link WriteBehindDataManager}
+         *
+         * @return {@link WriteBehindDataManager} instance.
+         */
+        public @NotNull WriteBehindDataManager<I, T> build() {
+            return new WriteBehindDataManager<>(this);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.github.danildzambrana.commons.data.writebehind;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of the writes not yet flushed, split in segments. Every flush seals the current segment
+ * and the sealed segments are deleted once their writes reached the delegate manager.
+ * <p>
+ * Each record is the length of the value, the CRC-32 of the operation and the value, the operation and the value.
+ * A record cut by a crash fails the check and ends the replay of its segment.
+ */
+final class WriteBehindJournal implements Closeable {
+    static final byte SAVE   = 1;
+    static final byte DELETE = 2;
+
+    private static final String PREFIX = "write-behind-";
+    private static final String SUFFIX = ".log";
+    private static final int    HEADER = Integer.BYTES * 2 + 1;
+
+    private final Path        directory;
+    private final boolean     sync;
+    private final List<Path>  sealed   = new ArrayList<>();
+    private final Object      syncLock = new Object();
+    private final ByteBuffer  header   = ByteBuffer.allocate(HEADER);
+    private final CRC32       crc      = new CRC32();
+    private       Path        current;
+    private       FileChannel channel;
+    private       long        sequence;
+    private       long        written;
+    private       long        synced;
+
+    /**
+     * Open the journal of a directory, the records of the existing segments are replayed in order and the
+     * segments are sealed.
+     *
+     * @param directory the directory of the segments, it is created if it does not exist.
+     * @param sync      true to force the appended records to the disk in {@link #sync(long)}.
+     * @param replay    the consumer of the existing records.
+     * @throws IOException if the directory can not be read or written.
+     */
+    WriteBehindJournal(Path directory, boolean sync, Replay replay) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.sync      = sync;
+
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            files.forEach(segments::add);
+        }
+        Collections.sort(segments);
+
+        for (Path segment : segments) {
+            replay(segment, replay);
+            sealed.add(segment);
+
+            String name = segment.getFileName().toString();
+            sequence = Math.max(sequence,
+                    Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())));
+        }
+        open();
+    }
+
+    /**
+     * Append a record, it is forced to the disk by {@link #sync(long)}.
+     *
+     * @return the position of the end of the record in the journal, to pass to {@link #sync(long)}.
+     */
+    synchronized long append(byte operation, byte[] value) throws IOException {
+        crc.reset();
+        crc.update(operation);
+        crc.update(value, 0, value.length);
+        header.clear();
+        header.putInt(value.length).putInt((int) crc.getValue()).put(operation).flip();
+
+        ByteBuffer[] record = {header, ByteBuffer.wrap(value)};
+        while (header.hasRemaining() || record[1].hasRemaining()) {
+            channel.write(record);
+        }
+        written += HEADER + value.length;
+        return written;
+    }
+
+    /**
+     * Force the records up to the position to the disk. A single force covers the records appended by every
+     * thread, the threads that wait for it do not force again.
+     *
+     * @param position the position returned by {@link #append(byte, byte[])}.
+     */
+    void sync(long position) throws IOException {
+        if (!sync) {
+            return;
+        }
+
+        synchronized (syncLock) {
+            if (synced >= position) {
+                return;
+            }
+
+            FileChannel channel;
+            long        end;
+            synchronized (this) {
+                channel = this.channel;
+                end     = written;
+            }
+
+            try {
+                channel.force(false);
+            } catch (ClosedChannelException e) {
+                // The segment was sealed, and forced, by a flush.
+            }
+            synced = Math.max(synced, end);
+        }
+    }
+
+    /**
+     * Seal the current segment and start a new one.
+     *
+     * @return the sealed segments, to delete when their writes are flushed.
+     */
+    synchronized List<Path> rotate() throws IOException {
+        if (sync) {
+            channel.force(false);
+        }
+        channel.close();
+        sealed.add(current);
+        open();
+
+        List<Path> segments = new ArrayList<>(sealed);
+        sealed.clear();
+        return segments;
+    }
+
+    void delete(List<Path> segments) throws IOException {
+        for (Path segment : segments) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    /**
+     * Close the journal and delete every segment, the journal must not have writes to flush.
+     */
+    synchronized void discard() throws IOException {
+        channel.close();
+        sealed.add(current);
+        delete(sealed);
+        sealed.clear();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (sync && channel.isOpen()) {
+            channel.force(false);
+        }
+        channel.close();
+    }
+
+    private void open() throws IOException {
+        current = directory.resolve(String.format("%s%016d%s", PREFIX, ++sequence, SUFFIX));
+        channel = FileChannel.open(current, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    private void replay(Path segment, Replay replay) throws IOException {
+        long size = Files.size(segment);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment),
+                64 * 1024))) {
+            for (long position = 0; position + HEADER <= size; ) {
+                int  length    = in.readInt();
+                int  checksum  = in.readInt();
+                byte operation = in.readByte();
+                if (length < 0 || position + HEADER + length > size) {
+                    return;
+                }
+
+                byte[] value = new byte[length];
+                in.readFully(value);
+                crc.reset();
+                crc.update(operation);
+                crc.update(value, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    return;
+                }
+
+                replay.accept(operation, value);
+                position += HEADER + length;
+            }
+        } catch (EOFException e) {
+            // The last record was cut.
+        }
+    }
+
+    /**
+     * Consumer of the records of the existing segments.
+     */
+    @FunctionalInterface
+    interface Replay {
+        void accept(byte operation, byte[] value) throws IOException;
+    }
+}
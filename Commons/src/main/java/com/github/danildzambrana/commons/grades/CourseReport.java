@@ -0,0 +1,116 @@
+package com.github.danildzambrana.commons.grades;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Report card of a course computed by the {@link ReportPipeline}: the weighted final score, the pass or fail and
+ * the class rank of every student of the course.
+ *
+ * @param <C> Type of the course.
+ */
+public class CourseReport<C> {
+    private final C         course;
+    private final GradeBook book;
+    private final float[]   finals;
+    private final int[]     ranks;
+    private final float     passingScore;
+    private final int       passedCount;
+    private final double    average;
+
+    CourseReport(C course, GradeBook book, float[] finals, int[] ranks, float passingScore, int passedCount,
+                 double average) {
+        this.course       = course;
+        this.book         = book;
+        this.finals       = finals;
+        this.ranks        = ranks;
+        this.passingScore = passingScore;
+        this.passedCount  = passedCount;
+        this.average      = average;
+    }
+
+    /**
+     * Get the final score of a student.
+     *
+     * @param studentId the id of the student.
+     * @return the final score as a percentage, or {@link Float#NaN} if the student is not in the course.
+     */
+    public float getFinalScore(long studentId) {
+        int row = book.getRow(studentId);
+        return row < 0 ? Float.NaN : finals[row];
+    }
+
+    /**
+     * Get the class rank of a student, the students with the same final score share the rank.
+     *
+     * @param studentId the id of the student.
+     * @return the rank starting at 1, or 0 if the student is not in the course.
+     */
+    public int getRank(long studentId) {
+        int row = book.getRow(studentId);
+        return row < 0 ? 0 : ranks[row];
+    }
+
+    /**
+     * Check if a student passed the course.
+     *
+     * @param studentId the id of the student.
+     * @return true if the final score of the student reaches the passing score.
+     */
+    public boolean isPassed(long studentId) {
+        int row = book.getRow(studentId);
+        return row >= 0 && finals[row] >= passingScore;
+    }
+
+    public C getCourse() {
+        return course;
+    }
+
+    @NotNull
+    public GradeBook getBook() {
+        return book;
+    }
+
+    /**
+     * Get the final scores by row of the grade book, the array must not be modified.
+     *
+     * @return the final scores.
+     */
+    public float[] getFinalScores() {
+        return finals;
+    }
+
+    /**
+     * Get the class ranks by row of the grade book, the array must not be modified.
+     *
+     * @return the ranks.
+     */
+    public int[] getRanks() {
+        return ranks;
+    }
+
+    public int getStudentCount() {
+        return book.getStudentCount();
+    }
+
+    public int getPassedCount() {
+        return passedCount;
+    }
+
+    public int getFailedCount() {
+        return book.getStudentCount() - passedCount;
+    }
+
+    public double getAverage() {
+        return average;
+    }
+
+    @Override
+    public String toString() {
+        return "CourseReport{" +
+                "course=" + course +
+                ", students=" + getStudentCount() +
+                ", passed=" + passedCount +
+                ", average=" + average +
+                '}';
+    }
+}
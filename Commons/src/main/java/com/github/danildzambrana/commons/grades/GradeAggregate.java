@@ -0,0 +1,100 @@
+package com.github.danildzambrana.commons.grades;
+
+/**
+ * Snapshot of the aggregates of the grades of a course or a student. See {@link GradeAggregates}
+ */
+public final class GradeAggregate {
+    private final long   count;
+    private final double sum;
+    private final double sumSquares;
+    private final float  min;
+    private final float  max;
+    private final int[]  histogram;
+    private final float  bucketWidth;
+
+    GradeAggregate(long count, double sum, double sumSquares, float min, float max, int[] histogram,
+                   float bucketWidth) {
+        this.count       = count;
+        this.sum         = sum;
+        this.sumSquares  = sumSquares;
+        this.min         = min;
+        this.max         = max;
+        this.histogram   = histogram;
+        this.bucketWidth = bucketWidth;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * Get the average of the scores.
+     *
+     * @return the average, or {@link Double#NaN} if there are no scores.
+     */
+    public double getAverage() {
+        return count > 0 ? sum / count : Double.NaN;
+    }
+
+    /**
+     * Get the population standard deviation of the scores.
+     *
+     * @return the standard deviation, or {@link Double#NaN} if there are no scores.
+     */
+    public double getStandardDeviation() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+
+        double average = sum / count;
+        return Math.sqrt(Math.max(0, sumSquares / count - average * average));
+    }
+
+    /**
+     * Get the lowest score. After the removal of the lowest score it is the lower bound of the lowest bucket
+     * with scores, see {@link GradeAggregates}.
+     *
+     * @return the lowest score, or {@link Float#NaN} if there are no scores.
+     */
+    public float getMin() {
+        return min;
+    }
+
+    /**
+     * Get the highest score. After the removal of the highest score it is the upper bound of the highest bucket
+     * with scores, see {@link GradeAggregates}.
+     *
+     * @return the highest score, or {@link Float#NaN} if there are no scores.
+     */
+    public float getMax() {
+        return max;
+    }
+
+    /**
+     * Get the number of scores of each bucket, the bucket {@code i} counts the scores from
+     * {@code i * getBucketWidth()} inclusive to the next bucket. The array must not be modified.
+     *
+     * @return the histogram of the scores.
+     */
+    public int[] getHistogram() {
+        return histogram;
+    }
+
+    public float getBucketWidth() {
+        return bucketWidth;
+    }
+
+    @Override
+    public String toString() {
+        return "GradeAggregate{" +
+                "count=" + count +
+                ", average=" + getAverage() +
+                ", min=" + min +
+                ", max=" + max +
+                '}';
+    }
+}
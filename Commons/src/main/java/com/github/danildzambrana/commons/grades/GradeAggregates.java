@@ -0,0 +1,348 @@
+package com.github.danildzambrana.commons.grades;
+
+import com.github.danildzambrana.commons.data.events.DataChangeEvent;
+import com.github.danildzambrana.commons.data.events.DataChangeListener;
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Running aggregates of the grades per course and per student, updated in constant time on each change instead of
+ * recomputed from the database. Register a {@link #listener(ToLongFunction, Function, ToLongFunction,
+ * ToDoubleFunction)} in the manager of the grades to keep them current.
+ * <p>
+ * The store keeps the last score of each grade, so a change of score is applied as the removal of the old score
+ * and the addition of the new one. The minimum and maximum are exact until the grade that holds them is removed
+ * or changed, then they fall back to the bounds of the histogram buckets.
+ *
+ * @param <C> Type of the course.
+ */
+public class GradeAggregates<C> {
+    private final int                  buckets;
+    private final float                bucketWidth;
+    private final Map<Long, Grade<C>>  grades   = new HashMap<>();
+    private final Map<C, Aggregate>    courses  = new HashMap<>();
+    private final Map<Long, Aggregate> students = new HashMap<>();
+
+    private GradeAggregates(Builder<C> builder) {
+        FieldUtils.requireArgument(builder.getBuckets() > 0);
+        FieldUtils.requireArgument(builder.getMaxScore() > 0);
+
+        this.buckets     = builder.getBuckets();
+        this.bucketWidth = builder.getMaxScore() / builder.getBuckets();
+    }
+
+    @NotNull
+    public static <C> Builder<C> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Add a grade or change its score.
+     *
+     * @param gradeId   the id of the grade.
+     * @param course    the course of the grade.
+     * @param studentId the student of the grade.
+     * @param score     the score, {@link Float#NaN} to remove the grade.
+     */
+    public synchronized void apply(long gradeId, @NotNull C course, long studentId, float score) {
+        if (score != score) {
+            remove(gradeId);
+            return;
+        }
+
+        Grade<C> old = grades.put(gradeId, new Grade<>(course, studentId, score));
+        if (old != null) {
+            discard(old);
+        }
+        courses.computeIfAbsent(course, key -> new Aggregate(buckets)).add(score);
+        students.computeIfAbsent(studentId, key -> new Aggregate(buckets)).add(score);
+    }
+
+    /**
+     * Remove a grade.
+     *
+     * @param gradeId the id of the grade.
+     * @return true if the grade was aggregated.
+     */
+    public synchronized boolean remove(long gradeId) {
+        Grade<C> old = grades.remove(gradeId);
+        if (old == null) {
+            return false;
+        }
+
+        discard(old);
+        return true;
+    }
+
+    /**
+     * Get the aggregates of a course.
+     *
+     * @param course the course.
+     * @return the snapshot of the aggregates, or null if the course has no grades.
+     */
+    @Nullable
+    public synchronized GradeAggregate getCourse(@NotNull C course) {
+        Aggregate aggregate = courses.get(course);
+        return aggregate != null ? aggregate.snapshot() : null;
+    }
+
+    /**
+     * Get the aggregates of a student across all the courses.
+     *
+     * @param studentId the id of the student.
+     * @return the snapshot of the aggregates, or null if the student has no grades.
+     */
+    @Nullable
+    public synchronized GradeAggregate getStudent(long studentId) {
+        Aggregate aggregate = students.get(studentId);
+        return aggregate != null ? aggregate.snapshot() : null;
+    }
+
+    /**
+     * Get the aggregates of every course, this copies the aggregates of all the courses.
+     *
+     * @return the snapshots of the aggregates by course.
+     */
+    @NotNull
+    public synchronized Map<C, GradeAggregate> getCourses() {
+        Map<C, GradeAggregate> result = new LinkedHashMap<>();
+        for (Map.Entry<C, Aggregate> entry : courses.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return result;
+    }
+
+    public synchronized int getGradeCount() {
+        return grades.size();
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * Create the listener that applies the changes of the grades of a data manager to the aggregates.
+     *
+     * @param gradeId   the function that obtains the id of a grade.
+     * @param course    the function that obtains the course of a grade.
+     * @param studentId the function that obtains the student of a grade.
+     * @param score     the function that obtains the score of a grade.
+     * @param <T>       type of the grades.
+     * @return the listener, see {@link Listener#load(Stream)} to aggregate the existing grades.
+     */
+    @NotNull
+    public <T> Listener<T> listener(@NotNull ToLongFunction<T> gradeId, @NotNull Function<T, C> course,
+                                    @NotNull ToLongFunction<T> studentId, @NotNull ToDoubleFunction<T> score) {
+        return new Listener<>(gradeId, course, studentId, score);
+    }
+
+    private void discard(Grade<C> grade) {
+        if (courses.get(grade.course).remove(grade.score)) {
+            courses.remove(grade.course);
+        }
+        if (students.get(grade.studentId).remove(grade.score)) {
+            students.remove(grade.studentId);
+        }
+    }
+
+    private int bucket(float score) {
+        return Math.max(0, Math.min(buckets - 1, (int) (score / bucketWidth)));
+    }
+
+    /**
+     * Applies the changes of the grades of a data manager. See {@link #listener(ToLongFunction, Function,
+     * ToLongFunction, ToDoubleFunction)}
+     *
+     * @param <T> Type of the grades.
+     */
+    public final class Listener<T> implements DataChangeListener<T> {
+        private final ToLongFunction<T>   gradeId;
+        private final Function<T, C>      course;
+        private final ToLongFunction<T>   studentId;
+        private final ToDoubleFunction<T> score;
+
+        private Listener(ToLongFunction<T> gradeId, Function<T, C> course, ToLongFunction<T> studentId,
+                         ToDoubleFunction<T> score) {
+            this.gradeId   = gradeId;
+            this.course    = course;
+            this.studentId = studentId;
+            this.score     = score;
+        }
+
+        @Override
+        public void onChange(@NotNull DataChangeEvent<T> event) {
+            T value = event.getValue();
+            if (event.getType() == DataChangeEvent.Type.DELETED) {
+                remove(gradeId.applyAsLong(value));
+            } else {
+                apply(value);
+            }
+        }
+
+        /**
+         * Aggregate the existing grades, for example the stream of a data manager before the listener is
+         * registered.
+         *
+         * @param values the grades.
+         * @return the number of grades applied.
+         */
+        public long load(@NotNull Stream<T> values) {
+            long loaded = 0;
+            for (Iterator<T> iterator = values.iterator(); iterator.hasNext(); ) {
+                apply(iterator.next());
+                loaded++;
+            }
+            return loaded;
+        }
+
+        private void apply(T value) {
+            GradeAggregates.this.apply(gradeId.applyAsLong(value), course.apply(value),
+                    studentId.applyAsLong(value), (float) score.applyAsDouble(value));
+        }
+    }
+
+    private static final class Grade<C> {
+        private final C     course;
+        private final long  studentId;
+        private final float score;
+
+        private Grade(C course, long studentId, float score) {
+            this.course    = course;
+            this.studentId = studentId;
+            this.score     = score;
+        }
+    }
+
+    /**
+     * Mutable aggregates of a group of scores.
+     */
+    private final class Aggregate {
+        private final int[]  histogram;
+        private       long   count;
+        private       double sum;
+        private       double sumSquares;
+        private       float  min = Float.NaN;
+        private       float  max = Float.NaN;
+
+        private Aggregate(int buckets) {
+            this.histogram = new int[buckets];
+        }
+
+        private void add(float score) {
+            count++;
+            sum += score;
+            sumSquares += (double) score * score;
+            histogram[bucket(score)]++;
+            if (!(score >= min)) {
+                min = score;
+            }
+            if (!(score <= max)) {
+                max = score;
+            }
+        }
+
+        /**
+         * Remove a score.
+         *
+         * @return true if the aggregate is empty.
+         */
+        private boolean remove(float score) {
+            count--;
+            histogram[bucket(score)]--;
+            if (count == 0) {
+                sum        = 0;
+                sumSquares = 0;
+                min        = Float.NaN;
+                max        = Float.NaN;
+                return true;
+            }
+
+            sum -= score;
+            sumSquares -= (double) score * score;
+            // The next extreme is not tracked, the bounds of the closest bucket with scores are used instead.
+            if (score <= min) {
+                int bucket = 0;
+                while (histogram[bucket] == 0) {
+                    bucket++;
+                }
+                min = bucket * bucketWidth;
+            }
+            if (score >= max) {
+                int bucket = histogram.length - 1;
+                while (histogram[bucket] == 0) {
+                    bucket--;
+                }
+                max = (bucket + 1) * bucketWidth;
+            }
+            return false;
+        }
+
+        private GradeAggregate snapshot() {
+            return new GradeAggregate(count, sum, sumSquares, min, max, Arrays.copyOf(histogram, histogram.length),
+                    bucketWidth);
+        }
+    }
+
+    /**
+     * Builder adapter to {@link GradeAggregates}
+     *
+     * @param <C> Type of the course.
+     */
+    public static class Builder<C> {
+        private int   buckets  = 20;
+        private float maxScore = 100;
+
+        private Builder() {
+        }
+
+        public int getBuckets() {
+            return buckets;
+        }
+
+        /**
+         * Set the number of buckets of the histograms, they split the range of scores in equal parts.
+         *
+         * @param buckets the number of buckets, 20 by default.
+         * @return this builder.
+         */
+        public Builder<C> setBuckets(int buckets) {
+            this.buckets = buckets;
+            return this;
+        }
+
+        public float getMaxScore() {
+            return maxScore;
+        }
+
+        /**
+         * Set the maximum score of the grades, the higher scores are counted in the last bucket.
+         *
+         * @param maxScore the maximum score, 100 by default.
+         * @return this builder.
+         */
+        public Builder<C> setMaxScore(float maxScore) {
+            this.maxScore = maxScore;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link GradeAggregates}
+         *
+         * @return {@link GradeAggregates} instance.
+         */
+        public @NotNull GradeAggregates<C> build() {
+            return new GradeAggregates<>(this);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.github.danildzambrana.commons.grades;
+
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Aggregations over the columns of a {@link GradeBook}. The loops run over primitive arrays and write their results
+ * to arrays provided by the caller, so the arrays can be reused between reports without allocating.
+ * <p>
+ * The missing scores, {@link Float#NaN}, are ignored by every aggregation.
+ */
+public final class GradeAnalytics {
+
+    private GradeAnalytics() {
+    }
+
+    /**
+     * Compute the average of the scores.
+     *
+     * @param scores the scores, see {@link GradeBook#getColumn(int)}.
+     * @param count  the number of scores to read, see {@link GradeBook#getStudentCount()}.
+     * @return the average, or {@link Double#NaN} if there are no scores.
+     */
+    public static double average(@NotNull float[] scores, int count) {
+        double sum     = 0;
+        int    present = 0;
+        for (int i = 0; i < count; i++) {
+            float score = scores[i];
+            if (score == score) {
+                sum += score;
+                present++;
+            }
+        }
+        return present > 0 ? sum / present : Double.NaN;
+    }
+
+    /**
+     * Compute the weighted final score of every student, as a percentage of the maximum scores. The missing
+     * scores count as zero.
+     *
+     * @param book   the grade book.
+     * @param target the array that receives the final score of each row, at least as long as the number of
+     *               students.
+     * @return the number of final scores written.
+     */
+    public static int finalScores(@NotNull GradeBook book, @NotNull float[] target) {
+        int count = book.getStudentCount();
+        FieldUtils.requireArgument(target.length >= count, "the target must fit %s students", count);
+        finalScores(book, target, 0, count);
+        return count;
+    }
+
+    /**
+     * Compute the weighted final score of a range of rows, see {@link #finalScores(GradeBook, float[])}. The
+     * disjoint ranges of the same target can be computed concurrently.
+     *
+     * @param book   the grade book.
+     * @param target the array that receives the final score of each row.
+     * @param from   the first row, inclusive.
+     * @param to     the last row, exclusive.
+     */
+    public static void finalScores(@NotNull GradeBook book, @NotNull float[] target, int from, int to) {
+        FieldUtils.requireArgument(from >= 0 && from <= to && to <= book.getStudentCount());
+
+        double totalWeight = 0;
+        for (int assessment = 0; assessment < book.getAssessmentCount(); assessment++) {
+            totalWeight += book.getWeight(assessment);
+        }
+
+        Arrays.fill(target, from, to, 0);
+        if (totalWeight == 0) {
+            return;
+        }
+
+        // Column by column, so every loop reads a single array sequentially.
+        for (int assessment = 0; assessment < book.getAssessmentCount(); assessment++) {
+            float   factor = (float) (book.getWeight(assessment) * 100 / (book.getMaxScore(assessment) * totalWeight));
+            float[] column = book.getColumn(assessment);
+            for (int row = from; row < to; row++) {
+                float score = column[row];
+                if (score == score) {
+                    target[row] += score * factor;
+                }
+            }
+        }
+    }
+
+    /**
+     * Compute a percentile of the scores with linear interpolation between the closest ranks, in linear time.
+     *
+     * @param scores     the scores.
+     * @param count      the number of scores to read.
+     * @param percentile the percentile, between 0 and 100.
+     * @param scratch    a working array at least as long as the count, its content is overwritten.
+     * @return the percentile, or {@link Float#NaN} if there are no scores.
+     */
+    public static float percentile(@NotNull float[] scores, int count, double percentile, @NotNull float[] scratch) {
+        FieldUtils.requireArgument(percentile >= 0 && percentile <= 100);
+        FieldUtils.requireArgument(scratch.length >= count, "the scratch array must fit %s scores", count);
+
+        int present = 0;
+        for (int i = 0; i < count; i++) {
+            float score = scores[i];
+            if (score == score) {
+                scratch[present++] = score;
+            }
+        }
+        if (present == 0) {
+            return Float.NaN;
+        }
+
+        double rank     = percentile / 100 * (present - 1);
+        int    lower    = (int) rank;
+        double fraction = rank - lower;
+        float  value    = select(scratch, present, lower);
+        if (fraction == 0) {
+            return value;
+        }
+
+        // After the selection the next rank is the minimum of the upper partition.
+        float next = Float.POSITIVE_INFINITY;
+        for (int i = lower + 1; i < present; i++) {
+            next = Math.min(next, scratch[i]);
+        }
+        return (float) (value + (next - value) * fraction);
+    }
+
+    /**
+     * Compute the median of the scores. See {@link #percentile(float[], int, double, float[])}
+     *
+     * @param scores  the scores.
+     * @param count   the number of scores to read.
+     * @param scratch a working array at least as long as the count, its content is overwritten.
+     * @return the median, or {@link Float#NaN} if there are no scores.
+     */
+    public static float median(@NotNull float[] scores, int count, @NotNull float[] scratch) {
+        return percentile(scores, count, 50, scratch);
+    }
+
+    /**
+     * Sort the rows by score, from the highest to the lowest. The ties keep the order of the rows and the rows
+     * without score are left out.
+     *
+     * @param scores  the scores.
+     * @param count   the number of scores to read.
+     * @param order   the array that receives the rows in ranking order, at least as long as the count.
+     * @param scratch a working array at least as long as the count, its content is overwritten.
+     * @return the number of rows written to the order.
+     */
+    public static int ranking(@NotNull float[] scores, int count, @NotNull int[] order, @NotNull long[] scratch) {
+        FieldUtils.requireArgument(order.length >= count, "the order must fit %s rows", count);
+        int ranked = sortKeys(scores, count, scratch);
+        for (int i = 0; i < ranked; i++) {
+            order[i] = (int) scratch[i];
+        }
+        return ranked;
+    }
+
+    /**
+     * Compute the rank of every row, with standard competition ranking: the ties share the best rank and leave
+     * a gap after them (1, 2, 2, 4). The rows without score receive the rank 0.
+     *
+     * @param scores  the scores.
+     * @param count   the number of scores to read.
+     * @param ranks   the array that receives the rank of each row, at least as long as the count.
+     * @param scratch a working array at least as long as the count, its content is overwritten.
+     * @return the number of ranked rows.
+     */
+    public static int ranks(@NotNull float[] scores, int count, @NotNull int[] ranks, @NotNull long[] scratch) {
+        FieldUtils.requireArgument(ranks.length >= count, "the ranks must fit %s rows", count);
+        Arrays.fill(ranks, 0, count, 0);
+
+        int ranked = sortKeys(scores, count, scratch);
+        int rank   = 0;
+        for (int i = 0; i < ranked; i++) {
+            if (i == 0 || (int) (scratch[i] >> 32) != (int) (scratch[i - 1] >> 32)) {
+                rank = i + 1;
+            }
+            ranks[(int) scratch[i]] = rank;
+        }
+        return ranked;
+    }
+
+    /**
+     * Sort the rows with score as keys with the inverted sortable bits of the score in the high half and the row
+     * in the low half, so a primitive sort orders them by score descending and row ascending.
+     */
+    private static int sortKeys(float[] scores, int count, long[] scratch) {
+        FieldUtils.requireArgument(scratch.length >= count, "the scratch array must fit %s rows", count);
+
+        int present = 0;
+        for (int row = 0; row < count; row++) {
+            float score = scores[row];
+            if (score != score) {
+                continue;
+            }
+
+            int bits     = Float.floatToIntBits(score == 0 ? 0f : score);
+            int sortable = bits ^ ((bits >> 31) & 0x7fffffff);
+            scratch[present++] = ((long) ~sortable << 32) | row;
+        }
+        Arrays.sort(scratch, 0, present);
+        return present;
+    }
+
+    /**
+     * Move the value of rank k to its sorted position, the lower values before it and the higher after it.
+     */
+    private static float select(float[] values, int size, int k) {
+        int left  = 0;
+        int right = size - 1;
+        while (left < right) {
+            int   middle = (left + right) >>> 1;
+            float pivot  = median(values[left], values[middle], values[right]);
+
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    float swap = values[i];
+                    values[i] = values[j];
+                    values[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return values[k];
+            }
+        }
+        return values[k];
+    }
+
+    private static float median(float a, float b, float c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+}
@@ -0,0 +1,293 @@
+package com.github.danildzambrana.commons.grades;
+
+import com.github.danildzambrana.commons.data.DataQuery;
+import com.github.danildzambrana.commons.data.IDataManager;
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * In-memory columnar store of the grades of a term. Each student is a row and each assessment a column of
+ * primitive scores, a missing score is {@link Float#NaN}. See {@link GradeAnalytics} for the aggregations.
+ * <p>
+ * The grade book is not thread-safe, it must be loaded before it is shared with the readers.
+ */
+public class GradeBook {
+    private final String[]             assessments;
+    private final float[]              weights;
+    private final float[]              maxScores;
+    private final Map<String, Integer> assessmentIndexes;
+    private final StudentIndex         index;
+    private final float[][]            scores;
+    private       long[]               studentIds;
+    private       int                  studentCount;
+
+    private GradeBook(Builder builder) {
+        FieldUtils.requireArgument(!builder.getAssessments().isEmpty(), "at least one assessment is required");
+        FieldUtils.requireArgument(builder.getInitialCapacity() > 0);
+
+        int size = builder.getAssessments().size();
+        this.assessments       = new String[size];
+        this.weights           = new float[size];
+        this.maxScores         = new float[size];
+        this.assessmentIndexes = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Assessment assessment = builder.getAssessments().get(i);
+            assessments[i] = assessment.name;
+            weights[i]     = assessment.weight;
+            maxScores[i]   = assessment.maxScore;
+            FieldUtils.requireArgument(assessmentIndexes.put(assessment.name, i) == null,
+                    "duplicated assessment %s", assessment.name);
+        }
+
+        this.index      = new StudentIndex(builder.getInitialCapacity());
+        this.studentIds = new long[builder.getInitialCapacity()];
+        this.scores     = new float[size][];
+        for (int i = 0; i < size; i++) {
+            scores[i] = newColumn(builder.getInitialCapacity());
+        }
+    }
+
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Add the student if it is not in the grade book yet.
+     *
+     * @param studentId the id of the student.
+     * @return the row of the student.
+     */
+    public int addStudent(long studentId) {
+        int row = index.putIfAbsent(studentId, studentCount);
+        if (row == studentCount) {
+            if (studentCount == studentIds.length) {
+                grow();
+            }
+            studentIds[studentCount++] = studentId;
+        }
+        return row;
+    }
+
+    /**
+     * Set the score of a student, the student is added if it is not in the grade book yet.
+     *
+     * @param studentId  the id of the student.
+     * @param assessment the index of the assessment.
+     * @param score      the score, {@link Float#NaN} to remove it.
+     */
+    public void setScore(long studentId, int assessment, float score) {
+        FieldUtils.requireArgument(assessment >= 0 && assessment < assessments.length,
+                "unknown assessment %s", assessment);
+        int row = addStudent(studentId);
+        scores[assessment][row] = score;
+    }
+
+    /**
+     * Get the score of a student.
+     *
+     * @param studentId  the id of the student.
+     * @param assessment the index of the assessment.
+     * @return the score, or {@link Float#NaN} if the student has no score in the assessment.
+     */
+    public float getScore(long studentId, int assessment) {
+        int row = index.get(studentId);
+        return row < 0 ? Float.NaN : scores[assessment][row];
+    }
+
+    /**
+     * Load the grades of a stream with one grade per value, the scores already loaded are overwritten.
+     *
+     * @param values     the grades.
+     * @param studentId  the function that obtains the student of a grade.
+     * @param assessment the function that obtains the index of the assessment of a grade, a negative index
+     *                   skips the grade.
+     * @param score      the function that obtains the score of a grade.
+     * @param <T>        type of the grades.
+     * @return the number of grades loaded.
+     */
+    public <T> long load(@NotNull Stream<T> values, @NotNull ToLongFunction<T> studentId,
+                         @NotNull ToIntFunction<T> assessment, @NotNull ToDoubleFunction<T> score) {
+        long loaded = 0;
+        for (Iterator<T> iterator = values.iterator(); iterator.hasNext(); ) {
+            T   value  = iterator.next();
+            int column = assessment.applyAsInt(value);
+            if (column < 0) {
+                continue;
+            }
+
+            setScore(studentId.applyAsLong(value), column, (float) score.applyAsDouble(value));
+            loaded++;
+        }
+        return loaded;
+    }
+
+    /**
+     * Load the grades found by the manager, they are streamed so the entities are not kept in memory.
+     * See {@link #load(Stream, ToLongFunction, ToIntFunction, ToDoubleFunction)}
+     *
+     * @param manager    the manager of the grades.
+     * @param query      the criteria of the grades to load.
+     * @param studentId  the function that obtains the student of a grade.
+     * @param assessment the function that obtains the index of the assessment of a grade.
+     * @param score      the function that obtains the score of a grade.
+     * @param <T>        type of the grades.
+     * @return the number of grades loaded.
+     */
+    public <T> long load(@NotNull IDataManager<?, T> manager, @NotNull DataQuery<T> query,
+                         @NotNull ToLongFunction<T> studentId, @NotNull ToIntFunction<T> assessment,
+                         @NotNull ToDoubleFunction<T> score) {
+        try (Stream<T> values = manager.stream(query)) {
+            return load(values, studentId, assessment, score);
+        }
+    }
+
+    /**
+     * Get the column of scores of an assessment, indexed by row. The column may be longer than the number of
+     * students and must not be modified.
+     *
+     * @param assessment the index of the assessment.
+     * @return the scores of the assessment.
+     */
+    public float[] getColumn(int assessment) {
+        return scores[assessment];
+    }
+
+    /**
+     * Get the row of a student.
+     *
+     * @param studentId the id of the student.
+     * @return the row, or -1 if the student is not in the grade book.
+     */
+    public int getRow(long studentId) {
+        return index.get(studentId);
+    }
+
+    public long getStudentId(int row) {
+        return studentIds[row];
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    public int getAssessmentCount() {
+        return assessments.length;
+    }
+
+    /**
+     * Get the index of an assessment, use it to obtain the column of the assessment.
+     *
+     * @param name the name of the assessment.
+     * @return the index, or -1 if the assessment does not exist.
+     */
+    public int getAssessmentIndex(@NotNull String name) {
+        Integer assessment = assessmentIndexes.get(name);
+        return assessment != null ? assessment : -1;
+    }
+
+    public String getAssessmentName(int assessment) {
+        return assessments[assessment];
+    }
+
+    public float getWeight(int assessment) {
+        return weights[assessment];
+    }
+
+    public float getMaxScore(int assessment) {
+        return maxScores[assessment];
+    }
+
+    private void grow() {
+        int capacity = studentIds.length * 2;
+        studentIds = Arrays.copyOf(studentIds, capacity);
+        for (int i = 0; i < scores.length; i++) {
+            float[] column = newColumn(capacity);
+            System.arraycopy(scores[i], 0, column, 0, studentCount);
+            scores[i] = column;
+        }
+    }
+
+    private static float[] newColumn(int capacity) {
+        float[] column = new float[capacity];
+        Arrays.fill(column, Float.NaN);
+        return column;
+    }
+
+    private static final class Assessment {
+        private final String name;
+        private final float  weight;
+        private final float  maxScore;
+
+        private Assessment(String name, float weight, float maxScore) {
+            this.name     = name;
+            this.weight   = weight;
+            this.maxScore = maxScore;
+        }
+    }
+
+    /**
+     * Builder adapter to {@link GradeBook}
+     */
+    public static class Builder {
+        private final List<Assessment> assessments     = new ArrayList<>();
+        private       int              initialCapacity = 1024;
+
+        private Builder() {
+        }
+
+        List<Assessment> getAssessments() {
+            return assessments;
+        }
+
+        /**
+         * Add an assessment of the term, the assessments are indexed in the order they are added.
+         *
+         * @param name     the name of the assessment.
+         * @param weight   the weight of the assessment in the final score.
+         * @param maxScore the maximum score of the assessment.
+         * @return this builder.
+         */
+        public Builder addAssessment(@NotNull String name, float weight, float maxScore) {
+            FieldUtils.requireArgument(weight >= 0);
+            FieldUtils.requireArgument(maxScore > 0);
+            this.assessments.add(new Assessment(name, weight, maxScore));
+            return this;
+        }
+
+        public int getInitialCapacity() {
+            return initialCapacity;
+        }
+
+        /**
+         * Set the number of students that fit in the grade book before its columns grow.
+         *
+         * @param initialCapacity the expected number of students.
+         * @return this builder.
+         */
+        public Builder setInitialCapacity(int initialCapacity) {
+            this.initialCapacity = initialCapacity;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link GradeBook}
+         *
+         * @return {@link GradeBook} instance.
+         */
+        public @NotNull GradeBook build() {
+            return new GradeBook(this);
+        }
+    }
+}
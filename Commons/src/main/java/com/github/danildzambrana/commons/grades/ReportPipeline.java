@@ -0,0 +1,318 @@
+package com.github.danildzambrana.commons.grades;
+
+import com.github.danildzambrana.commons.utils.FieldUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Computes the report cards of many courses on a {@link ForkJoinPool}. The courses are split between the workers,
+ * each course loads its {@link GradeBook} and the final scores of its students are computed in row ranges, so a
+ * large course is also spread across the workers. The class ranks and the pass or fail of each course are computed
+ * once its final scores are ready.
+ * <p>
+ * The loading of a course runs as a {@link ForkJoinPool.ManagedBlocker}, the pool may add workers while the
+ * grades are fetched so the computation does not stall on the database. The added workers do not add loads, at
+ * most as many courses as the parallelism of the pool are loaded at the same time.
+ *
+ * @param <C> Type of the course.
+ */
+public class ReportPipeline<C> {
+    private final ForkJoinPool pool;
+    private final boolean      ownPool;
+    private final Semaphore    loads;
+    private final float        passingScore;
+    private final int          rowsPerTask;
+
+    private ReportPipeline(Builder<C> builder) {
+        FieldUtils.requireArgument(builder.getParallelism() > 0);
+        FieldUtils.requireArgument(builder.getRowsPerTask() > 0);
+
+        this.ownPool      = builder.getPool() == null;
+        this.pool         = ownPool ? new ForkJoinPool(builder.getParallelism()) : builder.getPool();
+        this.loads        = new Semaphore(pool.getParallelism());
+        this.passingScore = builder.getPassingScore();
+        this.rowsPerTask  = builder.getRowsPerTask();
+    }
+
+    @NotNull
+    public static <C> Builder<C> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Compute the report cards of the courses.
+     *
+     * @param courses the courses.
+     * @param loader  the function that loads the grades of a course, for example with
+     *                {@link GradeBook#load(com.github.danildzambrana.commons.data.IDataManager,
+     *                com.github.danildzambrana.commons.data.DataQuery, java.util.function.ToLongFunction,
+     *                java.util.function.ToIntFunction, java.util.function.ToDoubleFunction)}. It is called
+     *                concurrently, by at most {@link #getParallelism()} threads.
+     * @return the reports of the courses, and the courses whose loading failed with the cause of the failure.
+     */
+    @NotNull
+    public ReportResult<C> run(@NotNull Collection<C> courses, @NotNull Function<C, GradeBook> loader) {
+        List<C>               list     = new ArrayList<>(courses);
+        List<CourseReport<C>> reports  = new ArrayList<>(Collections.nCopies(list.size(), null));
+        List<Throwable>       failures = new ArrayList<>(Collections.nCopies(list.size(), null));
+        pool.invoke(new CoursesTask(list, loader, reports, failures, 0, list.size()));
+
+        List<CourseReport<C>> computed = new ArrayList<>(list.size());
+        Map<C, Throwable>     failed   = new LinkedHashMap<>();
+        for (int i = 0; i < list.size(); i++) {
+            if (failures.get(i) != null) {
+                failed.put(list.get(i), failures.get(i));
+            } else {
+                computed.add(reports.get(i));
+            }
+        }
+        return new ReportResult<>(computed, failed);
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public float getPassingScore() {
+        return passingScore;
+    }
+
+    /**
+     * Shut down the pool of the pipeline, a pool provided with {@link Builder#setPool(ForkJoinPool)} is not
+     * shut down.
+     */
+    public void close() {
+        if (ownPool) {
+            pool.shutdown();
+        }
+    }
+
+    private CourseReport<C> compute(C course, Function<C, GradeBook> loader) throws InterruptedException {
+        CourseLoad<C> load = new CourseLoad<>(course, loader);
+        // The permit is taken outside of the blocker, a worker waiting for it is not compensated.
+        loads.acquire();
+        try {
+            ForkJoinPool.managedBlock(load);
+        } finally {
+            loads.release();
+        }
+        GradeBook book = load.book;
+        if (book == null) {
+            throw new IllegalStateException("no grade book loaded for the course " + course);
+        }
+
+        int     count  = book.getStudentCount();
+        float[] finals = new float[count];
+        int[]   passed = new int[1];
+        new FinalScoresTask(book, finals, passed, 0, count).invoke();
+
+        int[] ranks = new int[count];
+        GradeAnalytics.ranks(finals, count, ranks, new long[count]);
+        return new CourseReport<>(course, book, finals, ranks, passingScore, passed[0],
+                GradeAnalytics.average(finals, count));
+    }
+
+    /**
+     * Splits the courses in halves until a single course is left.
+     */
+    private final class CoursesTask extends RecursiveAction {
+        private final List<C>                list;
+        private final Function<C, GradeBook> loader;
+        private final List<CourseReport<C>>  reports;
+        private final List<Throwable>        failures;
+        private final int                    from;
+        private final int                    to;
+
+        private CoursesTask(List<C> list, Function<C, GradeBook> loader, List<CourseReport<C>> reports,
+                            List<Throwable> failures, int from, int to) {
+            this.list     = list;
+            this.loader   = loader;
+            this.reports  = reports;
+            this.failures = failures;
+            this.from     = from;
+            this.to       = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                // Each task only sets its own index, the lists are not resized.
+                try {
+                    reports.set(from, ReportPipeline.this.compute(list.get(from), loader));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failures.set(from, e);
+                } catch (RuntimeException e) {
+                    failures.set(from, e);
+                }
+            } else if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CoursesTask(list, loader, reports, failures, from, middle),
+                        new CoursesTask(list, loader, reports, failures, middle, to));
+            }
+        }
+    }
+
+    /**
+     * Splits the rows of a course in ranges of at most {@link Builder#getRowsPerTask()} rows.
+     */
+    private final class FinalScoresTask extends RecursiveAction {
+        private final GradeBook book;
+        private final float[]   finals;
+        private final int[]     passed;
+        private final int       from;
+        private final int       to;
+
+        private FinalScoresTask(GradeBook book, float[] finals, int[] passed, int from, int to) {
+            this.book   = book;
+            this.finals = finals;
+            this.passed = passed;
+            this.from   = from;
+            this.to     = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > rowsPerTask) {
+                int             middle = (from + to) >>> 1;
+                int[]           right  = new int[1];
+                FinalScoresTask fork   = new FinalScoresTask(book, finals, right, middle, to);
+                fork.fork();
+                new FinalScoresTask(book, finals, passed, from, middle).compute();
+                fork.join();
+                passed[0] += right[0];
+                return;
+            }
+
+            GradeAnalytics.finalScores(book, finals, from, to);
+            int count = 0;
+            for (int row = from; row < to; row++) {
+                if (finals[row] >= passingScore) {
+                    count++;
+                }
+            }
+            passed[0] += count;
+        }
+    }
+
+    /**
+     * Loading of a course, run as a blocker so the pool can compensate the worker waiting for the grades.
+     */
+    private static final class CourseLoad<C> implements ForkJoinPool.ManagedBlocker {
+        private final C                      course;
+        private final Function<C, GradeBook> loader;
+        private       GradeBook              book;
+        private       boolean                done;
+
+        private CourseLoad(C course, Function<C, GradeBook> loader) {
+            this.course = course;
+            this.loader = loader;
+        }
+
+        @Override
+        public boolean block() {
+            book = loader.apply(course);
+            done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return done;
+        }
+    }
+
+    /**
+     * Builder adapter to {@link ReportPipeline}
+     *
+     * @param <C> Type of the course.
+     */
+    public static class Builder<C> {
+        private int          parallelism  = Runtime.getRuntime().availableProcessors();
+        private ForkJoinPool pool;
+        private float        passingScore = 60;
+        private int          rowsPerTask  = 4096;
+
+        private Builder() {
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Set the number of workers of the pool of the pipeline.
+         *
+         * @param parallelism the number of workers, the number of processors by default.
+         * @return this builder.
+         */
+        public Builder<C> setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public ForkJoinPool getPool() {
+            return pool;
+        }
+
+        /**
+         * Run the pipeline in an existing pool instead of a pool of its own, the parallelism is then ignored.
+         *
+         * @param pool the pool, null to create a pool with the configured parallelism.
+         * @return this builder.
+         */
+        public Builder<C> setPool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        public float getPassingScore() {
+            return passingScore;
+        }
+
+        /**
+         * Set the minimum final score, as a percentage, to pass a course.
+         *
+         * @param passingScore the passing score.
+         * @return this builder.
+         */
+        public Builder<C> setPassingScore(float passingScore) {
+            this.passingScore = passingScore;
+            return this;
+        }
+
+        public int getRowsPerTask() {
+            return rowsPerTask;
+        }
+
+        /**
+         * Set the number of students below which the final scores of a course are not split between workers.
+         *
+         * @param rowsPerTask the number of rows of the smallest task.
+         * @return this builder.
+         */
+        public Builder<C> setRowsPerTask(int rowsPerTask) {
+            this.rowsPerTask = rowsPerTask;
+            return this;
+        }
+
+        /**
+         * build a instance of {@link ReportPipeline}
+         *
+         * @return {@link ReportPipeline} instance.
+         */
+        public @NotNull ReportPipeline<C> build() {
+            return new ReportPipeline<>(this);
+        }
+    }
+}
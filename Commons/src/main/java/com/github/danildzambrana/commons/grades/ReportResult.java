@@ -0,0 +1,60 @@
+package com.github.danildzambrana.commons.grades;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a run of the {@link ReportPipeline}: the reports of the courses that were computed and the cause of
+ * the failure of the rest.
+ *
+ * @param <C> Type of the course.
+ */
+public class ReportResult<C> {
+    private final List<CourseReport<C>> reports;
+    private final Map<C, Throwable>     failures;
+
+    ReportResult(List<CourseReport<C>> reports, Map<C, Throwable> failures) {
+        this.reports  = Collections.unmodifiableList(reports);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Get the reports of the computed courses.
+     *
+     * @return the reports in the iteration order of the courses.
+     */
+    @NotNull
+    public List<CourseReport<C>> getReports() {
+        return reports;
+    }
+
+    /**
+     * Get the courses whose grades could not be loaded.
+     *
+     * @return the cause of the failure of each failed course, in the iteration order of the courses.
+     */
+    @NotNull
+    public Map<C, Throwable> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Check if the report of every course was computed.
+     *
+     * @return true if no course failed.
+     */
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ReportResult{" +
+                "reports=" + reports.size() +
+                ", failures=" + failures.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.danildzambrana.commons.grades;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing map of student ids to rows of a {@link GradeBook}, without boxing the keys.
+ */
+final class StudentIndex {
+    private static final int  ABSENT = -1;
+    private static final long MIX    = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private int[]  rows;
+    private int    shift;
+    private int    size;
+
+    StudentIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Get the row of the student.
+     *
+     * @param studentId the id of the student.
+     * @return the row, or -1 if the student is not indexed.
+     */
+    int get(long studentId) {
+        int mask = keys.length - 1;
+        for (int slot = slot(studentId); ; slot = (slot + 1) & mask) {
+            int row = rows[slot];
+            if (row == ABSENT || keys[slot] == studentId) {
+                return row;
+            }
+        }
+    }
+
+    /**
+     * Index the student if it is not indexed yet.
+     *
+     * @param studentId the id of the student.
+     * @param row       the row of the student if it is not indexed.
+     * @return the row of the student, the existing one if it was already indexed.
+     */
+    int putIfAbsent(long studentId, int row) {
+        int mask = keys.length - 1;
+        int slot = slot(studentId);
+        for (; rows[slot] != ABSENT; slot = (slot + 1) & mask) {
+            if (keys[slot] == studentId) {
+                return rows[slot];
+            }
+        }
+
+        keys[slot] = studentId;
+        rows[slot] = row;
+        if (++size * 2 > keys.length) {
+            rehash();
+        }
+        return row;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slot(long studentId) {
+        return (int) ((studentId * MIX) >>> shift);
+    }
+
+    private void allocate(int capacity) {
+        keys  = new long[capacity];
+        rows  = new int[capacity];
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        Arrays.fill(rows, ABSENT);
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        int[]  oldRows = rows;
+        allocate(oldKeys.length * 2);
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldRows[i] == ABSENT) {
+                continue;
+            }
+
+            int slot = slot(oldKeys[i]);
+            while (rows[slot] != ABSENT) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            rows[slot] = oldRows[i];
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.danildzambrana.commons.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class CachingDataManagerTest {
+    private final InMemoryDataManager<Long, String[]> delegate = new InMemoryDataManager<>(v -> Long.parseLong(v[0]));
+    private final CachingDataManager<Long, String[]>  manager  =
+            CachingDataManager.builder(delegate, (String[] v) -> Long.parseLong(v[0]))
+                    .setMaximumSize(100)
+                    .build();
+
+    @Test
+    void get() {
+        manager.save(new String[]{"1", "Juan"});
+
+        for (int i = 0; i < 10; i++) {
+            assert (manager.get(1L, String[].class).isPresent());
+        }
+
+        assert (delegate.getGetCalls() == 1);
+        assert (manager.getStats().hitCount() == 9);
+        assert (manager.getStats().missCount() == 1);
+    }
+
+    @Test
+    void save() {
+        manager.save(new String[]{"1", "Juan"});
+        manager.get(1L, String[].class);
+        manager.save(new String[]{"1", "Pedro"});
+
+        assert ("Pedro".equals(manager.get(1L, String[].class).map(v -> v[1]).orElse(null)));
+        assert (delegate.getGetCalls() == 2);
+    }
+
+    @Test
+    void delete() {
+        String[] value = {"1", "Juan"};
+        manager.save(value);
+        manager.get(1L, String[].class);
+        manager.delete(value);
+
+        assert (!manager.get(1L, String[].class).isPresent());
+    }
+
+    @Test
+    void getAll() {
+        manager.saveAll(Arrays.asList(new String[]{"1", "Juan"}, new String[]{"2", "Ana"}));
+        manager.get(1L, String[].class);
+
+        Map<Long, String[]> values = manager.getAll(Arrays.asList(1L, 2L, 3L), String[].class);
+
+        assert (values.size() == 2);
+        assert (delegate.getGetCalls() == 3);
+        assert (manager.getAll(Arrays.asList(1L, 2L), String[].class).size() == 2);
+        assert (delegate.getGetCalls() == 3);
+    }
+
+    @Test
+    void concurrentSave() throws Exception {
+        SlowDataManager                    slow    = new SlowDataManager();
+        CachingDataManager<Long, String[]> caching =
+                CachingDataManager.builder(slow, (String[] v) -> Long.parseLong(v[0])).build();
+        slow.save(new String[]{"1", "Juan"});
+        slow.save(new String[]{"2", "Ana"});
+
+        saveWhileLoading(slow, () -> caching.get(1L, String[].class), () -> caching.save(new String[]{"1", "Pedro"}));
+        saveWhileLoading(slow, () -> caching.getAll(Arrays.asList(2L), String[].class),
+                () -> caching.save(new String[]{"2", "Maria"}));
+
+        assert ("Pedro".equals(caching.get(1L, String[].class).map(v -> v[1]).orElse(null)));
+        assert ("Maria".equals(caching.getAll(Arrays.asList(2L), String[].class).get(2L)[1]));
+    }
+
+    /**
+     * Run the save once the load read the stored value, and let the load finish after the save.
+     */
+    private static void saveWhileLoading(SlowDataManager slow, Runnable load, Runnable save) throws Exception {
+        slow.read    = new CountDownLatch(1);
+        slow.release = new CountDownLatch(1);
+        Thread loader = new Thread(load);
+        loader.start();
+        assert (slow.read.await(10, TimeUnit.SECONDS));
+
+        Thread saver = new Thread(save);
+        saver.start();
+        saver.join(200);
+        slow.release.countDown();
+        loader.join();
+        saver.join();
+        slow.read = null;
+    }
+
+    /**
+     * Manager whose reads wait for a latch after reading the stored value.
+     */
+    private static class SlowDataManager extends InMemoryDataManager<Long, String[]> {
+        private volatile CountDownLatch read;
+        private volatile CountDownLatch release;
+
+        private SlowDataManager() {
+            super(v -> Long.parseLong(v[0]));
+        }
+
+        @Override
+        public Optional<String[]> get(@NotNull Long id, Class<String[]> clazz) {
+            Optional<String[]> value = super.get(id, clazz);
+            pause();
+            return value;
+        }
+
+        @Override
+        public Map<Long, String[]> getAll(@NotNull Collection<Long> ids, Class<String[]> clazz) {
+            Map<Long, String[]> values = super.getAll(ids, clazz);
+            pause();
+            return values;
+        }
+
+        private void pause() {
+            CountDownLatch read = this.read;
+            if (read == null || read.getCount() == 0) {
+                return;
+            }
+            read.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
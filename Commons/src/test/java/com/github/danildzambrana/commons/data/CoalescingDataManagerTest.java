@@ -0,0 +1,95 @@
+package com.github.danildzambrana.commons.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class CoalescingDataManagerTest {
+    private final InMemoryDataManager<Long, String[]> delegate = new InMemoryDataManager<>(v -> Long.parseLong(v[0]));
+
+    @Test
+    void coalesce() throws Exception {
+        delegate.save(new String[]{"1", "Juan"});
+        delegate.save(new String[]{"2", "Ana"});
+        CoalescingDataManager<Long, String[]> manager = CoalescingDataManager.builder(delegate)
+                .setWindow(Duration.ofMillis(500))
+                .build();
+
+        List<Optional<String[]>> values = get(manager, 16, 4);
+
+        for (int i = 0; i < values.size(); i++) {
+            assert (values.get(i).isPresent() == (i % 4 == 1 || i % 4 == 2));
+        }
+        assert (manager.getRequestCount() == 16);
+        assert (manager.getBatchCount() == 1);
+        assert (delegate.getGetCalls() == 4);
+    }
+
+    @Test
+    void maxBatchSize() throws Exception {
+        CoalescingDataManager<Long, String[]> manager = CoalescingDataManager.builder(delegate)
+                .setWindow(Duration.ofMinutes(1))
+                .setMaxBatchSize(3)
+                .build();
+
+        long start = System.nanoTime();
+        get(manager, 3, 3);
+
+        assert (Duration.ofNanos(System.nanoTime() - start).getSeconds() < 30);
+        assert (manager.getBatchCount() == 1);
+    }
+
+    @Test
+    void error() throws Exception {
+        IDataManager<Long, String[]> failing = new InMemoryDataManager<Long, String[]>(v -> Long.parseLong(v[0])) {
+            @Override
+            public Map<Long, String[]> getAll(@NotNull Collection<Long> ids, Class<String[]> clazz) {
+                throw new IllegalStateException("unavailable");
+            }
+        };
+        CoalescingDataManager<Long, String[]> manager = CoalescingDataManager.builder(failing)
+                .setWindow(Duration.ofMillis(1))
+                .build();
+
+        try {
+            manager.get(1L, String[].class);
+            assert false;
+        } catch (IllegalStateException e) {
+            assert ("unavailable".equals(e.getMessage()));
+        }
+    }
+
+    /**
+     * Call get from several threads at once, each thread asks for its index modulo the distinct ids.
+     */
+    private static List<Optional<String[]>> get(CoalescingDataManager<Long, String[]> manager, int threads,
+                                                int distinct) throws Exception {
+        ExecutorService                  executor = Executors.newFixedThreadPool(threads);
+        CyclicBarrier                    barrier  = new CyclicBarrier(threads);
+        List<Future<Optional<String[]>>> futures  = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            long id = i % distinct;
+            futures.add(executor.submit(() -> {
+                barrier.await();
+                return manager.get(id, String[].class);
+            }));
+        }
+
+        List<Optional<String[]>> values = new ArrayList<>();
+        for (Future<Optional<String[]>> future : futures) {
+            values.add(future.get());
+        }
+        executor.shutdown();
+        return values;
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.danildzambrana.commons.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+class ExecutorAsyncDataManagerTest {
+    private final InMemoryDataManager<Long, String[]> delegate = new InMemoryDataManager<>(v -> Long.parseLong(v[0]));
+
+    @Test
+    void get() {
+        try (ExecutorAsyncDataManager<Long, String[]> manager = ExecutorAsyncDataManager.builder(delegate)
+                .setThreads(4)
+                .build()) {
+            for (long i = 0; i < 500; i++) {
+                manager.save(new String[]{String.valueOf(i), "Juan"}).join();
+            }
+
+            List<CompletableFuture<Optional<String[]>>> futures = new ArrayList<>();
+            for (long i = 0; i < 500; i++) {
+                futures.add(manager.get(i, String[].class));
+            }
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+            for (CompletableFuture<Optional<String[]>> future : futures) {
+                assert (future.join().isPresent());
+            }
+        }
+    }
+
+    @Test
+    void rejectWhenSaturated() {
+        rejectWhenSaturated(false);
+    }
+
+    @Test
+    void rejectWhenSaturatedVirtualThreads() {
+        rejectWhenSaturated(true);
+    }
+
+    private void rejectWhenSaturated(boolean virtualThreads) {
+        CountDownLatch release = new CountDownLatch(1);
+        IDataManager<Long, String[]> blocking = new InMemoryDataManager<Long, String[]>(v -> Long.parseLong(v[0])) {
+            @Override
+            public boolean save(String[] strings) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.save(strings);
+            }
+        };
+
+        try (ExecutorAsyncDataManager<Long, String[]> manager = ExecutorAsyncDataManager.builder(blocking)
+                .setThreads(1)
+                .setQueueCapacity(1)
+                .setVirtualThreads(virtualThreads)
+                .build()) {
+            manager.save(new String[]{"1", "Juan"});
+            manager.save(new String[]{"2", "Ana"});
+            CompletableFuture<Boolean> rejected = manager.save(new String[]{"3", "Luis"});
+
+            try {
+                rejected.join();
+                assert (false);
+            } catch (CompletionException e) {
+                assert (e.getCause() instanceof RejectedExecutionException);
+            } finally {
+                release.countDown();
+            }
+        }
+    }
+
+    @Test
+    void virtualThreads() {
+        try (ExecutorAsyncDataManager<Long, String[]> manager = ExecutorAsyncDataManager.builder(delegate)
+                .setThreads(2)
+                .setVirtualThreads(true)
+                .build()) {
+            assert (manager.save(new String[]{"1", "Juan"}).join());
+            assert (manager.get(1L, String[].class).join().isPresent());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.danildzambrana.commons.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * {@link IDataManager} backed by a map, it counts the calls that reach it.
+ */
+public class InMemoryDataManager<I, T> implements IDataManager<I, T> {
+    private final Map<I, T>      values    = new ConcurrentHashMap<>();
+    private final Function<T, I> idExtractor;
+    private final AtomicInteger  saveCalls = new AtomicInteger();
+    private final AtomicInteger  getCalls  = new AtomicInteger();
+    private       IConnection<?> connection;
+
+    public InMemoryDataManager(Function<T, I> idExtractor) {
+        this.idExtractor = idExtractor;
+    }
+
+    @Override
+    public boolean save(@NotNull T t) {
+        saveCalls.incrementAndGet();
+        values.put(idExtractor.apply(t), t);
+        return true;
+    }
+
+    @Override
+    public Optional<T> get(@NotNull I id, Class<T> clazz) {
+        getCalls.incrementAndGet();
+        return Optional.ofNullable(values.get(id));
+    }
+
+    @Override
+    public boolean delete(@NotNull T t) {
+        return values.remove(idExtractor.apply(t)) != null;
+    }
+
+    @Override
+    public IConnection<?> getConnection() {
+        return connection;
+    }
+
+    void setConnection(IConnection<?> connection) {
+        this.connection = connection;
+    }
+
+    public Map<I, T> getValues() {
+        return values;
+    }
+
+    public int getSaveCalls() {
+        return saveCalls.get();
+    }
+
+    int getGetCalls() {
+        return getCalls.get();
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.danildzambrana.commons.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class OptimisticRetryTest {
+    private final VersionedManager manager = new VersionedManager();
+    private final OptimisticRetry  retry   = OptimisticRetry.builder()
+            .setMaxAttempts(1000)
+            .setBackoff(Duration.ofNanos(1000))
+            .build();
+
+    @Test
+    void conflict() {
+        manager.trySave(new long[]{1, 0, 10});
+        long[] first  = manager.get(1L, long[].class).get();
+        long[] second = manager.get(1L, long[].class).get();
+
+        assert (manager.trySave(first) == SaveResult.SAVED);
+        assert (manager.trySave(second) == SaveResult.CONFLICT);
+        assert (manager.get(1L, long[].class).get()[1] == 2);
+    }
+
+    @Test
+    void concurrentUpdates() throws InterruptedException {
+        manager.trySave(new long[]{1, 0, 0});
+
+        ExecutorService pool  = Executors.newFixedThreadPool(8);
+        AtomicInteger   saved = new AtomicInteger();
+        for (int i = 0; i < 400; i++) {
+            pool.execute(() -> {
+                SaveResult result = retry.update(manager, 1L, long[].class, grade -> {
+                    grade[2]++;
+                    return grade;
+                });
+                if (result == SaveResult.SAVED) {
+                    saved.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assert (pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assert (saved.get() == 400);
+        assert (manager.get(1L, long[].class).get()[2] == 400);
+    }
+
+    @Test
+    void missing() {
+        assert (retry.update(manager, 2L, long[].class, grade -> grade) == SaveResult.FAILED);
+    }
+
+    /**
+     * Stores {id, version, value} rows and only saves the rows with the stored version.
+     */
+    private static final class VersionedManager implements IDataManager<Long, long[]> {
+        private final Map<Long, long[]> values = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean save(@NotNull long[] row) {
+            return trySave(row) == SaveResult.SAVED;
+        }
+
+        @Override
+        public SaveResult trySave(@NotNull long[] row) {
+            long[] saved = row.clone();
+            saved[1]++;
+            long[] previous = values.putIfAbsent(row[0], saved);
+            if (previous != null && (previous[1] != row[1] || !values.replace(row[0], previous, saved))) {
+                return SaveResult.CONFLICT;
+            }
+            row[1] = saved[1];
+            return SaveResult.SAVED;
+        }
+
+        @Override
+        public Optional<long[]> get(@NotNull Long id, Class<long[]> clazz) {
+            long[] row = values.get(id);
+            return Optional.ofNullable(row != null ? row.clone() : null);
+        }
+
+        @Override
+        public boolean delete(@NotNull long[] row) {
+            return values.remove(row[0]) != null;
+        }
+
+        @Override
+        public IConnection<?> getConnection() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.danildzambrana.commons.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+class ReplicaRoutingDataManagerTest {
+    private final InMemoryDataManager<Long, String[]> primary = new InMemoryDataManager<>(v -> Long.parseLong(v[0]));
+    private final InMemoryDataManager<Long, String[]> first   = new InMemoryDataManager<>(v -> Long.parseLong(v[0]));
+    private final InMemoryDataManager<Long, String[]> second  = new InMemoryDataManager<>(v -> Long.parseLong(v[0]));
+    private final ReplicaConnection                   lag1    = new ReplicaConnection();
+    private final ReplicaConnection                   lag2    = new ReplicaConnection();
+
+    ReplicaRoutingDataManagerTest() {
+        first.setConnection(lag1);
+        second.setConnection(lag2);
+    }
+
+    @Test
+    void writesGoToPrimary() {
+        ReplicaRoutingDataManager<Long, String[]> manager = ReplicaRoutingDataManager.builder(primary)
+                .addReplica(first)
+                .addReplica(second)
+                .build();
+
+        manager.save(new String[]{"1", "Juan"});
+
+        assert (primary.getSaveCalls() == 1);
+        assert (first.getSaveCalls() == 0 && second.getSaveCalls() == 0);
+    }
+
+    @Test
+    void readsAreSpreadBetweenReplicas() {
+        ReplicaRoutingDataManager<Long, String[]> manager = ReplicaRoutingDataManager.builder(primary)
+                .addReplica(first)
+                .addReplica(second)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            manager.get(1L, String[].class);
+        }
+
+        assert (primary.getGetCalls() == 0);
+        assert (first.getGetCalls() == 5 && second.getGetCalls() == 5);
+    }
+
+    @Test
+    void staleReplicasAreSkipped() {
+        ReplicaRoutingDataManager<Long, String[]> manager = ReplicaRoutingDataManager.builder(primary)
+                .addReplica(first)
+                .addReplica(second)
+                .setMaxStaleness(Duration.ofSeconds(5))
+                .setLagCheckInterval(Duration.ZERO)
+                .build();
+
+        lag1.lagSeconds = 10;
+        for (int i = 0; i < 4; i++) {
+            manager.get(1L, String[].class);
+        }
+        assert (first.getGetCalls() == 0 && second.getGetCalls() == 4);
+
+        lag2.connected = false;
+        manager.get(1L, String[].class);
+        assert (primary.getGetCalls() == 1);
+    }
+
+    private static class ReplicaConnection implements IConnection<Object> {
+        private volatile boolean connected = true;
+        private volatile long    lagSeconds;
+
+        @Override
+        public @Nullable Object getConnection() {
+            return this;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return connected;
+        }
+
+        @Override
+        public long getReplicationLag(@NotNull TimeUnit unit) {
+            return unit.convert(lagSeconds, TimeUnit.SECONDS);
+        }
+    }
+}
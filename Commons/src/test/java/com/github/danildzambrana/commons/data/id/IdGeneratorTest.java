@@ -0,0 +1,77 @@
+package com.github.danildzambrana.commons.data.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class IdGeneratorTest {
+
+    @Test
+    void snowflakeIsUniqueAndOrdered() {
+        Instant              now       = Instant.ofEpochMilli(System.currentTimeMillis());
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.builder()
+                .setWorkerId(5)
+                .setClock(Clock.fixed(now, ZoneOffset.UTC))
+                .build();
+
+        // The fixed clock exhausts the sequence of the millisecond, the ids borrow the next ones.
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assert (id > previous);
+            assert ((id >>> SnowflakeIdGenerator.SEQUENCE_BITS & SnowflakeIdGenerator.MAX_WORKER_ID) == 5);
+            previous = id;
+        }
+        assert (!generator.getTime(previous).isBefore(now.plusMillis(2)));
+    }
+
+    @Test
+    void snowflakeIsUniqueBetweenThreads() throws InterruptedException {
+        assert (generate(SnowflakeIdGenerator.builder().build(), 4, 20_000) == 80_000);
+    }
+
+    @Test
+    void pooledReservesBlocks() throws InterruptedException {
+        Map<String, Long> sequences = new ConcurrentHashMap<>();
+        AtomicInteger     blocks    = new AtomicInteger();
+        IdBlockAllocator  allocator = (name, size) -> {
+            blocks.incrementAndGet();
+            return sequences.merge(name, (long) size, Long::sum) - size + 1;
+        };
+
+        PooledIdGenerator first = PooledIdGenerator.builder(allocator, "grades").setBlockSize(100).build();
+        assert (first.nextId() == 1);
+        assert (first.nextId() == 2);
+
+        // A second generator of the same sequence continues after the block of the first one.
+        PooledIdGenerator second = PooledIdGenerator.builder(allocator, "grades").setBlockSize(100).build();
+        assert (second.nextId() == 101);
+
+        assert (generate(first, 4, 5_000) == 20_000);
+        assert (blocks.get() == 2 + 200);
+    }
+
+    private static int generate(IdGenerator generator, int threads, int count) throws InterruptedException {
+        Set<Long>       ids      = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < count; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assert (executor.awaitTermination(30, TimeUnit.SECONDS));
+        return ids.size();
+    }
+}
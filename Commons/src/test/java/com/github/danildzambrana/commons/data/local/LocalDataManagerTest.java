@@ -0,0 +1,216 @@
+package com.github.danildzambrana.commons.data.local;
+
+import com.github.danildzambrana.commons.data.InMemoryDataManager;
+import com.github.danildzambrana.commons.data.SaveResult;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+class LocalDataManagerTest {
+    private final VersionedDataManager remote = new VersionedDataManager();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void offline() {
+        LocalDataManager<Long, String[]> manager = builder().build();
+        remote.available = false;
+
+        assert (manager.save(new String[]{"1", "Juan", "0"}));
+        assert (manager.get(1L, String[].class).get()[1].equals("Juan"));
+        assert (!manager.get(2L, String[].class).isPresent());
+        assert (!manager.sync());
+        assert (manager.getDirtyCount() == 1);
+
+        remote.available = true;
+        assert (manager.sync());
+        assert (remote.getValues().get(1L)[1].equals("Juan"));
+        assert (manager.get(1L, String[].class).get()[2].equals("1"));
+        assert (manager.getDirtyCount() == 0);
+
+        manager.delete(manager.get(1L, String[].class).get());
+        assert (!manager.get(1L, String[].class).isPresent());
+        assert (manager.sync());
+        assert (remote.getValues().isEmpty());
+        manager.close();
+    }
+
+    @Test
+    void deleteOffline() {
+        remote.trySave(new String[]{"1", "Juan", "0"});
+        LocalDataManager<Long, String[]> manager = builder().build();
+        String[]                         value   = manager.get(1L, String[].class).get();
+
+        remote.available = false;
+        assert (manager.delete(value));
+        assert (!manager.sync());
+        assert (manager.getDirtyCount() == 1);
+        assert (manager.getFailed().containsKey(1L));
+
+        remote.available = true;
+        assert (manager.sync());
+        assert (remote.getValues().isEmpty());
+        assert (manager.getFailed().isEmpty());
+        manager.close();
+    }
+
+    @Test
+    void deleteRemoved() {
+        remote.trySave(new String[]{"1", "Juan", "0"});
+        LocalDataManager<Long, String[]> manager = builder().build();
+        String[]                         value   = manager.get(1L, String[].class).get();
+        remote.getValues().clear();
+
+        assert (manager.delete(value));
+        assert (manager.sync());
+        assert (remote.deletes == 1);
+        assert (manager.getFailed().isEmpty());
+        manager.close();
+    }
+
+    @Test
+    void failedChange() {
+        LocalDataManager<Long, String[]> manager = builder().build();
+        remote.rejected = 2L;
+        for (int i = 1; i <= 3; i++) {
+            manager.save(new String[]{String.valueOf(i), "Juan " + i, "0"});
+        }
+
+        assert (!manager.sync());
+        assert (remote.getValues().keySet().equals(new HashSet<>(Arrays.asList(1L, 3L))));
+        assert (manager.getFailed().keySet().equals(Collections.singleton(2L)));
+
+        assert (manager.discard(2L));
+        assert (!manager.get(2L, String[].class).isPresent());
+        assert (manager.getFailed().isEmpty());
+        assert (manager.sync());
+        manager.close();
+    }
+
+    @Test
+    void conflict() {
+        remote.trySave(new String[]{"1", "Juan", "0"});
+        remote.trySave(new String[]{"2", "Ana", "0"});
+        LocalDataManager<Long, String[]> manager = builder()
+                .setConflictResolver((local, stored) -> local[0].equals("2")
+                        ? new String[]{local[0], local[1], stored[2]}
+                        : stored)
+                .build();
+        String[] first  = manager.get(1L, String[].class).get().clone();
+        String[] second = manager.get(2L, String[].class).get().clone();
+
+        remote.trySave(new String[]{"1", "Pedro", "1"});
+        remote.trySave(new String[]{"2", "Maria", "1"});
+        first[1]  = "Luis";
+        second[1] = "Rosa";
+        manager.save(first);
+        manager.save(second);
+
+        assert (!manager.sync());
+        assert (manager.getConflictCount() == 2);
+        assert (manager.get(1L, String[].class).get()[1].equals("Pedro"));
+        assert (manager.sync());
+        assert (remote.getValues().get(2L)[1].equals("Rosa"));
+        assert (remote.getValues().get(2L)[2].equals("3"));
+        manager.close();
+    }
+
+    @Test
+    void recover() throws IOException {
+        remote.available = false;
+        LocalDataManager<Long, String[]> manager = builder().setInitialSize(4096).build();
+        for (int i = 0; i < 200; i++) {
+            manager.save(new String[]{"1", "Juan " + i, "0"});
+        }
+        manager.save(new String[]{"2", "Ana", "0"});
+        manager.delete(new String[]{"2", "Ana", "0"});
+
+        assert (manager.compact());
+        manager.close();
+        try (Stream<Path> files = Files.list(directory)) {
+            assert (files.count() == 1);
+        }
+
+        LocalDataManager<Long, String[]> reopened = builder().build();
+        assert (reopened.getDirtyCount() == 2);
+        assert (reopened.get(1L, String[].class).get()[1].equals("Juan 199"));
+        assert (!reopened.get(2L, String[].class).isPresent());
+
+        remote.available = true;
+        assert (reopened.sync());
+        assert (remote.getValues().size() == 1);
+        assert (remote.deletes == 0);
+        reopened.close();
+    }
+
+    private LocalDataManager.Builder<Long, String[]> builder() {
+        return LocalDataManager.builder(remote, (String[] v) -> Long.parseLong(v[0]), String[].class)
+                .setDirectory(directory)
+                .setSyncInterval(Duration.ofMinutes(1));
+    }
+
+    /**
+     * Remote manager of values with the version in the third element. Like the managers of the databases, an
+     * unavailable manager reports the failures as missing values, except {@link #exists(Long, Class)}.
+     */
+    private static class VersionedDataManager extends InMemoryDataManager<Long, String[]> {
+        private volatile boolean available = true;
+        private volatile long    rejected  = -1;
+        private volatile int     deletes;
+
+        private VersionedDataManager() {
+            super(v -> Long.parseLong(v[0]));
+        }
+
+        @Override
+        public synchronized SaveResult trySave(@NotNull String[] value) {
+            if (!available || Long.parseLong(value[0]) == rejected) {
+                return SaveResult.FAILED;
+            }
+
+            String[] stored = getValues().get(Long.parseLong(value[0]));
+            if (stored != null && !stored[2].equals(value[2])) {
+                return SaveResult.CONFLICT;
+            }
+            value[2] = String.valueOf(Long.parseLong(value[2]) + 1);
+            getValues().put(Long.parseLong(value[0]), value.clone());
+            return SaveResult.SAVED;
+        }
+
+        @Override
+        public Optional<String[]> get(@NotNull Long id, Class<String[]> clazz) {
+            if (!available) {
+                return Optional.empty();
+            }
+            return super.get(id, clazz).map(String[]::clone);
+        }
+
+        @Override
+        public boolean exists(@NotNull Long id, Class<String[]> clazz) {
+            if (!available) {
+                throw new IllegalStateException("offline");
+            }
+            return super.get(id, clazz).isPresent();
+        }
+
+        @Override
+        public synchronized boolean delete(@NotNull String[] value) {
+            deletes++;
+            if (!available) {
+                return false;
+            }
+            return super.delete(value);
+        }
+    }
+}
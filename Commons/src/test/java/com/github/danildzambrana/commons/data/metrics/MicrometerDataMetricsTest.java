@@ -0,0 +1,55 @@
+package com.github.danildzambrana.commons.data.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class MicrometerDataMetricsTest {
+    private final SimpleMeterRegistry   registry = new SimpleMeterRegistry();
+    private final MicrometerDataMetrics metrics  = new MicrometerDataMetrics(registry);
+
+    @Test
+    void success() {
+        metrics.start("mysql", DataOperation.SAVE_ALL).success(10);
+        metrics.start("mysql", DataOperation.SAVE_ALL).success(30);
+
+        assert (registry.get("scoremanager.data.operation")
+                .tags("store", "mysql", "operation", "save-all", "outcome", "success")
+                .timer().count() == 2);
+        assert (registry.get("scoremanager.data.items")
+                .tags("store", "mysql", "operation", "save-all")
+                .summary().totalAmount() == 40);
+    }
+
+    @Test
+    void failure() {
+        metrics.start("mongo", DataOperation.GET).failure(new IllegalStateException());
+        metrics.start("mongo", DataOperation.GET).failure(null);
+
+        assert (registry.get("scoremanager.data.operation")
+                .tags("store", "mongo", "operation", "get", "outcome", "failure")
+                .timer().count() == 2);
+        assert (registry.get("scoremanager.data.errors")
+                .tags("operation", "get", "exception", "IllegalStateException")
+                .counter().count() == 1);
+        assert (registry.get("scoremanager.data.errors")
+                .tags("operation", "get", "exception", "none")
+                .counter().count() == 1);
+    }
+
+    @Test
+    void sessionOpen() {
+        metrics.recordSessionOpen("mysql", TimeUnit.MILLISECONDS.toNanos(5));
+
+        assert (registry.get("scoremanager.data.session.open").timer().totalTime(TimeUnit.MILLISECONDS) == 5);
+    }
+
+    @Test
+    void noop() {
+        DataMetrics noop = DataMetrics.noop();
+
+        assert (!noop.isEnabled());
+        assert (noop.start("mysql", DataOperation.GET) == noop.start("mongo", DataOperation.SAVE));
+    }
+}
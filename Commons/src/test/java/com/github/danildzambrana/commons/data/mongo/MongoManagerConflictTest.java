@@ -0,0 +1,102 @@
+package com.github.danildzambrana.commons.data.mongo;
+
+import com.github.danildzambrana.commons.data.BatchResult;
+import com.github.danildzambrana.commons.data.OptimisticRetry;
+import com.github.danildzambrana.commons.data.SaveResult;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The memory backend does not apply a conditional update atomically when it arrives on several connections at once,
+ * so the manager uses a single connection: the server runs the commands one by one while the threads still race on
+ * the version of the entity.
+ */
+class MongoManagerConflictTest {
+    private final MongoServer                         server     = new MongoServer(new MemoryBackend());
+    private final InetSocketAddress                   address    = server.bind();
+    private final MongoConnection                     connection = MongoConnection.builder()
+            .setHost(address.getHostString())
+            .setPort(address.getPort())
+            .setDatabaseName("test")
+            .setMappedClazz(VersionedEntity.class)
+            .setConnectionsPerHost(1)
+            .build();
+    private final MongoManager<Long, VersionedEntity> manager    = new MongoManager<>(connection);
+
+    @AfterEach
+    void close() {
+        connection.close();
+        server.shutdown();
+    }
+
+    @Test
+    void trySave() {
+        assert (manager.trySave(new VersionedEntity(1L)) == SaveResult.SAVED);
+        VersionedEntity first  = manager.get(1L, VersionedEntity.class).get();
+        VersionedEntity second = manager.get(1L, VersionedEntity.class).get();
+        first.setScore(10);
+        second.setScore(20);
+
+        assert (manager.trySave(first) == SaveResult.SAVED);
+        assert (manager.trySave(second) == SaveResult.CONFLICT);
+        assert (manager.get(1L, VersionedEntity.class).get().getScore() == 10);
+    }
+
+    @Test
+    void saveAll() {
+        manager.saveAll(Arrays.asList(new VersionedEntity(1L), new VersionedEntity(2L)));
+        VersionedEntity stale = manager.get(1L, VersionedEntity.class).get();
+        VersionedEntity fresh = manager.get(1L, VersionedEntity.class).get();
+        VersionedEntity other = manager.get(2L, VersionedEntity.class).get();
+        fresh.setScore(10);
+        assert (manager.saveAll(Arrays.asList(fresh)).isAllSucceeded());
+
+        stale.setScore(20);
+        other.setScore(30);
+        long                         version = other.getVersion();
+        BatchResult<VersionedEntity> result  = manager.saveAll(Arrays.asList(stale, other));
+
+        assert (!result.isSuccess(0) && result.isSuccess(1));
+        assert (other.getVersion() == version + 1);
+        assert (manager.get(1L, VersionedEntity.class).get().getScore() == 10);
+        assert (manager.get(2L, VersionedEntity.class).get().getScore() == 30);
+    }
+
+    @Test
+    void concurrentUpdates() throws InterruptedException {
+        manager.trySave(new VersionedEntity(1L));
+        OptimisticRetry retry = OptimisticRetry.builder()
+                .setMaxAttempts(1000)
+                .setBackoff(Duration.ofMillis(1))
+                .build();
+
+        ExecutorService pool  = Executors.newFixedThreadPool(4);
+        AtomicInteger   saved = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            pool.execute(() -> {
+                SaveResult result = retry.update(manager, 1L, VersionedEntity.class, entity -> {
+                    entity.setScore(entity.getScore() + 1);
+                    return entity;
+                });
+                if (result == SaveResult.SAVED) {
+                    saved.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assert (pool.awaitTermination(60, TimeUnit.SECONDS));
+
+        assert (saved.get() == 100);
+        assert (manager.get(1L, VersionedEntity.class).get().getScore() == 100);
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.danildzambrana.commons.data.mongo;
+
+import com.github.danildzambrana.commons.data.BatchResult;
+import com.github.danildzambrana.commons.data.DataQuery;
+import com.github.danildzambrana.commons.data.events.DataChangeEvent;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+class MongoManagerMemoryTest {
+    private final MongoServer                       server     = new MongoServer(new MemoryBackend());
+    private final InetSocketAddress                 address    = server.bind();
+    private final MongoConnection                   connection = MongoConnection.builder()
+            .setHost(address.getHostString())
+            .setPort(address.getPort())
+            .setDatabaseName("test")
+            .setMappedClazz(TestEntity.class)
+            .build();
+    private final MongoManager<Long, TestEntity>    manager    = new MongoManager<>(connection);
+    private final List<DataChangeEvent<TestEntity>> events     = new CopyOnWriteArrayList<>();
+
+    MongoManagerMemoryTest() {
+        manager.addChangeListener(events::add);
+    }
+
+    @AfterEach
+    void close() {
+        connection.close();
+        server.shutdown();
+    }
+
+    @Test
+    void delete() {
+        TestEntity juan = entity(1L, "Juan", "Lopez", "15");
+        assert (manager.save(juan));
+        events.clear();
+
+        assert (manager.delete(juan));
+        assert (!manager.get(1L, TestEntity.class).isPresent());
+        assert (events.size() == 1);
+        assert (events.get(0).getType() == DataChangeEvent.Type.DELETED);
+        assert (events.get(0).getValue() == juan);
+
+        assert (!manager.delete(juan));
+        assert (events.size() == 1);
+    }
+
+    @Test
+    void saveAll() {
+        TestEntity juan = entity(1L, "Juan", "Lopez", "15");
+        TestEntity ana  = entity(2L, "Ana", "Perez", "16");
+        TestEntity luis = entity(3L, "Luis", "Gomez", "17");
+
+        BatchResult<TestEntity> result = manager.saveAll(Arrays.asList(juan, ana, luis));
+
+        assert (result.isAllSucceeded());
+        assert (events.size() == 3);
+        assert (manager.get(2L, TestEntity.class).get().getName().equals("Ana"));
+
+        ana.setName("Maria");
+        assert (manager.saveAll(Collections.singletonList(ana)).isAllSucceeded());
+        assert (manager.get(2L, TestEntity.class).get().getName().equals("Maria"));
+    }
+
+    @Test
+    void getAll() {
+        manager.saveAll(Arrays.asList(entity(1L, "Juan", "Lopez", "15"), entity(2L, "Ana", "Perez", "16")));
+
+        Map<Long, TestEntity> values = manager.getAll(Arrays.asList(2L, 3L, 1L), TestEntity.class);
+
+        assert (new ArrayList<>(values.keySet()).equals(Arrays.asList(2L, 1L)));
+        assert (values.get(1L).getName().equals("Juan"));
+        assert (manager.getAll(Collections.emptyList(), TestEntity.class).isEmpty());
+    }
+
+    @Test
+    void deleteAll() {
+        TestEntity juan = entity(1L, "Juan", "Lopez", "15");
+        TestEntity ana  = entity(2L, "Ana", "Perez", "16");
+        TestEntity luis = entity(3L, "Luis", "Gomez", "17");
+        manager.saveAll(Arrays.asList(juan, luis));
+        events.clear();
+
+        BatchResult<TestEntity> result = manager.deleteAll(Arrays.asList(juan, ana, luis));
+
+        assert (result.isSuccess(0) && !result.isSuccess(1) && result.isSuccess(2));
+        assert (manager.getAll(Arrays.asList(1L, 2L, 3L), TestEntity.class).isEmpty());
+        assert (events.size() == 2);
+        assert (events.get(0).getType() == DataChangeEvent.Type.DELETED);
+        assert (events.get(0).getValue() == juan && events.get(1).getValue() == luis);
+    }
+
+    @Test
+    void find() {
+        manager.saveAll(Arrays.asList(entity(1L, "Juan", "Lopez", "15"), entity(2L, "Ana", "Perez", "16"),
+                entity(3L, "Luis", "Lopez", "17")));
+
+        List<TestEntity> values = manager.find(DataQuery.of(TestEntity.class)
+                .equal("lastName", "Lopez")
+                .orderBy("id", false)
+                .limit(10));
+
+        assert (values.size() == 2);
+        assert (values.get(0).getId() == 3L && values.get(1).getId() == 1L);
+    }
+
+    @Test
+    void findAfter() {
+        manager.saveAll(Arrays.asList(entity(1L, "Juan", "Lopez", "15"), entity(2L, "Ana", "Perez", "15"),
+                entity(3L, "Luis", "Gomez", "16"), entity(4L, "Rosa", "Diaz", "14")));
+
+        List<Long> ids  = new ArrayList<>();
+        TestEntity last = null;
+        do {
+            DataQuery<TestEntity> query = DataQuery.of(TestEntity.class)
+                    .orderBy("age", true)
+                    .orderBy("id", true)
+                    .limit(2);
+            if (last != null) {
+                query.after(last.getAge(), last.getId());
+            }
+            List<TestEntity> page = manager.find(query);
+            page.forEach(entity -> ids.add(entity.getId()));
+            last = page.size() == 2 ? page.get(1) : null;
+        } while (last != null);
+
+        assert (ids.equals(Arrays.asList(4L, 1L, 2L, 3L)));
+    }
+
+    @Test
+    void stream() {
+        List<TestEntity> values = new ArrayList<>();
+        for (long i = 1; i <= 25; i++) {
+            values.add(entity(i, "Juan " + i, "Lopez", "15"));
+        }
+        manager.saveAll(values);
+
+        try (Stream<TestEntity> stream = manager.stream(DataQuery.of(TestEntity.class).fetchSize(10))) {
+            assert (stream.count() == 25);
+        }
+    }
+
+    @Test
+    void findReadOnly() {
+        manager.save(entity(1L, "Juan", "Lopez", "15"));
+
+        List<TestEntity> values = manager.find(DataQuery.of(TestEntity.class)
+                .select("name", "lastName")
+                .equal("lastName", "Lopez"));
+
+        assert (values.size() == 1);
+        assert (values.get(0).getName().equals("Juan"));
+        assert (values.get(0).getAge() == null);
+    }
+
+    private static TestEntity entity(long id, String name, String lastName, String age) {
+        TestEntity entity = new TestEntity(name, lastName, age);
+        entity.setId(id);
+        return entity;
+    }
+}
@@ -1,8 +1,12 @@
 package com.github.danildzambrana.commons.data.mongo;
 
+import com.github.danildzambrana.commons.data.DataQuery;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 class MongoManagerTest {
     private final MongoManager<Long, TestEntity> manager;
@@ -56,4 +60,68 @@ class MongoManagerTest {
             manager.delete(o);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void saveAll() {
+        assert (execute);
+        TestEntity other = new TestEntity("Ana", "Perez", "16");
+        other.setId(2L);
+
+        System.out.println(manager.saveAll(Arrays.asList(test, other)));
+    }
+
+    @Test
+    void getAll() {
+        assert (execute);
+        System.out.println(manager.getAll(Arrays.asList(1L, 2L, 3L), TestEntity.class));
+    }
+
+    @Test
+    void find() {
+        assert (execute);
+        System.out.println(manager.find(DataQuery.of(TestEntity.class)
+                .equal("lastName", "Lopez")
+                .orderBy("id", true)
+                .limit(10)));
+    }
+
+    @Test
+    void findAfter() {
+        assert (execute);
+        List<TestEntity> page = manager.find(DataQuery.of(TestEntity.class)
+                .orderBy("age", true)
+                .orderBy("id", true)
+                .limit(2));
+        if (page.isEmpty()) {
+            return;
+        }
+
+        TestEntity       last = page.get(page.size() - 1);
+        List<TestEntity> next = manager.find(DataQuery.of(TestEntity.class)
+                .orderBy("age", true)
+                .orderBy("id", true)
+                .after(last.getAge(), last.getId())
+                .limit(2));
+        for (TestEntity entity : next) {
+            int order = entity.getAge().compareTo(last.getAge());
+            assert (order > 0 || order == 0 && entity.getId() > last.getId());
+        }
+    }
+
+    @Test
+    void stream() {
+        assert (execute);
+        try (Stream<TestEntity> stream = manager.stream(DataQuery.of(TestEntity.class).fetchSize(100))) {
+            System.out.println(stream.count());
+        }
+    }
+
+    @Test
+    void findReadOnly() {
+        assert (execute);
+        System.out.println(manager.find(DataQuery.of(TestEntity.class)
+                .select("name", "lastName")
+                .equal("lastName", "Lopez")
+                .limit(10)));
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.danildzambrana.commons.data.mongo;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Version;
+
+@Entity("versioned_entity")
+public class VersionedEntity {
+    @Id
+    private Long id;
+
+    @Version
+    private Long version;
+
+    private int score;
+
+    public VersionedEntity(long id) {
+        this.id = id;
+    }
+
+    public VersionedEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+}
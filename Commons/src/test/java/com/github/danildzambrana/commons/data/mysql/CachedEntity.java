@@ -0,0 +1,33 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.io.Serializable;
+
+@Entity
+@Cacheable
+@Table(name = "cached_entity")
+public class CachedEntity implements Serializable {
+    @Id
+    private Long id;
+
+    private String name;
+
+    public CachedEntity(long id, String name) {
+        this.id   = id;
+        this.name = name;
+    }
+
+    public CachedEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
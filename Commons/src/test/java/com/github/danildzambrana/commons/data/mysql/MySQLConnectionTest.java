@@ -0,0 +1,158 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.Cache;
+import javax.persistence.Entity;
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+class MySQLConnectionTest {
+    private final MySQLConnection connection = MySQLConnection.builder()
+            .setUser("sa")
+            .setPassword("")
+            .setHost("localhost")
+            .setDataBaseName("test")
+            .setDialect("org.hibernate.dialect.H2Dialect")
+            .addHibernateProperty("hibernate.connection.url", "jdbc:h2:mem:cache;DB_CLOSE_DELAY=-1")
+            .addHibernateProperty("hibernate.connection.driver_class", "org.h2.Driver")
+            .setPoolConfig(new MySQLPoolConfig().setStatementCacheSize(0))
+            .setHbm2ddl("create")
+            .setSecondLevelCache(true)
+            .setStatistics(true)
+            .setDefaultCacheRegionConfig(new MySQLCacheRegionConfig().setMaximumSize(10))
+            .setMappedClazz(CachedEntity.class)
+            .build();
+
+    @AfterEach
+    void close() {
+        connection.close();
+    }
+
+    @Test
+    void cacheableRegion() {
+        MySQLManager<Long, CachedEntity> manager = new MySQLManager<>(connection);
+        for (long id = 1; id <= 50; id++) {
+            manager.save(new CachedEntity(id, "Juan " + id));
+        }
+
+        connection.getStatistics().clear();
+        manager.get(1L, CachedEntity.class);
+        manager.get(1L, CachedEntity.class);
+        assert (connection.getStatistics().getSecondLevelCacheHitCount() >= 1);
+
+        for (long id = 1; id <= 50; id++) {
+            manager.get(id, CachedEntity.class);
+        }
+
+        Cache<Object, Object> region = connection.getCacheManager().getCache(CachedEntity.class.getName());
+        com.github.benmanes.caffeine.cache.Cache<?, ?> cache =
+                region.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+        cache.cleanUp();
+        assert (cache.policy().eviction().map(eviction -> eviction.getMaximum() == 10).orElse(false));
+        assert (cache.estimatedSize() <= 10);
+    }
+
+    @Test
+    void replicaWithoutCache() {
+        MySQLConnection source = MySQLConnection.builder()
+                .setUser("sa")
+                .setPassword("")
+                .setHost("localhost")
+                .setDataBaseName("test")
+                .setDialect("org.hibernate.dialect.H2Dialect")
+                .addHibernateProperty("hibernate.connection.url", "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1")
+                .addHibernateProperty("hibernate.connection.driver_class", "org.h2.Driver")
+                .setPoolConfig(new MySQLPoolConfig().setStatementCacheSize(0))
+                .setHbm2ddl("create")
+                .setSecondLevelCache(true)
+                .setQueryCache(true)
+                .setStatistics(true)
+                .addReplica("localhost", 3307)
+                .setMappedClazz(CachedEntity.class)
+                .build();
+        try {
+            new MySQLManager<Long, CachedEntity>(source).save(new CachedEntity(1L, "Juan"));
+            MySQLConnection                  replica = source.getReplicas().get(0);
+            MySQLManager<Long, CachedEntity> manager = new MySQLManager<>(replica);
+            manager.get(1L, CachedEntity.class);
+            manager.get(1L, CachedEntity.class);
+
+            assert (source.getCacheManager() != null);
+            assert (replica.getCacheManager() == null);
+            assert (replica.getStatistics().getSecondLevelCachePutCount() == 0);
+            assert (replica.getStatistics().getSecondLevelCacheHitCount() == 0);
+        } finally {
+            source.close();
+        }
+    }
+
+    @Test
+    void failedBuildReleasesPool() throws Exception {
+        try {
+            MySQLConnection.builder()
+                    .setUser("sa")
+                    .setPassword("")
+                    .setHost("localhost")
+                    .setDataBaseName("test")
+                    .setDialect("org.hibernate.dialect.H2Dialect")
+                    .addHibernateProperty("hibernate.connection.url", "jdbc:h2:mem:failed;DB_CLOSE_DELAY=-1")
+                    .addHibernateProperty("hibernate.connection.driver_class", "org.h2.Driver")
+                    .setPoolConfig(new MySQLPoolConfig().setMinimumIdle(2).setStatementCacheSize(0))
+                    .setSecondLevelCache(true)
+                    .setMappedClazz(BrokenEntity.class)
+                    .build();
+            assert (false);
+        } catch (RuntimeException e) {
+            // The mapping fails after the pool is started.
+        }
+
+        try (Connection jdbc = DriverManager.getConnection("jdbc:h2:mem:failed", "sa", "");
+             Statement statement = jdbc.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS")) {
+            assert (result.next() && result.getInt(1) == 1);
+        }
+    }
+
+    @Test
+    void maximumPoolSizeBeforeBootstrap() {
+        List<Runnable>  bootstrap = new ArrayList<>();
+        MySQLConnection lazy      = MySQLConnection.builder()
+                .setUser("sa")
+                .setPassword("")
+                .setHost("localhost")
+                .setDataBaseName("test")
+                .setDialect("org.hibernate.dialect.H2Dialect")
+                .addHibernateProperty("hibernate.connection.url", "jdbc:h2:mem:lazy;DB_CLOSE_DELAY=-1")
+                .addHibernateProperty("hibernate.connection.driver_class", "org.h2.Driver")
+                .setPoolConfig(new MySQLPoolConfig().setMaximumPoolSize(3).setStatementCacheSize(0))
+                .setLazyInitialization(true)
+                .setBootstrapExecutor(bootstrap::add)
+                .setMappedClazz(CachedEntity.class)
+                .build();
+        try {
+            assert (lazy.getPoolStats() == null);
+            assert (lazy.getMaximumPoolSize() == 3);
+            new MySQLAsyncManager<>(new MySQLManager<Long, CachedEntity>(lazy)).close();
+            assert (lazy.getPoolStats() == null);
+        } finally {
+            bootstrap.forEach(Runnable::run);
+            lazy.close();
+        }
+        assert (connection.getMaximumPoolSize() == new MySQLPoolConfig().getMaximumPoolSize());
+    }
+
+    /**
+     * Entity without id.
+     */
+    @Entity
+    static class BrokenEntity implements Serializable {
+        private String name;
+    }
+}
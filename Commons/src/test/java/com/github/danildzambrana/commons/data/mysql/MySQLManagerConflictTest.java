@@ -0,0 +1,107 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import com.github.danildzambrana.commons.data.BatchResult;
+import com.github.danildzambrana.commons.data.OptimisticRetry;
+import com.github.danildzambrana.commons.data.SaveResult;
+import org.hibernate.StaleObjectStateException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.OptimisticLockException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * H2 does not check the condition of an update again after it waits for the lock of the row, so the pool has a
+ * single connection: the database runs the statements one by one while the threads still race on the version of
+ * the entity.
+ */
+class MySQLManagerConflictTest {
+    private final MySQLConnection                     connection = MySQLConnection.builder()
+            .setUser("sa")
+            .setPassword("")
+            .setHost("localhost")
+            .setDataBaseName("test")
+            .setDialect("org.hibernate.dialect.H2Dialect")
+            .addHibernateProperty("hibernate.connection.url", "jdbc:h2:mem:conflict;MODE=MySQL;DB_CLOSE_DELAY=-1")
+            .addHibernateProperty("hibernate.connection.driver_class", "org.h2.Driver")
+            .setPoolConfig(new MySQLPoolConfig().setMaximumPoolSize(1).setStatementCacheSize(0))
+            .setHbm2ddl("create")
+            .setMappedClazz(VersionedEntity.class)
+            .build();
+    private final MySQLManager<Long, VersionedEntity> manager    = new MySQLManager<>(connection);
+
+    @AfterEach
+    void close() {
+        connection.close();
+    }
+
+    @Test
+    void isConflict() {
+        assert (MySQLManager.isConflict(new StaleObjectStateException(VersionedEntity.class.getName(), 1L)));
+        assert (MySQLManager.isConflict(new OptimisticLockException("stale")));
+        assert (MySQLManager.isConflict(new IllegalStateException(new OptimisticLockException("stale"))));
+        assert (!MySQLManager.isConflict(new IllegalStateException("closed")));
+        assert (!MySQLManager.isConflict(null));
+    }
+
+    @Test
+    void trySave() {
+        assert (manager.trySave(new VersionedEntity(1L)) == SaveResult.SAVED);
+        VersionedEntity first  = manager.get(1L, VersionedEntity.class).get();
+        VersionedEntity second = manager.get(1L, VersionedEntity.class).get();
+        first.setScore(10);
+        second.setScore(20);
+
+        assert (manager.trySave(first) == SaveResult.SAVED);
+        assert (manager.trySave(second) == SaveResult.CONFLICT);
+        assert (manager.get(1L, VersionedEntity.class).get().getScore() == 10);
+    }
+
+    @Test
+    void saveAll() {
+        manager.saveAll(Arrays.asList(new VersionedEntity(1L), new VersionedEntity(2L)));
+        VersionedEntity stale = manager.get(1L, VersionedEntity.class).get();
+        VersionedEntity fresh = manager.get(1L, VersionedEntity.class).get();
+        fresh.setScore(10);
+        assert (manager.trySave(fresh) == SaveResult.SAVED);
+
+        stale.setScore(20);
+        BatchResult<VersionedEntity> result = manager.saveAll(Arrays.asList(stale));
+
+        assert (!result.isSuccess(0));
+        assert (manager.get(1L, VersionedEntity.class).get().getScore() == 10);
+    }
+
+    @Test
+    void concurrentUpdates() throws InterruptedException {
+        manager.trySave(new VersionedEntity(1L));
+        OptimisticRetry retry = OptimisticRetry.builder()
+                .setMaxAttempts(1000)
+                .setBackoff(Duration.ofMillis(1))
+                .build();
+
+        ExecutorService pool  = Executors.newFixedThreadPool(4);
+        AtomicInteger   saved = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            pool.execute(() -> {
+                SaveResult result = retry.update(manager, 1L, VersionedEntity.class, entity -> {
+                    entity.setScore(entity.getScore() + 1);
+                    return entity;
+                });
+                if (result == SaveResult.SAVED) {
+                    saved.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assert (pool.awaitTermination(60, TimeUnit.SECONDS));
+
+        assert (saved.get() == 100);
+        assert (manager.get(1L, VersionedEntity.class).get().getScore() == 100);
+    }
+}
@@ -1,7 +1,12 @@
 package com.github.danildzambrana.commons.data.mysql;
 
+import com.github.danildzambrana.commons.data.DataQuery;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
 class MySQLManagerTest {
     private final MySQLManager<Long, TestEntity> manager;
     private final TestEntity                     test    = new TestEntity("Juan", "Lopez", "15");
@@ -16,13 +21,13 @@ class MySQLManagerTest {
                         .setHost("db4free.net")
                         .addURLProperty("serverTimezone", "UTC")
                         .addURLProperty("useSSL", "false")
-                        /*.setPool(true)
-                        .addPoolProperty("connection.provider_class", "org.hibernate.connection.C3P0ConnectionProvider")
-                        .addPoolProperty("hibernate.c3p0.min_size", "5")
-                        .addPoolProperty("hibernate.x3p0.max_size", "20")
-                        .addPoolProperty("hibernate.c3p0.timeout", "300")
-                        .addPoolProperty("hibernate.c3p0.max_statements", "50")
-                        .addPoolProperty("hibernate.c3p0.idle_test_period", "3000")*/
+                        .setPoolConfig(new MySQLPoolConfig()
+                                .setMinimumIdle(1)
+                                .setMaximumPoolSize(5)
+                                .setIdleTimeout(300_000)
+                                .setLeakDetectionThreshold(10_000)
+                                .setStatementCacheSize(50))
+                        .setSessionLeakThreshold(30_000)
                         .setMappedClazz(TestEntity.class)
                         .build());
 
@@ -52,4 +57,87 @@ class MySQLManagerTest {
         assert (execute);
         manager.get(1L, TestEntity.class).ifPresent(manager::delete);
     }
-}
\ No newline at end of file
+
+    @Test
+    void saveAll() {
+        assert (execute);
+        System.out.println(manager.saveAll(Arrays.asList(new TestEntity("Ana", "Perez", "16"),
+                new TestEntity("Luis", "Gomez", "17"))));
+    }
+
+    @Test
+    void getAll() {
+        assert (execute);
+        System.out.println(manager.getAll(Arrays.asList(1L, 2L, 3L), TestEntity.class));
+    }
+
+    @Test
+    void inTransaction() {
+        assert (execute);
+        manager.inTransaction(unit -> manager.get(1L, TestEntity.class).ifPresent(entity -> {
+            entity.setAge("16");
+            manager.save(entity);
+        }));
+    }
+
+    @Test
+    void getDoesNotLeakSessions() {
+        assert (execute);
+        SessionLeakDetector detector = ((MySQLConnection) manager.getConnection()).getSessionLeakDetector();
+
+        for (int i = 0; i < 100; i++) {
+            manager.get(1L, TestEntity.class);
+        }
+
+        assert (detector != null && detector.getOpenSessionCount() == 0);
+    }
+
+    @Test
+    void find() {
+        assert (execute);
+        System.out.println(manager.find(DataQuery.of(TestEntity.class)
+                .equal("lastName", "Lopez")
+                .orderBy("id", true)
+                .limit(10)));
+    }
+
+    @Test
+    void findAfter() {
+        assert (execute);
+        List<TestEntity> page = manager.find(DataQuery.of(TestEntity.class)
+                .orderBy("age", true)
+                .orderBy("id", true)
+                .limit(2));
+        if (page.isEmpty()) {
+            return;
+        }
+
+        TestEntity       last = page.get(page.size() - 1);
+        List<TestEntity> next = manager.find(DataQuery.of(TestEntity.class)
+                .orderBy("age", true)
+                .orderBy("id", true)
+                .after(last.getAge(), last.getId())
+                .limit(2));
+        for (TestEntity entity : next) {
+            int order = entity.getAge().compareTo(last.getAge());
+            assert (order > 0 || order == 0 && entity.getId() > last.getId());
+        }
+    }
+
+    @Test
+    void stream() {
+        assert (execute);
+        try (Stream<TestEntity> stream = manager.stream(DataQuery.of(TestEntity.class).fetchSize(100))) {
+            System.out.println(stream.count());
+        }
+    }
+
+    @Test
+    void findReadOnly() {
+        assert (execute);
+        System.out.println(manager.find(DataQuery.of(TestEntity.class)
+                .select("name", "lastName")
+                .equal("lastName", "Lopez")
+                .limit(10)));
+    }
+}
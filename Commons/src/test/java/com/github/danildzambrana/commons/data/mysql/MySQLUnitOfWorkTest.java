@@ -0,0 +1,60 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import com.github.danildzambrana.commons.data.DataQuery;
+import org.hibernate.StatelessSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class MySQLUnitOfWorkTest {
+    private final MySQLConnection                     connection = MySQLConnection.builder()
+            .setUser("sa")
+            .setPassword("")
+            .setHost("localhost")
+            .setDataBaseName("test")
+            .setDialect("org.hibernate.dialect.H2Dialect")
+            .addHibernateProperty("hibernate.connection.url", "jdbc:h2:mem:unit;MODE=MySQL;DB_CLOSE_DELAY=-1")
+            .addHibernateProperty("hibernate.connection.driver_class", "org.h2.Driver")
+            .setPoolConfig(new MySQLPoolConfig().setStatementCacheSize(0))
+            .setHbm2ddl("create")
+            .setSessionLeakThreshold(60_000)
+            .setMappedClazz(VersionedEntity.class)
+            .build();
+    private final MySQLManager<Long, VersionedEntity> manager    = new MySQLManager<>(connection);
+
+    @AfterEach
+    void close() {
+        connection.close();
+    }
+
+    @Test
+    void readOnlyQuery() {
+        manager.save(new VersionedEntity(1L));
+
+        assert (manager.inTransaction(unit -> {
+            List<VersionedEntity> found = manager.find(DataQuery.of(VersionedEntity.class).readOnly());
+            assert (found.size() == 1);
+
+            VersionedEntity entity = manager.get(1L, VersionedEntity.class).get();
+            entity.setScore(10);
+            manager.save(entity);
+        }));
+
+        assert (manager.get(1L, VersionedEntity.class).get().getScore() == 10);
+    }
+
+    @Test
+    void readOnlyQueryTracksSessions() {
+        manager.save(new VersionedEntity(1L));
+        SessionLeakDetector detector = connection.getSessionLeakDetector();
+
+        assert (manager.find(DataQuery.of(VersionedEntity.class).readOnly()).size() == 1);
+        assert (detector.getOpenSessionCount() == 0);
+
+        try (StatelessSession session = connection.getStatelessConnection()) {
+            assert (detector.getOpenSessionCount() == 1);
+        }
+        assert (detector.getOpenSessionCount() == 0);
+    }
+}
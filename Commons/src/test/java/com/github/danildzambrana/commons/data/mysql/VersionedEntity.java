@@ -0,0 +1,42 @@
+package com.github.danildzambrana.commons.data.mysql;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.io.Serializable;
+
+@Entity
+@Table(name = "versioned_entity")
+public class VersionedEntity implements Serializable {
+    @Id
+    private Long id;
+
+    @Version
+    private Long version;
+
+    private int score;
+
+    public VersionedEntity(long id) {
+        this.id = id;
+    }
+
+    public VersionedEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+}
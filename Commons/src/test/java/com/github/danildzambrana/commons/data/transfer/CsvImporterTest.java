@@ -0,0 +1,70 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import com.github.danildzambrana.commons.data.InMemoryDataManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+class CsvImporterTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void parse() throws IOException {
+        Path file = write("\uFEFFid,name\r\n1,\"Doe, Jane\"\r\n\r\n2,\"say \"\"hi\"\"\nthere\"\n3,last");
+
+        try (CsvReader reader = new CsvReader(file, ',', 4)) {
+            assert (reader.next()[0].equals("id"));
+            assert (reader.next()[1].equals("Doe, Jane"));
+            assert (reader.next()[1].equals("say \"hi\"\nthere"));
+            assert (reader.getRecordLine() == 4);
+            assert (reader.next()[1].equals("last"));
+            assert (reader.getRecordLine() == 6);
+            assert (reader.next() == null);
+        }
+    }
+
+    @Test
+    void run() throws IOException {
+        StringBuilder csv = new StringBuilder("student;score\n");
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i).append(';').append(i % 100 == 0 ? "absent" : String.valueOf(i % 10)).append('\n');
+        }
+        Path file = write(csv.toString());
+
+        InMemoryDataManager<Long, long[]> manager  = new InMemoryDataManager<>(grade -> grade[0]);
+        AtomicLong                        progress = new AtomicLong();
+        ImportResult result = CsvImporter.<long[]>builder(record -> new long[]{
+                Long.parseLong(record.get("student")), Long.parseLong(record.get("score"))})
+                .setDelimiter(';')
+                .setWorkers(3)
+                .setBatchSize(64)
+                .setQueueCapacity(1)
+                .setMaxRecordedErrors(5)
+                .setRegionSize(100)
+                .setListener(new ImportListener() {
+                    @Override
+                    public void onProgress(ImportProgress snapshot) {
+                        progress.accumulateAndGet(snapshot.getImported(), Math::max);
+                    }
+                })
+                .build()
+                .run(file, manager);
+
+        assert (result.getRowsRead() == 1000);
+        assert (result.getImported() == 990 && manager.getValues().size() == 990);
+        assert (result.getFailed() == 10 && result.getErrors().size() == 5);
+        assert (result.getErrors().get(0).getMessage().contains("absent"));
+        assert (manager.getValues().get(999L)[1] == 9);
+        assert (progress.get() == 990);
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.write(directory.resolve("grades.csv"), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
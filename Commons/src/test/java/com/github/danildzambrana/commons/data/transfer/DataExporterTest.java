@@ -0,0 +1,113 @@
+package com.github.danildzambrana.commons.data.transfer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+class DataExporterTest {
+    // student, score, comment
+    private static final Object[][] GRADES = {
+            {1L, 85.5, "ok"}, {2L, Double.NaN, null}, {-3L, 40.0, "late, \"resubmit\"\n"},
+            {4L, 100.0, "\u00f1and\u00fa \ud83e\udd9c"}
+    };
+
+    private final ExportSchema<Object[]> schema = ExportSchema.<Object[]>builder()
+            .addLong("student", grade -> (long) grade[0])
+            .addDouble("score", grade -> (double) grade[1])
+            .addString("comment", grade -> (String) grade[2])
+            .build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void csv() throws IOException {
+        Path file = export(ExportFormat.CSV, false, Stream.of(GRADES));
+
+        try (CsvReader reader = new CsvReader(file, ',', CsvReader.DEFAULT_REGION_SIZE)) {
+            assert (reader.next()[2].equals("comment"));
+            assert (reader.next()[1].equals("85.5"));
+            assert (reader.next()[1].isEmpty());
+            assert (reader.next()[2].equals(GRADES[2][2]));
+            assert (reader.next()[2].equals(GRADES[3][2]));
+            assert (reader.next() == null);
+        }
+    }
+
+    @Test
+    void jsonLines() throws IOException {
+        Path         file  = export(ExportFormat.JSON_LINES, false, Stream.of(GRADES));
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+
+        assert (lines.size() == 4);
+        assert (lines.get(1).equals("{\"student\":2,\"score\":null,\"comment\":null}"));
+        assert (lines.get(2).equals("{\"student\":-3,\"score\":40.0,\"comment\":\"late, \\\"resubmit\\\"\\n\"}"));
+    }
+
+    @Test
+    void columnar() throws IOException {
+        Path file = export(ExportFormat.COLUMNAR, true,
+                LongStream.range(0, 10_000).mapToObj(i -> new Object[]{i * 3, i / 2.0, i % 7 == 0 ? null : "c" + i}));
+
+        long rows = 0;
+        try (ColumnarReader reader = ColumnarReader.open(file)) {
+            int student = reader.getColumnIndex("student");
+            assert (reader.getColumnType(student) == ExportSchema.ColumnType.LONG);
+            while (reader.next()) {
+                for (int row = 0; row < reader.getRowCount(); row++, rows++) {
+                    assert (reader.getLongs(student)[row] == rows * 3);
+                    assert (reader.getDoubles(1)[row] == rows / 2.0);
+                    assert (rows % 7 == 0 ? reader.getStrings(2)[row] == null
+                            : reader.getStrings(2)[row].equals("c" + rows));
+                }
+            }
+        }
+        assert (rows == 10_000);
+    }
+
+    @Test
+    void gzipChannel() throws IOException {
+        Path file = directory.resolve("grades.gz");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long count = DataExporter.builder(schema)
+                    .setFormat(ExportFormat.JSON_LINES)
+                    .setGzip(true)
+                    .setBufferSize(16)
+                    .build()
+                    .export(Stream.of(GRADES), channel);
+            assert (count == 4);
+            assert (channel.isOpen());
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            assert (reader.readLine().equals("{\"student\":1,\"score\":85.5,\"comment\":\"ok\"}"));
+            assert (reader.lines().count() == 3);
+        }
+    }
+
+    private Path export(ExportFormat format, boolean gzip, Stream<Object[]> values) throws IOException {
+        Path file = directory.resolve("grades");
+        long count = DataExporter.builder(schema)
+                .setFormat(format)
+                .setGzip(gzip)
+                .setBufferSize(16)
+                .setGroupSize(1000)
+                .build()
+                .export(values, file);
+        assert (count > 0);
+        return file;
+    }
+}
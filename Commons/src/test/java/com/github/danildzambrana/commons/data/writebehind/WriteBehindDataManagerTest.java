@@ -0,0 +1,230 @@
+package com.github.danildzambrana.commons.data.writebehind;
+
+import com.github.danildzambrana.commons.data.BatchResult;
+import com.github.danildzambrana.commons.data.InMemoryDataManager;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+class WriteBehindDataManagerTest {
+    private final InMemoryDataManager<Long, String[]> delegate = new InMemoryDataManager<>(v -> Long.parseLong(v[0]));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void coalesce() {
+        delegate.save(new String[]{"2", "Ana"});
+        WriteBehindDataManager<Long, String[]> manager = builder(delegate).setJournalDirectory(directory).build();
+
+        manager.save(new String[]{"1", "Juan"});
+        manager.save(new String[]{"1", "Pedro"});
+        manager.save(new String[]{"1", "Luis"});
+        manager.save(new String[]{"2", "Ana"});
+
+        assert (delegate.getValues().size() == 1);
+        assert (manager.get(1L, String[].class).get()[1].equals("Luis"));
+        assert (manager.getAll(Arrays.asList(1L, 2L, 3L), String[].class).size() == 2);
+
+        manager.delete(new String[]{"2", "Ana"});
+        assert (!manager.get(2L, String[].class).isPresent());
+
+        assert (manager.flush());
+        assert (delegate.getSaveCalls() == 2);
+        assert (delegate.getValues().get(1L)[1].equals("Luis"));
+        assert (!delegate.getValues().containsKey(2L));
+        assert (manager.getCoalescedCount() == 3);
+        assert (manager.getPendingCount() == 0);
+        manager.close();
+    }
+
+    @Test
+    void close() throws IOException {
+        WriteBehindDataManager<Long, String[]> manager = builder(delegate).setDurability(Durability.MEMORY).build();
+
+        manager.saveAll(Arrays.asList(new String[]{"1", "Juan"}, new String[]{"2", "Ana"}));
+        manager.close();
+
+        assert (delegate.getValues().size() == 2);
+        assert (!manager.save(new String[]{"3", "Luis"}));
+    }
+
+    @Test
+    void batchSize() throws Exception {
+        WriteBehindDataManager<Long, String[]> manager = builder(delegate)
+                .setDurability(Durability.JOURNAL_SYNC)
+                .setJournalDirectory(directory)
+                .setBatchSize(2)
+                .build();
+
+        manager.save(new String[]{"1", "Juan"});
+        manager.save(new String[]{"2", "Ana"});
+
+        long start = System.nanoTime();
+        while (delegate.getValues().size() < 2 && Duration.ofNanos(System.nanoTime() - start).getSeconds() < 30) {
+            Thread.sleep(10);
+        }
+        assert (delegate.getValues().size() == 2);
+        manager.close();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assert (files.count() == 0);
+        }
+    }
+
+    @Test
+    void recover() throws IOException {
+        WriteBehindDataManager<Long, String[]> crashed = builder(delegate).setJournalDirectory(directory).build();
+        crashed.save(new String[]{"1", "Juan"});
+        crashed.save(new String[]{"2", "Ana"});
+        crashed.delete(new String[]{"1", "Juan"});
+
+        try (Stream<Path> files = Files.list(directory)) {
+            Path segment = files.findFirst().get();
+            Files.write(segment, new byte[]{0, 0, 0, 9, 1}, StandardOpenOption.APPEND);
+        }
+
+        WriteBehindDataManager<Long, String[]> manager = builder(delegate).setJournalDirectory(directory).build();
+        delegate.getValues().put(1L, new String[]{"1", "Juan"});
+
+        assert (manager.getPendingCount() == 2);
+        assert (manager.flush());
+        assert (delegate.getValues().size() == 1);
+        assert (delegate.getValues().get(2L)[1].equals("Ana"));
+        manager.close();
+    }
+
+    @Test
+    void discard() {
+        List<String[]> discarded = new ArrayList<>();
+        InMemoryDataManager<Long, String[]> failing = new InMemoryDataManager<Long, String[]>(v -> Long.parseLong(v[0])) {
+            @Override
+            public BatchResult<String[]> saveAll(@NotNull Collection<String[]> values) {
+                return BatchResult.of(values, false);
+            }
+        };
+        WriteBehindDataManager<Long, String[]> manager = builder(failing)
+                .setJournalDirectory(directory)
+                .setMaxAttempts(2)
+                .setDiscardListener(discarded::add)
+                .build();
+
+        manager.save(new String[]{"1", "Juan"});
+
+        assert (!manager.flush());
+        assert (manager.getPendingCount() == 1);
+        assert (!manager.flush());
+        assert (manager.getPendingCount() == 0);
+        assert (discarded.size() == 1);
+        manager.close();
+    }
+
+    @Test
+    void poisonValue() {
+        List<String[]> discarded = new ArrayList<>();
+        InMemoryDataManager<Long, String[]> transactional = new InMemoryDataManager<Long, String[]>(v -> Long.parseLong(v[0])) {
+            @Override
+            public BatchResult<String[]> saveAll(@NotNull Collection<String[]> values) {
+                for (String[] value : values) {
+                    if (value[1].equals("poison")) {
+                        return BatchResult.of(values, false);
+                    }
+                }
+                return super.saveAll(values);
+            }
+        };
+        WriteBehindDataManager<Long, String[]> manager = builder(transactional)
+                .setDurability(Durability.MEMORY)
+                .setMaxAttempts(1)
+                .setDiscardListener(discarded::add)
+                .build();
+
+        for (int id = 1; id <= 9; id++) {
+            manager.save(new String[]{String.valueOf(id), id == 5 ? "poison" : "Juan"});
+        }
+
+        assert (!manager.flush());
+        assert (transactional.getValues().size() == 8);
+        assert (!transactional.getValues().containsKey(5L));
+        assert (discarded.size() == 1 && discarded.get(0)[0].equals("5"));
+        manager.close();
+    }
+
+    @Test
+    void outage() throws Exception {
+        List<String[]>         discarded = new ArrayList<>();
+        UnavailableDataManager database  = new UnavailableDataManager();
+        WriteBehindDataManager<Long, String[]> manager = builder(database)
+                .setJournalDirectory(directory)
+                .setBatchSize(4)
+                .setMaxAttempts(1)
+                .setDiscardListener(discarded::add)
+                .build();
+
+        database.available = false;
+        for (int id = 1; id <= 10; id++) {
+            manager.save(new String[]{String.valueOf(id), "Juan"});
+        }
+
+        // A full batch wakes the flusher, after an unavailable flush it waits the whole interval.
+        long start = System.nanoTime();
+        while (manager.getBatchCount() == 0 && Duration.ofNanos(System.nanoTime() - start).getSeconds() < 30) {
+            Thread.sleep(10);
+        }
+
+        assert (!manager.flush());
+        assert (!manager.flush());
+        assert (manager.getBatchCount() == 3);
+        assert (manager.getPendingCount() == 10);
+        assert (discarded.isEmpty());
+
+        database.available = true;
+        assert (manager.flush());
+        assert (database.getValues().size() == 10);
+        manager.close();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assert (files.count() == 0);
+        }
+    }
+
+    private static WriteBehindDataManager.Builder<Long, String[]> builder(InMemoryDataManager<Long, String[]> delegate) {
+        return WriteBehindDataManager.builder(delegate, (String[] v) -> Long.parseLong(v[0]))
+                .setFlushInterval(Duration.ofMinutes(1));
+    }
+
+    /**
+     * Manager that, like the managers of the databases, reports an unavailable store as a failure of every value.
+     */
+    private static class UnavailableDataManager extends InMemoryDataManager<Long, String[]> {
+        private volatile boolean available = true;
+
+        private UnavailableDataManager() {
+            super(v -> Long.parseLong(v[0]));
+        }
+
+        @Override
+        public BatchResult<String[]> saveAll(@NotNull Collection<String[]> values) {
+            return available ? super.saveAll(values) : BatchResult.of(values, false);
+        }
+
+        @Override
+        public boolean exists(@NotNull Long id, Class<String[]> clazz) {
+            if (!available) {
+                throw new IllegalStateException("offline");
+            }
+            return super.exists(id, clazz);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.danildzambrana.commons.grades;
+
+import com.github.danildzambrana.commons.data.events.DataChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+class GradeAggregatesTest {
+    private final GradeAggregates<String> aggregates = GradeAggregates.<String>builder()
+            .setBuckets(10)
+            .build();
+
+    // grade, student, score
+    private final GradeAggregates<String>.Listener<long[]> listener = aggregates.listener(
+            g -> g[0], g -> g[0] < 10 ? "math" : "art", g -> g[1], g -> g[2]);
+
+    GradeAggregatesTest() {
+        long[][] grades = {{1, 100, 80}, {2, 200, 60}, {3, 300, 95}, {10, 100, 40}};
+        listener.load(Arrays.stream(grades));
+    }
+
+    @Test
+    void load() {
+        GradeAggregate math = aggregates.getCourse("math");
+        assert (aggregates.getGradeCount() == 4);
+        assert (math.getCount() == 3);
+        assert (math.getAverage() == 235 / 3.0);
+        assert (math.getMin() == 60 && math.getMax() == 95);
+        assert (math.getHistogram()[6] == 1 && math.getHistogram()[9] == 1);
+        assert (aggregates.getStudent(100).getAverage() == 60);
+    }
+
+    @Test
+    void change() {
+        listener.onChange(new DataChangeEvent<>("test", DataChangeEvent.Type.SAVED, new long[]{2, 200, 70}));
+
+        GradeAggregate math = aggregates.getCourse("math");
+        assert (math.getCount() == 3);
+        assert (math.getSum() == 245);
+        assert (math.getHistogram()[6] == 0 && math.getHistogram()[7] == 1);
+        // The removed minimum falls back to the lower bound of its bucket.
+        assert (math.getMin() == 70);
+    }
+
+    @Test
+    void delete() {
+        listener.onChange(new DataChangeEvent<>("test", DataChangeEvent.Type.DELETED, new long[]{10, 100, 40}));
+
+        assert (aggregates.getCourse("art") == null);
+        assert (aggregates.getStudent(100).getCount() == 1);
+        assert (!aggregates.remove(10));
+    }
+
+    @Test
+    void standardDeviation() {
+        aggregates.apply(20, "history", 400, 2);
+        aggregates.apply(21, "history", 400, 4);
+
+        assert (aggregates.getCourse("history").getStandardDeviation() == 1);
+    }
+}
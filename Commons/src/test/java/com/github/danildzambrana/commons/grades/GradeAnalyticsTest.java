@@ -0,0 +1,67 @@
+package com.github.danildzambrana.commons.grades;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+class GradeAnalyticsTest {
+    private final GradeBook book = GradeBook.builder()
+            .addAssessment("exam", 3, 100)
+            .addAssessment("homework", 1, 10)
+            .setInitialCapacity(2)
+            .build();
+
+    GradeAnalyticsTest() {
+        // student, assessment, score
+        long[][] grades = {{10, 0, 80}, {10, 1, 10}, {20, 0, 60}, {20, 1, 5}, {30, 0, 80}, {40, 1, 8}};
+        book.load(Arrays.stream(grades), g -> g[0], g -> (int) g[1], g -> g[2]);
+    }
+
+    @Test
+    void load() {
+        assert (book.getStudentCount() == 4);
+        assert (book.getScore(20, 1) == 5);
+        assert (Float.isNaN(book.getScore(40, 0)));
+        assert (book.getRow(99) == -1);
+        assert (book.getAssessmentIndex("homework") == 1);
+    }
+
+    @Test
+    void average() {
+        assert (GradeAnalytics.average(book.getColumn(0), book.getStudentCount()) == 220 / 3.0);
+    }
+
+    @Test
+    void finalScores() {
+        float[] finals = new float[book.getStudentCount()];
+        GradeAnalytics.finalScores(book, finals);
+
+        assert (Math.abs(finals[book.getRow(10)] - 85) < 1e-4);
+        assert (Math.abs(finals[book.getRow(40)] - 20) < 1e-4);
+    }
+
+    @Test
+    void percentile() {
+        float[] scores  = {5, 1, Float.NaN, 4, 2, 3};
+        float[] scratch = new float[scores.length];
+
+        assert (GradeAnalytics.median(scores, scores.length, scratch) == 3);
+        assert (GradeAnalytics.percentile(scores, scores.length, 0, scratch) == 1);
+        assert (GradeAnalytics.percentile(scores, scores.length, 100, scratch) == 5);
+        assert (GradeAnalytics.percentile(scores, scores.length, 90, scratch) == 4.6f);
+    }
+
+    @Test
+    void ranks() {
+        float[] scores  = {70, 90, Float.NaN, 90, 50};
+        int[]   order   = new int[scores.length];
+        int[]   ranks   = new int[scores.length];
+        long[]  scratch = new long[scores.length];
+
+        assert (GradeAnalytics.ranking(scores, scores.length, order, scratch) == 4);
+        assert (Arrays.equals(Arrays.copyOf(order, 4), new int[]{1, 3, 0, 4}));
+
+        GradeAnalytics.ranks(scores, scores.length, ranks, scratch);
+        assert (Arrays.equals(ranks, new int[]{3, 1, 0, 1, 4}));
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.danildzambrana.commons.grades;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ReportPipelineTest {
+
+    @Test
+    void run() {
+        ReportPipeline<Integer> pipeline = ReportPipeline.<Integer>builder()
+                .setParallelism(2)
+                .setRowsPerTask(16)
+                .build();
+
+        ReportResult<Integer> result = pipeline.run(Arrays.asList(1, 2, 3, 4), course -> {
+            if (course == 3) {
+                throw new IllegalStateException("course unavailable");
+            }
+
+            GradeBook book = GradeBook.builder().addAssessment("exam", 1, 100).build();
+            for (int student = 0; student < 100 * course; student++) {
+                book.setScore(student, 0, student % 100);
+            }
+            return book;
+        });
+        pipeline.close();
+
+        List<CourseReport<Integer>> reports = result.getReports();
+        assert (!result.isComplete());
+        assert (result.getFailures().keySet().equals(Collections.singleton(3)));
+        assert ("course unavailable".equals(result.getFailures().get(3).getMessage()));
+        assert (reports.size() == 3);
+        assert (reports.get(2).getCourse() == 4);
+
+        CourseReport<Integer> report = reports.get(1);
+        assert (report.getStudentCount() == 200);
+        assert (report.getPassedCount() == 80);
+        assert (report.getRank(99) == 1 && report.getRank(199) == 1);
+        assert (report.getRank(0) == 199);
+        assert (report.isPassed(60) && !report.isPassed(59));
+        assert (report.getAverage() == 49.5);
+    }
+
+    @Test
+    void boundedLoads() {
+        ReportPipeline<Integer> pipeline = ReportPipeline.<Integer>builder()
+                .setParallelism(2)
+                .build();
+        AtomicInteger loading = new AtomicInteger();
+        AtomicInteger maximum = new AtomicInteger();
+
+        ReportResult<Integer> result = pipeline.run(IntStream.range(0, 32).boxed().collect(Collectors.toList()),
+                course -> {
+                    maximum.accumulateAndGet(loading.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        loading.decrementAndGet();
+                    }
+                    return GradeBook.builder().addAssessment("exam", 1, 100).build();
+                });
+        pipeline.close();
+
+        assert (result.isComplete());
+        assert (result.getReports().size() == 32);
+        assert (maximum.get() <= 2);
+    }
+}